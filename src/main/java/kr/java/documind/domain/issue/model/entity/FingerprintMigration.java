@@ -0,0 +1,45 @@
+package kr.java.documind.domain.issue.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 핑거프린트 이전 기록 엔티티
+ *
+ * <p>이슈 키를 SHA-256 핑거프린트에서 새 방식 핑거프린트로 바꿀 때 기록. 이전 핑거프린트로 저장된 game_log, log_burst_summary 행을
+ * 이슈와 연결할 때 사용
+ */
+@Entity(name = "fingerprint_migration")
+@Table(name = "fingerprint_migration")
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FingerprintMigration {
+
+    @Id private UUID migrationId;
+
+    @Column(nullable = false)
+    private UUID projectId;
+
+    @Column(nullable = false)
+    private UUID issueId;
+
+    @Column(nullable = false, length = 64)
+    private String legacyFingerprint; // 이전 SHA-256 핑거프린트
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint; // 새 방식 핑거프린트
+
+    @Column(nullable = false, updatable = false)
+    private OffsetDateTime migratedAt;
+}
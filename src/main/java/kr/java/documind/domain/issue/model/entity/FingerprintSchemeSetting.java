@@ -0,0 +1,45 @@
+package kr.java.documind.domain.issue.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import kr.java.documind.domain.issue.model.enums.FingerprintScheme;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로젝트별 핑거프린트 해시 방식 설정 엔티티
+ *
+ * <p>설정이 없는 프로젝트는 SHA-256(v1)을 사용
+ */
+@Entity(name = "fingerprint_scheme_setting")
+@Table(name = "fingerprint_scheme_setting")
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FingerprintSchemeSetting {
+
+    @Id private UUID projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private FingerprintScheme scheme; // 새 로그에 사용할 해시 방식
+
+    @Column(nullable = false)
+    private boolean legacyLookup; // 새 핑거프린트로 이슈가 없으면 SHA-256 핑거프린트로도 조회해 옮김
+
+    @Column(nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(nullable = false)
+    private OffsetDateTime updatedAt;
+}
@@ -36,7 +36,7 @@ public class Issue {
     private UUID projectId;
 
     @Column(nullable = false, length = 64, unique = true)
-    private String fingerprint; // SHA-256 해시
+    private String fingerprint; // 그룹핑 해시 (SHA-256 또는 새 방식, FingerprintScheme)
 
     @Column(nullable = false, length = 500)
     private String title; // 이슈 제목 (예외 타입 또는 메시지)
@@ -76,7 +76,17 @@ public class Issue {
      * @param occurredAt 로그 발생 시각
      */
     public void incrementOccurrence(OffsetDateTime occurredAt) {
-        this.occurrenceCount++;
+        incrementOccurrence(1L, occurredAt);
+    }
+
+    /**
+     * 이슈 발생 횟수를 한 번에 증가 (버스트 집계 반영)
+     *
+     * @param count 증가할 발생 횟수
+     * @param occurredAt 마지막 로그 발생 시각
+     */
+    public void incrementOccurrence(long count, OffsetDateTime occurredAt) {
+        this.occurrenceCount += count;
         this.lastOccurredAt = occurredAt;
         this.updatedAt = OffsetDateTime.now();
     }
@@ -91,6 +101,16 @@ public class Issue {
         this.updatedAt = OffsetDateTime.now();
     }
 
+    /**
+     * 이슈 키를 새 방식 핑거프린트로 변경 (SHA-256 핑거프린트 이전)
+     *
+     * @param newFingerprint 새 방식 핑거프린트
+     */
+    public void changeFingerprint(String newFingerprint) {
+        this.fingerprint = newFingerprint;
+        this.updatedAt = OffsetDateTime.now();
+    }
+
     /**
      * 수동 검토가 필요한 이슈인지 확인
      *
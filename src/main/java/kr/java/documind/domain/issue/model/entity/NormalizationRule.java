@@ -0,0 +1,54 @@
+package kr.java.documind.domain.issue.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import kr.java.documind.domain.issue.model.enums.TokenValueType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로젝트별 메시지 정규화 규칙 엔티티
+ *
+ * <p>"접두어 + 값" 형태의 프로젝트 고유 ID(예: guild_1024, ORD-8F3A)를 플레이스홀더로 치환하여 같은 원인의 에러가 같은 핑거프린트를 갖도록 함
+ */
+@Entity(name = "normalization_rule")
+@Table(name = "normalization_rule")
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NormalizationRule {
+
+    @Id private UUID ruleId;
+
+    @Column(nullable = false)
+    private UUID projectId;
+
+    @Column(nullable = false, length = 100)
+    private String tokenPrefix; // 토큰 접두어 (예: "guild_")
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TokenValueType valueType; // 접두어 뒤 값 형식
+
+    @Column(nullable = false, length = 100)
+    private String replacement; // 치환 문자열 (예: "guild_N")
+
+    @Column(nullable = false)
+    private boolean enabled;
+
+    @Column(nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(nullable = false)
+    private OffsetDateTime updatedAt;
+}
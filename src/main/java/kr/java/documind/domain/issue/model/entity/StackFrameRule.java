@@ -0,0 +1,51 @@
+package kr.java.documind.domain.issue.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import kr.java.documind.domain.issue.model.enums.FrameType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로젝트별 스택 프레임 분류 규칙 엔티티
+ *
+ * <p>패키지 접두어(예: com.mystudio.)로 시작하는 프레임을 애플리케이션 또는 라이브러리 프레임으로 분류
+ */
+@Entity(name = "stack_frame_rule")
+@Table(name = "stack_frame_rule")
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StackFrameRule {
+
+    @Id private UUID ruleId;
+
+    @Column(nullable = false)
+    private UUID projectId;
+
+    @Column(nullable = false, length = 200)
+    private String packagePrefix; // 패키지 접두어 (예: "com.mystudio.")
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private FrameType frameType; // APP 또는 LIBRARY
+
+    @Column(nullable = false)
+    private boolean enabled;
+
+    @Column(nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(nullable = false)
+    private OffsetDateTime updatedAt;
+}
@@ -0,0 +1,52 @@
+package kr.java.documind.domain.issue.model.enums;
+
+/**
+ * 핑거프린트 해시 방식 (버전)
+ *
+ * <p>그룹핑 키는 공격자에 대한 충돌 저항이 필요 없으므로 빠른 비암호 해시를 쓸 수 있음. 방식마다 문자열 형식이 달라 값만 보고 버전을 구분함
+ */
+public enum FingerprintScheme {
+    /**
+     * v1: SHA-256 (64자 hex, 접두어 없음)
+     *
+     * <p>기존 핑거프린트 형식
+     */
+    SHA256(1, ""),
+
+    /**
+     * v2: MurmurHash3 x64 128비트 (접두어 "2:" + base64url 22자)
+     *
+     * <p>SHA-256보다 계산이 빠르고 키 길이가 24자로 짧음
+     */
+    MURMUR3_128(2, "2:");
+
+    private final int version;
+    private final String prefix;
+
+    FingerprintScheme(int version, String prefix) {
+        this.version = version;
+        this.prefix = prefix;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /** 핑거프린트 문자열 접두어 (v1은 빈 문자열) */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * 핑거프린트 문자열의 해시 방식 판별
+     *
+     * @param fingerprint 핑거프린트
+     * @return 접두어가 맞는 방식 (접두어가 없으면 SHA256)
+     */
+    public static FingerprintScheme of(String fingerprint) {
+        if (fingerprint != null && fingerprint.startsWith(MURMUR3_128.prefix)) {
+            return MURMUR3_128;
+        }
+        return SHA256;
+    }
+}
@@ -0,0 +1,14 @@
+package kr.java.documind.domain.issue.model.enums;
+
+/**
+ * 스택 트레이스 프레임 분류
+ *
+ * <p>패키지 접두어 규칙으로 정해지며, 어느 규칙에도 맞지 않는 프레임은 핑거프린트에서 제외됨
+ */
+public enum FrameType {
+    /** 애플리케이션 프레임 (핑거프린트에 포함) */
+    APP,
+
+    /** 라이브러리 프레임 (핑거프린트에서 제외) */
+    LIBRARY
+}
@@ -0,0 +1,32 @@
+package kr.java.documind.domain.issue.model.enums;
+
+/**
+ * 프로젝트 정규화 규칙의 값 형식
+ *
+ * <p>토큰 접두어 뒤에 오는 값이 어떤 문자로 이루어지는지 나타냄 (예: "guild_" + DIGITS → guild_1024)
+ */
+public enum TokenValueType {
+    /** 10진수 숫자 (0-9) */
+    DIGITS,
+
+    /** 16진수 (0-9, a-f, A-F) */
+    HEX,
+
+    /** 영문자와 숫자 (A-Z, a-z, 0-9) */
+    ALPHANUMERIC;
+
+    /**
+     * 값에 포함될 수 있는 문자인지 확인
+     *
+     * @param c 문자
+     * @return 이 형식의 값 문자이면 true
+     */
+    public boolean accepts(char c) {
+        boolean digit = c >= '0' && c <= '9';
+        return switch (this) {
+            case DIGITS -> digit;
+            case HEX -> digit || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+            case ALPHANUMERIC -> digit || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+        };
+    }
+}
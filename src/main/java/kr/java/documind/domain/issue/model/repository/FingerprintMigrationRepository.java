@@ -0,0 +1,20 @@
+package kr.java.documind.domain.issue.model.repository;
+
+import java.util.List;
+import java.util.UUID;
+import kr.java.documind.domain.issue.model.entity.FingerprintMigration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FingerprintMigrationRepository extends JpaRepository<FingerprintMigration, UUID> {
+
+    /**
+     * 새 핑거프린트로 옮겨진 이전 핑거프린트 조회
+     *
+     * @param fingerprint 새 방식 핑거프린트
+     * @param projectId 프로젝트 ID
+     * @return 이전 기록 (이전된 적 없으면 empty)
+     */
+    List<FingerprintMigration> findByFingerprintAndProjectId(String fingerprint, UUID projectId);
+}
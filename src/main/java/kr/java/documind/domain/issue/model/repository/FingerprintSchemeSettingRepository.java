@@ -0,0 +1,10 @@
+package kr.java.documind.domain.issue.model.repository;
+
+import java.util.UUID;
+import kr.java.documind.domain.issue.model.entity.FingerprintSchemeSetting;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FingerprintSchemeSettingRepository
+        extends JpaRepository<FingerprintSchemeSetting, UUID> {}
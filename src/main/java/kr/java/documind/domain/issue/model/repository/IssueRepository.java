@@ -12,7 +12,7 @@ public interface IssueRepository extends JpaRepository<Issue, UUID> {
     /**
      * fingerprint와 projectId로 이슈 조회
      *
-     * @param fingerprint SHA-256 해시
+     * @param fingerprint 핑거프린트 (형식은 FingerprintScheme 참고)
      * @param projectId 프로젝트 ID
      * @return 이슈 (존재하지 않으면 empty)
      */
@@ -21,7 +21,7 @@ public interface IssueRepository extends JpaRepository<Issue, UUID> {
     /**
      * fingerprint로 이슈 존재 여부 확인
      *
-     * @param fingerprint SHA-256 해시
+     * @param fingerprint 핑거프린트 (형식은 FingerprintScheme 참고)
      * @return 존재하면 true
      */
     boolean existsByFingerprint(String fingerprint);
@@ -0,0 +1,18 @@
+package kr.java.documind.domain.issue.model.repository;
+
+import java.util.List;
+import java.util.UUID;
+import kr.java.documind.domain.issue.model.entity.NormalizationRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NormalizationRuleRepository extends JpaRepository<NormalizationRule, UUID> {
+
+    /**
+     * 활성화된 정규화 규칙 전체 조회
+     *
+     * @return 활성 규칙 (프로젝트 무관)
+     */
+    List<NormalizationRule> findAllByEnabledTrue();
+}
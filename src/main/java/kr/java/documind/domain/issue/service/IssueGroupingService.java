@@ -1,11 +1,15 @@
 package kr.java.documind.domain.issue.service;
 
 import java.time.OffsetDateTime;
+import java.util.Optional;
 import java.util.UUID;
+import kr.java.documind.domain.issue.model.entity.FingerprintMigration;
 import kr.java.documind.domain.issue.model.entity.Issue;
 import kr.java.documind.domain.issue.model.enums.IssueStatus;
+import kr.java.documind.domain.issue.model.repository.FingerprintMigrationRepository;
 import kr.java.documind.domain.issue.model.repository.IssueRepository;
 import kr.java.documind.domain.issue.service.fingerprint.FingerprintResult;
+import kr.java.documind.domain.issue.service.fingerprint.ParsedArchive;
 import kr.java.documind.domain.logprocessor.model.entity.GameLog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class IssueGroupingService {
 
     private final IssueRepository issueRepository;
+    private final FingerprintMigrationRepository fingerprintMigrationRepository;
 
     /**
      * 로그에 대한 이슈를 찾거나 생성
@@ -37,17 +42,35 @@ public class IssueGroupingService {
      */
     @Transactional
     public Issue findOrCreateIssue(GameLog gameLog, FingerprintResult fingerprintResult) {
+        return findOrCreateIssue(gameLog, fingerprintResult, 1L);
+    }
+
+    /**
+     * 같은 fingerprint 로그 여러 건을 한 번에 이슈에 반영
+     *
+     * <p>버스트 중복 제거로 원본 저장을 생략한 로그도 occurrence_count에 정확히 반영
+     *
+     * @param gameLog 대표 로그 (가장 마지막 로그)
+     * @param fingerprintResult 핑거프린트 생성 결과
+     * @param occurrences 반영할 발생 횟수
+     * @return 찾아진 또는 생성된 이슈
+     */
+    @Transactional
+    public Issue findOrCreateIssue(
+            GameLog gameLog, FingerprintResult fingerprintResult, long occurrences) {
         String fingerprint = fingerprintResult.getFingerprint();
         UUID projectId = gameLog.getProjectId();
 
         try {
-            // 기존 이슈 조회
+            // 기존 이슈 조회 (없으면 SHA-256 핑거프린트로 만든 이슈를 찾아 새 핑거프린트로 옮김)
             return issueRepository
                     .findByFingerprintAndProjectId(fingerprint, projectId)
+                    .or(() -> migrateLegacyIssue(projectId, fingerprintResult))
                     .map(
                             existingIssue -> {
                                 // 기존 이슈 발견 - occurrence_count 증가
-                                existingIssue.incrementOccurrence(gameLog.getOccurredAt());
+                                existingIssue.incrementOccurrence(
+                                        occurrences, gameLog.getOccurredAt());
                                 log.debug(
                                         "Existing issue found. issueId={}, fingerprint={}, occurrenceCount={}",
                                         existingIssue.getIssueId(),
@@ -58,7 +81,8 @@ public class IssueGroupingService {
                     .orElseGet(
                             () -> {
                                 // 새 이슈 생성
-                                Issue newIssue = createNewIssue(gameLog, fingerprintResult);
+                                Issue newIssue =
+                                        createNewIssue(gameLog, fingerprintResult, occurrences);
                                 issueRepository.save(newIssue);
                                 log.info(
                                         "New issue created. issueId={}, fingerprint={}, quality={}, status={}",
@@ -80,7 +104,8 @@ public class IssueGroupingService {
                     .findByFingerprintAndProjectId(fingerprint, projectId)
                     .map(
                             existingIssue -> {
-                                existingIssue.incrementOccurrence(gameLog.getOccurredAt());
+                                existingIssue.incrementOccurrence(
+                                        occurrences, gameLog.getOccurredAt());
                                 log.info(
                                         "Recovered from race condition. issueId={}, occurrenceCount={}",
                                         existingIssue.getIssueId(),
@@ -95,18 +120,63 @@ public class IssueGroupingService {
         }
     }
 
+    /**
+     * SHA-256 핑거프린트로 만든 기존 이슈를 새 방식 핑거프린트로 옮김
+     *
+     * <p>프로젝트가 legacyLookup을 켠 경우에만 결과에 이전 핑거프린트가 있음. 옮긴 기록은 이전 핑거프린트로 저장된 로그를 이슈와 연결할 때 사용
+     *
+     * @param projectId 프로젝트 ID
+     * @param fingerprintResult 핑거프린트 생성 결과
+     * @return 옮긴 이슈 (이전 핑거프린트가 없거나 해당 이슈가 없으면 empty)
+     */
+    private Optional<Issue> migrateLegacyIssue(
+            UUID projectId, FingerprintResult fingerprintResult) {
+        String legacyFingerprint = fingerprintResult.getLegacyFingerprint();
+        String fingerprint = fingerprintResult.getFingerprint();
+        if (legacyFingerprint == null || legacyFingerprint.equals(fingerprint)) {
+            return Optional.empty();
+        }
+
+        return issueRepository
+                .findByFingerprintAndProjectId(legacyFingerprint, projectId)
+                .map(
+                        legacyIssue -> {
+                            legacyIssue.changeFingerprint(fingerprint);
+                            fingerprintMigrationRepository.save(
+                                    FingerprintMigration.builder()
+                                            .migrationId(UUID.randomUUID())
+                                            .projectId(projectId)
+                                            .issueId(legacyIssue.getIssueId())
+                                            .legacyFingerprint(legacyFingerprint)
+                                            .fingerprint(fingerprint)
+                                            .migratedAt(OffsetDateTime.now())
+                                            .build());
+                            log.info(
+                                    "Issue fingerprint migrated. issueId={}, legacyFingerprint={}, fingerprint={}",
+                                    legacyIssue.getIssueId(),
+                                    legacyFingerprint,
+                                    fingerprint);
+                            return legacyIssue;
+                        });
+    }
+
     /**
      * 새 이슈 생성
      *
      * @param gameLog 게임 로그
      * @param fingerprintResult 핑거프린트 생성 결과
+     * @param occurrences 최초 발생 횟수
      * @return 새로 생성된 이슈
      */
-    private Issue createNewIssue(GameLog gameLog, FingerprintResult fingerprintResult) {
+    private Issue createNewIssue(
+            GameLog gameLog, FingerprintResult fingerprintResult, long occurrences) {
         OffsetDateTime now = OffsetDateTime.now();
 
-        // 이슈 제목 생성 (archive에서 첫 줄 추출)
-        String title = extractTitle(gameLog.getArchive());
+        // 이슈 제목 (핑거프린트 생성 시 파싱한 첫 줄, 없으면 archive를 다시 파싱)
+        String title =
+                fingerprintResult.getTitle() != null
+                        ? fingerprintResult.getTitle()
+                        : ParsedArchive.parse(gameLog.getArchive()).title();
 
         // 품질에 따른 상태 결정
         IssueStatus status =
@@ -120,34 +190,11 @@ public class IssueGroupingService {
                 .status(status)
                 .severity(gameLog.getSeverity())
                 .fingerprintQuality(fingerprintResult.getQuality())
-                .occurrenceCount(1L)
+                .occurrenceCount(occurrences)
                 .firstOccurredAt(gameLog.getOccurredAt())
                 .lastOccurredAt(gameLog.getOccurredAt())
                 .createdAt(now)
                 .updatedAt(now)
                 .build();
     }
-
-    /**
-     * archive에서 이슈 제목 추출
-     *
-     * <p>첫 줄을 제목으로 사용, 최대 500자
-     *
-     * @param archive 로그 본문
-     * @return 이슈 제목
-     */
-    private String extractTitle(String archive) {
-        if (archive == null || archive.isEmpty()) {
-            return "Unknown Error";
-        }
-
-        String firstLine = archive.split("\\r?\\n")[0].trim();
-
-        // 최대 500자로 제한
-        if (firstLine.length() > 500) {
-            return firstLine.substring(0, 497) + "...";
-        }
-
-        return firstLine;
-    }
 }
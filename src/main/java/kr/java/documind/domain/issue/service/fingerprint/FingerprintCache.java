@@ -0,0 +1,151 @@
+package kr.java.documind.domain.issue.service.fingerprint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * archive별 핑거프린트 생성 결과 LRU 캐시
+ *
+ * <p>키는 프로젝트 ID, 정규화 규칙 버전, archive의 64비트 해시와 길이. 트래픽 대부분을 차지하는 같은 크래시 스택은 한 번만 파싱, 정규식
+ * 매칭, SHA-256을 거침. 해시 충돌 확률은 2^-64 수준이며 길이가 다르면 충돌하지 않음. 규칙이 바뀌면 이전 버전 항목은 조회되지 않고 LRU로
+ * 밀려남
+ *
+ * <p>세그먼트(해시 상위 비트)마다 따로 잠그는 접근 순서 LinkedHashMap으로, 여러 소비 루프가 동시에 조회해도 한 락에 몰리지 않음
+ */
+final class FingerprintCache {
+
+    private static final int SEGMENT_BITS = 4;
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private final Segment[] segments;
+
+    FingerprintCache(int maxSize) {
+        int segmentCount = 1 << SEGMENT_BITS;
+        int segmentCapacity = Math.max(1, (maxSize + segmentCount - 1) / segmentCount);
+        segments = new Segment[maxSize > 0 ? segmentCount : 0];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    /** 캐시를 쓰지 않는 인스턴스 */
+    static FingerprintCache disabled() {
+        return new FingerprintCache(0);
+    }
+
+    boolean isEnabled() {
+        return segments.length > 0;
+    }
+
+    /**
+     * 캐시된 결과 조회
+     *
+     * @param projectId 프로젝트 ID (null 가능)
+     * @param rulesVersion 정규화 규칙 버전
+     * @param archive 로그 본문 (비어 있지 않음)
+     * @return 캐시된 결과 (없으면 null)
+     */
+    FingerprintResult get(UUID projectId, long rulesVersion, String archive) {
+        if (!isEnabled()) {
+            return null;
+        }
+        Key key = new Key(projectId, rulesVersion, hash64(archive), archive.length());
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.get(key);
+        }
+    }
+
+    /**
+     * 결과 저장 (세그먼트가 가득 차면 가장 오래 조회되지 않은 항목 제거)
+     *
+     * @param projectId 프로젝트 ID (null 가능)
+     * @param rulesVersion 정규화 규칙 버전
+     * @param archive 로그 본문 (비어 있지 않음)
+     * @param result 생성 결과
+     */
+    void put(UUID projectId, long rulesVersion, String archive, FingerprintResult result) {
+        if (!isEnabled()) {
+            return;
+        }
+        Key key = new Key(projectId, rulesVersion, hash64(archive), archive.length());
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, result);
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Segment segmentFor(Key key) {
+        return segments[(int) (key.hash() >>> (64 - SEGMENT_BITS))];
+    }
+
+    /**
+     * archive 64비트 해시 (MurmurHash3 x64 방식, UTF-16 문자 4개씩 처리)
+     *
+     * <p>바이트 배열로 인코딩하지 않고 문자를 바로 읽음
+     */
+    static long hash64(String value) {
+        int length = value.length();
+        long hash = length;
+        int i = 0;
+        for (; i + 4 <= length; i += 4) {
+            long block =
+                    value.charAt(i)
+                            | ((long) value.charAt(i + 1) << 16)
+                            | ((long) value.charAt(i + 2) << 32)
+                            | ((long) value.charAt(i + 3) << 48);
+            hash ^= mixBlock(block);
+            hash = Long.rotateLeft(hash, 27) * 5 + 0x52dce729;
+        }
+
+        long tail = 0;
+        for (int shift = 0; i < length; i++, shift += 16) {
+            tail |= (long) value.charAt(i) << shift;
+        }
+        hash ^= mixBlock(tail);
+
+        // fmix64
+        hash ^= (hash >>> 33);
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= (hash >>> 33);
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= (hash >>> 33);
+        return hash;
+    }
+
+    private static long mixBlock(long block) {
+        block *= C1;
+        block = Long.rotateLeft(block, 31);
+        return block * C2;
+    }
+
+    private record Key(UUID projectId, long rulesVersion, long hash, int length) {}
+
+    private static final class Segment extends LinkedHashMap<Key, FingerprintResult> {
+
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, FingerprintResult> eldest) {
+            return size() > capacity;
+        }
+    }
+}
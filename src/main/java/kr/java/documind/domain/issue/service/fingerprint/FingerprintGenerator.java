@@ -1,18 +1,26 @@
 package kr.java.documind.domain.issue.service.fingerprint;
 
-import java.nio.charset.StandardCharsets;
+import jakarta.annotation.PostConstruct;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import kr.java.documind.domain.issue.model.enums.FingerprintQuality;
+import kr.java.documind.domain.issue.model.enums.FingerprintScheme;
 import kr.java.documind.domain.logprocessor.model.entity.GameLog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
  * 5-tier 핑거프린트 생성 전략 구현체
  *
- * <p>스택트레이스 및 에러 메시지 가용성에 따라 최적의 전략을 선택하여 SHA-256 해시 생성
+ * <p>스택트레이스 및 에러 메시지 가용성에 따라 최적의 전략을 선택하여 프로젝트 해시 방식(기본 SHA-256, {@link
+ * FingerprintScheme})으로 해시 생성. 프로젝트 해시 방식은 {@link FingerprintSchemeLoader}가 DB에서 주기적으로 다시 읽어 교체함
+ *
+ * <p>전략 선택과 해시 입력은 archive와 프로젝트 규칙(메시지 정규화, 프레임 분류, 해시 방식)에만 의존하므로 결과를 (프로젝트, 규칙 버전,
+ * archive 해시) 기준 LRU 캐시에 보관. 폴백 전략은 severity, eventCategory에 따라 달라지므로 캐시하지 않음 (archive 파싱이
+ * 필요 없어 비용도 작음)
  */
 @Slf4j
 @Component
@@ -31,6 +39,31 @@ public class FingerprintGenerator {
     /** 부분 스택트레이스에서 사용할 상위 프레임 수 */
     private static final int PARTIAL_STACK_TOP_FRAMES = 3;
 
+    // 캐시할 최대 archive 수 (0이면 캐시하지 않음)
+    @Value("${worker.fingerprint.cache-size}")
+    private int cacheSize;
+
+    private FingerprintCache cache = FingerprintCache.disabled();
+
+    // 프로젝트 ID별 해시 방식 (설정이 없으면 SHA-256, 교체 시 맵 전체를 바꿈)
+    private volatile Map<UUID, ProjectFingerprintScheme> projectSchemes = Map.of();
+
+    // 해시 방식 설정이 바뀔 때마다 증가 (핑거프린트 캐시 키에 포함)
+    private volatile long schemesVersion;
+
+    @PostConstruct
+    public void init() {
+        if (cacheSize < 0) {
+            log.warn("Invalid fingerprint cache size: {}. Resetting to 0.", cacheSize);
+            cacheSize = 0;
+        }
+        cache = new FingerprintCache(cacheSize);
+        log.info(
+                "Fingerprint cache {} (maxSize={})",
+                cacheSize > 0 ? "enabled" : "disabled",
+                cacheSize);
+    }
+
     /**
      * GameLog로부터 핑거프린트 생성
      *
@@ -39,39 +72,80 @@ public class FingerprintGenerator {
      */
     public FingerprintResult generate(GameLog gameLog) {
         String archive = gameLog.getArchive();
+        if (archive == null || archive.isEmpty()) {
+            return generate(gameLog, ParsedArchive.parse(archive));
+        }
+
+        // 규칙 버전은 생성 전에 읽음 (생성 중 규칙이 바뀌면 이전 버전 키로 저장되어 다시 조회되지 않음)
+        UUID projectId = gameLog.getProjectId();
+        long rulesVersion = rulesVersion();
+        FingerprintResult cached = cache.get(projectId, rulesVersion, archive);
+        if (cached != null) {
+            return cached;
+        }
+
+        FingerprintResult result = generate(gameLog, ParsedArchive.parse(archive));
+        if (result.getQuality() != FingerprintQuality.FALLBACK) {
+            cache.put(projectId, rulesVersion, archive, result);
+        }
+        return result;
+    }
+
+    /**
+     * 프로젝트 해시 방식 전체 교체
+     *
+     * @param schemes 프로젝트 ID별 해시 방식
+     */
+    void replaceSchemes(Map<UUID, ProjectFingerprintScheme> schemes) {
+        projectSchemes = Map.copyOf(schemes);
+        schemesVersion++;
+    }
+
+    /**
+     * 정규화 규칙, 프레임 분류 규칙, 해시 방식 설정을 합친 버전
+     *
+     * <p>각 버전은 바뀔 때만 증가하므로 합도 어느 하나가 바뀌면 반드시 증가함
+     */
+    private long rulesVersion() {
+        return messageNormalizer.rulesVersion() + stackFrameFilter.rulesVersion() + schemesVersion;
+    }
 
-        // archive에서 스택트레이스 추출 시도
-        String stackTrace = extractStackTrace(archive);
-        String exceptionType = extractExceptionType(archive);
-        String message = extractMessage(archive);
+    /** 파싱된 archive로 5-tier 전략 적용 */
+    private FingerprintResult generate(GameLog gameLog, ParsedArchive parsed) {
+        String exceptionType = parsed.exceptionType();
+        String message = parsed.message();
+        String title = parsed.title();
 
         // 5-tier 전략 적용
-        if (stackTrace != null && !stackTrace.isEmpty()) {
-            List<String> appFrames = stackFrameFilter.extractAppFrames(stackTrace);
+        if (parsed.hasStackTrace()) {
+            List<String> appFrames = stackFrameFilter.appFrames(gameLog.getProjectId(), parsed);
 
             // Strategy 1: Full Stacktrace (HIGH)
             if (appFrames.size() >= FULL_STACK_MIN_FRAMES) {
-                return generateFullStacktraceFingerprint(appFrames, exceptionType);
+                return generateFullStacktraceFingerprint(
+                        gameLog.getProjectId(), appFrames, exceptionType, title);
             }
 
             // Strategy 2: Partial Stacktrace (MEDIUM)
             if (appFrames.size() >= PARTIAL_STACK_MIN_FRAMES) {
-                return generatePartialStacktraceFingerprint(appFrames, exceptionType);
+                return generatePartialStacktraceFingerprint(
+                        gameLog.getProjectId(), appFrames, exceptionType, title);
             }
         }
 
         // Strategy 3: Exception Type + Message (LOW)
         if (exceptionType != null && message != null) {
-            return generateExceptionMessageFingerprint(exceptionType, message);
+            return generateExceptionMessageFingerprint(
+                    gameLog.getProjectId(), exceptionType, message, title);
         }
 
         // Strategy 4: Message Only (VERY_LOW)
         if (message != null && !message.isEmpty()) {
-            return generateMessageOnlyFingerprint(message);
+            return generateMessageOnlyFingerprint(gameLog.getProjectId(), message, title);
         }
 
         // Strategy 5: Fallback
-        return generateFallbackFingerprint(gameLog);
+        return generateFallbackFingerprint(gameLog, title);
     }
 
     /**
@@ -80,7 +154,7 @@ public class FingerprintGenerator {
      * <p>정규화된 애플리케이션 프레임 전체를 사용
      */
     private FingerprintResult generateFullStacktraceFingerprint(
-            List<String> appFrames, String exceptionType) {
+            UUID projectId, List<String> appFrames, String exceptionType, String title) {
         StringBuilder input = new StringBuilder();
 
         if (exceptionType != null) {
@@ -89,17 +163,18 @@ public class FingerprintGenerator {
 
         appFrames.forEach(frame -> input.append(frame).append("\n"));
 
-        String fingerprint = sha256(input.toString());
+        FingerprintResult result =
+                buildResult(
+                        projectId,
+                        input.toString(),
+                        FingerprintQuality.HIGH,
+                        "Full Stacktrace",
+                        title);
         log.debug(
                 "Generated HIGH quality fingerprint using {} app frames: {}",
                 appFrames.size(),
-                fingerprint);
-
-        return FingerprintResult.builder()
-                .fingerprint(fingerprint)
-                .quality(FingerprintQuality.HIGH)
-                .strategy("Full Stacktrace")
-                .build();
+                result.getFingerprint());
+        return result;
     }
 
     /**
@@ -108,7 +183,7 @@ public class FingerprintGenerator {
      * <p>상위 N개 프레임만 사용
      */
     private FingerprintResult generatePartialStacktraceFingerprint(
-            List<String> appFrames, String exceptionType) {
+            UUID projectId, List<String> appFrames, String exceptionType, String title) {
         StringBuilder input = new StringBuilder();
 
         if (exceptionType != null) {
@@ -120,17 +195,18 @@ public class FingerprintGenerator {
             input.append(appFrames.get(i)).append("\n");
         }
 
-        String fingerprint = sha256(input.toString());
+        FingerprintResult result =
+                buildResult(
+                        projectId,
+                        input.toString(),
+                        FingerprintQuality.MEDIUM,
+                        "Partial Stacktrace",
+                        title);
         log.debug(
                 "Generated MEDIUM quality fingerprint using top {} frames: {}",
                 frameCount,
-                fingerprint);
-
-        return FingerprintResult.builder()
-                .fingerprint(fingerprint)
-                .quality(FingerprintQuality.MEDIUM)
-                .strategy("Partial Stacktrace")
-                .build();
+                result.getFingerprint());
+        return result;
     }
 
     /**
@@ -139,18 +215,21 @@ public class FingerprintGenerator {
      * <p>수동 검토 필요
      */
     private FingerprintResult generateExceptionMessageFingerprint(
-            String exceptionType, String message) {
-        String normalizedMessage = messageNormalizer.normalize(message);
+            UUID projectId, String exceptionType, String message, String title) {
+        String normalizedMessage = messageNormalizer.normalize(projectId, message);
         String input = exceptionType + "\n" + normalizedMessage;
-        String fingerprint = sha256(input);
-
-        log.debug("Generated LOW quality fingerprint (Exception + Message): {}", fingerprint);
 
-        return FingerprintResult.builder()
-                .fingerprint(fingerprint)
-                .quality(FingerprintQuality.LOW)
-                .strategy("Exception Type + Message")
-                .build();
+        FingerprintResult result =
+                buildResult(
+                        projectId,
+                        input,
+                        FingerprintQuality.LOW,
+                        "Exception Type + Message",
+                        title);
+        log.debug(
+                "Generated LOW quality fingerprint (Exception + Message): {}",
+                result.getFingerprint());
+        return result;
     }
 
     /**
@@ -158,17 +237,21 @@ public class FingerprintGenerator {
      *
      * <p>수동 검토 필수
      */
-    private FingerprintResult generateMessageOnlyFingerprint(String message) {
-        String normalizedMessage = messageNormalizer.normalize(message);
-        String fingerprint = sha256(normalizedMessage);
-
-        log.debug("Generated VERY_LOW quality fingerprint (Message Only): {}", fingerprint);
-
-        return FingerprintResult.builder()
-                .fingerprint(fingerprint)
-                .quality(FingerprintQuality.VERY_LOW)
-                .strategy("Message Only")
-                .build();
+    private FingerprintResult generateMessageOnlyFingerprint(
+            UUID projectId, String message, String title) {
+        String normalizedMessage = messageNormalizer.normalize(projectId, message);
+
+        FingerprintResult result =
+                buildResult(
+                        projectId,
+                        normalizedMessage,
+                        FingerprintQuality.VERY_LOW,
+                        "Message Only",
+                        title);
+        log.debug(
+                "Generated VERY_LOW quality fingerprint (Message Only): {}",
+                result.getFingerprint());
+        return result;
     }
 
     /**
@@ -176,90 +259,56 @@ public class FingerprintGenerator {
      *
      * <p>severity + eventCategory 기반 (최후의 수단)
      */
-    private FingerprintResult generateFallbackFingerprint(GameLog gameLog) {
+    private FingerprintResult generateFallbackFingerprint(GameLog gameLog, String title) {
         String input = gameLog.getSeverity() + "_" + gameLog.getEventCategory();
-        String fingerprint = sha256(input);
-
-        log.warn("Generated FALLBACK quality fingerprint (no stacktrace/message): {}", fingerprint);
 
-        return FingerprintResult.builder()
-                .fingerprint(fingerprint)
-                .quality(FingerprintQuality.FALLBACK)
-                .strategy("Fallback (Severity + Category)")
-                .build();
+        FingerprintResult result =
+                buildResult(
+                        gameLog.getProjectId(),
+                        input,
+                        FingerprintQuality.FALLBACK,
+                        "Fallback (Severity + Category)",
+                        title);
+        log.warn(
+                "Generated FALLBACK quality fingerprint (no stacktrace/message): {}",
+                result.getFingerprint());
+        return result;
     }
 
     /**
-     * archive에서 스택트레이스 추출
+     * 프로젝트 해시 방식으로 핑거프린트를 만들어 결과 생성
      *
-     * <p>간단한 구현: "at " 패턴이 포함된 라인들을 스택트레이스로 간주
-     */
-    private String extractStackTrace(String archive) {
-        if (archive == null || !archive.contains("at ")) {
-            return null;
-        }
-
-        StringBuilder stackTrace = new StringBuilder();
-        String[] lines = archive.split("\\r?\\n");
-
-        for (String line : lines) {
-            if (line.trim().startsWith("at ")) {
-                stackTrace.append(line).append("\n");
-            }
-        }
-
-        return stackTrace.length() > 0 ? stackTrace.toString() : null;
-    }
-
-    /**
-     * archive에서 예외 타입 추출
+     * <p>프로젝트가 기존 이슈를 옮기는 중이면 같은 입력의 SHA-256 핑거프린트도 함께 담음
      *
-     * <p>첫 줄에서 예외 클래스명 추출 시도 (예: "java.lang.NullPointerException: ...")
+     * @param projectId 프로젝트 ID (null이면 SHA-256)
+     * @param input 해시 입력 문자열
+     * @return 핑거프린트 생성 결과
      */
-    private String extractExceptionType(String archive) {
-        if (archive == null || archive.isEmpty()) {
-            return null;
-        }
-
-        String firstLine = archive.split("\\r?\\n")[0].trim();
+    private FingerprintResult buildResult(
+            UUID projectId,
+            String input,
+            FingerprintQuality quality,
+            String strategy,
+            String title) {
+        ProjectFingerprintScheme projectScheme = schemeOf(projectId);
+        String legacyFingerprint =
+                projectScheme.needsLegacy()
+                        ? FingerprintHasher.hash(FingerprintScheme.SHA256, input)
+                        : null;
 
-        // 예외 타입 패턴: 패키지명.클래스명
-        if (firstLine.contains(":")) {
-            String typePart = firstLine.substring(0, firstLine.indexOf(":")).trim();
-            if (typePart.contains(".")) {
-                return typePart;
-            }
-        }
-
-        return null;
+        return FingerprintResult.builder()
+                .fingerprint(FingerprintHasher.hash(projectScheme.scheme(), input))
+                .legacyFingerprint(legacyFingerprint)
+                .quality(quality)
+                .strategy(strategy)
+                .title(title)
+                .build();
     }
 
-    /**
-     * archive에서 에러 메시지 추출
-     *
-     * <p>첫 줄의 콜론(:) 이후 텍스트를 메시지로 간주
-     */
-    private String extractMessage(String archive) {
-        if (archive == null || archive.isEmpty()) {
-            return null;
-        }
-
-        String firstLine = archive.split("\\r?\\n")[0].trim();
-
-        if (firstLine.contains(":")) {
-            return firstLine.substring(firstLine.indexOf(":") + 1).trim();
+    private ProjectFingerprintScheme schemeOf(UUID projectId) {
+        if (projectId == null) {
+            return ProjectFingerprintScheme.DEFAULT;
         }
-
-        return firstLine;
-    }
-
-    /**
-     * SHA-256 해시 생성
-     *
-     * @param input 입력 문자열
-     * @return 64자 hex 문자열
-     */
-    private String sha256(String input) {
-        return DigestUtils.sha256Hex(input.getBytes(StandardCharsets.UTF_8));
+        return projectSchemes.getOrDefault(projectId, ProjectFingerprintScheme.DEFAULT);
     }
 }
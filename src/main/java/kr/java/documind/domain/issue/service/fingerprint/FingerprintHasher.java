@@ -0,0 +1,42 @@
+package kr.java.documind.domain.issue.service.fingerprint;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import kr.java.documind.domain.issue.model.enums.FingerprintScheme;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.codec.digest.MurmurHash3;
+
+/**
+ * 해시 방식별 핑거프린트 문자열 생성
+ *
+ * <p>입력은 UTF-8 바이트로 해시하므로 다른 도구(SQL, 스크립트)로도 같은 값을 다시 계산할 수 있음
+ */
+final class FingerprintHasher {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private FingerprintHasher() {}
+
+    /**
+     * 핑거프린트 생성
+     *
+     * @param scheme 해시 방식
+     * @param input 해시 입력 문자열
+     * @return SHA256은 64자 hex, MURMUR3_128은 "2:" + base64url 22자
+     */
+    static String hash(FingerprintScheme scheme, String input) {
+        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        return switch (scheme) {
+            case SHA256 -> DigestUtils.sha256Hex(bytes);
+            case MURMUR3_128 -> scheme.getPrefix() + murmur3Base64(bytes);
+        };
+    }
+
+    /** MurmurHash3 x64 128비트 (seed 0)를 빅엔디언 16바이트로 base64url 인코딩 */
+    private static String murmur3Base64(byte[] bytes) {
+        long[] hash = MurmurHash3.hash128x64(bytes);
+        byte[] digest = ByteBuffer.allocate(16).putLong(hash[0]).putLong(hash[1]).array();
+        return BASE64_URL.encodeToString(digest);
+    }
+}
@@ -7,21 +7,27 @@ import lombok.Getter;
 /**
  * 핑거프린트 생성 결과
  *
- * <p>SHA-256 해시값과 품질 등급, 사용된 전략 정보를 포함
+ * <p>해시값과 품질 등급, 사용된 전략 정보, 같은 파싱 결과에서 얻은 이슈 제목을 포함
  */
 @Getter
 @Builder
 public class FingerprintResult {
 
-    /** SHA-256 해시값 (64자 hex string) */
+    /** 해시값 (형식은 {@link kr.java.documind.domain.issue.model.enums.FingerprintScheme} 참고) */
     private String fingerprint;
 
+    /** 같은 입력의 SHA-256 해시값 (프로젝트가 기존 이슈를 새 방식으로 옮기는 중일 때만, 아니면 null) */
+    private String legacyFingerprint;
+
     /** 핑거프린트 품질 등급 */
     private FingerprintQuality quality;
 
     /** 사용된 전략 설명 (예: "Full Stacktrace", "Exception Type + Message") */
     private String strategy;
 
+    /** 이슈 제목 (archive 첫 줄, 최대 500자) */
+    private String title;
+
     /**
      * 수동 검토가 필요한지 확인
      *
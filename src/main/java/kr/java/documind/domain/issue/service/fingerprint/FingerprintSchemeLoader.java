@@ -0,0 +1,70 @@
+package kr.java.documind.domain.issue.service.fingerprint;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import kr.java.documind.domain.issue.model.entity.FingerprintSchemeSetting;
+import kr.java.documind.domain.issue.model.repository.FingerprintSchemeSettingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로젝트별 핑거프린트 해시 방식 로더
+ *
+ * <p>fingerprint_scheme_setting 테이블을 주기적으로 읽어 {@link FingerprintGenerator}에 교체함. 설정이 바뀌지 않았으면 교체하지
+ * 않으므로 핑거프린트 캐시도 유지됨
+ *
+ * <p>해시 방식을 바꾸면 새 로그는 새 형식 핑거프린트를 가짐. legacyLookup이 켜져 있으면 SHA-256 핑거프린트도 함께 만들어 기존 이슈를 새
+ * 핑거프린트로 옮기고, 꺼져 있으면 기존 이슈와 따로 그룹핑됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FingerprintSchemeLoader {
+
+    private final FingerprintSchemeSettingRepository fingerprintSchemeSettingRepository;
+    private final FingerprintGenerator fingerprintGenerator;
+
+    // 마지막으로 적용한 설정 (변경 감지용)
+    private Map<UUID, ProjectFingerprintScheme> loadedSchemes = Map.of();
+
+    /** 설정을 다시 읽어 바뀌었으면 교체 (기동 직후 한 번 실행) */
+    @Scheduled(fixedDelayString = "${worker.fingerprint.scheme-refresh-interval-ms}")
+    public synchronized void refresh() {
+        List<FingerprintSchemeSetting> settings;
+        try {
+            settings = fingerprintSchemeSettingRepository.findAll();
+        } catch (DataAccessException e) {
+            log.warn(
+                    "Failed to load fingerprint schemes, keeping previous schemes: {}",
+                    e.getMessage());
+            return;
+        }
+
+        Map<UUID, ProjectFingerprintScheme> schemes = new HashMap<>();
+        for (FingerprintSchemeSetting setting : settings) {
+            if (setting.getScheme() == null) {
+                log.warn(
+                        "Skipping invalid fingerprint scheme setting: projectId={}",
+                        setting.getProjectId());
+                continue;
+            }
+            schemes.put(
+                    setting.getProjectId(),
+                    new ProjectFingerprintScheme(setting.getScheme(), setting.isLegacyLookup()));
+        }
+
+        if (schemes.equals(loadedSchemes)) {
+            return;
+        }
+
+        fingerprintGenerator.replaceSchemes(schemes);
+        loadedSchemes = Map.copyOf(schemes);
+
+        log.info("Fingerprint schemes reloaded: projects={}", schemes.size());
+    }
+}
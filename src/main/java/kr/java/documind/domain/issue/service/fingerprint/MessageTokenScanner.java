@@ -0,0 +1,472 @@
+package kr.java.documind.domain.issue.service.fingerprint;
+
+/**
+ * 에러 메시지 단일 패스 정규화 스캐너
+ *
+ * <p>메시지를 앞에서부터 한 번 훑으며 위치마다 규칙을 우선순위대로 확인하고, 일치하면 플레이스홀더를 붙인 뒤 토큰 끝으로 건너뜀. 치환이 없으면
+ * 원본 문자열을 그대로 반환하고, 정규식 역추적 없이 각 문자를 상수 번 안쪽으로 확인함
+ *
+ * <p>우선순위: 프로젝트 규칙 → UUID → IP → 타임스탬프 → 파일 경로 → 플레이어 ID → 아이템 ID → 16진수 주소 → 숫자. 기본 규칙의 결과는
+ * 순서대로 replaceAll을 적용하던 기존 정규식 체인과 같음. 이를 위해 뒤 규칙(플레이어 ID ~ 숫자) 토큰 안이나 바로 뒤에서 앞 규칙(UUID ~ 파일
+ * 경로) 토큰이 시작하면, 기존 체인처럼 앞 규칙을 먼저 적용한 것으로 보고 뒤 규칙 토큰을 자르거나 버림
+ *
+ * <p>단어 경계(\b)는 Java 17 정규식과 같이 문자·숫자·'_'를 단어 문자로 봄
+ */
+final class MessageTokenScanner {
+
+    private static final String UUID_TOKEN = "UUID";
+    private static final String IP_TOKEN = "IP";
+    private static final String TIMESTAMP_TOKEN = "TIMESTAMP";
+    private static final String PATH_TOKEN = "PATH/";
+    private static final String PLAYER_PREFIX = "player_";
+    private static final String PLAYER_TOKEN = "player_N";
+    private static final String ITEM_PREFIX = "item_";
+    private static final String ADDRESS_TOKEN = "@ADDR";
+    private static final String NUMBER_TOKEN = "N";
+
+    private static final int UUID_LENGTH = 36;
+
+    private final String text;
+    private final int length;
+    private final ProjectTokenRules projectRules;
+
+    private StringBuilder out;
+    private int copied;
+
+    // 마지막으로 계산한 파일 경로 (경계 확인과 본 스캔이 같은 경로를 다시 훑지 않도록)
+    private int pathStartCache = -1;
+    private int pathFilenameCache = -1;
+    private int pathEndCache = -1;
+
+    // 치환한 경로의 파일명 끝 (기존 체인처럼 파일명 안에서는 새 경로를 찾지 않음)
+    private int pathEnd;
+
+    private MessageTokenScanner(String text, ProjectTokenRules projectRules) {
+        this.text = text;
+        this.length = text.length();
+        this.projectRules = projectRules;
+    }
+
+    /**
+     * 메시지 정규화
+     *
+     * @param message 원본 메시지 (비어 있지 않음)
+     * @param projectRules 프로젝트 규칙 (없으면 null)
+     * @return 정규화된 메시지 (치환이 없으면 원본 그대로)
+     */
+    static String normalize(String message, ProjectTokenRules projectRules) {
+        return new MessageTokenScanner(message, projectRules).scan();
+    }
+
+    private String scan() {
+        int i = 0;
+        while (i < length) {
+            int next = matchAt(i, text.charAt(i));
+            i = next > i ? next : i + 1;
+        }
+
+        if (out == null) {
+            return text;
+        }
+        out.append(text, copied, length);
+        return out.toString();
+    }
+
+    /**
+     * 위치 i에서 시작하는 토큰 치환
+     *
+     * @return 치환했으면 다음 스캔 위치, 아니면 -1
+     */
+    private int matchAt(int i, char c) {
+        if (projectRules != null) {
+            long match = projectRules.match(text, i);
+            if (match >= 0) {
+                int end = ProjectTokenRules.matchEnd(match);
+                return replace(i, end, projectRules.replacement(match));
+            }
+        }
+
+        boolean digit = isDigit(c);
+        if (digit || isHexLetter(c)) {
+            int end = uuidEnd(i);
+            if (end > 0) {
+                return replace(i, end, UUID_TOKEN);
+            }
+        }
+        if (digit) {
+            int end = ipEnd(i);
+            if (end > 0) {
+                return replace(i, end, IP_TOKEN);
+            }
+            end = timestampEnd(i);
+            if (end > 0) {
+                return replace(i, end, TIMESTAMP_TOKEN);
+            }
+        }
+        if (c == '/' || isAsciiLetter(c)) {
+            // 디렉터리는 버리고 파일명부터 이어서 스캔 (파일명에도 뒤 규칙 적용)
+            int filename = pathFilenameStart(i);
+            if (filename > 0) {
+                pathEnd = pathEndCache;
+                return replace(i, filename, PATH_TOKEN);
+            }
+        }
+
+        if (c == 'p') {
+            int end = playerIdEnd(i);
+            if (end > 0 && !primaryStartsWithin(i, end, true)) {
+                return replace(i, end, PLAYER_TOKEN);
+            }
+        } else if (c == 'i') {
+            int typeEnd = itemTypeEnd(i);
+            int end = typeEnd > 0 ? itemIdEnd(typeEnd) : -1;
+            if (end > 0 && !primaryStartsWithin(i, end, true)) {
+                return replace(i, end, ITEM_PREFIX + text.substring(i + 5, typeEnd) + "_N");
+            }
+        } else if (c == '@') {
+            int end = hexAddressEnd(i);
+            if (end > 0) {
+                // 주소 안에서 앞 규칙 토큰이 시작하면 그 앞까지만 주소로 봄
+                int cut = firstPrimaryStart(i, end);
+                if (cut > i + 1) {
+                    return replace(i, cut, ADDRESS_TOKEN);
+                }
+                if (cut < 0) {
+                    return replace(i, end, ADDRESS_TOKEN);
+                }
+            }
+        } else if (digit) {
+            int end = numberEnd(i);
+            if (end > 0 && !primaryStartsWithin(i, end, true)) {
+                return replace(i, end, NUMBER_TOKEN);
+            }
+        }
+        return -1;
+    }
+
+    private int replace(int start, int end, String token) {
+        if (out == null) {
+            out = new StringBuilder(length);
+        }
+        out.append(text, copied, start).append(token);
+        copied = end;
+        return end;
+    }
+
+    // ===== 앞 규칙 (UUID, IP, 타임스탬프, 파일 경로) =====
+
+    /** \b[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}\b */
+    private int uuidEnd(int i) {
+        int end = i + UUID_LENGTH;
+        if (end > length || text.charAt(i + 8) != '-' || !boundaryBefore(i)) {
+            return -1;
+        }
+        for (int p = i; p < end; p++) {
+            char ch = text.charAt(p);
+            int offset = p - i;
+            boolean dash = offset == 8 || offset == 13 || offset == 18 || offset == 23;
+            if (dash ? ch != '-' : !isHex(ch)) {
+                return -1;
+            }
+        }
+        return isWordAt(end) ? -1 : end;
+    }
+
+    /** \b(?:\d{1,3}\.){3}\d{1,3}\b */
+    private int ipEnd(int i) {
+        if (!boundaryBefore(i)) {
+            return -1;
+        }
+        int p = i;
+        for (int group = 0; group < 4; group++) {
+            int digits = digitRunEnd(p) - p;
+            if (digits < 1 || digits > 3) {
+                return -1;
+            }
+            p += digits;
+            if (group < 3) {
+                if (p >= length || text.charAt(p) != '.') {
+                    return -1;
+                }
+                p++;
+            }
+        }
+        return isWordAt(p) ? -1 : p;
+    }
+
+    /**
+     * \d{4}-\d{2}-\d{2}[T ]\d{2}:\d{2}:\d{2}(?:\.\d+)?(?:Z|[+-]\d{2}:\d{2})?
+     *
+     * <p>기존 체인은 UUID, IP를 먼저 치환하므로 그 토큰이 타임스탬프 안에서 시작하면 타임스탬프로 보지 않거나 소수점·오프셋 앞에서 끝냄
+     */
+    private int timestampEnd(int i) {
+        if (i + 19 > length
+                || !digits(i, 4)
+                || text.charAt(i + 4) != '-'
+                || !digits(i + 5, 2)
+                || text.charAt(i + 7) != '-'
+                || !digits(i + 8, 2)
+                || (text.charAt(i + 10) != 'T' && text.charAt(i + 10) != ' ')
+                || !digits(i + 11, 2)
+                || text.charAt(i + 13) != ':'
+                || !digits(i + 14, 2)
+                || text.charAt(i + 16) != ':'
+                || !digits(i + 17, 2)) {
+            return -1;
+        }
+        for (int p = i + 1; p < i + 19; p++) {
+            if (uuidOrIpStartsAt(p)) {
+                return -1;
+            }
+        }
+
+        int p = i + 19;
+        if (p + 1 < length
+                && text.charAt(p) == '.'
+                && isDigit(text.charAt(p + 1))
+                && !uuidOrIpStartsAt(p + 1)) {
+            p = digitRunEnd(p + 1);
+        }
+        if (p < length) {
+            char zone = text.charAt(p);
+            if (zone == 'Z') {
+                p++;
+            } else if ((zone == '+' || zone == '-')
+                    && p + 6 <= length
+                    && digits(p + 1, 2)
+                    && text.charAt(p + 3) == ':'
+                    && digits(p + 4, 2)
+                    && !uuidOrIpStartsAt(p + 1)
+                    && !uuidOrIpStartsAt(p + 4)) {
+                p += 6;
+            }
+        }
+        return p;
+    }
+
+    private boolean uuidOrIpStartsAt(int p) {
+        char c = text.charAt(p);
+        return (isHex(c) && uuidEnd(p) > 0) || (isDigit(c) && ipEnd(p) > 0);
+    }
+
+    /**
+     * (?:[A-Za-z]:\\|/)(?:[^\\/:*?"<>|\r\n]+[\\/])*([^\\/:*?"<>|\r\n]+)
+     *
+     * <p>빈 세그먼트(구분자 연속, 금지 문자)를 만나면 그 앞의 마지막 세그먼트가 파일명. 기존 체인은 타임스탬프를 먼저 치환하므로 세그먼트 안의
+     * 타임스탬프(':' 포함)는 한 덩어리로 건너뜀
+     *
+     * @return 파일명 시작 위치 (경로가 아니면 -1)
+     */
+    private int pathFilenameStart(int i) {
+        if (i < pathEnd) {
+            return -1;
+        }
+        if (i == pathStartCache) {
+            return pathFilenameCache;
+        }
+
+        int segmentStart;
+        char c = text.charAt(i);
+        if (c == '/') {
+            segmentStart = i + 1;
+        } else if (isAsciiLetter(c)
+                && i + 2 < length
+                && text.charAt(i + 1) == ':'
+                && text.charAt(i + 2) == '\\') {
+            segmentStart = i + 3;
+        } else {
+            return -1;
+        }
+
+        int filename = -1;
+        int filenameEnd = -1;
+        while (true) {
+            int p = segmentStart;
+            while (p < length) {
+                char ch = text.charAt(p);
+                if (isDigit(ch)) {
+                    int timestamp = timestampEnd(p);
+                    if (timestamp > 0) {
+                        p = timestamp;
+                        continue;
+                    }
+                }
+                if (isSeparator(ch) || isForbiddenInPath(ch)) {
+                    break;
+                }
+                p++;
+            }
+            if (p == segmentStart) {
+                break;
+            }
+            filename = segmentStart;
+            filenameEnd = p;
+            if (p < length && isSeparator(text.charAt(p))) {
+                segmentStart = p + 1;
+                continue;
+            }
+            break;
+        }
+
+        pathStartCache = i;
+        pathFilenameCache = filename;
+        pathEndCache = filenameEnd;
+        return filename;
+    }
+
+    /** 위치 p에서 앞 규칙 토큰이 시작하는지 확인 */
+    private boolean primaryStartsAt(int p) {
+        if (p >= length) {
+            return false;
+        }
+        char c = text.charAt(p);
+        boolean digit = isDigit(c);
+        if ((digit || isHexLetter(c)) && uuidEnd(p) > 0) {
+            return true;
+        }
+        if (digit && (ipEnd(p) > 0 || timestampEnd(p) > 0)) {
+            return true;
+        }
+        return (c == '/' || isAsciiLetter(c)) && pathFilenameStart(p) > 0;
+    }
+
+    /**
+     * [start+1, end) 안에서 앞 규칙 토큰이 처음 시작하는 위치
+     *
+     * @return 시작 위치 (없으면 -1)
+     */
+    private int firstPrimaryStart(int start, int end) {
+        for (int p = start + 1; p < end; p++) {
+            if (primaryStartsAt(p)) {
+                return p;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 뒤 규칙 토큰 [start, end) 안(또는 바로 뒤)에서 앞 규칙 토큰이 시작하는지 확인
+     *
+     * <p>기존 체인에서는 앞 규칙 플레이스홀더(단어 문자로 시작)가 먼저 들어가 뒤 규칙의 \b가 깨지므로 그 토큰은 치환되지 않음
+     */
+    private boolean primaryStartsWithin(int start, int end, boolean includeEnd) {
+        return firstPrimaryStart(start, end) >= 0 || (includeEnd && primaryStartsAt(end));
+    }
+
+    // ===== 뒤 규칙 (플레이어 ID, 아이템 ID, 16진수 주소, 숫자) =====
+
+    /** \bplayer_\d+\b */
+    private int playerIdEnd(int i) {
+        if (!text.startsWith(PLAYER_PREFIX, i) || !boundaryBefore(i)) {
+            return -1;
+        }
+        int start = i + PLAYER_PREFIX.length();
+        int end = digitRunEnd(start);
+        return end > start && !isWordAt(end) ? end : -1;
+    }
+
+    /**
+     * \bitem_([a-zA-Z]+)_ 부분
+     *
+     * @return 타입 끝 위치 ('_' 위치, 아니면 -1)
+     */
+    private int itemTypeEnd(int i) {
+        if (!text.startsWith(ITEM_PREFIX, i) || !boundaryBefore(i)) {
+            return -1;
+        }
+        int start = i + ITEM_PREFIX.length();
+        int p = start;
+        while (p < length && isAsciiLetter(text.charAt(p))) {
+            p++;
+        }
+        return p > start && p < length && text.charAt(p) == '_' ? p : -1;
+    }
+
+    /** 아이템 ID의 _\d+\b 부분 */
+    private int itemIdEnd(int typeEnd) {
+        int start = typeEnd + 1;
+        int end = digitRunEnd(start);
+        return end > start && !isWordAt(end) ? end : -1;
+    }
+
+    /** @[0-9a-fA-F]+ */
+    private int hexAddressEnd(int i) {
+        int p = i + 1;
+        while (p < length && isHex(text.charAt(p))) {
+            p++;
+        }
+        return p > i + 1 ? p : -1;
+    }
+
+    /** \b\d+\b */
+    private int numberEnd(int i) {
+        if (!boundaryBefore(i)) {
+            return -1;
+        }
+        int end = digitRunEnd(i);
+        return isWordAt(end) ? -1 : end;
+    }
+
+    // ===== 문자 판별 =====
+
+    private int digitRunEnd(int p) {
+        while (p < length && isDigit(text.charAt(p))) {
+            p++;
+        }
+        return p;
+    }
+
+    private boolean digits(int p, int count) {
+        for (int k = 0; k < count; k++) {
+            if (!isDigit(text.charAt(p + k))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 단어 문자로 시작하는 토큰 앞의 \b (앞 문자가 단어 문자가 아님) */
+    private boolean boundaryBefore(int p) {
+        return p == 0 || !isWord(text.codePointBefore(p));
+    }
+
+    private boolean isWordAt(int p) {
+        return p < length && isWord(text.codePointAt(p));
+    }
+
+    static boolean isWord(int codePoint) {
+        if (codePoint < 128) {
+            return codePoint == '_'
+                    || isDigit((char) codePoint)
+                    || isAsciiLetter((char) codePoint);
+        }
+        return Character.isLetterOrDigit(codePoint);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isHexLetter(char c) {
+        return (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean isHex(char c) {
+        return isDigit(c) || isHexLetter(c);
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '/' || c == '\\';
+    }
+
+    private static boolean isForbiddenInPath(char c) {
+        return switch (c) {
+            case ':', '*', '?', '"', '<', '>', '|', '\r', '\n' -> true;
+            default -> false;
+        };
+    }
+}
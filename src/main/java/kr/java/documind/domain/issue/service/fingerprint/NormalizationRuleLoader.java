@@ -0,0 +1,104 @@
+package kr.java.documind.domain.issue.service.fingerprint;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import kr.java.documind.domain.issue.model.entity.NormalizationRule;
+import kr.java.documind.domain.issue.model.enums.TokenValueType;
+import kr.java.documind.domain.issue.model.repository.NormalizationRuleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로젝트별 메시지 정규화 규칙 로더
+ *
+ * <p>normalization_rule 테이블의 활성 규칙을 주기적으로 읽어 프로젝트별 트라이로 컴파일하고 {@link MessageNormalizer}에 교체함. 규칙이
+ * 바뀌지 않았으면 교체하지 않으므로 핑거프린트 캐시도 유지됨
+ *
+ * <p>규칙을 바꾸면 이후 들어오는 로그의 핑거프린트가 달라질 수 있음 (기존 이슈와 따로 그룹핑됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NormalizationRuleLoader {
+
+    // 접두어가 같으면 먼저 만든 규칙을 사용
+    private static final Comparator<NormalizationRule> RULE_ORDER =
+            Comparator.comparing(NormalizationRule::getCreatedAt)
+                    .thenComparing(NormalizationRule::getRuleId);
+
+    private final NormalizationRuleRepository normalizationRuleRepository;
+    private final MessageNormalizer messageNormalizer;
+
+    // 마지막으로 적용한 규칙 (변경 감지용)
+    private List<RuleDefinition> loadedDefinitions = List.of();
+
+    /** 활성 규칙을 다시 읽어 바뀌었으면 교체 (기동 직후 한 번 실행) */
+    @Scheduled(fixedDelayString = "${worker.normalization.refresh-interval-ms}")
+    public synchronized void refresh() {
+        List<NormalizationRule> rules;
+        try {
+            rules = normalizationRuleRepository.findAllByEnabledTrue();
+        } catch (DataAccessException e) {
+            log.warn(
+                    "Failed to load normalization rules, keeping previous rules: {}",
+                    e.getMessage());
+            return;
+        }
+
+        Map<UUID, List<NormalizationRule>> rulesByProject = new LinkedHashMap<>();
+        List<RuleDefinition> definitions = new ArrayList<>();
+        for (NormalizationRule rule : rules.stream().sorted(RULE_ORDER).toList()) {
+            if (!isValid(rule)) {
+                log.warn("Skipping invalid normalization rule: ruleId={}", rule.getRuleId());
+                continue;
+            }
+            rulesByProject.computeIfAbsent(rule.getProjectId(), key -> new ArrayList<>()).add(rule);
+            definitions.add(RuleDefinition.of(rule));
+        }
+
+        if (definitions.equals(loadedDefinitions)) {
+            return;
+        }
+
+        Map<UUID, ProjectTokenRules> compiled = new HashMap<>();
+        rulesByProject.forEach(
+                (projectId, projectRules) ->
+                        compiled.put(projectId, ProjectTokenRules.compile(projectRules)));
+        messageNormalizer.replaceProjectRules(compiled);
+        loadedDefinitions = definitions;
+
+        log.info(
+                "Normalization rules reloaded: projects={}, rules={}",
+                compiled.size(),
+                definitions.size());
+    }
+
+    private boolean isValid(NormalizationRule rule) {
+        return rule.getProjectId() != null
+                && rule.getTokenPrefix() != null
+                && !rule.getTokenPrefix().isEmpty()
+                && rule.getValueType() != null
+                && rule.getReplacement() != null;
+    }
+
+    /** 규칙 내용 (변경 감지 비교용) */
+    private record RuleDefinition(
+            UUID projectId, String tokenPrefix, TokenValueType valueType, String replacement) {
+
+        static RuleDefinition of(NormalizationRule rule) {
+            return new RuleDefinition(
+                    rule.getProjectId(),
+                    rule.getTokenPrefix(),
+                    rule.getValueType(),
+                    rule.getReplacement());
+        }
+    }
+}
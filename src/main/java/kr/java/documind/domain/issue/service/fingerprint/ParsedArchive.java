@@ -0,0 +1,175 @@
+package kr.java.documind.domain.issue.service.fingerprint;
+
+import java.util.Arrays;
+
+/**
+ * 로그 본문(archive) 파싱 결과
+ *
+ * <p>archive를 앞에서부터 한 번만 훑어 첫 줄(제목, 예외 타입, 메시지)과 스택 프레임 줄의 위치를 기록. 프레임은 문자열로 복사하지 않고
+ * archive 안의 [시작, 끝) 구간으로 보관하므로 큰 스택트레이스도 본문 복사 없이 핑거프린트 생성과 이슈 제목 추출이 공유함
+ *
+ * <p>줄 구분은 "\n" 또는 "\r\n"이며, 앞뒤 공백을 제외하고 "at "으로 시작하는 줄을 스택 프레임으로 봄
+ */
+public final class ParsedArchive {
+
+    private static final String FRAME_PREFIX = "at ";
+    private static final int TITLE_MAX_LENGTH = 500;
+    private static final String UNKNOWN_TITLE = "Unknown Error";
+    private static final int[] NO_FRAMES = new int[0];
+
+    private final String archive;
+
+    // 공백을 제외한 첫 줄 (archive가 없으면 null)
+    private final String firstLine;
+
+    // 프레임 줄 구간 [start0, end0, start1, end1, ...]
+    private final int[] frameBounds;
+    private final int frameCount;
+
+    private ParsedArchive(String archive, String firstLine, int[] frameBounds, int frameCount) {
+        this.archive = archive;
+        this.firstLine = firstLine;
+        this.frameBounds = frameBounds;
+        this.frameCount = frameCount;
+    }
+
+    /**
+     * archive 한 번 훑어 파싱
+     *
+     * @param archive 로그 본문 (null 가능)
+     * @return 파싱 결과
+     */
+    public static ParsedArchive parse(String archive) {
+        if (archive == null || archive.isEmpty()) {
+            return new ParsedArchive(archive, null, NO_FRAMES, 0);
+        }
+
+        int length = archive.length();
+        String firstLine = null;
+        int[] bounds = NO_FRAMES;
+        int count = 0;
+
+        int lineStart = 0;
+        while (lineStart <= length) {
+            int newline = archive.indexOf('\n', lineStart);
+            int lineEnd = newline < 0 ? length : newline;
+
+            // String.trim()과 같은 기준으로 앞뒤 공백(\r 포함) 제외
+            int start = lineStart;
+            int end = lineEnd;
+            while (start < end && archive.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && archive.charAt(end - 1) <= ' ') {
+                end--;
+            }
+
+            if (firstLine == null) {
+                firstLine = archive.substring(start, end);
+            }
+            if (end - start > FRAME_PREFIX.length() && archive.startsWith(FRAME_PREFIX, start)) {
+                if (bounds.length == count * 2) {
+                    bounds = Arrays.copyOf(bounds, Math.max(16, bounds.length * 2));
+                }
+                bounds[count * 2] = start;
+                bounds[count * 2 + 1] = end;
+                count++;
+            }
+
+            if (newline < 0) {
+                break;
+            }
+            lineStart = newline + 1;
+        }
+
+        return new ParsedArchive(archive, firstLine, bounds, count);
+    }
+
+    /** 원본 archive */
+    public String archive() {
+        return archive;
+    }
+
+    /** 공백을 제외한 첫 줄 (archive가 없으면 null) */
+    public String firstLine() {
+        return firstLine;
+    }
+
+    /**
+     * 첫 줄에서 예외 타입 추출 (예: "java.lang.NullPointerException: ...")
+     *
+     * @return 콜론 앞부분이 패키지명을 포함한 클래스명이면 그 값, 아니면 null
+     */
+    public String exceptionType() {
+        if (firstLine == null) {
+            return null;
+        }
+
+        int colon = firstLine.indexOf(':');
+        if (colon < 0) {
+            return null;
+        }
+
+        String typePart = firstLine.substring(0, colon).trim();
+        return typePart.indexOf('.') >= 0 ? typePart : null;
+    }
+
+    /**
+     * 첫 줄에서 에러 메시지 추출
+     *
+     * @return 첫 줄의 콜론 이후 텍스트 (콜론이 없으면 첫 줄 전체, archive가 없으면 null)
+     */
+    public String message() {
+        if (firstLine == null) {
+            return null;
+        }
+
+        int colon = firstLine.indexOf(':');
+        return colon < 0 ? firstLine : firstLine.substring(colon + 1).trim();
+    }
+
+    /**
+     * 이슈 제목 (첫 줄, 최대 500자)
+     *
+     * @return 이슈 제목 (archive가 없으면 "Unknown Error")
+     */
+    public String title() {
+        if (firstLine == null) {
+            return UNKNOWN_TITLE;
+        }
+        if (firstLine.length() > TITLE_MAX_LENGTH) {
+            return firstLine.substring(0, TITLE_MAX_LENGTH - 3) + "...";
+        }
+        return firstLine;
+    }
+
+    /** 스택 프레임 줄이 하나 이상 있으면 true */
+    public boolean hasStackTrace() {
+        return frameCount > 0;
+    }
+
+    /** 스택 프레임 줄 수 */
+    public int frameCount() {
+        return frameCount;
+    }
+
+    /**
+     * 프레임 줄 시작 위치
+     *
+     * @param index 프레임 번호 (0 ~ frameCount-1)
+     * @return archive 안의 시작 인덱스 (inclusive)
+     */
+    public int frameStart(int index) {
+        return frameBounds[index * 2];
+    }
+
+    /**
+     * 프레임 줄 끝 위치
+     *
+     * @param index 프레임 번호 (0 ~ frameCount-1)
+     * @return archive 안의 끝 인덱스 (exclusive)
+     */
+    public int frameEnd(int index) {
+        return frameBounds[index * 2 + 1];
+    }
+}
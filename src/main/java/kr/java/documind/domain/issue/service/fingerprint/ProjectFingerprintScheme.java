@@ -0,0 +1,21 @@
+package kr.java.documind.domain.issue.service.fingerprint;
+
+import kr.java.documind.domain.issue.model.enums.FingerprintScheme;
+
+/**
+ * 한 프로젝트의 핑거프린트 해시 방식
+ *
+ * @param scheme 새 로그에 사용할 해시 방식
+ * @param legacyLookup SHA-256 핑거프린트도 함께 만들어 기존 이슈를 옮길지 여부
+ */
+record ProjectFingerprintScheme(FingerprintScheme scheme, boolean legacyLookup) {
+
+    /** 설정이 없는 프로젝트의 방식 (SHA-256) */
+    static final ProjectFingerprintScheme DEFAULT =
+            new ProjectFingerprintScheme(FingerprintScheme.SHA256, false);
+
+    /** 이전 핑거프린트(SHA-256)가 필요한지 */
+    boolean needsLegacy() {
+        return legacyLookup && scheme != FingerprintScheme.SHA256;
+    }
+}
@@ -0,0 +1,173 @@
+package kr.java.documind.domain.issue.service.fingerprint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import kr.java.documind.domain.issue.model.entity.NormalizationRule;
+import kr.java.documind.domain.issue.model.enums.TokenValueType;
+
+/**
+ * 한 프로젝트의 정규화 규칙을 접두어 트라이로 컴파일한 결과
+ *
+ * <p>위치마다 트라이를 한 번 따라가며 일치하는 접두어 중 가장 긴 것부터 값 형식을 확인하므로 규칙 수와 무관하게 접두어 길이만큼만 비교함.
+ * 접두어가 단어 문자로 시작하면 앞에 단어 경계가 있어야 하고, 값 뒤에는 단어 문자가 오지 않아야 함 (기본 규칙의 \b와 같음)
+ *
+ * <p>생성 후 변경되지 않으므로 여러 스레드가 공유함
+ */
+final class ProjectTokenRules {
+
+    private static final int NO_RULE = -1;
+
+    private final Node root;
+    private final TokenValueType[] valueTypes;
+    private final String[] replacements;
+
+    private ProjectTokenRules(Node root, TokenValueType[] valueTypes, String[] replacements) {
+        this.root = root;
+        this.valueTypes = valueTypes;
+        this.replacements = replacements;
+    }
+
+    /**
+     * 규칙 컴파일 (접두어가 같은 규칙은 먼저 온 것만 사용)
+     *
+     * @param rules 한 프로젝트의 활성 규칙
+     * @return 컴파일된 규칙
+     */
+    static ProjectTokenRules compile(List<NormalizationRule> rules) {
+        BuildNode buildRoot = new BuildNode();
+        List<TokenValueType> valueTypes = new ArrayList<>();
+        List<String> replacements = new ArrayList<>();
+
+        for (NormalizationRule rule : rules) {
+            String prefix = rule.getTokenPrefix();
+            BuildNode node = buildRoot;
+            for (int k = 0; k < prefix.length(); k++) {
+                node = node.children.computeIfAbsent(prefix.charAt(k), key -> new BuildNode());
+            }
+            if (node.rule != NO_RULE) {
+                continue;
+            }
+            node.rule = valueTypes.size();
+            valueTypes.add(rule.getValueType());
+            replacements.add(rule.getReplacement());
+        }
+
+        return new ProjectTokenRules(
+                buildRoot.freeze(),
+                valueTypes.toArray(new TokenValueType[0]),
+                replacements.toArray(new String[0]));
+    }
+
+    /** 컴파일된 규칙 수 */
+    int size() {
+        return replacements.length;
+    }
+
+    /**
+     * 위치 i에서 시작하는 규칙 토큰 찾기
+     *
+     * @param text 메시지
+     * @param i 시작 위치
+     * @return 일치하면 (규칙 번호 << 32 | 토큰 끝 위치), 없으면 -1
+     */
+    long match(String text, int i) {
+        if (root.child(text.charAt(i)) == null) {
+            return -1;
+        }
+        if (MessageTokenScanner.isWord(text.charAt(i))
+                && i > 0
+                && MessageTokenScanner.isWord(text.codePointBefore(i))) {
+            return -1;
+        }
+
+        // 가장 긴 접두어부터, 값 형식이 맞지 않으면 더 짧은 접두어로 다시 찾음
+        int maxLength = text.length() - i;
+        while (true) {
+            int rule = NO_RULE;
+            int prefixEnd = -1;
+            Node node = root;
+            for (int p = i; p - i < maxLength; p++) {
+                node = node.child(text.charAt(p));
+                if (node == null) {
+                    break;
+                }
+                if (node.rule != NO_RULE) {
+                    rule = node.rule;
+                    prefixEnd = p + 1;
+                }
+            }
+            if (rule == NO_RULE) {
+                return -1;
+            }
+
+            int end = valueEnd(text, prefixEnd, valueTypes[rule]);
+            if (end > 0) {
+                return ((long) rule << 32) | end;
+            }
+            maxLength = prefixEnd - i - 1;
+        }
+    }
+
+    /** match 결과의 토큰 끝 위치 */
+    static int matchEnd(long match) {
+        return (int) match;
+    }
+
+    /** match 결과의 치환 문자열 */
+    String replacement(long match) {
+        return replacements[(int) (match >>> 32)];
+    }
+
+    /** 값 끝 위치 (값이 없거나 뒤에 단어 문자가 이어지면 -1) */
+    private static int valueEnd(String text, int start, TokenValueType valueType) {
+        int end = start;
+        while (end < text.length() && valueType.accepts(text.charAt(end))) {
+            end++;
+        }
+        if (end == start) {
+            return -1;
+        }
+        return end < text.length() && MessageTokenScanner.isWord(text.codePointAt(end)) ? -1 : end;
+    }
+
+    /** 컴파일된 트라이 노드 (자식 문자를 정렬해 이진 탐색) */
+    private static final class Node {
+
+        private final char[] keys;
+        private final Node[] children;
+        private final int rule;
+
+        private Node(char[] keys, Node[] children, int rule) {
+            this.keys = keys;
+            this.children = children;
+            this.rule = rule;
+        }
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    /** 컴파일 중 트라이 노드 */
+    private static final class BuildNode {
+
+        private final Map<Character, BuildNode> children = new TreeMap<>();
+        private int rule = NO_RULE;
+
+        private Node freeze() {
+            char[] keys = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            int index = 0;
+            for (Map.Entry<Character, BuildNode> entry : children.entrySet()) {
+                keys[index] = entry.getKey();
+                frozen[index] = entry.getValue().freeze();
+                index++;
+            }
+            return new Node(keys, frozen, rule);
+        }
+    }
+}
@@ -2,8 +2,10 @@ package kr.java.documind.domain.issue.service.fingerprint;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import kr.java.documind.domain.issue.model.enums.FrameType;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -11,6 +13,9 @@ import org.springframework.stereotype.Component;
  * 스택 트레이스 프레임 필터링 및 정규화 컴포넌트
  *
  * <p>애플리케이션 프레임만 추출하고 라이브러리 프레임을 제거하여 핑거프린트 생성에 사용
+ *
+ * <p>프레임 분류는 기본 패키지 목록과 프로젝트 규칙을 합친 접두어 트라이({@link StackFrameRules})로 한 번에 판단. 프로젝트 규칙은 {@link
+ * StackFrameRuleLoader}가 DB에서 주기적으로 다시 읽어 교체함
  */
 @Slf4j
 @Component
@@ -21,112 +26,141 @@ public class StackFrameFilter {
     private static final Pattern FRAME_PATTERN =
             Pattern.compile("at\\s+([a-zA-Z0-9_.]+)\\.([a-zA-Z0-9_<>$]+)\\(([^:)]+):?(\\d+)?\\)");
 
-    // 애플리케이션 프레임 패턴 (프로젝트별 수정 필요)
-    private static final List<String> APP_PACKAGE_PREFIXES =
-            List.of(
-                    "kr.java.documind", // 현재 프로젝트
-                    "com.game", // 게임 프로젝트 예시
-                    "com.studio",
-                    "com.gameco");
-
-    // 제외할 라이브러리 프레임 패턴
-    private static final List<String> LIBRARY_PACKAGE_PREFIXES =
-            List.of(
-                    "java.",
-                    "javax.",
-                    "jdk.",
-                    "sun.",
-                    "org.springframework.",
-                    "org.hibernate.",
-                    "org.apache.",
-                    "com.fasterxml.",
-                    "io.netty.",
-                    "reactor.",
-                    "kotlin.");
+    private static final String LAMBDA_PREFIX = "$lambda$";
+
+    // 기본 패키지 목록과 전체 프로젝트 규칙 (교체 시 트라이 전체를 바꿈)
+    private volatile StackFrameRules rules = StackFrameRules.defaults();
+
+    // 프로젝트 규칙이 바뀔 때마다 증가 (핑거프린트 캐시 키에 포함)
+    private volatile long rulesVersion;
 
     /**
-     * 스택 트레이스에서 애플리케이션 프레임만 추출
+     * 스택 트레이스에서 애플리케이션 프레임만 추출 (기본 패키지 목록 사용)
      *
      * @param stackTrace 전체 스택 트레이스 문자열
      * @return 정규화된 애플리케이션 프레임 리스트
      */
     public List<String> extractAppFrames(String stackTrace) {
-        if (stackTrace == null || stackTrace.isEmpty()) {
+        return appFrames(null, ParsedArchive.parse(stackTrace));
+    }
+
+    /**
+     * 파싱된 archive의 프레임 줄에서 애플리케이션 프레임만 추출
+     *
+     * <p>프레임 줄을 잘라내지 않고 archive 구간에 바로 패턴을 적용
+     *
+     * @param projectId 프로젝트 ID (null이면 기본 패키지 목록만 사용)
+     * @param parsed 파싱된 archive
+     * @return 정규화된 애플리케이션 프레임 리스트
+     */
+    public List<String> appFrames(UUID projectId, ParsedArchive parsed) {
+        if (!parsed.hasStackTrace()) {
             return List.of();
         }
 
+        StackFrameRules frameRules = rules;
+        String archive = parsed.archive();
         List<String> appFrames = new ArrayList<>();
-        String[] lines = stackTrace.split("\\r?\\n");
+        Matcher matcher = FRAME_PATTERN.matcher(archive);
 
-        for (String line : lines) {
-            Matcher matcher = FRAME_PATTERN.matcher(line.trim());
+        for (int i = 0; i < parsed.frameCount(); i++) {
+            matcher.region(parsed.frameStart(i), parsed.frameEnd(i));
             if (!matcher.find()) {
                 continue;
             }
 
-            String packageName = matcher.group(1);
-
-            // 라이브러리 프레임 제외
-            if (isLibraryFrame(packageName)) {
-                continue;
-            }
-
-            // 애플리케이션 프레임만 수집
-            if (isAppFrame(packageName)) {
-                String normalizedFrame = normalizeFrame(matcher);
-                appFrames.add(normalizedFrame);
+            // 애플리케이션 프레임만 수집 (라이브러리, 분류되지 않은 프레임 제외)
+            FrameType frameType =
+                    frameRules.classify(projectId, archive, matcher.start(1), matcher.end(1));
+            if (frameType == FrameType.APP) {
+                appFrames.add(normalizeFrame(archive, matcher));
             }
         }
 
-        log.trace("Extracted {} app frames from {} total lines", appFrames.size(), lines.length);
+        log.trace(
+                "Extracted {} app frames from {} frame lines",
+                appFrames.size(),
+                parsed.frameCount());
         return appFrames;
     }
 
+    /**
+     * 분류 규칙 전체 교체
+     *
+     * @param frameRules 기본 패키지 목록과 전체 프로젝트 규칙을 컴파일한 트라이
+     */
+    void replaceRules(StackFrameRules frameRules) {
+        rules = frameRules;
+        rulesVersion++;
+    }
+
+    /** 분류 규칙 버전 (규칙이 바뀌면 증가) */
+    long rulesVersion() {
+        return rulesVersion;
+    }
+
     /**
      * 스택 트레이스 프레임 정규화
      *
      * <p>정규화 규칙: - 라인 번호를 10 단위로 반올림 (42 -> 40) - 람다 표현식 정리 ($lambda$0 제거) - 파일 경로 정규화 (절대 경로 제거)
      *
+     * <p>매칭 구간을 archive에서 바로 이어 붙임 (그룹 문자열, 정규식 치환 없음)
+     *
+     * @param archive 프레임 줄을 포함한 archive
      * @param matcher 프레임 패턴 매칭 결과
      * @return 정규화된 프레임 문자열
      */
-    private String normalizeFrame(Matcher matcher) {
-        String packageName = matcher.group(1);
-        String methodName = matcher.group(2);
-        String fileName = matcher.group(3);
-        String lineNumber = matcher.group(4);
-
-        // 람다 표현식 정리
-        methodName = methodName.replaceAll("\\$lambda\\$\\d+", "\\$lambda");
+    private String normalizeFrame(String archive, Matcher matcher) {
+        StringBuilder frame = new StringBuilder(matcher.end() - matcher.start());
+        frame.append(archive, matcher.start(1), matcher.end(1)).append('.');
+        appendMethodName(frame, archive, matcher.start(2), matcher.end(2));
+        frame.append('(').append(archive, matcher.start(3), matcher.end(3));
 
         // 라인 번호 10단위 반올림 (있는 경우만)
-        String normalizedLine = "";
-        if (lineNumber != null && !lineNumber.isEmpty()) {
-            int line = Integer.parseInt(lineNumber);
-            int rounded = (line / 10) * 10;
-            normalizedLine = ":" + rounded;
+        if (matcher.start(4) >= 0) {
+            frame.append(':');
+            appendRoundedLine(frame, archive, matcher.start(4), matcher.end(4));
         }
+        return frame.append(')').toString();
+    }
 
-        return String.format("%s.%s(%s%s)", packageName, methodName, fileName, normalizedLine);
+    /** 메서드 이름에서 람다 번호 제거 ($lambda$0 -> $lambda) */
+    private void appendMethodName(StringBuilder frame, String archive, int start, int end) {
+        int p = start;
+        while (p < end) {
+            int digitStart = p + LAMBDA_PREFIX.length();
+            if (digitStart < end
+                    && isDigit(archive.charAt(digitStart))
+                    && archive.startsWith(LAMBDA_PREFIX, p)) {
+                frame.append(LAMBDA_PREFIX, 0, LAMBDA_PREFIX.length() - 1);
+                p = digitStart;
+                while (p < end && isDigit(archive.charAt(p))) {
+                    p++;
+                }
+                continue;
+            }
+            frame.append(archive.charAt(p++));
+        }
     }
 
     /**
-     * 애플리케이션 프레임인지 확인
+     * 라인 번호를 10 단위로 내림해 붙임 (마지막 자리를 0으로, 42 -> 40, 5 -> 0)
      *
-     * @param packageName 패키지명
-     * @return 애플리케이션 프레임이면 true
+     * <p>숫자로 바꾸지 않으므로 int 범위를 넘는 라인 번호도 처리됨
      */
-    private boolean isAppFrame(String packageName) {
-        return APP_PACKAGE_PREFIXES.stream().anyMatch(packageName::startsWith);
+    private void appendRoundedLine(StringBuilder frame, String archive, int start, int end) {
+        int p = start;
+        while (p < end - 1 && archive.charAt(p) == '0') {
+            p++;
+        }
+        if (p == end - 1) {
+            frame.append('0');
+            return;
+        }
+        frame.append(archive, p, end - 1).append('0');
     }
 
-    /**
-     * 라이브러리 프레임인지 확인
-     *
-     * @param packageName 패키지명
-     * @return 라이브러리 프레임이면 true
-     */
-    private boolean isLibraryFrame(String packageName) {
-        return LIBRARY_PACKAGE_PREFIXES.stream().anyMatch(packageName::startsWith);
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 }
@@ -0,0 +1,92 @@
+package kr.java.documind.domain.issue.service.fingerprint;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import kr.java.documind.domain.issue.model.entity.StackFrameRule;
+import kr.java.documind.domain.issue.model.enums.FrameType;
+import kr.java.documind.domain.issue.model.repository.StackFrameRuleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로젝트별 스택 프레임 분류 규칙 로더
+ *
+ * <p>stack_frame_rule 테이블의 활성 규칙을 주기적으로 읽어 기본 패키지 목록과 함께 하나의 트라이로 컴파일하고 {@link StackFrameFilter}에
+ * 교체함. 규칙이 바뀌지 않았으면 교체하지 않으므로 핑거프린트 캐시도 유지됨
+ *
+ * <p>규칙을 바꾸면 이후 들어오는 로그의 핑거프린트가 달라질 수 있음 (기존 이슈와 따로 그룹핑됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StackFrameRuleLoader {
+
+    // 같은 프로젝트에서 접두어가 같으면 먼저 만든 규칙을 사용
+    private static final Comparator<StackFrameRule> RULE_ORDER =
+            Comparator.comparing(StackFrameRule::getCreatedAt)
+                    .thenComparing(StackFrameRule::getRuleId);
+
+    private final StackFrameRuleRepository stackFrameRuleRepository;
+    private final StackFrameFilter stackFrameFilter;
+
+    // 마지막으로 적용한 규칙 (변경 감지용)
+    private List<RuleDefinition> loadedDefinitions = List.of();
+
+    /** 활성 규칙을 다시 읽어 바뀌었으면 교체 (기동 직후 한 번 실행) */
+    @Scheduled(fixedDelayString = "${worker.stack-frame.refresh-interval-ms}")
+    public synchronized void refresh() {
+        List<StackFrameRule> rules;
+        try {
+            rules = stackFrameRuleRepository.findAllByEnabledTrue();
+        } catch (DataAccessException e) {
+            log.warn(
+                    "Failed to load stack frame rules, keeping previous rules: {}",
+                    e.getMessage());
+            return;
+        }
+
+        List<StackFrameRule> validRules = new ArrayList<>();
+        List<RuleDefinition> definitions = new ArrayList<>();
+        for (StackFrameRule rule : rules.stream().sorted(RULE_ORDER).toList()) {
+            if (!isValid(rule)) {
+                log.warn("Skipping invalid stack frame rule: ruleId={}", rule.getRuleId());
+                continue;
+            }
+            validRules.add(rule);
+            definitions.add(RuleDefinition.of(rule));
+        }
+
+        if (definitions.equals(loadedDefinitions)) {
+            return;
+        }
+
+        stackFrameFilter.replaceRules(StackFrameRules.compile(validRules));
+        loadedDefinitions = definitions;
+
+        log.info(
+                "Stack frame rules reloaded: projects={}, rules={}",
+                definitions.stream().map(RuleDefinition::projectId).distinct().count(),
+                definitions.size());
+    }
+
+    private boolean isValid(StackFrameRule rule) {
+        return rule.getProjectId() != null
+                && rule.getPackagePrefix() != null
+                && !rule.getPackagePrefix().isEmpty()
+                && rule.getFrameType() != null;
+    }
+
+    /** 규칙 내용 (변경 감지 비교용) */
+    private record RuleDefinition(UUID projectId, String packagePrefix, FrameType frameType) {
+
+        static RuleDefinition of(StackFrameRule rule) {
+            return new RuleDefinition(
+                    rule.getProjectId(), rule.getPackagePrefix(), rule.getFrameType());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package kr.java.documind.domain.issue.service.fingerprint;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import kr.java.documind.domain.issue.model.entity.StackFrameRule;
+import kr.java.documind.domain.issue.model.enums.FrameType;
+
+/**
+ * 기본 패키지 목록과 전체 프로젝트 규칙을 하나의 패키지 접두어 트라이로 컴파일한 결과
+ *
+ * <p>클래스 이름을 한 번 따라가며 맞는 접두어 중 가장 긴 것의 분류를 사용하므로 규칙 수와 무관하게 클래스 이름 길이만큼만 비교함. 같은 접두어에
+ * 프로젝트 규칙이 있으면 기본 분류보다 우선함
+ *
+ * <p>생성 후 변경되지 않으므로 여러 스레드가 공유함
+ */
+final class StackFrameRules {
+
+    // 기본 애플리케이션 패키지 (프로젝트 규칙이 없어도 적용)
+    private static final List<String> DEFAULT_APP_PREFIXES =
+            List.of(
+                    "kr.java.documind", // 현재 프로젝트
+                    "com.game", // 게임 프로젝트 예시
+                    "com.studio",
+                    "com.gameco");
+
+    // 기본 라이브러리 패키지
+    private static final List<String> DEFAULT_LIBRARY_PREFIXES =
+            List.of(
+                    "java.",
+                    "javax.",
+                    "jdk.",
+                    "sun.",
+                    "org.springframework.",
+                    "org.hibernate.",
+                    "org.apache.",
+                    "com.fasterxml.",
+                    "io.netty.",
+                    "reactor.",
+                    "kotlin.");
+
+    private final Node root;
+
+    private StackFrameRules(Node root) {
+        this.root = root;
+    }
+
+    /** 기본 패키지 목록만 담은 규칙 */
+    static StackFrameRules defaults() {
+        return compile(List.of());
+    }
+
+    /**
+     * 규칙 컴파일 (같은 프로젝트에서 접두어가 같은 규칙은 먼저 온 것만 사용)
+     *
+     * @param rules 전체 프로젝트의 활성 규칙
+     * @return 컴파일된 규칙
+     */
+    static StackFrameRules compile(List<StackFrameRule> rules) {
+        BuildNode buildRoot = new BuildNode();
+        DEFAULT_APP_PREFIXES.forEach(
+                prefix -> buildRoot.insert(prefix).defaultType = FrameType.APP);
+        DEFAULT_LIBRARY_PREFIXES.forEach(
+                prefix -> buildRoot.insert(prefix).defaultType = FrameType.LIBRARY);
+
+        for (StackFrameRule rule : rules) {
+            buildRoot
+                    .insert(rule.getPackagePrefix())
+                    .projectTypes
+                    .putIfAbsent(rule.getProjectId(), rule.getFrameType());
+        }
+        return new StackFrameRules(buildRoot.freeze());
+    }
+
+    /**
+     * text[start, end) 구간의 클래스 이름 분류
+     *
+     * @param projectId 프로젝트 ID (null이면 기본 분류만 사용)
+     * @param text 클래스 이름을 포함한 문자열
+     * @param start 클래스 이름 시작 위치
+     * @param end 클래스 이름 끝 위치
+     * @return 가장 긴 접두어의 분류 (맞는 접두어가 없으면 null)
+     */
+    FrameType classify(UUID projectId, String text, int start, int end) {
+        FrameType frameType = null;
+        Node node = root;
+        for (int p = start; p < end; p++) {
+            node = node.child(text.charAt(p));
+            if (node == null) {
+                break;
+            }
+            FrameType projectType = projectId != null ? node.projectTypes.get(projectId) : null;
+            if (projectType != null) {
+                frameType = projectType;
+            } else if (node.defaultType != null) {
+                frameType = node.defaultType;
+            }
+        }
+        return frameType;
+    }
+
+    /** 컴파일된 트라이 노드 (자식 문자를 정렬해 이진 탐색) */
+    private static final class Node {
+
+        private final char[] keys;
+        private final Node[] children;
+        private final FrameType defaultType;
+        private final Map<UUID, FrameType> projectTypes;
+
+        private Node(
+                char[] keys,
+                Node[] children,
+                FrameType defaultType,
+                Map<UUID, FrameType> projectTypes) {
+            this.keys = keys;
+            this.children = children;
+            this.defaultType = defaultType;
+            this.projectTypes = projectTypes;
+        }
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    /** 컴파일 중 트라이 노드 */
+    private static final class BuildNode {
+
+        private final Map<Character, BuildNode> children = new TreeMap<>();
+        private final Map<UUID, FrameType> projectTypes = new HashMap<>();
+        private FrameType defaultType;
+
+        private BuildNode insert(String prefix) {
+            BuildNode node = this;
+            for (int k = 0; k < prefix.length(); k++) {
+                node = node.children.computeIfAbsent(prefix.charAt(k), key -> new BuildNode());
+            }
+            return node;
+        }
+
+        private Node freeze() {
+            char[] keys = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            int index = 0;
+            for (Map.Entry<Character, BuildNode> entry : children.entrySet()) {
+                keys[index] = entry.getKey();
+                frozen[index] = entry.getValue().freeze();
+                index++;
+            }
+            return new Node(keys, frozen, defaultType, Map.copyOf(projectTypes));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package kr.java.documind.domain.logcollector.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import kr.java.documind.domain.logcollector.model.dto.response.LogBulkIngestResponse;
+import kr.java.documind.domain.logcollector.service.LogCollectService;
+import kr.java.documind.global.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/logs")
+@RequiredArgsConstructor
+public class LogCollectApiController {
+
+    private final LogCollectService logCollectService;
+
+    /** NDJSON 본문을 스트림으로 읽어 라인 단위로 수집 */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ApiResponse<LogBulkIngestResponse> ingestBulk(HttpServletRequest request)
+            throws IOException {
+        return ApiResponse.success(logCollectService.ingestNdjson(request.getInputStream()));
+    }
+}
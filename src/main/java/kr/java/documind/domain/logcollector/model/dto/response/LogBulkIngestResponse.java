@@ -0,0 +1,20 @@
+package kr.java.documind.domain.logcollector.model.dto.response;
+
+import java.util.List;
+
+/**
+ * NDJSON 일괄 수집 결과
+ *
+ * <p>라인 단위 처리 결과를 집계하며, 거부된 라인은 최대 {@code errors} 크기만큼만 상세 사유를 포함
+ */
+public record LogBulkIngestResponse(
+        int totalLines, int accepted, int rejected, List<LineError> errors) {
+
+    /**
+     * 거부된 라인의 상세 정보
+     *
+     * @param line 1부터 시작하는 라인 번호
+     * @param reason 거부 사유
+     */
+    public record LineError(int line, String reason) {}
+}
@@ -0,0 +1,127 @@
+package kr.java.documind.domain.logcollector.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import kr.java.documind.domain.logcollector.model.dto.response.LogBulkIngestResponse;
+import kr.java.documind.domain.logcollector.model.dto.response.LogBulkIngestResponse.LineError;
+import kr.java.documind.domain.logprocessor.model.dto.request.RawLogRequest;
+import kr.java.documind.domain.logprocessor.model.enums.BufferAddResult;
+import kr.java.documind.domain.logprocessor.service.LogBufferService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그 수집 서비스
+ *
+ * <p>NDJSON(newline-delimited JSON) 본문을 스트림으로 읽어 한 라인씩 검증/변환 후 {@link LogBufferService}에 적재.
+ * 전체 요청을 메모리에 올리지 않으므로 대용량 요청에서도 힙 사용량이 라인 크기 수준으로 유지됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LogCollectService {
+
+    /** 응답에 포함할 거부 라인 상세 정보 최대 개수 */
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final LogBufferService logBufferService;
+
+    /**
+     * NDJSON 스트림을 라인 단위로 수집
+     *
+     * <p>빈 라인은 무시하며, 파싱/검증/변환에 실패하거나 버퍼가 가득 차 버린 라인은 거부 처리 후 다음 라인을 계속 처리
+     *
+     * @param body NDJSON 요청 본문 스트림
+     * @return 라인별 수락/거부 집계 결과
+     * @throws IOException 요청 본문 읽기 실패 시
+     */
+    public LogBulkIngestResponse ingestNdjson(InputStream body) throws IOException {
+        int totalLines = 0;
+        int accepted = 0;
+        int rejected = 0;
+        List<LineError> errors = new ArrayList<>();
+
+        try (BufferedReader reader =
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                totalLines++;
+
+                String reason = ingestLine(line);
+                if (reason == null) {
+                    accepted++;
+                    continue;
+                }
+
+                rejected++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new LineError(lineNumber, reason));
+                }
+            }
+        }
+
+        log.info(
+                "[Ingest] NDJSON bulk ingestion completed (total={}, accepted={}, rejected={})",
+                totalLines,
+                accepted,
+                rejected);
+
+        return new LogBulkIngestResponse(totalLines, accepted, rejected, errors);
+    }
+
+    /**
+     * 단일 라인 파싱, 검증 후 버퍼에 적재
+     *
+     * @param line NDJSON 한 라인
+     * @return 거부 사유 (성공 시 null)
+     */
+    private String ingestLine(String line) {
+        RawLogRequest dto;
+        try {
+            dto = objectMapper.readValue(line, RawLogRequest.class);
+        } catch (JsonProcessingException e) {
+            return "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage();
+        }
+
+        if (dto == null) {
+            return "빈 JSON 레코드입니다.";
+        }
+
+        Set<ConstraintViolation<RawLogRequest>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+
+        try {
+            if (logBufferService.addFromDto(dto) == BufferAddResult.DROPPED) {
+                return "수집 버퍼가 가득 차 로그를 저장하지 못했습니다. 잠시 후 다시 시도해 주세요.";
+            }
+            return null;
+        } catch (RuntimeException e) {
+            log.warn("[Ingest] Failed to map log record: {}", e.getMessage());
+            return "로그 변환에 실패했습니다: " + e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package kr.java.documind.domain.logprocessor.model.dto;
+
+import java.util.List;
+
+/**
+ * 버스트 중복 제거 결과
+ *
+ * @param kept game_log에 원본을 저장할 로그
+ * @param bursts 원본 저장을 생략하고 집계만 남길 로그 묶음
+ */
+public record CollapsedBatch(List<LogWrapper> kept, List<SuppressedBurst> bursts) {
+
+    /**
+     * 중복 제거를 적용하지 않은 결과
+     *
+     * @param wrappers flush 대상 로그
+     * @return 모든 로그를 저장 대상으로 둔 결과
+     */
+    public static CollapsedBatch passThrough(List<LogWrapper> wrappers) {
+        return new CollapsedBatch(wrappers, List.of());
+    }
+
+    public boolean hasBursts() {
+        return !bursts.isEmpty();
+    }
+}
@@ -1,14 +1,20 @@
 package kr.java.documind.domain.logprocessor.model.dto;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import kr.java.documind.domain.logprocessor.model.entity.GameLog;
 import org.springframework.data.redis.connection.stream.RecordId;
 
 /**
  * 로그 버퍼 처리를 위한 래퍼 레코드
  *
- * <p>GameLog와 Redis RecordId, 재시도 횟수를 함께 관리
+ * <p>GameLog와 Redis RecordId, 재시도 횟수, 메시지를 읽은 Stream 샤드 키를 함께 관리
+ *
+ * @param streamKey ACK를 보낼 Stream 키 (null이면 기본 키)
  */
-public record LogWrapper(GameLog log, RecordId recordId, int retryCount) {
+public record LogWrapper(GameLog log, RecordId recordId, int retryCount, String streamKey) {
 
     /**
      * retryCount를 포함하지 않는 생성자 (기존 호환성 유지)
@@ -17,6 +23,34 @@ public record LogWrapper(GameLog log, RecordId recordId, int retryCount) {
      * @param recordId Redis Stream RecordId (없을 경우 null)
      */
     public LogWrapper(GameLog log, RecordId recordId) {
-        this(log, recordId, 0);
+        this(log, recordId, 0, null);
+    }
+
+    /**
+     * Stream 키를 포함하지 않는 생성자 (기본 키로 ACK)
+     *
+     * @param log GameLog 엔티티
+     * @param recordId Redis Stream RecordId (없을 경우 null)
+     * @param retryCount 재시도 횟수
+     */
+    public LogWrapper(GameLog log, RecordId recordId, int retryCount) {
+        this(log, recordId, retryCount, null);
+    }
+
+    /**
+     * RecordId를 Stream 키별로 묶음 (RecordId가 없는 로그는 제외)
+     *
+     * @param wrappers 로그 래퍼 목록
+     * @return Stream 키(null이면 기본 키)별 RecordId 목록 (입력 순서 유지)
+     */
+    public static Map<String, List<RecordId>> recordIdsByStreamKey(List<LogWrapper> wrappers) {
+        Map<String, List<RecordId>> byKey = new LinkedHashMap<>();
+        for (LogWrapper wrapper : wrappers) {
+            if (wrapper.recordId() != null) {
+                byKey.computeIfAbsent(wrapper.streamKey(), k -> new ArrayList<>())
+                        .add(wrapper.recordId());
+            }
+        }
+        return byKey;
     }
 }
@@ -0,0 +1,51 @@
+package kr.java.documind.domain.logprocessor.model.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+
+/**
+ * 버스트 중복 제거로 원본 저장을 생략한 로그 묶음
+ *
+ * <p>한 flush 배치 안에서 같은 (projectId, fingerprint, 윈도우)로 생략된 로그를 모음. 원본 행 대신 log_burst_summary
+ * 집계와 이슈 발생 횟수에만 반영
+ *
+ * @param projectId 프로젝트 ID
+ * @param fingerprint 로그 fingerprint
+ * @param windowStartMs 집계 윈도우 시작 시각 (epoch 밀리초)
+ * @param wrappers 생략된 로그 (도착 순)
+ */
+public record SuppressedBurst(
+        UUID projectId, String fingerprint, long windowStartMs, List<LogWrapper> wrappers) {
+
+    public int count() {
+        return wrappers.size();
+    }
+
+    /**
+     * 이슈 반영에 사용할 대표 로그
+     *
+     * @return 가장 마지막에 도착한 로그
+     */
+    public GameLog latest() {
+        return wrappers.get(wrappers.size() - 1).log();
+    }
+
+    public OffsetDateTime firstOccurredAt() {
+        return wrappers.stream()
+                .map(w -> w.log().getOccurredAt())
+                .filter(Objects::nonNull)
+                .min(OffsetDateTime::compareTo)
+                .orElse(null);
+    }
+
+    public OffsetDateTime lastOccurredAt() {
+        return wrappers.stream()
+                .map(w -> w.log().getOccurredAt())
+                .filter(Objects::nonNull)
+                .max(OffsetDateTime::compareTo)
+                .orElse(null);
+    }
+}
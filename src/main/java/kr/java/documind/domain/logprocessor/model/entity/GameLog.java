@@ -8,9 +8,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.IdClass;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.time.OffsetDateTime;
 import java.util.Map;
 import java.util.UUID;
+import kr.java.documind.domain.issue.service.fingerprint.FingerprintResult;
 import kr.java.documind.domain.logprocessor.model.enums.EventCategory;
 import kr.java.documind.domain.logprocessor.model.enums.LogSeverity;
 import lombok.AccessLevel;
@@ -71,6 +73,15 @@ public class GameLog {
     @Column(columnDefinition = "jsonb", nullable = false)
     private Map<String, Object> attributes;
 
+    // Redis Stream 수집 로그의 원본 JSON (검증만 거친 문자열). 있으면 Map 대신 그대로 저장
+    @Transient private String rawResource;
+
+    @Transient private String rawAttributes;
+
+    // 수집 시 생성한 핑거프린트 결과 (품질, 전략, 제목). 이슈 그룹핑에서 다시 생성하지 않도록 함께 전달
+    // 클라이언트가 fingerprint를 보냈거나 DLQ/spill에서 복원한 로그는 null
+    @Transient private FingerprintResult fingerprintResult;
+
     @Column(nullable = false, updatable = false)
     private OffsetDateTime createdAt; // 생성 시각
 
@@ -0,0 +1,11 @@
+package kr.java.documind.domain.logprocessor.model.enums;
+
+/**
+ * 로그 버퍼 적재 결과
+ *
+ * <p>API 수집 응답의 수락/거부 집계에 사용
+ */
+public enum BufferAddResult {
+    ACCEPTED, // 버퍼에 적재되어 저장 대기 중
+    DROPPED // 스트라이프가 가득 차 밀어낼 로그가 없어 버림
+}
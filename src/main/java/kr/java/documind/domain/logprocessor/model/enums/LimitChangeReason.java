@@ -0,0 +1,12 @@
+package kr.java.documind.domain.logprocessor.model.enums;
+
+/**
+ * 적응형 쓰기 한도 변경 사유
+ *
+ * <p>worker.backpressure.limit.changes 메트릭의 reason 태그로 사용
+ */
+public enum LimitChangeReason {
+    PROBE, // 지연이 기준값 이내 → 한도를 늘려 여유 확인
+    LATENCY, // 레코드당 지연이 기준값 대비 허용 비율 초과 → 한도 축소
+    FAILURE // DB 저장 실패 → 한도 배수 감소
+}
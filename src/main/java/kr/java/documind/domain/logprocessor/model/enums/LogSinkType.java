@@ -0,0 +1,11 @@
+package kr.java.documind.domain.logprocessor.model.enums;
+
+/**
+ * game_log 저장 방식
+ *
+ * <p>worker.jdbc.sink 설정으로 선택
+ */
+public enum LogSinkType {
+    BATCH, // JDBC batchUpdate (INSERT ... VALUES)
+    COPY // PostgreSQL COPY ... FROM STDIN (FORMAT BINARY)
+}
@@ -0,0 +1,140 @@
+package kr.java.documind.domain.logprocessor.model.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+
+/**
+ * game_log COPY BINARY 포맷 인코더
+ *
+ * <p>PostgreSQL COPY 바이너리 포맷: 헤더 → 튜플(필드 수 + 필드별 [길이][값]) 반복 → 트레일러. 컬럼 순서는 {@link #COLUMNS}와
+ * 일치해야 함
+ *
+ * <p>COPY에는 ON CONFLICT가 없으므로 세션 임시 테이블({@link #STAGE_TABLE})에 적재한 뒤 {@link #MERGE_STAGE_SQL}로
+ * 옮겨 이미 저장된 (log_id, occurred_at)은 건너뜀. 실제로 옮긴 행의 log_id를 반환
+ */
+final class GameLogCopyEncoder {
+
+    static final String COLUMNS =
+            "log_id, project_id, session_id, user_id, severity, event_category, archive,"
+                    + " occurred_at, ingested_at, trace_id, span_id, fingerprint, resource,"
+                    + " attributes, created_at, updated_at";
+
+    static final String STAGE_TABLE = "game_log_stage";
+
+    // 커넥션(세션)마다 한 번 생성되어 풀에 반환된 뒤에도 재사용됨
+    static final String CREATE_STAGE_SQL =
+            "CREATE TEMP TABLE IF NOT EXISTS "
+                    + STAGE_TABLE
+                    + " (LIKE game_log INCLUDING DEFAULTS)";
+
+    static final String COPY_SQL =
+            "COPY " + STAGE_TABLE + " (" + COLUMNS + ") FROM STDIN (FORMAT BINARY)";
+
+    static final String MERGE_STAGE_SQL =
+            "INSERT INTO game_log ("
+                    + COLUMNS
+                    + ") SELECT "
+                    + COLUMNS
+                    + " FROM "
+                    + STAGE_TABLE
+                    + " ON CONFLICT (log_id, occurred_at) DO NOTHING RETURNING log_id";
+
+    static final String TRUNCATE_STAGE_SQL = "TRUNCATE " + STAGE_TABLE;
+
+    static final int COLUMN_COUNT = 16;
+
+    private static final byte[] SIGNATURE = {
+        'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0
+    };
+    private static final int NULL_LENGTH = -1;
+    private static final short TRAILER = -1;
+    private static final byte JSONB_VERSION = 1;
+
+    // PostgreSQL timestamp 기준 시각 (2000-01-01T00:00:00Z)의 Unix epoch 초
+    private static final long PG_EPOCH_SECONDS = 946_684_800L;
+
+    private GameLogCopyEncoder() {}
+
+    static void writeHeader(DataOutput out) throws IOException {
+        out.write(SIGNATURE);
+        out.writeInt(0); // flags (OID 미포함)
+        out.writeInt(0); // 헤더 확장 영역 길이
+    }
+
+    static void writeRow(DataOutput out, GameLog log, ObjectMapper objectMapper)
+            throws IOException {
+        out.writeShort(COLUMN_COUNT);
+        writeUuid(out, log.getLogId());
+        writeUuid(out, log.getProjectId());
+        writeText(out, log.getSessionId());
+        writeText(out, log.getUserId());
+        writeText(out, log.getSeverity().toString());
+        writeText(out, log.getEventCategory().toString());
+        writeText(out, log.getArchive());
+        writeTimestamp(out, log.getOccurredAt());
+        writeTimestamp(out, log.getIngestedAt());
+        writeText(out, log.getTraceId());
+        writeText(out, log.getSpanId());
+        writeText(out, log.getFingerprint());
+        writeJsonb(out, log.getRawResource(), log.getResource(), objectMapper);
+        writeJsonb(out, log.getRawAttributes(), log.getAttributes(), objectMapper);
+        writeTimestamp(out, log.getCreatedAt());
+        writeTimestamp(out, log.getUpdatedAt());
+    }
+
+    static void writeTrailer(DataOutput out) throws IOException {
+        out.writeShort(TRAILER);
+    }
+
+    private static void writeUuid(DataOutput out, UUID value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(16);
+        out.writeLong(value.getMostSignificantBits());
+        out.writeLong(value.getLeastSignificantBits());
+    }
+
+    private static void writeText(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // timestamptz: 2000-01-01 UTC 기준 마이크로초 (int64)
+    private static void writeTimestamp(DataOutput out, OffsetDateTime value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        long micros =
+                (value.toEpochSecond() - PG_EPOCH_SECONDS) * 1_000_000L + value.getNano() / 1_000;
+        out.writeInt(Long.BYTES);
+        out.writeLong(micros);
+    }
+
+    // jsonb: 버전 바이트(1) + JSON 텍스트. 원본 JSON이 있으면 재직렬화 없이 그대로 기록
+    // 기존 INSERT 경로와 동일하게 null Map은 JSON null로 기록
+    private static void writeJsonb(
+            DataOutput out, String rawJson, Map<String, Object> value, ObjectMapper objectMapper)
+            throws IOException {
+        byte[] json =
+                rawJson != null
+                        ? rawJson.getBytes(StandardCharsets.UTF_8)
+                        : objectMapper.writeValueAsBytes(value);
+        out.writeInt(json.length + 1);
+        out.writeByte(JSONB_VERSION);
+        out.write(json);
+    }
+}
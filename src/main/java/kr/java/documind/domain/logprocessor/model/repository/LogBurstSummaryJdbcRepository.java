@@ -0,0 +1,74 @@
+package kr.java.documind.domain.logprocessor.model.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import kr.java.documind.domain.logprocessor.model.dto.SuppressedBurst;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 버스트 중복 제거 집계 저장소
+ *
+ * <p>(project_id, fingerprint, window_start) 단위로 생략된 로그 수를 누적. 여러 인스턴스와 flush가 같은 윈도우를 갱신하므로
+ * ON CONFLICT로 합산
+ */
+@Repository
+@RequiredArgsConstructor
+public class LogBurstSummaryJdbcRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO log_burst_summary (project_id, fingerprint, window_start,"
+                    + " suppressed_count, first_occurred_at, last_occurred_at, updated_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, NOW())"
+                    + " ON CONFLICT (project_id, fingerprint, window_start) DO UPDATE SET"
+                    + " suppressed_count = log_burst_summary.suppressed_count"
+                    + " + EXCLUDED.suppressed_count,"
+                    + " first_occurred_at = LEAST(log_burst_summary.first_occurred_at,"
+                    + " EXCLUDED.first_occurred_at),"
+                    + " last_occurred_at = GREATEST(log_burst_summary.last_occurred_at,"
+                    + " EXCLUDED.last_occurred_at),"
+                    + " updated_at = NOW()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void upsertAll(List<SuppressedBurst> bursts) {
+        if (bursts.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                UPSERT_SQL,
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        SuppressedBurst burst = bursts.get(i);
+                        OffsetDateTime windowStart =
+                                OffsetDateTime.ofInstant(
+                                        Instant.ofEpochMilli(burst.windowStartMs()),
+                                        ZoneOffset.UTC);
+                        OffsetDateTime first = burst.firstOccurredAt();
+                        OffsetDateTime last = burst.lastOccurredAt();
+
+                        ps.setObject(1, burst.projectId());
+                        ps.setString(2, burst.fingerprint());
+                        ps.setObject(3, windowStart);
+                        ps.setLong(4, burst.count());
+                        ps.setObject(5, first != null ? first : windowStart);
+                        ps.setObject(6, last != null ? last : windowStart);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return bursts.size();
+                    }
+                });
+    }
+}
@@ -3,15 +3,28 @@ package kr.java.documind.domain.logprocessor.model.repository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+import kr.java.documind.domain.logprocessor.model.enums.LogSinkType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,18 +40,29 @@ public class LogJdbcRepository {
     @Value("${worker.jdbc.batch-size}")
     private int batchSize;
 
+    @Value("${worker.jdbc.sink}")
+    private LogSinkType sinkType = LogSinkType.BATCH;
+
     @PostConstruct
     public void init() {
         if (batchSize <= 0) {
             batchSize = 1000;
         }
+        log.info("game_log sink: {} (batch size: {})", sinkType, batchSize);
     }
 
     private static final int MIN_BATCH_SIZE = 10; // 최소 배치 크기
+    private static final int COPY_BUFFER_SIZE = 64 * 1024; // COPY 전송 버퍼 크기
 
+    /**
+     * 로그 저장
+     *
+     * @param logs 저장할 로그 리스트
+     * @return 실제로 삽입된 로그 (ON CONFLICT로 건너뛴 로그 제외)
+     */
     @Transactional
-    public void saveAll(List<GameLog> logs) {
-        saveAllWithRetry(logs, 0, logs.size(), batchSize);
+    public List<GameLog> saveAll(List<GameLog> logs) {
+        return saveAllWithRetry(logs, 0, logs.size(), batchSize);
     }
 
     /**
@@ -48,14 +72,15 @@ public class LogJdbcRepository {
      * @param startIndex 시작 인덱스 (inclusive)
      * @param endIndex 종료 인덱스 (exclusive)
      * @param currentBatchSize 현재 배치 크기
+     * @return 범위 안에서 실제로 삽입된 로그
      */
-    private void saveAllWithRetry(
+    private List<GameLog> saveAllWithRetry(
             List<GameLog> logs, int startIndex, int endIndex, int currentBatchSize) {
         try {
-            saveBatch(logs, startIndex, endIndex, currentBatchSize);
+            return saveBatch(logs, startIndex, endIndex, currentBatchSize);
         } catch (PessimisticLockingFailureException e) {
             // Deadlock 및 Lock 획득 실패 처리
-            handleDeadlock(logs, startIndex, endIndex, currentBatchSize, e);
+            return handleDeadlock(logs, startIndex, endIndex, currentBatchSize, e);
         }
     }
 
@@ -67,8 +92,9 @@ public class LogJdbcRepository {
      * @param endIndex 종료 인덱스
      * @param currentBatchSize 현재 배치 크기
      * @param e 발생한 Deadlock 예외
+     * @return 범위 안에서 실제로 삽입된 로그
      */
-    private void handleDeadlock(
+    private List<GameLog> handleDeadlock(
             List<GameLog> logs,
             int startIndex,
             int endIndex,
@@ -96,7 +122,7 @@ public class LogJdbcRepository {
                 newBatchSize);
 
         // 같은 범위를 더 작은 배치 크기로 재귀 재시도
-        saveAllWithRetry(logs, startIndex, endIndex, newBatchSize);
+        return saveAllWithRetry(logs, startIndex, endIndex, newBatchSize);
     }
 
     /**
@@ -106,56 +132,21 @@ public class LogJdbcRepository {
      * @param startIndex 시작 인덱스 (inclusive)
      * @param endIndex 종료 인덱스 (exclusive)
      * @param currentBatchSize 현재 배치 크기
+     * @return 범위 안에서 실제로 삽입된 로그
      */
-    private void saveBatch(List<GameLog> logs, int startIndex, int endIndex, int currentBatchSize) {
-        String sql =
-                "INSERT INTO game_log (log_id, project_id, session_id, user_id, severity,"
-                        + " event_category, archive, occurred_at, ingested_at, trace_id, span_id,"
-                        + " fingerprint, resource, attributes, created_at, updated_at) "
-                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?::jsonb, ?::jsonb, ?, ?)";
-
+    private List<GameLog> saveBatch(
+            List<GameLog> logs, int startIndex, int endIndex, int currentBatchSize) {
         int rangeSize = endIndex - startIndex;
+        List<GameLog> written = new ArrayList<>(rangeSize);
         for (int i = startIndex; i < endIndex; i += currentBatchSize) {
             int batchEnd = Math.min(endIndex, i + currentBatchSize);
             List<GameLog> batchList = logs.subList(i, batchEnd);
 
-            jdbcTemplate.batchUpdate(
-                    sql,
-                    new BatchPreparedStatementSetter() {
-                        @Override
-                        public void setValues(PreparedStatement ps, int j) throws SQLException {
-                            GameLog log = batchList.get(j);
-                            ps.setObject(1, log.getLogId());
-                            ps.setObject(2, log.getProjectId());
-                            ps.setString(3, log.getSessionId());
-                            ps.setString(4, log.getUserId());
-                            ps.setString(5, log.getSeverity().toString());
-                            ps.setString(6, log.getEventCategory().toString());
-                            ps.setString(7, log.getArchive());
-                            ps.setObject(8, log.getOccurredAt());
-                            ps.setObject(9, log.getIngestedAt());
-                            ps.setString(10, log.getTraceId());
-                            ps.setString(11, log.getSpanId());
-                            ps.setString(12, log.getFingerprint());
-
-                            try {
-                                ps.setString(
-                                        13, objectMapper.writeValueAsString(log.getResource()));
-                                ps.setString(
-                                        14, objectMapper.writeValueAsString(log.getAttributes()));
-                            } catch (JsonProcessingException e) {
-                                throw new SQLException("Error converting map to json", e);
-                            }
-
-                            ps.setObject(15, log.getCreatedAt());
-                            ps.setObject(16, log.getUpdatedAt());
-                        }
-
-                        @Override
-                        public int getBatchSize() {
-                            return batchList.size();
-                        }
-                    });
+            if (sinkType == LogSinkType.COPY) {
+                copyChunk(batchList, written);
+            } else {
+                insertChunk(batchList, written);
+            }
 
             log.debug(
                     "Successfully saved batch {}/{} (range: {}-{}, size: {})",
@@ -165,5 +156,173 @@ public class LogJdbcRepository {
                     batchEnd,
                     batchList.size());
         }
+        return written;
+    }
+
+    /**
+     * JDBC batchUpdate로 한 청크 삽입
+     *
+     * <p>재전달/클라이언트 재시도로 이미 저장된 (log_id, occurred_at)은 ON CONFLICT DO NOTHING으로 건너뜀
+     *
+     * @param batchList 삽입할 로그 청크
+     * @param written 실제로 삽입된 로그를 담을 리스트
+     */
+    private void insertChunk(List<GameLog> batchList, List<GameLog> written) {
+        String sql =
+                "INSERT INTO game_log (log_id, project_id, session_id, user_id, severity,"
+                        + " event_category, archive, occurred_at, ingested_at, trace_id, span_id,"
+                        + " fingerprint, resource, attributes, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?::jsonb, ?::jsonb, ?, ?) "
+                        + "ON CONFLICT (log_id, occurred_at) DO NOTHING";
+
+        int[] counts =
+                jdbcTemplate.batchUpdate(
+                        sql,
+                        new BatchPreparedStatementSetter() {
+                            @Override
+                            public void setValues(PreparedStatement ps, int j) throws SQLException {
+                                GameLog log = batchList.get(j);
+                                ps.setObject(1, log.getLogId());
+                                ps.setObject(2, log.getProjectId());
+                                ps.setString(3, log.getSessionId());
+                                ps.setString(4, log.getUserId());
+                                ps.setString(5, log.getSeverity().toString());
+                                ps.setString(6, log.getEventCategory().toString());
+                                ps.setString(7, log.getArchive());
+                                ps.setObject(8, log.getOccurredAt());
+                                ps.setObject(9, log.getIngestedAt());
+                                ps.setString(10, log.getTraceId());
+                                ps.setString(11, log.getSpanId());
+                                ps.setString(12, log.getFingerprint());
+
+                                try {
+                                    ps.setString(
+                                            13, toJson(log.getRawResource(), log.getResource()));
+                                    ps.setString(
+                                            14,
+                                            toJson(log.getRawAttributes(), log.getAttributes()));
+                                } catch (JsonProcessingException e) {
+                                    throw new SQLException("Error converting map to json", e);
+                                }
+
+                                ps.setObject(15, log.getCreatedAt());
+                                ps.setObject(16, log.getUpdatedAt());
+                            }
+
+                            @Override
+                            public int getBatchSize() {
+                                return batchList.size();
+                            }
+                        });
+
+        // 건너뛴 행은 0 (드라이버가 행 수를 알 수 없으면 SUCCESS_NO_INFO(-2)이므로 삽입된 것으로 봄)
+        int skipped = 0;
+        if (counts != null) {
+            for (int j = 0; j < counts.length; j++) {
+                if (counts[j] == 0) {
+                    skipped++;
+                } else {
+                    written.add(batchList.get(j));
+                }
+            }
+        }
+        logSkipped(skipped, batchList.size());
+    }
+
+    /**
+     * COPY BINARY로 한 청크 삽입
+     *
+     * <p>트랜잭션에 바인딩된 커넥션에서 실행되며, SQLException은 JdbcTemplate이 변환하므로 Deadlock은 {@link
+     * PessimisticLockingFailureException}으로 전달되어 INSERT 경로와 동일하게 분할 재시도됨
+     *
+     * <p>임시 테이블에 COPY한 뒤 ON CONFLICT DO NOTHING으로 game_log에 옮기고 임시 테이블을 비움. 네 단계가 같은 커넥션,
+     * 같은 트랜잭션에서 실행되므로 실패하면 임시 테이블 적재분도 함께 롤백됨. 옮긴 행의 log_id는 RETURNING으로 받아
+     * 실제로 삽입된 로그를 구분
+     *
+     * @param batchList 삽입할 로그 청크
+     * @param written 실제로 삽입된 로그를 담을 리스트
+     */
+    private void copyChunk(List<GameLog> batchList, List<GameLog> written) {
+        Set<UUID> insertedIds =
+                jdbcTemplate.execute(
+                        (ConnectionCallback<Set<UUID>>)
+                                connection -> {
+                                    try (Statement statement = connection.createStatement()) {
+                                        statement.execute(GameLogCopyEncoder.CREATE_STAGE_SQL);
+                                    }
+
+                                    copyToStage(connection.unwrap(PGConnection.class), batchList);
+
+                                    Set<UUID> ids = new HashSet<>();
+                                    try (Statement statement = connection.createStatement()) {
+                                        try (ResultSet rs =
+                                                statement.executeQuery(
+                                                        GameLogCopyEncoder.MERGE_STAGE_SQL)) {
+                                            while (rs.next()) {
+                                                ids.add(rs.getObject(1, UUID.class));
+                                            }
+                                        }
+                                        statement.execute(GameLogCopyEncoder.TRUNCATE_STAGE_SQL);
+                                    }
+                                    return ids;
+                                });
+
+        if (insertedIds != null) {
+            for (GameLog log : batchList) {
+                if (insertedIds.contains(log.getLogId())) {
+                    written.add(log);
+                }
+            }
+        }
+        logSkipped(
+                batchList.size() - (insertedIds != null ? insertedIds.size() : 0),
+                batchList.size());
+    }
+
+    /** 한 청크를 임시 테이블로 COPY */
+    private void copyToStage(PGConnection pgConnection, List<GameLog> batchList)
+            throws SQLException {
+        PGCopyOutputStream copyStream =
+                new PGCopyOutputStream(pgConnection, GameLogCopyEncoder.COPY_SQL, COPY_BUFFER_SIZE);
+        try {
+            DataOutputStream out = new DataOutputStream(copyStream);
+            GameLogCopyEncoder.writeHeader(out);
+            for (GameLog log : batchList) {
+                GameLogCopyEncoder.writeRow(out, log, objectMapper);
+            }
+            GameLogCopyEncoder.writeTrailer(out);
+            out.flush();
+            copyStream.endCopy();
+        } catch (IOException e) {
+            throw toSqlException(e);
+        } finally {
+            if (copyStream.isActive()) {
+                copyStream.cancelCopy();
+            }
+        }
+    }
+
+    /** 이미 저장되어 건너뛴 로그 수 기록 (재전달 빈도 확인용) */
+    private void logSkipped(int skipped, int chunkSize) {
+        if (skipped > 0) {
+            log.info(
+                    "[Idempotent] Skipped {} of {} logs already stored in game_log.",
+                    skipped,
+                    chunkSize);
+        }
+    }
+
+    /** 원본 JSON이 있으면 그대로 사용하고, 없을 때만 Map을 직렬화 */
+    private String toJson(String rawJson, Map<String, Object> value)
+            throws JsonProcessingException {
+        return rawJson != null ? rawJson : objectMapper.writeValueAsString(value);
+    }
+
+    /** COPY 스트림 예외에서 서버 오류(SQLState 포함)를 꺼내 예외 변환이 가능하도록 함 */
+    private static SQLException toSqlException(IOException e) {
+        if (e.getCause() instanceof SQLException sqlException) {
+            return sqlException;
+        }
+        return new SQLException("COPY stream failed", e);
     }
 }
@@ -3,35 +3,41 @@ package kr.java.documind.domain.logprocessor.service;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
+import java.util.Locale;
 import kr.java.documind.domain.logprocessor.model.enums.BackpressureState;
+import kr.java.documind.domain.logprocessor.model.enums.LimitChangeReason;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * 적응형 DB 쓰기 한도 관리 (Gradient 방식)
+ *
+ * <p>레코드당 Insert 지연의 장기 기준값(longRtt)과 최근값(shortRtt)의 비율(gradient)로 DB 혼잡을 판단하여, DB에 동시에 보내는 로그 수
+ * 한도를 조절. 고정 임계값 대신 기준값 대비 상대 지연을 보므로 DB를 다른 워크로드와 공유해 기본 지연 자체가 바뀌어도 진동하지 않음
+ *
+ * <p>한도 하나에서 flush 동시 실행 수, flush 배치 크기, XREADGROUP COUNT, 버퍼 적재 허용량을 함께 도출. 배치 크기를 먼저 채우고
+ * 최대 배치 크기를 넘는 만큼 동시 실행 수를 늘림
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class BackpressureManager {
 
-    /** EMA 평활 계수 (0 < alpha <= 1, 클수록 최신 값에 더 민감) */
+    /** 지표용 배치 지연 EMA 평활 계수 */
     private static final double EMA_ALPHA = 0.3;
 
-    private final MeterRegistry meterRegistry;
-
-    @Value("${worker.backpressure.warn-threshold-ms}")
-    private long warnThresholdMs;
+    /** gradient 하한 (한 번에 최대 절반까지만 축소) */
+    private static final double MIN_GRADIENT = 0.5;
 
-    @Value("${worker.backpressure.critical-threshold-ms}")
-    private long criticalThresholdMs;
+    /** 버퍼 적재 허용량 = 한도 × 이 값 (flush 중인 배치 + 다음 배치) */
+    private static final int QUEUE_FACTOR = 2;
 
-    @Value("${worker.backpressure.warn-sleep-ms}")
-    private long warnSleepMs;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
 
-    @Value("${worker.backpressure.critical-sleep-ms}")
-    private long criticalSleepMs;
+    private final MeterRegistry meterRegistry;
 
-    // 배치 크기 동적 조절 관련
     @Value("${worker.backpressure.initial-batch-size}")
     private int initialBatchSize;
 
@@ -41,18 +47,62 @@ public class BackpressureManager {
     @Value("${worker.backpressure.max-batch-size}")
     private int maxBatchSize;
 
-    @Value("${worker.backpressure.increase-threshold-ms}")
-    private long increaseThresholdMs;
+    @Value("${worker.flush.parallelism}")
+    private int maxFlushConcurrency;
+
+    // 최근 레코드당 지연이 기준값의 이 배수 이내면 혼잡으로 보지 않음
+    @Value("${worker.backpressure.tolerance}")
+    private double tolerance;
+
+    // 새 한도를 반영하는 비율 (0 < smoothing <= 1)
+    @Value("${worker.backpressure.smoothing}")
+    private double smoothing;
 
-    @Value("${worker.backpressure.decrease-threshold-ms}")
-    private long decreaseThresholdMs;
+    // 기준 지연(longRtt) 평균 구간 (샘플 수)
+    @Value("${worker.backpressure.long-window}")
+    private int longWindow;
 
+    // DB 저장 실패 시 한도에 곱하는 값
+    @Value("${worker.backpressure.failure-backoff}")
+    private double failureBackoff;
+
+    private final Object flushSignal = new Object();
+
+    private volatile double limit;
+    private volatile double gradient = 1.0;
+    private volatile double longRttMs;
+    private volatile double shortRttMs;
     private volatile double avgLatencyMs = 0;
-    private volatile int currentBatchSize;
+    private volatile LimitChangeReason lastReason = LimitChangeReason.PROBE;
 
     @PostConstruct
     public void registerGauges() {
-        currentBatchSize = initialBatchSize;
+        if (maxFlushConcurrency <= 0) {
+            log.warn("Invalid flush parallelism: {}. Resetting to 1.", maxFlushConcurrency);
+            maxFlushConcurrency = 1;
+        }
+
+        if (tolerance < 1.0) {
+            log.warn("Invalid backpressure tolerance: {}. Resetting to 1.5.", tolerance);
+            tolerance = 1.5;
+        }
+
+        if (smoothing <= 0 || smoothing > 1) {
+            log.warn("Invalid backpressure smoothing: {}. Resetting to 0.2.", smoothing);
+            smoothing = 0.2;
+        }
+
+        if (longWindow <= 0) {
+            log.warn("Invalid backpressure long window: {}. Resetting to 100.", longWindow);
+            longWindow = 100;
+        }
+
+        if (failureBackoff <= 0 || failureBackoff >= 1) {
+            log.warn("Invalid backpressure failure backoff: {}. Resetting to 0.5.", failureBackoff);
+            failureBackoff = 0.5;
+        }
+
+        limit = clamp(initialBatchSize, minLimit(), maxLimit());
 
         Gauge.builder("worker.db.latency.avg", this, BackpressureManager::getAvgLatencyMs)
                 .description("DB Insert EMA 평균 지연 (ms)")
@@ -68,71 +118,207 @@ public class BackpressureManager {
                         BackpressureManager::getCurrentBatchSize)
                 .description("현재 동적 조절된 배치 크기")
                 .register(meterRegistry);
+
+        Gauge.builder("worker.backpressure.limit", this, BackpressureManager::getLimit)
+                .description("DB에 동시에 보낼 수 있는 로그 수 한도")
+                .register(meterRegistry);
+
+        Gauge.builder(
+                        "worker.backpressure.flush.concurrency",
+                        this,
+                        BackpressureManager::getFlushConcurrency)
+                .description("현재 허용된 flush 동시 실행 수")
+                .register(meterRegistry);
+
+        Gauge.builder("worker.backpressure.gradient", this, BackpressureManager::getGradient)
+                .description("기준 지연 대비 최근 지연 비율 (1=정상, 1 미만=혼잡)")
+                .register(meterRegistry);
+
+        Gauge.builder("worker.backpressure.rtt.long", this, bp -> bp.longRttMs)
+                .description("레코드당 Insert 기준 지연 (ms)")
+                .register(meterRegistry);
+
+        Gauge.builder("worker.backpressure.rtt.short", this, bp -> bp.shortRttMs)
+                .description("레코드당 Insert 최근 지연 (ms)")
+                .register(meterRegistry);
     }
 
-    public void recordLatency(long latencyMs) {
-        avgLatencyMs = EMA_ALPHA * latencyMs + (1 - EMA_ALPHA) * avgLatencyMs;
-        adjustBatchSize(latencyMs);
-        log.debug(
-                "[Backpressure] latency={}ms, avg={}ms, batchSize={}",
-                latencyMs,
-                String.format("%.1f", avgLatencyMs),
-                currentBatchSize);
-    }
-
-    /** 처리 시간 기반 배치 크기 동적 조절 - 5초 초과: 배치 크기 50% 감소 - 1초 미만: 배치 크기 증가 */
-    private void adjustBatchSize(long latencyMs) {
-        int previousBatchSize = currentBatchSize;
-
-        if (latencyMs >= decreaseThresholdMs) {
-            // 처리 시간이 5초 이상 → 배치 크기 감소
-            currentBatchSize = Math.max(minBatchSize, currentBatchSize / 2);
-            if (currentBatchSize != previousBatchSize) {
-                log.warn(
-                        "[Backpressure] 배치 크기 감소: {} → {} (latency={}ms)",
-                        previousBatchSize,
-                        currentBatchSize,
-                        latencyMs);
+    /**
+     * flush 성공 기록 후 한도 재계산
+     *
+     * <p>빠른 배치는 1ms 미만으로 끝나므로 ms 정수로 반올림하지 않고 나노초로 받아 레코드당 지연을 소수 ms로 계산
+     *
+     * @param records 저장한 로그 수
+     * @param latencyNanos 저장 소요 시간 (System.nanoTime 기준)
+     */
+    public void recordFlush(int records, long latencyNanos) {
+        if (records <= 0) {
+            return;
+        }
+
+        double latencyMs = latencyNanos / (double) NANOS_PER_MILLI;
+
+        synchronized (this) {
+            avgLatencyMs = EMA_ALPHA * latencyMs + (1 - EMA_ALPHA) * avgLatencyMs;
+
+            // 0 나누기만 막도록 1ns로 하한
+            double rtt = Math.max(1L, latencyNanos) / (double) NANOS_PER_MILLI / records;
+            shortRttMs = rtt;
+            if (longRttMs == 0) {
+                longRttMs = rtt;
+            } else {
+                longRttMs += (rtt - longRttMs) / longWindow;
+                // 지연이 크게 줄어든 경우 높아진 기준값이 오래 남지 않도록 빠르게 하향
+                if (longRttMs / rtt > 2.0) {
+                    longRttMs *= 0.95;
+                }
             }
-        } else if (latencyMs < increaseThresholdMs && avgLatencyMs < increaseThresholdMs) {
-            // 처리 시간이 1초 미만 → 배치 크기 증가
-            int increment = Math.max(10, currentBatchSize / 10); // 최소 10개씩 증가
-            currentBatchSize = Math.min(maxBatchSize, currentBatchSize + increment);
-            if (currentBatchSize != previousBatchSize) {
-                log.info(
-                        "[Backpressure] 배치 크기 증가: {} → {} (latency={}ms)",
-                        previousBatchSize,
-                        currentBatchSize,
-                        latencyMs);
+
+            gradient = clamp(tolerance * longRttMs / rtt, MIN_GRADIENT, 1.0);
+
+            // 한도를 다 쓰지 않은 배치(유입량 부족)로는 한도를 늘리지 않음
+            boolean underused = records < getCurrentBatchSize() / 2;
+            if (gradient < 1.0 || !underused) {
+                double target = limit * gradient + Math.sqrt(limit);
+                double next = limit * (1 - smoothing) + target * smoothing;
+                apply(next, next < limit ? LimitChangeReason.LATENCY : LimitChangeReason.PROBE);
             }
         }
+
+        log.debug(
+                "[Backpressure] latency={}ms, records={}, gradient={}, limit={}",
+                String.format("%.3f", latencyMs),
+                records,
+                String.format("%.2f", gradient),
+                (int) limit);
+        signalFlush();
     }
 
-    public long getSleepMillis() {
-        if (avgLatencyMs >= criticalThresholdMs) {
-            return criticalSleepMs;
+    /** flush 실패 기록 후 한도 배수 감소 */
+    public void recordFailure() {
+        synchronized (this) {
+            apply(limit * failureBackoff, LimitChangeReason.FAILURE);
         }
-        if (avgLatencyMs >= warnThresholdMs) {
-            return warnSleepMs;
+        signalFlush();
+    }
+
+    /**
+     * flush 완료 신호 대기 (버퍼 적재량이 허용량을 넘은 소비 루프용)
+     *
+     * @param timeoutMs 최대 대기 시간
+     */
+    public void awaitFlush(long timeoutMs) {
+        synchronized (flushSignal) {
+            try {
+                flushSignal.wait(timeoutMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
-        return 0;
     }
 
     public BackpressureState getState() {
-        if (avgLatencyMs >= criticalThresholdMs) {
-            return BackpressureState.CRITICAL;
-        }
-        if (avgLatencyMs >= warnThresholdMs) {
-            return BackpressureState.WARN;
-        }
-        return BackpressureState.NORMAL;
+        return switch (lastReason) {
+            case FAILURE -> BackpressureState.CRITICAL;
+            case LATENCY -> limit <= minLimit()
+                    ? BackpressureState.CRITICAL
+                    : BackpressureState.WARN;
+            case PROBE -> BackpressureState.NORMAL;
+        };
+    }
+
+    /**
+     * flush 동시 실행 허용 수
+     *
+     * @return 한도를 최대 배치 크기로 나눈 값 (1 ~ flush parallelism)
+     */
+    public int getFlushConcurrency() {
+        return (int) clamp(Math.ceil(limit / maxBatchSize), 1, maxFlushConcurrency);
+    }
+
+    /**
+     * flush 배치 크기
+     *
+     * @return 한도를 동시 실행 수로 나눈 값 (min ~ max batch size)
+     */
+    public int getCurrentBatchSize() {
+        return (int) clamp(limit / getFlushConcurrency(), minBatchSize, maxBatchSize);
+    }
+
+    /**
+     * XREADGROUP COUNT (한 번에 한 배치 분량만 읽음)
+     *
+     * @return 읽기 1회 최대 메시지 수
+     */
+    public int getPollCount() {
+        return getCurrentBatchSize();
+    }
+
+    /**
+     * 소비 루프가 읽기를 멈추는 버퍼 적재량
+     *
+     * @return 버퍼 적재 허용량
+     */
+    public int getQueueLimit() {
+        return (int) limit * QUEUE_FACTOR;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public double getGradient() {
+        return gradient;
     }
 
     public double getAvgLatencyMs() {
         return avgLatencyMs;
     }
 
-    public int getCurrentBatchSize() {
-        return currentBatchSize;
+    private void apply(double next, LimitChangeReason reason) {
+        double previous = limit;
+        double bounded = clamp(next, minLimit(), maxLimit());
+        limit = bounded;
+        lastReason = reason;
+
+        if ((int) bounded == (int) previous) {
+            return;
+        }
+
+        meterRegistry
+                .counter(
+                        "worker.backpressure.limit.changes",
+                        "reason",
+                        reason.name().toLowerCase(Locale.ROOT))
+                .increment();
+
+        if (reason == LimitChangeReason.PROBE) {
+            log.debug("[Backpressure] 한도 증가: {} → {}", (int) previous, (int) bounded);
+        } else {
+            log.warn(
+                    "[Backpressure] 한도 감소: {} → {} (reason={}, gradient={})",
+                    (int) previous,
+                    (int) bounded,
+                    reason,
+                    String.format("%.2f", gradient));
+        }
+    }
+
+    private void signalFlush() {
+        synchronized (flushSignal) {
+            flushSignal.notifyAll();
+        }
+    }
+
+    private double minLimit() {
+        return minBatchSize;
+    }
+
+    private double maxLimit() {
+        return (double) maxBatchSize * maxFlushConcurrency;
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
     }
 }
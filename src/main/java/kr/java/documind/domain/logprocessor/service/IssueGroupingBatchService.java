@@ -4,6 +4,7 @@ import java.util.List;
 import kr.java.documind.domain.issue.service.IssueGroupingService;
 import kr.java.documind.domain.issue.service.fingerprint.FingerprintGenerator;
 import kr.java.documind.domain.issue.service.fingerprint.FingerprintResult;
+import kr.java.documind.domain.logprocessor.model.dto.SuppressedBurst;
 import kr.java.documind.domain.logprocessor.model.entity.GameLog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,8 +36,7 @@ public class IssueGroupingBatchService {
     public void groupLogs(List<GameLog> logs) {
         for (GameLog gameLog : logs) {
             try {
-                // fingerprint가 이미 GameLog에 있지만, quality 정보는 없으므로 다시 생성
-                FingerprintResult fingerprintResult = fingerprintGenerator.generate(gameLog);
+                FingerprintResult fingerprintResult = fingerprintOf(gameLog);
 
                 // 이슈 찾거나 생성
                 issueGroupingService.findOrCreateIssue(gameLog, fingerprintResult);
@@ -52,4 +52,41 @@ public class IssueGroupingBatchService {
 
         log.info("Issue grouping completed for {} logs", logs.size());
     }
+
+    /**
+     * 버스트 중복 제거로 원본 저장을 생략한 로그 묶음을 이슈에 반영
+     *
+     * <p>묶음마다 대표 로그 하나로 fingerprint를 생성하고 발생 횟수는 묶음 크기만큼 한 번에 증가
+     *
+     * @param bursts 생략한 로그 묶음
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void groupBursts(List<SuppressedBurst> bursts) {
+        for (SuppressedBurst burst : bursts) {
+            GameLog latest = burst.latest();
+            try {
+                FingerprintResult fingerprintResult = fingerprintOf(latest);
+                issueGroupingService.findOrCreateIssue(
+                        latest, fingerprintResult, burst.count());
+            } catch (Exception e) {
+                log.error(
+                        "Failed to group burst into issue. fingerprint={}, count={}",
+                        burst.fingerprint(),
+                        burst.count(),
+                        e);
+            }
+        }
+
+        log.info("Issue grouping completed for {} suppressed bursts", bursts.size());
+    }
+
+    /**
+     * 수집 시 생성한 핑거프린트 결과 재사용
+     *
+     * <p>클라이언트가 fingerprint를 보냈거나 DLQ/spill에서 복원한 로그처럼 결과가 없을 때만 생성 (생성기 캐시 적용)
+     */
+    private FingerprintResult fingerprintOf(GameLog gameLog) {
+        FingerprintResult carried = gameLog.getFingerprintResult();
+        return carried != null ? carried : fingerprintGenerator.generate(gameLog);
+    }
 }
@@ -1,25 +1,47 @@
 package kr.java.documind.domain.logprocessor.service;
 
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import kr.java.documind.domain.logprocessor.model.dto.CollapsedBatch;
 import kr.java.documind.domain.logprocessor.model.dto.LogWrapper;
+import kr.java.documind.domain.logprocessor.model.dto.SuppressedBurst;
 import kr.java.documind.domain.logprocessor.model.dto.request.RawLogRequest;
 import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+import kr.java.documind.domain.logprocessor.model.enums.BufferAddResult;
+import kr.java.documind.domain.logprocessor.model.enums.LogSeverity;
 import kr.java.documind.domain.logprocessor.model.repository.LogJdbcRepository;
+import kr.java.documind.domain.logprocessor.service.ack.StreamAckAggregator;
+import kr.java.documind.domain.logprocessor.service.buffer.LogBufferStripe;
+import kr.java.documind.domain.logprocessor.service.dedup.BurstDeduplicator;
+import kr.java.documind.domain.logprocessor.service.dlq.DeadLetterBatch;
+import kr.java.documind.domain.logprocessor.service.dlq.DeadLetterStore;
+import kr.java.documind.domain.logprocessor.service.resilience.DatabaseCircuitBreakerService;
+import kr.java.documind.domain.logprocessor.service.spill.SpillStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.connection.stream.RecordId;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @Service
@@ -27,30 +49,41 @@ import org.springframework.transaction.annotation.Transactional;
 public class LogBufferService {
 
     private final LogJdbcRepository logJdbcRepository;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final StreamAckAggregator streamAckAggregator;
     private final BackpressureManager backpressureManager;
     private final MeterRegistry meterRegistry;
     private final LogMapper logMapper;
     private final IssueGroupingBatchService issueGroupingBatchService;
-    private final ConcurrentLinkedQueue<LogWrapper> buffer = new ConcurrentLinkedQueue<>();
-    private final ConcurrentLinkedQueue<LogWrapper> deadLetterQueue = new ConcurrentLinkedQueue<>();
-    private final AtomicBoolean isFlushing = new AtomicBoolean(false);
+    private final DeadLetterStore deadLetterStore;
+    private final BurstDeduplicator burstDeduplicator;
+    private final DatabaseCircuitBreakerService databaseCircuitBreaker;
+    private final SpillStore spillStore;
     private final AtomicBoolean isRetrying = new AtomicBoolean(false);
 
+    // 현재 DB Insert 중인 스트라이프 수 (BackpressureManager가 정한 동시 실행 수 이하로 유지)
+    private final AtomicInteger activeFlushes = new AtomicInteger();
+
+    // projectId 해시로 분할된 버퍼 스트라이프 (설정값 확정 후 init()에서 생성)
+    private List<LogBufferStripe> stripes;
+
+    // 스트라이프 병렬 flush 전용 Executor (동시 DB Insert 폭 = flushParallelism)
+    // 생산자(Redis 폴링, HTTP 요청) 스레드는 flush를 요청만 하고 DB I/O는 이 Executor에서 수행
+    private ExecutorService flushExecutor;
+
     @Value("${worker.bulk.size}")
     private int batchSize;
 
     @Value("${worker.buffer.max-size}")
     private int maxBufferSize;
 
-    @Value("${worker.dlq.max-retry}")
-    private int maxRetryCount;
+    @Value("${worker.buffer.stripes}")
+    private int stripeCount;
 
-    @Value("${redis.stream.key}")
-    private String streamKey;
+    @Value("${worker.flush.parallelism}")
+    private int flushParallelism;
 
-    @Value("${redis.stream.group}")
-    private String consumerGroup;
+    @Value("${worker.dlq.max-retry}")
+    private int maxRetryCount;
 
     @PostConstruct
     public void init() {
@@ -59,85 +92,296 @@ public class LogBufferService {
             batchSize = 1000;
         }
 
-        Gauge.builder("worker.buffer.size", buffer, ConcurrentLinkedQueue::size)
+        if (maxBufferSize <= 0) {
+            log.warn("Invalid max buffer size: {}. Resetting to 10000.", maxBufferSize);
+            maxBufferSize = 10000;
+        }
+
+        if (stripeCount <= 0) {
+            log.warn("Invalid buffer stripe count: {}. Resetting to 1.", stripeCount);
+            stripeCount = 1;
+        }
+
+        if (flushParallelism <= 0) {
+            log.warn("Invalid flush parallelism: {}. Resetting to 1.", flushParallelism);
+            flushParallelism = 1;
+        }
+
+        // 전체 용량을 스트라이프 수로 나누어 할당 (올림)
+        int stripeCapacity = (maxBufferSize + stripeCount - 1) / stripeCount;
+        List<LogBufferStripe> created = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            created.add(new LogBufferStripe(i, stripeCapacity));
+        }
+        stripes = List.copyOf(created);
+
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+        }
+        flushExecutor =
+                Executors.newFixedThreadPool(
+                        flushParallelism, new CustomizableThreadFactory("log-flush-"));
+
+        Gauge.builder("worker.buffer.size", this, LogBufferService::getBufferSize)
                 .description("인메모리 로그 버퍼 현재 크기")
                 .register(meterRegistry);
 
-        Gauge.builder("worker.dlq.size", deadLetterQueue, ConcurrentLinkedQueue::size)
+        Gauge.builder("worker.dlq.size", deadLetterStore, DeadLetterStore::size)
                 .description("Dead Letter Queue 현재 크기")
                 .register(meterRegistry);
+
+        Gauge.builder("worker.dlq.parked.size", deadLetterStore, DeadLetterStore::parkedSize)
+                .description("최대 재시도 초과로 보존된 로그 수")
+                .register(meterRegistry);
+
+        log.info(
+                "Log buffer initialized (stripes={}, stripeCapacity={}, flushParallelism={})",
+                stripeCount,
+                stripeCapacity,
+                flushParallelism);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flushExecutor == null) {
+            return;
+        }
+
+        flushExecutor.shutdown();
+        try {
+            if (!flushExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                flushExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            flushExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
     }
 
     // API 요청용 (RecordId 없음)
-    public void add(GameLog logEntity) {
-        add(logEntity, null);
+    public BufferAddResult add(GameLog logEntity) {
+        return add(logEntity, null);
     }
 
-    public void add(GameLog logEntity, RecordId recordId) {
-        if (buffer.size() >= maxBufferSize) {
-            log.warn("Buffer is full (size: {}). Dropping log and ACKing message.", buffer.size());
-            // 버퍼 오버플로우 시 메시지를 ACK하여 PEL에서 제거
-            if (recordId != null) {
-                acknowledgeFailedMessage(recordId);
-            }
-            return;
+    public BufferAddResult add(GameLog logEntity, RecordId recordId) {
+        return add(logEntity, null, recordId);
+    }
+
+    /**
+     * Stream 메시지 적재
+     *
+     * @param logEntity 로그 엔티티
+     * @param streamKey 메시지를 읽은 Stream 샤드 키 (null이면 기본 키로 ACK)
+     * @param recordId Stream 메시지 ID (없으면 null)
+     * @return 적재 결과 (버퍼가 가득 차 버린 경우 DROPPED)
+     */
+    public BufferAddResult add(GameLog logEntity, String streamKey, RecordId recordId) {
+        LogBufferStripe stripe = stripeFor(logEntity.getProjectId());
+
+        // 가득 찬 경우 낮은 심각도 로그부터 밀어내고, 밀어낼 로그가 없으면 새 로그를 버림
+        LogWrapper wrapper = new LogWrapper(logEntity, recordId, 0, streamKey);
+        LogWrapper shed = stripe.offer(wrapper);
+        if (shed == wrapper) {
+            recordShed(stripe, shed, false);
+            return BufferAddResult.DROPPED;
+        }
+        if (shed != null) {
+            recordShed(stripe, shed, true);
         }
 
-        buffer.offer(new LogWrapper(logEntity, recordId));
-        // 동적 배치 크기 사용
+        // 동적 배치 크기 도달 시 flush Executor에 신호만 보내고 즉시 반환
         int dynamicBatchSize = backpressureManager.getCurrentBatchSize();
-        if (buffer.size() >= dynamicBatchSize) {
-            flush();
+        if (stripe.size() >= dynamicBatchSize) {
+            requestFlush(stripe);
+        }
+        return BufferAddResult.ACCEPTED;
+    }
+
+    /**
+     * 버퍼 초과로 버린 로그 기록 및 ACK
+     *
+     * <p>worker.buffer.dropped 카운터는 심각도, 프로젝트별로 집계. 버린 로그는 다시 읽지 않도록 ACK하여 PEL에서 제거
+     *
+     * @param stripe 가득 찬 스트라이프
+     * @param shed 버린 로그
+     * @param evicted 이미 적재된 로그를 밀어낸 경우 true, 새 로그를 버린 경우 false
+     */
+    private void recordShed(LogBufferStripe stripe, LogWrapper shed, boolean evicted) {
+        GameLog dropped = shed.log();
+        String severity =
+                (dropped.getSeverity() != null)
+                        ? dropped.getSeverity().getValue()
+                        : LogSeverity.INFO.getValue();
+        String project =
+                (dropped.getProjectId() != null) ? dropped.getProjectId().toString() : "unknown";
+
+        meterRegistry
+                .counter(
+                        "worker.buffer.dropped",
+                        "severity",
+                        severity,
+                        "project",
+                        project,
+                        "reason",
+                        evicted ? "evicted" : "rejected")
+                .increment();
+
+        log.warn(
+                "Buffer stripe {} is full (size: {}). {} {} log (project={}) and ACKing message.",
+                stripe.index(),
+                stripe.size(),
+                evicted ? "Evicting" : "Dropping",
+                severity,
+                project);
+
+        // 버퍼 오버플로우 시 메시지를 ACK하여 PEL에서 제거
+        if (shed.recordId() != null) {
+            acknowledgeFailedMessage(shed.streamKey(), shed.recordId());
+        }
+    }
+
+    /**
+     * 스트라이프 비동기 flush 요청
+     *
+     * <p>스트라이프당 대기 중인 요청은 최대 1개로 합쳐지며, 실행 시 배치 크기 이상 쌓여 있는 동안 연속으로 flush
+     *
+     * @param stripe flush할 스트라이프
+     */
+    private void requestFlush(LogBufferStripe stripe) {
+        if (!stripe.tryRequestFlush()) {
+            return;
+        }
+
+        try {
+            flushExecutor.execute(
+                    () -> {
+                        stripe.clearFlushRequest();
+                        boolean flushed;
+                        do {
+                            flushed = flushStripe(stripe);
+                        } while (flushed
+                                && stripe.size() >= backpressureManager.getCurrentBatchSize()
+                                && !stripe.isFlushing());
+                    });
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 스케줄 flush에 맡김
+            stripe.clearFlushRequest();
+            log.debug("Flush executor rejected request for stripe {}", stripe.index());
         }
     }
 
     // API 요청용 - DTO를 받아서 변환 (Service Layer에서 변환 처리)
-    public void addFromDto(RawLogRequest dto) {
+    public BufferAddResult addFromDto(RawLogRequest dto) {
         GameLog logEntity = logMapper.toEntity(dto);
-        add(logEntity);
+        return add(logEntity);
     }
 
-    // 일괄 처리용
-    public void addAllFromDtos(List<RawLogRequest> dtos) {
-        dtos.forEach(this::addFromDto);
+    // 일괄 처리용 (버퍼에 적재된 로그 수 반환)
+    public int addAllFromDtos(List<RawLogRequest> dtos) {
+        int accepted = 0;
+        for (RawLogRequest dto : dtos) {
+            if (addFromDto(dto) == BufferAddResult.ACCEPTED) {
+                accepted++;
+            }
+        }
+        return accepted;
     }
 
+    /**
+     * 모든 스트라이프 flush
+     *
+     * <p>비어 있지 않은 스트라이프를 flush Executor에 병렬로 제출하고 완료까지 대기. 동시 DB Insert 수는 flushParallelism으로 제한
+     */
     @Scheduled(fixedDelayString = "${worker.bulk.flush-interval-ms}")
-    @Transactional
     public void flush() {
-        if (!isFlushing.compareAndSet(false, true)) {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (LogBufferStripe stripe : stripes) {
+            if (!stripe.isEmpty()) {
+                tasks.add(
+                        () -> {
+                            flushStripe(stripe);
+                            return null;
+                        });
+            }
+        }
+
+        if (tasks.isEmpty()) {
             return;
         }
 
         try {
-            if (buffer.isEmpty()) {
-                return;
+            flushExecutor.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Flush interrupted while waiting for stripe workers.");
+        }
+    }
+
+    /**
+     * 단일 스트라이프 flush
+     *
+     * <p>스트라이프별 flush 상태로 중복 실행을 막으며, 다른 스트라이프의 flush와는 독립적으로 수행. 동시 DB Insert 수가 {@link
+     * BackpressureManager#getFlushConcurrency()}에 도달했으면 건너뛰고 다음 요청에 맡김
+     *
+     * @param stripe flush할 스트라이프
+     * @return DB 저장을 시도했으면 true
+     */
+    private boolean flushStripe(LogBufferStripe stripe) {
+        if (!stripe.tryStartFlush()) {
+            return false;
+        }
+
+        if (!tryAcquireFlushSlot()) {
+            stripe.finishFlush();
+            return false;
+        }
+
+        try {
+            if (stripe.isEmpty()) {
+                return false;
             }
 
             // 동적 배치 크기 사용
             int dynamicBatchSize = backpressureManager.getCurrentBatchSize();
             List<LogWrapper> wrappersToSave = new ArrayList<>();
             LogWrapper wrapper;
-            while (wrappersToSave.size() < dynamicBatchSize && (wrapper = buffer.poll()) != null) {
+            while (wrappersToSave.size() < dynamicBatchSize && (wrapper = stripe.poll()) != null) {
                 wrappersToSave.add(wrapper);
             }
 
             if (wrappersToSave.isEmpty()) {
-                return;
+                return false;
             }
 
+            // 버스트 중복 제거: 윈도우별 처음 N건만 원본 저장, 나머지는 집계와 이슈 발생 횟수에만 반영
+            CollapsedBatch collapsed = burstDeduplicator.collapse(wrappersToSave);
             List<GameLog> logs =
-                    wrappersToSave.stream().map(LogWrapper::log).collect(Collectors.toList());
+                    collapsed.kept().stream().map(LogWrapper::log).collect(Collectors.toList());
 
             try {
-                long start = System.currentTimeMillis();
-                logJdbcRepository.saveAll(logs);
-                long latencyMs = System.currentTimeMillis() - start;
-                backpressureManager.recordLatency(latencyMs);
+                long start = System.nanoTime();
+                List<GameLog> written =
+                        logs.isEmpty()
+                                ? List.of()
+                                : databaseCircuitBreaker.call(
+                                        () -> logJdbcRepository.saveAll(logs));
+                long latencyNanos = System.nanoTime() - start;
+                backpressureManager.recordFlush(logs.size(), latencyNanos);
+
+                // 집계 저장에 실패한 묶음은 DLQ로 보내 원본으로 재저장하므로 ACK와 이슈 반영에서 제외
+                List<LogWrapper> completed = wrappersToSave;
+                List<SuppressedBurst> bursts = collapsed.bursts();
+                if (collapsed.hasBursts() && !saveBursts(collapsed, stripe)) {
+                    completed = collapsed.kept();
+                    bursts = List.of();
+                }
 
-                // 로그 저장 후 이슈 그룹핑 수행
+                // 로그 저장 후 이슈 그룹핑 수행 (ON CONFLICT로 건너뛴 재전달 로그는 이미 반영됨)
                 try {
-                    issueGroupingBatchService.groupLogs(logs);
+                    issueGroupingBatchService.groupLogs(written);
+                    if (!bursts.isEmpty()) {
+                        issueGroupingBatchService.groupBursts(bursts);
+                    }
                 } catch (Exception e) {
                     log.error(
                             "Failed to group logs into issues. Logs are saved but issues not created.",
@@ -145,39 +389,121 @@ public class LogBufferService {
                     // 이슈 생성 실패해도 로그는 저장되었으므로 ACK는 보냄
                 }
 
-                // RecordId가 있는 경우에만 ACK 전송
-                List<RecordId> recordIds =
-                        wrappersToSave.stream()
-                                .map(LogWrapper::recordId)
-                                .filter(id -> id != null)
-                                .collect(Collectors.toList());
-
-                if (!recordIds.isEmpty()) {
-                    redisTemplate
-                            .opsForStream()
-                            .acknowledge(
-                                    streamKey, consumerGroup, recordIds.toArray(new RecordId[0]));
-                }
+                // RecordId가 있는 경우에만 ACK 등록 (저장 완료 후 집계기가 파이프라인으로 전송)
+                int acked = acknowledgeAll(completed);
 
                 log.info(
-                        "Flushed {} logs to DB in {}ms (state={}, ACK sent for {} items)",
+                        "Flushed {} logs to DB in {}ms (stripe={}, state={}, suppressed={},"
+                                + " ACK queued for {} items)",
                         logs.size(),
-                        latencyMs,
+                        TimeUnit.NANOSECONDS.toMillis(latencyNanos),
+                        stripe.index(),
                         backpressureManager.getState(),
-                        recordIds.size());
+                        completed.size() - logs.size(),
+                        acked);
+            } catch (CallNotPermittedException e) {
+                // DB Circuit OPEN: 저장을 시도하지 않고 spill 파일로 보내 버퍼를 비움
+                spill(wrappersToSave, stripe);
             } catch (Exception e) {
                 log.error(
-                        "Failed to flush {} logs to DB. Moving to DLQ for retry.", logs.size(), e);
-                // 실패한 로그들을 Dead Letter Queue에 추가
-                wrappersToSave.forEach(
-                        w -> {
-                            LogWrapper retryWrapper =
-                                    new LogWrapper(w.log(), w.recordId(), w.retryCount());
-                            deadLetterQueue.offer(retryWrapper);
-                        });
+                        "Failed to flush {} logs to DB (stripe={}). Moving to DLQ for retry.",
+                        wrappersToSave.size(),
+                        stripe.index(),
+                        e);
+                backpressureManager.recordFailure();
+                // 실패한 로그들을 디스크 기반 Dead Letter Queue에 추가
+                try {
+                    deadLetterStore.appendAll(wrappersToSave);
+                } catch (Exception dlqException) {
+                    // DLQ 기록 실패 시 ACK하지 않으므로 Stream 메시지는 PEL에 남음
+                    log.error(
+                            "Failed to write {} logs to DLQ (stripe={}).",
+                            wrappersToSave.size(),
+                            stripe.index(),
+                            dlqException);
+                }
             }
+            return true;
         } finally {
-            isFlushing.set(false);
+            activeFlushes.decrementAndGet();
+            stripe.finishFlush();
+        }
+    }
+
+    /**
+     * DB Circuit OPEN 중 flush 배치를 spill 파일에 보관
+     *
+     * <p>ACK하지 않으므로 spill 기록에 실패하면 Stream 메시지는 PEL에 남음. 버스트 중복 제거로 생략한 로그도 원본으로 보관하여 재생 시
+     * 발생 횟수가 누락되지 않게 함
+     */
+    private void spill(List<LogWrapper> wrappers, LogBufferStripe stripe) {
+        try {
+            spillStore.appendAll(wrappers);
+            meterRegistry.counter("worker.spill.appended").increment(wrappers.size());
+            log.warn(
+                    "DB circuit is open. Spilled {} logs to disk (stripe={}, spilled={}).",
+                    wrappers.size(),
+                    stripe.index(),
+                    spillStore.size());
+        } catch (Exception spillException) {
+            log.error(
+                    "Failed to spill {} logs (stripe={}).",
+                    wrappers.size(),
+                    stripe.index(),
+                    spillException);
+        }
+    }
+
+    /**
+     * 버스트 집계 저장
+     *
+     * <p>실패하면 생략했던 로그를 DLQ에 넣어 재시도 시 원본으로 저장되게 함 (발생 횟수 누락 방지)
+     *
+     * @return 집계 저장에 성공했으면 true
+     */
+    private boolean saveBursts(CollapsedBatch collapsed, LogBufferStripe stripe) {
+        try {
+            burstDeduplicator.saveBursts(collapsed.bursts());
+            return true;
+        } catch (Exception e) {
+            List<LogWrapper> suppressed =
+                    collapsed.bursts().stream()
+                            .flatMap(burst -> burst.wrappers().stream())
+                            .collect(Collectors.toList());
+            log.error(
+                    "Failed to save burst summary (stripe={}). Moving {} suppressed logs to DLQ.",
+                    stripe.index(),
+                    suppressed.size(),
+                    e);
+            try {
+                deadLetterStore.appendAll(suppressed);
+            } catch (Exception dlqException) {
+                // DLQ 기록 실패 시 ACK하지 않으므로 Stream 메시지는 PEL에 남음
+                log.error(
+                        "Failed to write {} suppressed logs to DLQ (stripe={}).",
+                        suppressed.size(),
+                        stripe.index(),
+                        dlqException);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * flush 동시 실행 슬롯 획득
+     *
+     * @return 현재 허용된 동시 실행 수 미만이면 true
+     */
+    private boolean tryAcquireFlushSlot() {
+        int allowed = backpressureManager.getFlushConcurrency();
+        while (true) {
+            int active = activeFlushes.get();
+            if (active >= allowed) {
+                return false;
+            }
+            if (activeFlushes.compareAndSet(active, active + 1)) {
+                return true;
+            }
         }
     }
 
@@ -189,84 +515,172 @@ public class LogBufferService {
         }
 
         try {
-            if (deadLetterQueue.isEmpty()) {
-                return;
-            }
+            retryDeadLetterBatch();
+        } finally {
+            // 읽기 위치 커밋(afterCommit)이 끝난 뒤에 다음 재시도가 읽도록 트랜잭션 완료 후 해제
+            runAfterCompletion(() -> isRetrying.set(false));
+        }
+    }
 
-            // 동적 배치 크기 사용
-            int dynamicBatchSize = backpressureManager.getCurrentBatchSize();
-            List<LogWrapper> wrappersToRetry = new ArrayList<>();
-            LogWrapper wrapper;
-            while (wrappersToRetry.size() < dynamicBatchSize
-                    && (wrapper = deadLetterQueue.poll()) != null) {
-                wrappersToRetry.add(wrapper);
-            }
+    /**
+     * DLQ 일괄 재처리 (기동 시 또는 수동 요청)
+     *
+     * <p>DLQ가 비거나 재시도가 실패할 때까지 배치 단위로 반복 (스레드가 인터럽트되면 중단)
+     *
+     * @return 재처리에 성공한 로그 수
+     */
+    public int replayDeadLetterQueue() {
+        if (!isRetrying.compareAndSet(false, true)) {
+            log.info("[DLQ] Replay skipped. Retry is already in progress.");
+            return 0;
+        }
 
-            if (wrappersToRetry.isEmpty()) {
-                return;
+        int replayed = 0;
+        try {
+            int saved;
+            while (!Thread.currentThread().isInterrupted()
+                    && (saved = retryDeadLetterBatch()) > 0) {
+                replayed += saved;
             }
+            log.info(
+                    "[DLQ] Replay finished. Replayed {} logs ({} remaining)",
+                    replayed,
+                    deadLetterStore.size());
+        } finally {
+            isRetrying.set(false);
+        }
+        return replayed;
+    }
 
-            List<GameLog> logs =
-                    wrappersToRetry.stream().map(LogWrapper::log).collect(Collectors.toList());
+    /**
+     * DLQ에서 한 배치를 읽어 재저장
+     *
+     * <p>실패한 로그는 재시도 횟수를 올려 DLQ 끝에 다시 추가하고, 최대 재시도를 초과하면 보존 영역으로 이동. 어느 경우든 처리 후 읽기 위치를
+     * 커밋하며, 저장에 성공한 배치는 트랜잭션 커밋 후에 커밋. DB Circuit이 열려 있으면 재시도 횟수를 올리지 않고 그대로 둠
+     *
+     * @return 저장에 성공한 로그 수 (DLQ가 비었으면 0, 실패 시 -1)
+     */
+    private int retryDeadLetterBatch() {
+        if (deadLetterStore.size() == 0) {
+            return 0;
+        }
+        if (!databaseCircuitBreaker.isCallPermitted()) {
+            return -1;
+        }
 
-            try {
-                long start = System.currentTimeMillis();
-                logJdbcRepository.saveAll(logs);
-                long latencyMs = System.currentTimeMillis() - start;
+        // 동적 배치 크기 사용
+        int dynamicBatchSize = backpressureManager.getCurrentBatchSize();
+        DeadLetterBatch batch = deadLetterStore.read(dynamicBatchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
 
-                // DLQ 재시도 성공 후 이슈 그룹핑 수행
-                try {
-                    issueGroupingBatchService.groupLogs(logs);
-                } catch (Exception e) {
-                    log.error(
-                            "[DLQ] Failed to group logs into issues. Logs are saved but issues not created.",
-                            e);
-                    // 이슈 생성 실패해도 로그는 저장되었으므로 ACK는 보냄
-                }
+        List<LogWrapper> wrappersToRetry = batch.entries();
+        if (wrappersToRetry.isEmpty()) {
+            deadLetterStore.commit(batch);
+            return 0;
+        }
 
-                // RecordId가 있는 경우에만 ACK 전송
-                List<RecordId> recordIds =
-                        wrappersToRetry.stream()
-                                .map(LogWrapper::recordId)
-                                .filter(id -> id != null)
-                                .collect(Collectors.toList());
-
-                if (!recordIds.isEmpty()) {
-                    redisTemplate
-                            .opsForStream()
-                            .acknowledge(
-                                    streamKey, consumerGroup, recordIds.toArray(new RecordId[0]));
-                }
+        List<GameLog> logs =
+                wrappersToRetry.stream().map(LogWrapper::log).collect(Collectors.toList());
 
-                log.info(
-                        "[DLQ] Successfully retried {} logs to DB in {}ms (ACK sent for {} items)",
-                        logs.size(),
-                        latencyMs,
-                        recordIds.size());
+        try {
+            long start = System.nanoTime();
+            List<GameLog> written =
+                    databaseCircuitBreaker.call(() -> logJdbcRepository.saveAll(logs));
+            long latencyNanos = System.nanoTime() - start;
+
+            // DLQ 재시도 성공 후 이슈 그룹핑 수행 (이전 시도에서 이미 저장된 로그는 제외)
+            try {
+                issueGroupingBatchService.groupLogs(written);
             } catch (Exception e) {
-                log.error("[DLQ] Failed to retry {} logs to DB", logs.size(), e);
-
-                // 재시도 횟수 증가 및 DLQ 재추가 또는 최종 실패 처리
-                wrappersToRetry.forEach(
-                        w -> {
-                            int newRetryCount = w.retryCount() + 1;
-                            if (newRetryCount < maxRetryCount) {
-                                LogWrapper retryWrapper =
-                                        new LogWrapper(w.log(), w.recordId(), newRetryCount);
-                                deadLetterQueue.offer(retryWrapper);
-                                log.warn(
-                                        "[DLQ] Retry count: {}/{} for log ID: {}",
-                                        newRetryCount,
-                                        maxRetryCount,
-                                        w.recordId());
-                            } else {
-                                handleFinalFailure(w);
-                            }
-                        });
+                log.error(
+                        "[DLQ] Failed to group logs into issues. Logs are saved but issues not created.",
+                        e);
+                // 이슈 생성 실패해도 로그는 저장되었으므로 ACK는 보냄
             }
-        } finally {
-            isRetrying.set(false);
+
+            // RecordId가 있는 경우에만 ACK 등록 (트랜잭션 안이면 커밋 후 전송)
+            int acked = acknowledgeAll(wrappersToRetry);
+
+            // 롤백되면 읽기 위치를 옮기지 않으므로 다음 재시도에서 같은 배치를 다시 읽음
+            runAfterCommit(() -> deadLetterStore.commit(batch));
+
+            log.info(
+                    "[DLQ] Successfully retried {} logs to DB in {}ms (ACK queued for {} items)",
+                    logs.size(),
+                    TimeUnit.NANOSECONDS.toMillis(latencyNanos),
+                    acked);
+            return logs.size();
+        } catch (CallNotPermittedException e) {
+            // DB Circuit OPEN: 재시도 횟수를 소모하지 않도록 커밋하지 않고 다음 주기에 다시 읽음
+            log.debug("[DLQ] DB circuit is open. Skipping retry of {} logs.", logs.size());
+            return -1;
+        } catch (Exception e) {
+            log.error("[DLQ] Failed to retry {} logs to DB", logs.size(), e);
+
+            // 재시도 횟수 증가 및 DLQ 재추가 또는 최종 실패 처리
+            List<LogWrapper> retries = new ArrayList<>(wrappersToRetry.size());
+            List<LogWrapper> exhausted = new ArrayList<>();
+            for (LogWrapper w : wrappersToRetry) {
+                int newRetryCount = w.retryCount() + 1;
+                if (newRetryCount < maxRetryCount) {
+                    retries.add(
+                            new LogWrapper(w.log(), w.recordId(), newRetryCount, w.streamKey()));
+                    log.warn(
+                            "[DLQ] Retry count: {}/{} for log ID: {}",
+                            newRetryCount,
+                            maxRetryCount,
+                            w.recordId());
+                } else {
+                    exhausted.add(w);
+                }
+            }
+            // 재추가는 한 번에 기록하여 도중에 실패해도 일부만 중복 기록되지 않도록 함
+            deadLetterStore.appendAll(retries);
+            exhausted.forEach(this::handleFinalFailure);
+            // 재추가/보존은 DB 트랜잭션과 무관하게 이미 기록되었으므로 읽기 위치도 바로 커밋
+            deadLetterStore.commit(batch);
+            return -1;
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에, 아니면 바로 실행
+     *
+     * @param action DB 커밋이 확정된 뒤에만 반영해야 하는 작업
+     */
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            action.run();
+                        }
+                    });
+            return;
         }
+        action.run();
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋/롤백 후에, 아니면 바로 실행
+     *
+     * @param action 트랜잭션 결과와 무관하게 마지막에 실행할 작업
+     */
+    private static void runAfterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            action.run();
+                        }
+                    });
+            return;
+        }
+        action.run();
     }
 
     private void handleFinalFailure(LogWrapper wrapper) {
@@ -275,27 +689,79 @@ public class LogBufferService {
                 maxRetryCount,
                 wrapper.recordId(),
                 wrapper.log());
-        // TODO: 파일에 기록하거나 별도 알림 시스템 연동
+
+        // 디스크 보존 영역에 기록 (수동 확인 및 재처리용)
+        deadLetterStore.park(wrapper);
 
         // 최종 실패 후에도 ACK 처리하여 PEL에서 제거
         if (wrapper.recordId() != null) {
-            acknowledgeFailedMessage(wrapper.recordId());
+            acknowledgeFailedMessage(wrapper.streamKey(), wrapper.recordId());
         }
     }
 
+    /**
+     * 처리 완료된 로그의 RecordId를 Stream 키별로 ACK 등록
+     *
+     * @param wrappers 처리 완료된 로그
+     * @return ACK 등록한 RecordId 수
+     */
+    private int acknowledgeAll(List<LogWrapper> wrappers) {
+        int acked = 0;
+        for (Map.Entry<String, List<RecordId>> entry :
+                LogWrapper.recordIdsByStreamKey(wrappers).entrySet()) {
+            streamAckAggregator.acknowledge(entry.getKey(), entry.getValue());
+            acked += entry.getValue().size();
+        }
+        return acked;
+    }
+
     /**
      * 처리 실패한 메시지를 ACK하여 PEL에서 제거
      *
+     * <p>잘못된 메시지가 몰려도 소비 루프가 메시지마다 Redis 왕복을 기다리지 않도록 집계기에 등록만 함
+     *
      * @param recordId 실패한 메시지의 RecordId
      */
     public void acknowledgeFailedMessage(RecordId recordId) {
-        try {
-            redisTemplate.opsForStream().acknowledge(streamKey, consumerGroup, recordId);
-            log.warn(
-                    "[ACK] Failed message acknowledged to prevent PEL buildup. RecordId: {}",
-                    recordId);
-        } catch (Exception e) {
-            log.error("[ACK] Failed to acknowledge message. RecordId: {}", recordId, e);
+        acknowledgeFailedMessage(null, recordId);
+    }
+
+    /**
+     * 처리 실패한 샤드 Stream 메시지를 ACK하여 PEL에서 제거
+     *
+     * @param streamKey 메시지를 읽은 Stream 키 (null이면 기본 키)
+     * @param recordId 실패한 메시지의 RecordId
+     */
+    public void acknowledgeFailedMessage(String streamKey, RecordId recordId) {
+        streamAckAggregator.acknowledge(streamKey, recordId);
+        log.warn(
+                "[ACK] Failed message queued for acknowledgement to prevent PEL buildup."
+                        + " RecordId: {}",
+                recordId);
+    }
+
+    /**
+     * 전체 스트라이프의 버퍼 점유 크기 합계
+     *
+     * @return 버퍼에 적재된 로그 수
+     */
+    public int getBufferSize() {
+        int total = 0;
+        for (LogBufferStripe stripe : stripes) {
+            total += stripe.size();
+        }
+        return total;
+    }
+
+    /**
+     * projectId 해시로 스트라이프 선택
+     *
+     * <p>같은 프로젝트의 로그는 항상 같은 스트라이프로 모임
+     */
+    private LogBufferStripe stripeFor(UUID projectId) {
+        if (projectId == null || stripes.size() == 1) {
+            return stripes.get(0);
         }
+        return stripes.get(Math.floorMod(projectId.hashCode(), stripes.size()));
     }
 }
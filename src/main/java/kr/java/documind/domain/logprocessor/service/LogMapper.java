@@ -1,8 +1,5 @@
 package kr.java.documind.domain.logprocessor.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.OffsetDateTime;
 import java.util.Map;
 import java.util.UUID;
@@ -11,8 +8,6 @@ import kr.java.documind.domain.issue.service.fingerprint.FingerprintResult;
 import kr.java.documind.domain.logprocessor.model.dto.LogWithFingerprint;
 import kr.java.documind.domain.logprocessor.model.dto.request.RawLogRequest;
 import kr.java.documind.domain.logprocessor.model.entity.GameLog;
-import kr.java.documind.domain.logprocessor.model.enums.EventCategory;
-import kr.java.documind.domain.logprocessor.model.enums.LogSeverity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -22,71 +17,8 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class LogMapper {
 
-    private final ObjectMapper objectMapper;
     private final FingerprintGenerator fingerprintGenerator;
 
-    public GameLog toEntity(Map<String, String> map) throws JsonProcessingException {
-        if (map.get("projectId") == null || map.get("archive") == null) {
-            throw new IllegalArgumentException(
-                    "Missing required fields: projectId and archive are mandatory");
-        }
-
-        // logId 처리: null이거나 빈 문자열이면 새 UUID 생성
-        String logIdStr = map.get("logId");
-        UUID logId =
-                (logIdStr != null && !logIdStr.isEmpty())
-                        ? UUID.fromString(logIdStr)
-                        : UUID.randomUUID();
-
-        // sessionId 처리: NOT NULL 제약 때문에 null이면 기본값 제공
-        String sessionId = map.get("sessionId");
-        if (sessionId == null || sessionId.isEmpty()) {
-            sessionId = "unknown-session";
-            log.warn("sessionId is null or empty. Using default value: 'unknown-session'");
-        }
-
-        OffsetDateTime now = OffsetDateTime.now();
-
-        // fingerprint 처리: null이면 생성
-        String fingerprint = map.get("fingerprint");
-        if (fingerprint == null || fingerprint.isEmpty()) {
-            // 임시 엔티티로 fingerprint 생성
-            GameLog tempLog =
-                    GameLog.builder()
-                            .archive(map.get("archive"))
-                            .severity(LogSeverity.fromString(map.getOrDefault("severity", "INFO")))
-                            .build();
-            fingerprint = fingerprintGenerator.generate(tempLog).getFingerprint();
-            log.debug("Generated fingerprint for Redis Stream message: {}", fingerprint);
-        }
-
-        return GameLog.builder()
-                .logId(logId)
-                .projectId(UUID.fromString(map.get("projectId")))
-                .sessionId(sessionId)
-                .userId(map.get("userId"))
-                .severity(LogSeverity.fromString(map.getOrDefault("severity", "INFO")))
-                .eventCategory(
-                        EventCategory.fromString(map.getOrDefault("eventCategory", "SYSTEM")))
-                .archive(map.get("archive"))
-                .occurredAt(parseTime(map.get("occurredAt")))
-                .ingestedAt(parseTime(map.get("ingestedAt")))
-                .traceId(map.get("traceId"))
-                .spanId(map.get("spanId"))
-                .fingerprint(fingerprint)
-                .resource(
-                        objectMapper.readValue(
-                                map.getOrDefault("resource", "{}"),
-                                new TypeReference<Map<String, Object>>() {}))
-                .attributes(
-                        objectMapper.readValue(
-                                map.getOrDefault("attributes", "{}"),
-                                new TypeReference<Map<String, Object>>() {}))
-                .createdAt(parseTime(map.get("createdAt"), now))
-                .updatedAt(parseTime(map.get("updatedAt"), now))
-                .build();
-    }
-
     public GameLog toEntity(RawLogRequest dto) {
         return toEntityWithFingerprint(dto).log();
     }
@@ -141,6 +73,7 @@ public class LogMapper {
                         .traceId(tempLog.getTraceId())
                         .spanId(tempLog.getSpanId())
                         .fingerprint(fingerprintResult.getFingerprint())
+                        .fingerprintResult(fingerprintResult)
                         .resource(tempLog.getResource())
                         .attributes(tempLog.getAttributes())
                         .createdAt(tempLog.getCreatedAt())
@@ -150,19 +83,6 @@ public class LogMapper {
         return new LogWithFingerprint(finalLog, fingerprintResult);
     }
 
-    private OffsetDateTime parseTime(String timeStr) {
-        if (timeStr == null) return OffsetDateTime.now();
-        try {
-            return OffsetDateTime.parse(timeStr);
-        } catch (Exception e) {
-            log.warn(
-                    "Failed to parse timestamp '{}'. Falling back to current time. Error: {}",
-                    timeStr,
-                    e.getMessage());
-            return OffsetDateTime.now();
-        }
-    }
-
     private OffsetDateTime parseTime(String timeStr, OffsetDateTime defaultTime) {
         if (timeStr == null) return defaultTime;
         try {
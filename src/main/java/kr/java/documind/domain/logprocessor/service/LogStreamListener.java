@@ -1,38 +1,61 @@
 package kr.java.documind.domain.logprocessor.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+import kr.java.documind.domain.logprocessor.service.decoder.StreamRecordDecoder;
 import kr.java.documind.domain.logprocessor.service.resilience.RedisStreamCircuitBreakerService;
+import kr.java.documind.domain.logprocessor.service.shard.StreamShardAssignment;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.stream.ByteRecord;
 import org.springframework.data.redis.connection.stream.Consumer;
-import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.ReadOffset;
 import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.connection.stream.StreamReadOptions;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
+/**
+ * Redis Streams 연속 소비 엔진
+ *
+ * <p>인스턴스당 N개의 소비 루프를 전용 스레드에서 실행. 각 루프는 인스턴스 고유 ID 기반 Consumer 이름({@link
+ * StreamConsumerMembership})으로 XREADGROUP BLOCK을 반복하며, 메시지가 계속 들어오는 동안에는 대기 없이 바로 다음 읽기를
+ * 수행
+ *
+ * <p>읽기 크기와 버퍼 적재 허용량은 {@link BackpressureManager}의 적응형 한도를 따르며, 허용량을 넘으면 고정 시간 sleep 대신 flush
+ * 완료 신호가 올 때까지 읽기를 보류
+ *
+ * <p>Stream이 샤딩되어 있으면 {@link StreamShardAssignment}가 이 인스턴스에 배정한 샤드만 읽음. 루프가 여러 샤드를 맡으면 샤드를
+ * 번갈아 읽고 BLOCK 시간을 샤드 수로 나누어 한 바퀴의 대기 시간을 샤드 1개일 때와 같게 유지. Redis Cluster에서는 샤드 키가 서로
+ * 다른 슬롯이라 다중 키 XREADGROUP을 쓸 수 없음
+ *
+ * <p>애플리케이션 시작 시 루프를 시작하고, 종료 시 진행 중인 읽기(최대 BLOCK 시간)가 끝나면 루프를 멈춤
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class LogStreamListener {
+public class LogStreamListener implements SmartLifecycle {
 
     private final LogBufferService logBufferService;
-    private final LogMapper logMapper;
+    private final StreamRecordDecoder streamRecordDecoder;
     private final BackpressureManager backpressureManager;
     private final RedisStreamCircuitBreakerService circuitBreakerService;
-
-    @Value("${redis.stream.key}")
-    private String streamKey;
+    private final StreamConsumerMembership membership;
+    private final StreamShardAssignment shardAssignment;
 
     @Value("${redis.stream.group}")
     private String consumerGroup;
 
-    @Value("${redis.stream.consumer}")
-    private String consumerName;
+    @Value("${worker.consumer.threads}")
+    private int consumerThreads;
 
     @Value("${worker.poll-interval-ms}")
     private long pollIntervalMs;
@@ -40,70 +63,228 @@ public class LogStreamListener {
     @Value("${worker.poll-block-ms}")
     private long pollBlockMs;
 
-    /** Scheduled Job: 설정된 주기마다 Redis Streams에서 로그 배치를 읽어옴 */
-    @Scheduled(fixedDelayString = "${worker.poll-interval-ms}")
-    public void pollMessages() {
-        applyBackpressure();
+    private volatile boolean running;
+    private volatile List<String> consumerNames = List.of();
+    private ExecutorService consumerExecutor;
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+
+        if (consumerThreads <= 0) {
+            log.warn("Invalid consumer thread count: {}. Resetting to 1.", consumerThreads);
+            consumerThreads = 1;
+        }
+
+        running = true;
+        consumerExecutor =
+                Executors.newFixedThreadPool(
+                        consumerThreads, new CustomizableThreadFactory("log-stream-consumer-"));
+
+        List<String> names = new ArrayList<>(consumerThreads);
+        for (int i = 0; i < consumerThreads; i++) {
+            int index = i;
+            String name = membership.consumerName(index);
+            names.add(name);
+            consumerExecutor.execute(() -> consumeLoop(index, name));
+        }
+        consumerNames = List.copyOf(names);
+
+        log.info(
+                "[Consumer] Started {} stream consumers on {} (group={}, consumers={})",
+                consumerThreads,
+                shardAssignment.assignedKeys(),
+                consumerGroup,
+                consumerNames);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
 
+        running = false;
+        consumerExecutor.shutdown();
         try {
-            // 동적 배치 크기 사용
-            int batchSize = backpressureManager.getCurrentBatchSize();
-
-            // StreamReadOptions 설정: COUNT와 BLOCK
-            StreamReadOptions readOptions =
-                    StreamReadOptions.empty()
-                            .count(batchSize)
-                            .block(Duration.ofMillis(pollBlockMs));
-
-            // Circuit Breaker를 통한 Redis Stream 메시지 읽기
-            List<MapRecord<String, String, String>> messages =
-                    circuitBreakerService.readMessages(
-                            Consumer.from(consumerGroup, consumerName),
-                            readOptions,
-                            StreamOffset.create(streamKey, ReadOffset.lastConsumed()));
-
-            if (messages == null || messages.isEmpty()) {
-                log.debug("[Poll] No messages available (batchSize={})", batchSize);
-                return;
+            // 진행 중인 XREADGROUP BLOCK이 끝날 때까지 대기
+            long timeoutMs = pollBlockMs + TimeUnit.SECONDS.toMillis(5);
+            if (!consumerExecutor.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("[Consumer] Consumers did not stop in {} ms. Interrupting.", timeoutMs);
+                consumerExecutor.shutdownNow();
             }
+        } catch (InterruptedException e) {
+            consumerExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        log.info("[Consumer] Stopped stream consumers (group={})", consumerGroup);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
 
-            log.info("[Poll] Received {} messages (batchSize={})", messages.size(), batchSize);
-
-            // 각 메시지 처리
-            for (MapRecord<String, String, String> message : messages) {
-                try {
-                    GameLog logEntity = logMapper.toEntity(message.getValue());
-                    logBufferService.add(logEntity, message.getId());
-                } catch (Exception e) {
-                    // 보안: 민감 정보(value)는 로그에 남기지 않고 Message ID만 기록
-                    log.error("Failed to process Redis Stream message. ID: {}", message.getId(), e);
-                    // 파싱 실패한 메시지를 ACK하여 PEL 무한 증가 방지
-                    logBufferService.acknowledgeFailedMessage(message.getId());
+    /**
+     * 단일 Consumer 소비 루프
+     *
+     * @param index 루프 번호
+     * @param name Consumer 이름
+     */
+    private void consumeLoop(int index, String name) {
+        Consumer consumer = Consumer.from(consumerGroup, name);
+        int cursor = 0;
+
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                // 배정은 멤버십 변경 시 바뀌므로 매 반복마다 조회
+                List<String> keys = shardAssignment.keysForLoop(index, consumerThreads);
+                if (keys.isEmpty()) {
+                    // 인스턴스 수가 샤드 수보다 많으면 배정받지 못한 인스턴스는 대기
+                    idle();
+                    continue;
+                }
+                if (!hasBufferCapacity()) {
+                    // 버퍼가 허용량을 넘으면 읽지 않고 flush 완료 신호를 기다림
+                    backpressureManager.awaitFlush(pollIntervalMs);
+                    continue;
                 }
+
+                String key = keys.get(Math.floorMod(cursor++, keys.size()));
+                StreamOffset<String> offset = StreamOffset.create(key, ReadOffset.lastConsumed());
+                if (!pollOnce(consumer, offset, Math.max(1L, pollBlockMs / keys.size()))) {
+                    idle();
+                }
+            } catch (Exception e) {
+                log.error("[Poll] Error during message polling (consumer={})", name, e);
+                idle();
             }
+        }
+    }
+
+    /**
+     * XREADGROUP 1회 실행 후 메시지 처리
+     *
+     * @return 정상적으로 읽었으면 true (BLOCK 시간 동안 메시지가 없던 경우 포함), Circuit OPEN 등으로 즉시 반환되어 대기가 필요하면
+     *     false
+     */
+    boolean pollOnce(Consumer consumer, StreamOffset<String> offset) {
+        return pollOnce(consumer, offset, pollBlockMs);
+    }
+
+    /**
+     * 지정한 BLOCK 시간으로 XREADGROUP 1회 실행 후 메시지 처리
+     *
+     * @param blockMs XREADGROUP BLOCK 시간
+     * @return {@link #pollOnce(Consumer, StreamOffset)}와 같음
+     */
+    boolean pollOnce(Consumer consumer, StreamOffset<String> offset, long blockMs) {
+        // 적응형 한도에서 도출된 읽기 크기 사용
+        int batchSize = backpressureManager.getPollCount();
 
-        } catch (Exception e) {
-            log.error("[Poll] Error during message polling", e);
+        // StreamReadOptions 설정: COUNT와 BLOCK
+        StreamReadOptions readOptions =
+                StreamReadOptions.empty().count(batchSize).block(Duration.ofMillis(blockMs));
+
+        // Circuit Breaker를 통한 Redis Stream 메시지 읽기 (역직렬화 없이 바이트 그대로)
+        long start = System.currentTimeMillis();
+        List<ByteRecord> messages =
+                circuitBreakerService.readRawMessages(consumer, readOptions, offset);
+
+        if (messages == null || messages.isEmpty()) {
+            // Circuit OPEN 또는 읽기 실패로 BLOCK 없이 즉시 반환된 경우 재시도 간격을 둠
+            if (System.currentTimeMillis() - start < blockMs) {
+                return false;
+            }
+            log.debug(
+                    "[Poll] No messages available (consumer={}, batchSize={})",
+                    consumer.getName(),
+                    batchSize);
+            return true;
         }
+
+        log.debug(
+                "[Poll] Received {} messages (consumer={}, batchSize={})",
+                messages.size(),
+                consumer.getName(),
+                batchSize);
+
+        handleRawMessages(messages);
+        return true;
     }
 
-    private void applyBackpressure() {
-        long sleepMs = backpressureManager.getSleepMillis();
-        if (sleepMs <= 0) {
-            return;
+    /**
+     * 바이트 메시지를 엔티티로 변환하여 버퍼에 전달
+     *
+     * <p>XREADGROUP 결과와 XCLAIM으로 회수한 결과 모두 {@link StreamRecordDecoder}로 변환. 변환에 실패한 메시지는 즉시
+     * ACK하여 PEL에서 제거
+     *
+     * @param messages Stream 메시지 목록
+     */
+    public void handleRawMessages(List<ByteRecord> messages) {
+        for (ByteRecord message : messages) {
+            try {
+                GameLog logEntity = streamRecordDecoder.decode(message);
+                logBufferService.add(logEntity, streamKey(message), message.getId());
+            } catch (Exception e) {
+                // 보안: 민감 정보(value)는 로그에 남기지 않고 Message ID만 기록
+                log.error("Failed to process Redis Stream message. ID: {}", message.getId(), e);
+                // 파싱 실패한 메시지를 ACK하여 PEL 무한 증가 방지
+                logBufferService.acknowledgeFailedMessage(streamKey(message), message.getId());
+            }
         }
+    }
+
+    /**
+     * 이 인스턴스의 소비 루프가 사용하는 Consumer 이름 목록
+     *
+     * @return Consumer 이름 목록 (시작 전에는 빈 목록)
+     */
+    public List<String> getConsumerNames() {
+        return consumerNames;
+    }
+
+    /** 바이트 메시지를 읽은 Stream 키 (ACK 대상) */
+    private static String streamKey(ByteRecord message) {
+        byte[] stream = message.getStream();
+        return (stream != null) ? new String(stream, StandardCharsets.UTF_8) : null;
+    }
 
-        log.warn(
-                "[Backpressure] DB 지연 감지 (state={}, avg={} ms) - {} ms 대기",
-                backpressureManager.getState(),
-                String.format("%.1f", backpressureManager.getAvgLatencyMs()),
-                sleepMs);
+    /** 읽기 실패 시 재시도 전 대기 */
+    private void idle() {
+        sleep(pollIntervalMs);
+    }
+
+    /**
+     * 버퍼 적재량이 Backpressure 허용량 미만인지 확인
+     *
+     * @return 더 읽어도 되면 true
+     */
+    private boolean hasBufferCapacity() {
+        int bufferSize = logBufferService.getBufferSize();
+        int queueLimit = backpressureManager.getQueueLimit();
+        if (bufferSize < queueLimit) {
+            return true;
+        }
+
+        log.debug(
+                "[Backpressure] 버퍼 적재량 초과 (buffer={}, limit={}, state={}) - flush 대기",
+                bufferSize,
+                queueLimit,
+                backpressureManager.getState());
+        return false;
+    }
 
+    private void sleep(long millis) {
         try {
-            Thread.sleep(sleepMs);
+            Thread.sleep(millis);
         } catch (InterruptedException e) {
+            // 인터럽트 상태를 유지하여 소비 루프 종료
             Thread.currentThread().interrupt();
-            log.warn("[Backpressure] 대기 중 인터럽트 발생. 소비를 재개합니다.");
+            log.warn("[Consumer] 대기 중 인터럽트 발생. 소비 루프를 종료합니다.");
         }
     }
 }
@@ -0,0 +1,258 @@
+package kr.java.documind.domain.logprocessor.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import kr.java.documind.domain.logprocessor.service.StreamConsumerMembership.GroupConsumer;
+import kr.java.documind.domain.logprocessor.service.shard.StreamShards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Stream PEL 회수기
+ *
+ * <p>하트비트가 끊긴 인스턴스의 Consumer가 ACK하지 못하고 idle 임계값을 넘긴 메시지를 이 인스턴스로 XCLAIM하여 정상 처리 경로에
+ * 다시 투입. 회수가 끝나 PEL이 빈 Consumer는 그룹에서 제거(XGROUP DELCONSUMER)
+ *
+ * <p>전달 횟수가 최대치에 도달한 메시지는 반복 실패를 일으키는 poison 메시지로 보고 Dead Letter Stream으로 옮긴 뒤 ACK
+ *
+ * <p>XAUTOCLAIM 대신 XPENDING(Consumer별) + XCLAIM(min-idle)으로 구현. 전달 횟수를 XPENDING 결과에서 바로 얻을 수 있고,
+ * min-idle 조건으로 이미 다른 인스턴스가 회수한 메시지는 다시 가져오지 않음
+ *
+ * <p>Stream이 샤딩되어 있으면 모든 샤드를 순회. 샤드 배정과 무관하게 회수하므로 배정이 바뀌어 아무도 읽지 않게 된 샤드의 PEL도 처리됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PendingEntryReclaimer {
+
+    private static final String ORIGINAL_ID_FIELD = "_originalId";
+    private static final String DELIVERY_COUNT_FIELD = "_deliveryCount";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LogStreamListener logStreamListener;
+    private final StreamConsumerMembership membership;
+    private final StreamShards streamShards;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${redis.stream.group}")
+    private String consumerGroup;
+
+    @Value("${redis.stream.dead-letter-key}")
+    private String deadLetterStreamKey;
+
+    @Value("${worker.reclaim.min-idle-ms}")
+    private long minIdleMs;
+
+    @Value("${worker.reclaim.batch-size}")
+    private int batchSize;
+
+    @Value("${worker.reclaim.max-deliveries}")
+    private long maxDeliveries;
+
+    @Scheduled(fixedDelayString = "${worker.reclaim.interval-ms}")
+    public void reclaim() {
+        try {
+            Set<String> liveInstances = membership.liveInstances();
+            Set<String> remainingConsumers = new HashSet<>();
+
+            for (String streamKey : streamShards.keys()) {
+                reclaimShard(streamKey, liveInstances, remainingConsumers);
+            }
+
+            membership.pruneStaleMembers(remainingConsumers);
+        } catch (Exception e) {
+            log.warn("[Reclaim] PEL 회수 실패", e);
+        }
+    }
+
+    /**
+     * 샤드 하나의 죽은 Consumer 회수
+     *
+     * @param streamKey 샤드 Stream 키
+     * @param liveInstances 살아 있는 인스턴스 ID
+     * @param remainingConsumers 그룹에 남은 Consumer 이름 (결과 누적)
+     */
+    private void reclaimShard(
+            String streamKey, Set<String> liveInstances, Set<String> remainingConsumers) {
+        for (GroupConsumer consumer : membership.groupConsumers(streamKey)) {
+            String name = consumer.name();
+            // 살아 있는 인스턴스가 보유한 메시지는 버퍼/DLQ에서 처리 중이므로 제외
+            if (membership.isOwnedByLiveInstance(name, liveInstances)) {
+                remainingConsumers.add(name);
+                continue;
+            }
+
+            if (consumer.pending() > 0) {
+                reclaimFrom(streamKey, name);
+            }
+
+            // 회수가 끝나 PEL이 비었으면 그룹에서 제거
+            if (consumer.idleMs() >= minIdleMs && !hasPending(streamKey, name)) {
+                membership.removeConsumer(streamKey, name);
+            } else {
+                remainingConsumers.add(name);
+            }
+        }
+    }
+
+    /**
+     * 특정 Consumer의 idle 메시지 회수
+     *
+     * @param streamKey 샤드 Stream 키
+     * @param owner 회수 대상 Consumer 이름
+     * @return 회수한 메시지 수 (poison 포함)
+     */
+    int reclaimFrom(String streamKey, String owner) {
+        PendingMessages pending =
+                redisTemplate
+                        .opsForStream()
+                        .pending(
+                                streamKey,
+                                Consumer.from(consumerGroup, owner),
+                                Range.unbounded(),
+                                batchSize);
+        if (pending == null || pending.isEmpty()) {
+            return 0;
+        }
+
+        Duration minIdle = Duration.ofMillis(minIdleMs);
+        List<RecordId> retryIds = new ArrayList<>();
+        Map<RecordId, Long> poisonDeliveries = new LinkedHashMap<>();
+        for (PendingMessage message : pending) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) < 0) {
+                continue;
+            }
+            if (message.getTotalDeliveryCount() >= maxDeliveries) {
+                poisonDeliveries.put(message.getId(), message.getTotalDeliveryCount());
+            } else {
+                retryIds.add(message.getId());
+            }
+        }
+
+        if (!retryIds.isEmpty()) {
+            List<ByteRecord> claimed = claim(streamKey, retryIds, minIdle);
+            if (!claimed.isEmpty()) {
+                log.warn(
+                        "[Reclaim] Reclaimed {} idle messages from consumer '{}'",
+                        claimed.size(),
+                        owner);
+                meterRegistry.counter("redis.stream.reclaim.claimed").increment(claimed.size());
+                logStreamListener.handleRawMessages(claimed);
+            }
+        }
+
+        if (!poisonDeliveries.isEmpty()) {
+            quarantine(streamKey, poisonDeliveries, minIdle, owner);
+        }
+
+        return retryIds.size() + poisonDeliveries.size();
+    }
+
+    /**
+     * 반복 전달 실패 메시지를 Dead Letter Stream으로 이동 후 ACK
+     *
+     * @param streamKey 샤드 Stream 키
+     * @param deliveries 메시지 ID별 전달 횟수
+     * @param minIdle 회수 최소 idle 시간
+     * @param owner 원래 Consumer 이름
+     */
+    private void quarantine(
+            String streamKey, Map<RecordId, Long> deliveries, Duration minIdle, String owner) {
+        List<ByteRecord> claimed =
+                claim(streamKey, new ArrayList<>(deliveries.keySet()), minIdle);
+        Map<RecordId, ByteRecord> byId =
+                claimed.stream().collect(Collectors.toMap(ByteRecord::getId, Function.identity()));
+
+        for (Map.Entry<RecordId, Long> entry : deliveries.entrySet()) {
+            RecordId id = entry.getKey();
+            ByteRecord record = byId.get(id);
+            if (record != null) {
+                Map<String, String> body = new LinkedHashMap<>();
+                record.getValue().forEach((k, v) -> body.put(string(k), string(v)));
+                body.put(ORIGINAL_ID_FIELD, id.getValue());
+                body.put(DELIVERY_COUNT_FIELD, String.valueOf(entry.getValue()));
+                redisTemplate.opsForStream().add(deadLetterStreamKey, body);
+            }
+            // 본문이 이미 trim된 경우에도 PEL에서는 제거
+            redisTemplate.opsForStream().acknowledge(streamKey, consumerGroup, id);
+
+            log.error(
+                    "[Reclaim] Poison message quarantined. ID: {}, deliveries: {}, consumer: {}",
+                    id,
+                    entry.getValue(),
+                    owner);
+            meterRegistry.counter("redis.stream.reclaim.poison").increment();
+        }
+    }
+
+    /**
+     * XCLAIM (min-idle 조건으로 다른 인스턴스가 먼저 회수한 메시지는 제외됨)
+     *
+     * <p>XREADGROUP과 같은 {@code StreamRecordDecoder}로 변환하도록 역직렬화 없이 바이트 그대로 회수
+     *
+     * @param streamKey 샤드 Stream 키
+     * @param ids 회수할 메시지 ID
+     * @param minIdle 최소 idle 시간
+     * @return 회수된 메시지 (ACK 대상 샤드 키 포함)
+     */
+    private List<ByteRecord> claim(String streamKey, List<RecordId> ids, Duration minIdle) {
+        byte[] rawKey = streamKey.getBytes(StandardCharsets.UTF_8);
+        XClaimOptions options = XClaimOptions.minIdle(minIdle).ids(ids.toArray(new RecordId[0]));
+        String newOwner = reclaimerName();
+
+        List<ByteRecord> records =
+                redisTemplate.execute(
+                        (RedisCallback<List<ByteRecord>>)
+                                connection ->
+                                        connection
+                                                .streamCommands()
+                                                .xClaim(rawKey, consumerGroup, newOwner, options));
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+        return records.stream().map(record -> record.withStreamKey(rawKey)).toList();
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    /** 회수한 메시지를 소유할 Consumer 이름 */
+    private String reclaimerName() {
+        return membership.reclaimerName();
+    }
+
+    /** Consumer PEL에 남은 메시지가 있는지 확인 (XPENDING COUNT 1) */
+    private boolean hasPending(String streamKey, String owner) {
+        PendingMessages remaining =
+                redisTemplate
+                        .opsForStream()
+                        .pending(
+                                streamKey,
+                                Consumer.from(consumerGroup, owner),
+                                Range.unbounded(),
+                                1L);
+        return remaining != null && !remaining.isEmpty();
+    }
+}
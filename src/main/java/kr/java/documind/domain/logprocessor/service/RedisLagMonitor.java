@@ -3,15 +3,42 @@ package kr.java.documind.domain.logprocessor.service;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import kr.java.documind.domain.logprocessor.service.shard.StreamShards;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroup;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroups;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoStream;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * Redis Stream Consumer 그룹 Lag 모니터
+ *
+ * <p>XPENDING(미ACK)과 XLEN 외에 XINFO GROUPS의 lag(그룹이 아직 읽지 않은 메시지 수)와 entries-read, XINFO STREAM의
+ * entries-added를 주기적으로 수집. 두 누적 카운터를 슬라이딩 윈도우로 나눠 유입/소비 속도를 계산하고, 가장 오래된 미전달 메시지의 ID
+ * 시각으로 Lag(초)와 예상 소진 시간을 산출
+ *
+ * <p>스케일링 신호(redis.stream.scaling.ratio)는 목표 시간 안에 Lag를 소진하는 데 필요한 소비 속도를 현재 소비 속도로 나눈 값.
+ * 오토스케일러가 desired = ceil(현재 인스턴스 수 × ratio)로 사용. 그룹 단위 값이므로 모든 인스턴스가 같은 값을 게시함
+ *
+ * <p>Stream이 샤딩되어 있으면 모든 지표를 샤드별로 수집하여 stream 태그에 샤드 키를 붙여 게시. 샤드는 한 인스턴스만 읽으므로 오토스케일러는
+ * 샤드별 ratio의 최댓값을 사용하고, 인스턴스 수가 샤드 수를 넘으면 늘어난 인스턴스는 소비에 참여하지 못함
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -19,56 +46,360 @@ public class RedisLagMonitor {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final MeterRegistry meterRegistry;
-
-    @Value("${redis.stream.key}")
-    private String streamKey;
+    private final StreamShards streamShards;
 
     @Value("${redis.stream.group}")
     private String consumerGroup;
 
-    private final AtomicLong pendingCount = new AtomicLong(0);
-    private final AtomicLong streamLength = new AtomicLong(0);
+    // 유입/소비 속도 계산 구간
+    @Value("${worker.lag-monitor.rate-window-ms}")
+    private long rateWindowMs;
+
+    // 스케일링 신호 계산 시 Lag를 소진할 목표 시간
+    @Value("${worker.lag-monitor.target-drain-seconds}")
+    private long targetDrainSeconds;
+
+    // 스케일링 신호 상한 (소비가 멈춘 경우 등)
+    @Value("${worker.lag-monitor.max-scale-ratio}")
+    private double maxScaleRatio;
+
+    private final Map<String, ShardLag> shards = new ConcurrentHashMap<>();
 
     @PostConstruct
     public void registerGauges() {
-        Gauge.builder("redis.stream.pending", pendingCount, AtomicLong::get)
+        if (rateWindowMs <= 0) {
+            log.warn("Invalid lag monitor rate window: {}. Resetting to 60000.", rateWindowMs);
+            rateWindowMs = 60000;
+        }
+
+        if (targetDrainSeconds <= 0) {
+            log.warn(
+                    "Invalid lag monitor target drain seconds: {}. Resetting to 60.",
+                    targetDrainSeconds);
+            targetDrainSeconds = 60;
+        }
+
+        if (maxScaleRatio < 1.0) {
+            log.warn("Invalid lag monitor max scale ratio: {}. Resetting to 4.", maxScaleRatio);
+            maxScaleRatio = 4.0;
+        }
+
+        for (String streamKey : streamShards.keys()) {
+            shard(streamKey);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${worker.lag-monitor.interval-ms}")
+    public void collect() {
+        long nowMs = System.currentTimeMillis();
+        for (String streamKey : streamShards.keys()) {
+            ShardLag shard = shard(streamKey);
+            collectPending(shard);
+            collectStreamLength(shard);
+            collectLag(shard, nowMs);
+        }
+    }
+
+    /**
+     * 샤드 상태 조회 (처음 조회 시 게이지 등록)
+     *
+     * @param streamKey 샤드 Stream 키
+     * @return 샤드 Lag 상태
+     */
+    private ShardLag shard(String streamKey) {
+        return shards.computeIfAbsent(streamKey, this::registerShard);
+    }
+
+    private ShardLag registerShard(String streamKey) {
+        ShardLag shard = new ShardLag(streamKey);
+
+        Gauge.builder("redis.stream.pending", shard.pendingCount, AtomicLong::get)
                 .description("Redis Stream 소비자 그룹의 미ACK 메시지 수")
                 .tag("stream", streamKey)
                 .tag("group", consumerGroup)
                 .register(meterRegistry);
 
-        Gauge.builder("redis.stream.length", streamLength, AtomicLong::get)
+        Gauge.builder("redis.stream.length", shard.streamLength, AtomicLong::get)
                 .description("Redis Stream 전체 메시지 수 (XLEN)")
                 .tag("stream", streamKey)
                 .register(meterRegistry);
-    }
 
-    @Scheduled(fixedDelayString = "${worker.lag-monitor.interval-ms}")
-    public void collect() {
-        collectPending();
-        collectStreamLength();
+        Gauge.builder("redis.stream.lag", shard.lag, AtomicLong::get)
+                .description("소비자 그룹이 아직 읽지 않은 메시지 수 (XINFO GROUPS lag)")
+                .tag("stream", streamKey)
+                .tag("group", consumerGroup)
+                .register(meterRegistry);
+
+        Gauge.builder("redis.stream.lag.seconds", shard, s -> s.lagSeconds)
+                .description("가장 오래된 미전달 메시지의 경과 시간 (초)")
+                .tag("stream", streamKey)
+                .tag("group", consumerGroup)
+                .register(meterRegistry);
+
+        Gauge.builder("redis.stream.ingest.rate", shard, s -> s.ingestRate)
+                .description("Stream 유입 속도 (메시지/초, entries-added 기준)")
+                .tag("stream", streamKey)
+                .register(meterRegistry);
+
+        Gauge.builder("redis.stream.consume.rate", shard, s -> s.consumeRate)
+                .description("소비자 그룹 읽기 속도 (메시지/초, entries-read 기준)")
+                .tag("stream", streamKey)
+                .tag("group", consumerGroup)
+                .register(meterRegistry);
+
+        Gauge.builder("redis.stream.drain.eta.seconds", shard, s -> s.drainEtaSeconds)
+                .description("현재 속도로 Lag를 소진하는 예상 시간 (초, 줄어들지 않으면 -1)")
+                .tag("stream", streamKey)
+                .tag("group", consumerGroup)
+                .register(meterRegistry);
+
+        Gauge.builder("redis.stream.scaling.ratio", shard, s -> s.scalingRatio)
+                .description("목표 시간 내 Lag 소진에 필요한 소비 속도 / 현재 소비 속도")
+                .tag("stream", streamKey)
+                .tag("group", consumerGroup)
+                .register(meterRegistry);
+
+        return shard;
     }
 
-    private void collectPending() {
+    private void collectPending(ShardLag shard) {
         try {
             PendingMessagesSummary summary =
-                    redisTemplate.opsForStream().pending(streamKey, consumerGroup);
+                    redisTemplate.opsForStream().pending(shard.streamKey, consumerGroup);
 
             long count = (summary != null) ? summary.getTotalPendingMessages() : 0L;
-            pendingCount.set(count);
-            log.debug("[LagMonitor] pending={}", count);
+            shard.pendingCount.set(count);
+            log.debug("[LagMonitor] {} pending={}", shard.streamKey, count);
         } catch (Exception e) {
-            log.warn("[LagMonitor] pending 조회 실패: {}", e.getMessage());
+            log.warn("[LagMonitor] pending 조회 실패 ({}): {}", shard.streamKey, e.getMessage());
+        }
+    }
+
+    private void collectStreamLength(ShardLag shard) {
+        try {
+            Long length = redisTemplate.opsForStream().size(shard.streamKey);
+            shard.streamLength.set(length != null ? length : 0L);
+            log.debug(
+                    "[LagMonitor] {} stream.length={}", shard.streamKey, shard.streamLength.get());
+        } catch (Exception e) {
+            log.warn(
+                    "[LagMonitor] stream length 조회 실패 ({}): {}", shard.streamKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 샤드의 그룹 Lag, 유입/소비 속도, 소진 예상 시간, 스케일링 신호 갱신
+     *
+     * @param nowMs 현재 시각 (밀리초)
+     */
+    void collectLag(long nowMs) {
+        for (String streamKey : streamShards.keys()) {
+            collectLag(shard(streamKey), nowMs);
         }
     }
 
-    private void collectStreamLength() {
+    private void collectLag(ShardLag shard, long nowMs) {
         try {
-            Long length = redisTemplate.opsForStream().size(streamKey);
-            streamLength.set(length != null ? length : 0L);
-            log.debug("[LagMonitor] stream.length={}", streamLength.get());
+            XInfoGroup group = findGroup(shard.streamKey);
+            if (group == null) {
+                log.debug("[LagMonitor] consumer group {} 없음 ({})", consumerGroup, shard.streamKey);
+                return;
+            }
+
+            XInfoStream stream = redisTemplate.opsForStream().info(shard.streamKey);
+            Long entriesAdded = (stream != null) ? rawLong(stream.getRaw(), "entries-added") : null;
+            Long entriesRead = rawLong(group.getRaw(), "entries-read");
+            Long groupLag = rawLong(group.getRaw(), "lag");
+            if (groupLag == null && entriesAdded != null && entriesRead != null) {
+                // XDEL 등으로 Redis가 lag를 계산할 수 없는 경우 누적 카운터 차이로 근사
+                groupLag = Math.max(0L, entriesAdded - entriesRead);
+            }
+
+            if (groupLag != null) {
+                shard.lag.set(groupLag);
+                shard.lagSeconds =
+                        (groupLag > 0) ? oldestUndeliveredAgeSeconds(shard, group, nowMs) : 0;
+            }
+
+            if (entriesAdded != null && entriesRead != null) {
+                updateRates(shard, new Sample(nowMs, entriesAdded, entriesRead));
+            }
+
+            updateDerived(shard);
+            log.debug(
+                    "[LagMonitor] {} lag={}, lagSeconds={}, ingest={}/s, consume={}/s, eta={}s",
+                    shard.streamKey,
+                    shard.lag.get(),
+                    String.format("%.1f", shard.lagSeconds),
+                    String.format("%.1f", shard.ingestRate),
+                    String.format("%.1f", shard.consumeRate),
+                    String.format("%.1f", shard.drainEtaSeconds));
         } catch (Exception e) {
-            log.warn("[LagMonitor] stream length 조회 실패: {}", e.getMessage());
+            log.warn("[LagMonitor] group lag 조회 실패 ({}): {}", shard.streamKey, e.getMessage());
+        }
+    }
+
+    private XInfoGroup findGroup(String streamKey) {
+        XInfoGroups groups = redisTemplate.opsForStream().groups(streamKey);
+        if (groups == null) {
+            return null;
+        }
+        return groups.stream()
+                .filter(group -> consumerGroup.equals(group.groupName()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * 마지막 전달 ID 다음 메시지(가장 오래된 미전달 메시지)의 경과 시간
+     *
+     * <p>Stream ID의 시각은 Redis 서버 시계 기준이므로 인스턴스와의 시계 차이만큼 오차가 있을 수 있음
+     */
+    private double oldestUndeliveredAgeSeconds(ShardLag shard, XInfoGroup group, long nowMs) {
+        String lastDelivered = group.lastDeliveredId();
+        Range<String> range =
+                (lastDelivered == null || "0-0".equals(lastDelivered))
+                        ? Range.unbounded()
+                        : Range.rightUnbounded(Range.Bound.exclusive(lastDelivered));
+
+        List<MapRecord<String, Object, Object>> oldest =
+                redisTemplate
+                        .opsForStream()
+                        .range(shard.streamKey, range, Limit.limit().count(1));
+        if (oldest == null || oldest.isEmpty()) {
+            return 0;
+        }
+
+        RecordId id = oldest.get(0).getId();
+        return Math.max(0L, nowMs - id.getTimestamp()) / 1000.0;
+    }
+
+    /** 윈도우 안의 가장 오래된 샘플과 최신 샘플의 누적 카운터 차이로 초당 속도 계산 */
+    private void updateRates(ShardLag shard, Sample latest) {
+        Deque<Sample> samples = shard.samples;
+        samples.addLast(latest);
+        // 샘플이 둘뿐이면 윈도우를 벗어나도 유지 (수집 주기가 윈도우보다 긴 경우)
+        while (samples.size() > 2
+                && latest.timeMs() - samples.peekFirst().timeMs() > rateWindowMs) {
+            samples.pollFirst();
+        }
+
+        Sample first = samples.peekFirst();
+        double elapsedSeconds = (latest.timeMs() - first.timeMs()) / 1000.0;
+        if (elapsedSeconds <= 0) {
+            return;
+        }
+
+        shard.ingestRate =
+                Math.max(0L, latest.entriesAdded() - first.entriesAdded()) / elapsedSeconds;
+        shard.consumeRate =
+                Math.max(0L, latest.entriesRead() - first.entriesRead()) / elapsedSeconds;
+    }
+
+    private void updateDerived(ShardLag shard) {
+        long currentLag = shard.lag.get();
+
+        if (currentLag == 0) {
+            shard.drainEtaSeconds = 0;
+        } else {
+            double netRate = shard.consumeRate - shard.ingestRate;
+            shard.drainEtaSeconds = (netRate > 0) ? currentLag / netRate : -1;
+        }
+
+        // 유입을 따라가면서 남은 Lag를 목표 시간 안에 소진하는 데 필요한 소비 속도
+        double requiredRate = shard.ingestRate + (double) currentLag / targetDrainSeconds;
+        if (requiredRate <= 0) {
+            shard.scalingRatio = 0;
+        } else if (shard.consumeRate <= 0) {
+            shard.scalingRatio = maxScaleRatio;
+        } else {
+            shard.scalingRatio = Math.min(maxScaleRatio, requiredRate / shard.consumeRate);
+        }
+    }
+
+    /** 전체 샤드 Lag 합계 */
+    public long getLag() {
+        return shards.values().stream().mapToLong(shard -> shard.lag.get()).sum();
+    }
+
+    /** 가장 뒤처진 샤드의 Lag (초) */
+    public double getLagSeconds() {
+        return shards.values().stream().mapToDouble(shard -> shard.lagSeconds).max().orElse(0);
+    }
+
+    /** 전체 샤드 유입 속도 합계 */
+    public double getIngestRate() {
+        return shards.values().stream().mapToDouble(shard -> shard.ingestRate).sum();
+    }
+
+    /** 전체 샤드 소비 속도 합계 */
+    public double getConsumeRate() {
+        return shards.values().stream().mapToDouble(shard -> shard.consumeRate).sum();
+    }
+
+    /** 가장 늦게 소진되는 샤드의 예상 시간 (한 샤드라도 줄어들지 않으면 -1) */
+    public double getDrainEtaSeconds() {
+        double eta = 0;
+        for (ShardLag shard : shards.values()) {
+            if (shard.drainEtaSeconds < 0) {
+                return -1;
+            }
+            eta = Math.max(eta, shard.drainEtaSeconds);
+        }
+        return eta;
+    }
+
+    /** 샤드별 스케일링 신호의 최댓값 */
+    public double getScalingRatio() {
+        return shards.values().stream().mapToDouble(shard -> shard.scalingRatio).max().orElse(0);
+    }
+
+    /**
+     * XINFO 응답의 숫자 항목 조회 (Redis 7 미만이거나 계산 불가로 nil이면 null)
+     *
+     * <p>lag, entries-read, entries-added는 Spring Data Redis 접근자가 없어 원본 응답에서 읽음
+     */
+    private static Long rawLong(Map<String, Object> raw, String key) {
+        if (raw == null) {
+            return null;
+        }
+
+        Object value = raw.get(key);
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof byte[] bytes) {
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        if (value instanceof String text) {
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private record Sample(long timeMs, long entriesAdded, long entriesRead) {}
+
+    /** 샤드별 수집 상태 (수집은 스케줄러 스레드 하나에서만 수행) */
+    private static final class ShardLag {
+
+        private final String streamKey;
+        private final AtomicLong pendingCount = new AtomicLong(0);
+        private final AtomicLong streamLength = new AtomicLong(0);
+        private final AtomicLong lag = new AtomicLong(0);
+        private final Deque<Sample> samples = new ArrayDeque<>();
+
+        private volatile double lagSeconds = 0;
+        private volatile double ingestRate = 0;
+        private volatile double consumeRate = 0;
+        private volatile double drainEtaSeconds = 0;
+        private volatile double scalingRatio = 0;
+
+        private ShardLag(String streamKey) {
+            this.streamKey = streamKey;
         }
     }
 }
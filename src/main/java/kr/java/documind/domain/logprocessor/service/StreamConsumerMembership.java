@@ -0,0 +1,302 @@
+package kr.java.documind.domain.logprocessor.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumers;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Stream Consumer 그룹 멤버십 관리
+ *
+ * <p>인스턴스마다 고유 ID({@code <prefix>-<hostname>-<random>})를 만들고, 소비 루프와 회수기는 이 ID로 시작하는 Consumer 이름을
+ * 사용. 여러 Pod가 같은 Consumer 이름을 공유하여 PEL이 섞이는 것을 막음
+ *
+ * <p>인스턴스는 Redis Hash({@code <stream>:members:<group>})에 주기적으로 하트비트를 기록하며, 하트비트가 끊긴 인스턴스의
+ * Consumer는 {@link PendingEntryReclaimer}가 PEL을 회수한 뒤 그룹에서 제거. 하트비트는 전용 스레드에서 기록하므로 오래 걸리는
+ * 스케줄 작업(flush 등)이 공용 스케줄러를 점유해도 살아 있는 인스턴스가 만료로 판단되지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamConsumerMembership {
+
+    private static final String RECLAIMER_SUFFIX = "reclaimer";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${redis.stream.key}")
+    private String streamKey;
+
+    @Value("${redis.stream.group}")
+    private String consumerGroup;
+
+    @Value("${redis.stream.consumer}")
+    private String consumerPrefix;
+
+    @Value("${redis.stream.instance-id}")
+    private String configuredInstanceId;
+
+    @Value("${worker.membership.heartbeat-interval-ms}")
+    private long heartbeatIntervalMs;
+
+    @Value("${worker.membership.stale-after-ms}")
+    private long staleAfterMs;
+
+    private String instanceId;
+
+    private ScheduledExecutorService heartbeatExecutor;
+
+    @PostConstruct
+    public void init() {
+        if (heartbeatIntervalMs <= 0) {
+            log.warn("Invalid heartbeat interval: {}. Resetting to 5000.", heartbeatIntervalMs);
+            heartbeatIntervalMs = 5000;
+        }
+
+        instanceId =
+                (configuredInstanceId != null && !configuredInstanceId.isBlank())
+                        ? configuredInstanceId
+                        : consumerPrefix + "-" + hostname() + "-" + randomSuffix();
+        heartbeat();
+
+        CustomizableThreadFactory threadFactory =
+                new CustomizableThreadFactory("stream-membership-");
+        threadFactory.setDaemon(true);
+        heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        heartbeatExecutor.scheduleWithFixedDelay(
+                this::heartbeat, heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+
+        log.info(
+                "[Membership] Registered stream instance '{}' (group={})",
+                instanceId,
+                consumerGroup);
+    }
+
+    /** 하트비트 기록 */
+    public void heartbeat() {
+        try {
+            redisTemplate
+                    .opsForHash()
+                    .put(membersKey(), instanceId, String.valueOf(System.currentTimeMillis()));
+        } catch (Exception e) {
+            log.warn("[Membership] 하트비트 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    /** 정상 종료 시 멤버십 해제 (남은 PEL은 다른 인스턴스가 회수) */
+    @PreDestroy
+    public void leave() {
+        if (heartbeatExecutor != null) {
+            heartbeatExecutor.shutdownNow();
+        }
+
+        try {
+            redisTemplate.opsForHash().delete(membersKey(), instanceId);
+            log.info("[Membership] Left stream group (instance={})", instanceId);
+        } catch (Exception e) {
+            log.warn("[Membership] 멤버십 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * 소비 루프용 Consumer 이름
+     *
+     * @param index 루프 번호
+     * @return {@code <instanceId>-<index>}
+     */
+    public String consumerName(int index) {
+        return instanceId + "-" + index;
+    }
+
+    /** PEL 회수기가 회수한 메시지를 소유할 Consumer 이름 */
+    public String reclaimerName() {
+        return instanceId + "-" + RECLAIMER_SUFFIX;
+    }
+
+    /**
+     * 하트비트가 유효한 인스턴스 ID 목록
+     *
+     * @return 살아 있는 인스턴스 ID
+     */
+    public Set<String> liveInstances() {
+        Set<String> live = new HashSet<>();
+        for (Member member : members()) {
+            if (member.live()) {
+                live.add(member.instanceId());
+            }
+        }
+        live.add(instanceId);
+        return live;
+    }
+
+    /**
+     * Consumer가 살아 있는 인스턴스 소속인지 확인
+     *
+     * @param consumerName Consumer 이름
+     * @param liveInstances {@link #liveInstances()} 결과
+     * @return 살아 있는 인스턴스의 Consumer면 true (하트비트가 없는 이전 방식의 이름은 false)
+     */
+    public boolean isOwnedByLiveInstance(String consumerName, Set<String> liveInstances) {
+        for (String live : liveInstances) {
+            if (isConsumerOf(consumerName, live)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Consumer 이름이 인스턴스의 {@link #consumerName(int)} 또는 {@link #reclaimerName()} 형식인지 확인
+     *
+     * <p>접두어만 비교하면 "worker"가 "worker-a"의 Consumer까지 소유한 것으로 보이므로 나머지 부분이 루프 번호 또는 회수기
+     * 접미사와 정확히 일치해야 함
+     *
+     * @param consumerName Consumer 이름
+     * @param instanceId 인스턴스 ID
+     * @return 인스턴스의 Consumer면 true
+     */
+    static boolean isConsumerOf(String consumerName, String instanceId) {
+        int prefixLength = instanceId.length() + 1;
+        if (consumerName.length() <= prefixLength
+                || !consumerName.startsWith(instanceId)
+                || consumerName.charAt(instanceId.length()) != '-') {
+            return false;
+        }
+
+        String suffix = consumerName.substring(prefixLength);
+        if (suffix.equals(RECLAIMER_SUFFIX)) {
+            return true;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (!Character.isDigit(suffix.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 샤드 Stream의 그룹 Consumer 목록 (XINFO CONSUMERS)
+     *
+     * @param streamKey 샤드 Stream 키
+     * @return Consumer별 PEL 크기와 idle 시간
+     */
+    public List<GroupConsumer> groupConsumers(String streamKey) {
+        XInfoConsumers consumers =
+                redisTemplate.opsForStream().consumers(streamKey, consumerGroup);
+        if (consumers == null) {
+            return List.of();
+        }
+        return consumers.stream()
+                .map(c -> new GroupConsumer(c.consumerName(), c.pendingCount(), c.idleTimeMs()))
+                .toList();
+    }
+
+    /**
+     * 샤드 Stream의 그룹에서 Consumer 제거 (XGROUP DELCONSUMER)
+     *
+     * <p>남은 PEL이 함께 삭제되므로 회수가 끝난 Consumer에만 호출해야 함
+     *
+     * @param streamKey 샤드 Stream 키
+     * @param consumerName 제거할 Consumer 이름
+     */
+    public void removeConsumer(String streamKey, String consumerName) {
+        redisTemplate
+                .opsForStream()
+                .deleteConsumer(streamKey, Consumer.from(consumerGroup, consumerName));
+        log.info(
+                "[Membership] Removed stale consumer '{}' from group {} on {}",
+                consumerName,
+                consumerGroup,
+                streamKey);
+    }
+
+    /**
+     * 소속 Consumer가 모두 제거된 만료 인스턴스의 하트비트 정리
+     *
+     * @param remainingConsumers 그룹에 남아 있는 Consumer 이름
+     */
+    public void pruneStaleMembers(Set<String> remainingConsumers) {
+        for (Member member : members()) {
+            if (member.live()) {
+                continue;
+            }
+            boolean hasConsumers =
+                    remainingConsumers.stream()
+                            .anyMatch(name -> isConsumerOf(name, member.instanceId()));
+            if (!hasConsumers) {
+                redisTemplate.opsForHash().delete(membersKey(), member.instanceId());
+                log.info("[Membership] Pruned stale instance '{}'", member.instanceId());
+            }
+        }
+    }
+
+    /**
+     * 등록된 인스턴스 목록
+     *
+     * @return 인스턴스별 마지막 하트비트
+     */
+    public List<Member> members() {
+        long now = System.currentTimeMillis();
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(membersKey());
+        List<Member> members = new ArrayList<>(entries.size());
+        entries.forEach(
+                (id, heartbeat) -> {
+                    long lastHeartbeat = parseLong(String.valueOf(heartbeat));
+                    long age = now - lastHeartbeat;
+                    members.add(
+                            new Member(String.valueOf(id), lastHeartbeat, age, age < staleAfterMs));
+                });
+        return members;
+    }
+
+    private String membersKey() {
+        return streamKey + ":members:" + consumerGroup;
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static String hostname() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown-host";
+        }
+    }
+
+    private static String randomSuffix() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /** 등록된 인스턴스 (마지막 하트비트 기준) */
+    public record Member(String instanceId, long lastHeartbeatMs, long ageMs, boolean live) {}
+
+    /** Consumer 그룹 멤버 (XINFO CONSUMERS) */
+    public record GroupConsumer(String name, long pending, long idleMs) {}
+}
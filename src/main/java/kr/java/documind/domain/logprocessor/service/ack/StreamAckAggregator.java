@@ -0,0 +1,281 @@
+package kr.java.documind.domain.logprocessor.service.ack;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Redis Stream XACK 집계기
+ *
+ * <p>flush, DLQ 재처리, 파싱 실패 등 모든 경로의 ACK 대상 RecordId를 모아 짧은 주기 또는 크기 임계값마다 파이프라인으로 전송. 호출 스레드(소비
+ * 루프, flush Executor)는 Redis 왕복을 기다리지 않음
+ *
+ * <p>ACK 순서 보장: RecordId는 DB 저장이 끝난 뒤에만 등록되며, 트랜잭션 안에서 등록하면 커밋 후에 큐에 들어감. 전송 실패 시 다음 주기에 다시
+ * 시도하므로 ACK가 커밋보다 먼저 나가는 일은 없고, 최악의 경우 중복 처리(at-least-once)만 발생
+ *
+ * <p>Stream이 샤딩되어 있으면 메시지를 읽은 샤드 키로 ACK해야 하므로 RecordId를 키와 함께 보관하고 전송 시 키별로 묶음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamAckAggregator {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentLinkedQueue<PendingAck> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final Object sendLock = new Object();
+
+    private ScheduledExecutorService ackExecutor;
+    private Counter ackedCounter;
+    private Counter failedCounter;
+
+    @Value("${redis.stream.key}")
+    private String streamKey;
+
+    @Value("${redis.stream.group}")
+    private String consumerGroup;
+
+    @Value("${worker.ack.batch-size}")
+    private int batchSize;
+
+    @Value("${worker.ack.flush-interval-ms}")
+    private long flushIntervalMs;
+
+    @PostConstruct
+    public void init() {
+        if (batchSize <= 0) {
+            log.warn("Invalid ACK batch size: {}. Resetting to 500.", batchSize);
+            batchSize = 500;
+        }
+
+        if (flushIntervalMs <= 0) {
+            log.warn("Invalid ACK flush interval: {}. Resetting to 20.", flushIntervalMs);
+            flushIntervalMs = 20;
+        }
+
+        ackedCounter = meterRegistry.counter("redis.stream.ack.sent");
+        failedCounter = meterRegistry.counter("redis.stream.ack.failed");
+        Gauge.builder("redis.stream.ack.pending", pendingCount, AtomicInteger::get)
+                .description("전송 대기 중인 XACK 수")
+                .register(meterRegistry);
+
+        ackExecutor =
+                Executors.newSingleThreadScheduledExecutor(
+                        new CustomizableThreadFactory("stream-ack-"));
+        ackExecutor.scheduleWithFixedDelay(
+                this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /** 종료 시 남은 ACK 전송 */
+    @PreDestroy
+    public void shutdown() {
+        if (ackExecutor != null) {
+            ackExecutor.shutdown();
+            try {
+                if (!ackExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    ackExecutor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                ackExecutor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushQuietly();
+    }
+
+    /**
+     * ACK 등록
+     *
+     * @param recordId ACK할 메시지 ID (null이면 무시)
+     */
+    public void acknowledge(RecordId recordId) {
+        if (recordId != null) {
+            acknowledge(List.of(recordId));
+        }
+    }
+
+    /**
+     * 샤드 Stream ACK 등록
+     *
+     * @param streamKey 메시지를 읽은 Stream 키 (null이면 기본 키)
+     * @param recordId ACK할 메시지 ID (null이면 무시)
+     */
+    public void acknowledge(String streamKey, RecordId recordId) {
+        if (recordId != null) {
+            acknowledge(streamKey, List.of(recordId));
+        }
+    }
+
+    /**
+     * 기본 Stream 키로 ACK 일괄 등록
+     *
+     * @param recordIds ACK할 메시지 ID 목록 (null 요소는 무시)
+     */
+    public void acknowledge(List<RecordId> recordIds) {
+        acknowledge(null, recordIds);
+    }
+
+    /**
+     * ACK 일괄 등록
+     *
+     * <p>트랜잭션 동기화가 활성화되어 있으면 커밋 후에 등록 (롤백 시 ACK하지 않음)
+     *
+     * @param streamKey 메시지를 읽은 Stream 키 (null이면 기본 키)
+     * @param recordIds ACK할 메시지 ID 목록 (null 요소는 무시)
+     */
+    public void acknowledge(String streamKey, List<RecordId> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+
+        String key = (streamKey != null) ? streamKey : this.streamKey;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<RecordId> deferred = new ArrayList<>(recordIds);
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            enqueue(key, deferred);
+                        }
+                    });
+            return;
+        }
+
+        enqueue(key, recordIds);
+    }
+
+    /**
+     * 대기 중인 ACK를 파이프라인으로 전송
+     *
+     * <p>전송에 실패하면 다음 주기에 다시 시도하도록 큐에 되돌림
+     *
+     * @return 전송한 ACK 수
+     */
+    public int flush() {
+        synchronized (sendLock) {
+            List<PendingAck> drained = new ArrayList<>();
+            PendingAck ack;
+            while ((ack = pending.poll()) != null) {
+                drained.add(ack);
+            }
+            if (drained.isEmpty()) {
+                return 0;
+            }
+            pendingCount.addAndGet(-drained.size());
+
+            try {
+                send(drained);
+                ackedCounter.increment(drained.size());
+                log.debug("[ACK] Sent {} acknowledgements", drained.size());
+                return drained.size();
+            } catch (Exception e) {
+                pending.addAll(drained);
+                pendingCount.addAndGet(drained.size());
+                failedCounter.increment();
+                log.warn(
+                        "[ACK] Failed to send {} acknowledgements. Will retry: {}",
+                        drained.size(),
+                        e.getMessage());
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 전송 대기 중인 ACK 수
+     *
+     * @return 대기 중인 RecordId 수
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    private void enqueue(String streamKey, List<RecordId> recordIds) {
+        int added = 0;
+        for (RecordId recordId : recordIds) {
+            if (recordId != null) {
+                pending.add(new PendingAck(streamKey, recordId));
+                added++;
+            }
+        }
+
+        // 크기 임계값 도달 시 주기를 기다리지 않고 전송 요청 (대기 중인 요청은 1개로 합침)
+        if (pendingCount.addAndGet(added) >= batchSize
+                && flushRequested.compareAndSet(false, true)) {
+            try {
+                ackExecutor.execute(
+                        () -> {
+                            flushRequested.set(false);
+                            flushQuietly();
+                        });
+            } catch (RejectedExecutionException e) {
+                // 종료 중에는 shutdown()의 마지막 전송에 맡김
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    /** Stream 키별 batchSize 단위 XACK를 하나의 파이프라인으로 전송 */
+    private void send(List<PendingAck> acks) {
+        Map<String, List<RecordId>> byKey = new LinkedHashMap<>();
+        for (PendingAck ack : acks) {
+            byKey.computeIfAbsent(ack.streamKey(), k -> new ArrayList<>()).add(ack.recordId());
+        }
+
+        redisTemplate.executePipelined(
+                (RedisCallback<Object>)
+                        connection -> {
+                            byKey.forEach((streamKey, ids) -> xAck(connection, streamKey, ids));
+                            return null;
+                        });
+    }
+
+    private void xAck(RedisConnection connection, String streamKey, List<RecordId> recordIds) {
+        byte[] key = streamKey.getBytes(StandardCharsets.UTF_8);
+        for (int from = 0; from < recordIds.size(); from += batchSize) {
+            List<RecordId> chunk =
+                    recordIds.subList(from, Math.min(from + batchSize, recordIds.size()));
+            connection.streamCommands().xAck(key, consumerGroup, chunk.toArray(new RecordId[0]));
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("[ACK] Unexpected error while flushing acknowledgements", e);
+        }
+    }
+
+    /** 전송 대기 중인 ACK (Stream 키 + 메시지 ID) */
+    private record PendingAck(String streamKey, RecordId recordId) {}
+}
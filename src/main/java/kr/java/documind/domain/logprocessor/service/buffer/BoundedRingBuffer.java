@@ -0,0 +1,127 @@
+package kr.java.documind.domain.logprocessor.service.buffer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free 다중 생산자/다중 소비자 고정 크기 링 버퍼
+ *
+ * <p>슬롯 배열을 생성 시점에 미리 할당하고 슬롯별 시퀀스 번호로 생산자/소비자 간 순서를 맞춤 (Vyukov bounded MPMC queue).
+ * {@code ConcurrentLinkedQueue}와 달리 삽입 시 노드를 할당하지 않으며, 점유 크기를 head/tail 카운터 차이로 O(1)에 계산
+ *
+ * @param <E> 원소 타입
+ */
+public class BoundedRingBuffer<E> {
+
+    private final int capacity;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong(0);
+    private final AtomicLong tail = new AtomicLong(0);
+
+    public BoundedRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 원소 삽입
+     *
+     * @param element 삽입할 원소 (null 불가)
+     * @return 버퍼가 가득 차 삽입하지 못한 경우 false
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element must not be null");
+        }
+
+        long pos = tail.get();
+        int index;
+        while (true) {
+            index = indexOf(pos);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    break;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                // 소비자가 아직 비우지 않은 슬롯 → 가득 참
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+
+        slots.set(index, element);
+        sequences.set(index, pos + 1);
+        return true;
+    }
+
+    /**
+     * 가장 오래된 원소 추출
+     *
+     * @return 추출한 원소 (비어 있으면 null)
+     */
+    public E poll() {
+        long pos = head.get();
+        int index;
+        while (true) {
+            index = indexOf(pos);
+            long diff = sequences.get(index) - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    break;
+                }
+                pos = head.get();
+            } else if (diff < 0) {
+                // 생산자가 아직 채우지 않은 슬롯 → 비어 있음
+                return null;
+            } else {
+                pos = head.get();
+            }
+        }
+
+        E element = slots.get(index);
+        slots.set(index, null);
+        sequences.set(index, pos + capacity);
+        return element;
+    }
+
+    /**
+     * 현재 점유 크기 (O(1))
+     *
+     * <p>동시 삽입/추출 중에는 근사값이며 항상 0 이상 capacity 이하로 보정
+     *
+     * @return 점유 중인 슬롯 수
+     */
+    public int size() {
+        long currentHead = head.get();
+        long currentTail = tail.get();
+        long size = currentTail - currentHead;
+        if (size < 0) {
+            return 0;
+        }
+        return (int) Math.min(size, capacity);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private int indexOf(long pos) {
+        return (int) (pos % capacity);
+    }
+}
@@ -0,0 +1,198 @@
+package kr.java.documind.domain.logprocessor.service.buffer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.java.documind.domain.logprocessor.model.dto.LogWrapper;
+import kr.java.documind.domain.logprocessor.model.enums.LogSeverity;
+
+/**
+ * projectId 해시로 분할된 로그 버퍼 스트라이프
+ *
+ * <p>스트라이프마다 독립된 링 버퍼와 flush 진행 상태를 가지므로, 한 스트라이프의 느린 배치가 다른 스트라이프의 flush를 막지 않음
+ *
+ * <p>스트라이프 안에서는 심각도별 lock-free 링 버퍼 레인으로 나누고, 레인 전체 점유 크기는 공유 카운터 하나로 제한. 가득 찬 상태에서 더 높은
+ * 심각도의 로그가 들어오면 가장 낮은 심각도 레인의 가장 오래된 로그를 밀어내고 삽입
+ *
+ * <p>추출은 심각도별 가중치 라운드 로빈으로 레인을 고르므로 높은 심각도를 우선하면서도 낮은 심각도 레인이 굶지 않음
+ */
+public class LogBufferStripe {
+
+    private static final LogSeverity[] SEVERITIES = LogSeverity.values();
+
+    // 레인(LogSeverity ordinal 순, TRACE → FATAL)별 추출 가중치
+    private static final int[] DRAIN_WEIGHTS = {1, 2, 4, 8, 16, 32};
+
+    // 가중치를 고르게 섞은 추출 순서 (smooth weighted round robin)
+    private static final int[] DRAIN_SCHEDULE = buildDrainSchedule();
+
+    private final int index;
+    private final int capacity;
+
+    // LogSeverity ordinal 순 (TRACE → FATAL). 한 심각도만 들어와도 스트라이프를 채울 수 있도록 각 레인은 스트라이프 용량만큼 할당
+    private final List<BoundedRingBuffer<LogWrapper>> lanes;
+
+    // 레인 전체 점유 크기 (삽입 전에 CAS로 예약하여 용량 초과 방지)
+    private final AtomicInteger size = new AtomicInteger(0);
+
+    private final AtomicInteger drainCursor = new AtomicInteger(0);
+
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    public LogBufferStripe(int index, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.index = index;
+        this.capacity = capacity;
+
+        List<BoundedRingBuffer<LogWrapper>> created = new ArrayList<>(SEVERITIES.length);
+        for (int i = 0; i < SEVERITIES.length; i++) {
+            created.add(new BoundedRingBuffer<>(capacity));
+        }
+        this.lanes = List.copyOf(created);
+    }
+
+    /**
+     * 로그 삽입 (가득 찬 경우 심각도 기반 축출)
+     *
+     * @param wrapper 삽입할 로그
+     * @return 버려진 로그. 여유가 있어 그대로 삽입했으면 null, 더 낮은 심각도 로그를 밀어냈으면 밀려난 로그, 밀어낼 로그가 없으면
+     *     wrapper 자신
+     */
+    public LogWrapper offer(LogWrapper wrapper) {
+        int lane = laneOf(wrapper);
+
+        if (tryReserve()) {
+            lanes.get(lane).offer(wrapper);
+            return null;
+        }
+
+        // 낮은 심각도 레인부터 가장 오래된 로그를 하나 밀어내고 그 자리를 넘겨받음 (점유 크기 변화 없음).
+        // 레인 점유 합은 예약 카운터를 넘지 않으므로 밀어낸 직후 대상 레인에는 항상 빈 슬롯이 있음
+        for (int i = 0; i < lane; i++) {
+            LogWrapper evicted = lanes.get(i).poll();
+            if (evicted != null) {
+                lanes.get(lane).offer(wrapper);
+                return evicted;
+            }
+        }
+        return wrapper;
+    }
+
+    /**
+     * 가중치 순서에 따라 고른 레인의 가장 오래된 로그 추출
+     *
+     * <p>순서상 레인이 비어 있으면 가장 높은 심각도 레인에서 꺼냄
+     *
+     * @return 추출한 로그 (비어 있으면 null)
+     */
+    public LogWrapper poll() {
+        int turn = Math.floorMod(drainCursor.getAndIncrement(), DRAIN_SCHEDULE.length);
+        LogWrapper wrapper = lanes.get(DRAIN_SCHEDULE[turn]).poll();
+        for (int i = lanes.size() - 1; wrapper == null && i >= 0; i--) {
+            wrapper = lanes.get(i).poll();
+        }
+        if (wrapper != null) {
+            size.decrementAndGet();
+        }
+        return wrapper;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * 심각도별 점유 크기
+     *
+     * @param severity 로그 심각도
+     * @return 해당 레인에 적재된 로그 수
+     */
+    public int size(LogSeverity severity) {
+        return lanes.get(severity.ordinal()).size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    /**
+     * flush 시작 권한 획득
+     *
+     * @return 다른 스레드가 이미 이 스트라이프를 flush 중이면 false
+     */
+    public boolean tryStartFlush() {
+        return flushing.compareAndSet(false, true);
+    }
+
+    public void finishFlush() {
+        flushing.set(false);
+    }
+
+    public boolean isFlushing() {
+        return flushing.get();
+    }
+
+    /**
+     * 비동기 flush 요청 등록
+     *
+     * <p>이미 대기 중인 요청이 있으면 false를 반환하여 같은 스트라이프에 대한 중복 제출을 막음
+     *
+     * @return 새 요청을 등록했으면 true
+     */
+    public boolean tryRequestFlush() {
+        return flushRequested.compareAndSet(false, true);
+    }
+
+    public void clearFlushRequest() {
+        flushRequested.set(false);
+    }
+
+    private boolean tryReserve() {
+        while (true) {
+            int current = size.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // 심각도가 없는 로그는 INFO 레인
+    private static int laneOf(LogWrapper wrapper) {
+        LogSeverity severity = wrapper.log().getSeverity();
+        return (severity != null) ? severity.ordinal() : LogSeverity.INFO.ordinal();
+    }
+
+    private static int[] buildDrainSchedule() {
+        int total = Arrays.stream(DRAIN_WEIGHTS).sum();
+        int[] schedule = new int[total];
+        int[] current = new int[DRAIN_WEIGHTS.length];
+        for (int k = 0; k < total; k++) {
+            int selected = 0;
+            for (int lane = 0; lane < DRAIN_WEIGHTS.length; lane++) {
+                current[lane] += DRAIN_WEIGHTS[lane];
+                if (current[lane] >= current[selected]) {
+                    selected = lane;
+                }
+            }
+            current[selected] -= total;
+            schedule[k] = selected;
+        }
+        return schedule;
+    }
+}
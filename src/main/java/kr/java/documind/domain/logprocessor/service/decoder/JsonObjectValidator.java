@@ -0,0 +1,49 @@
+package kr.java.documind.domain.logprocessor.service.decoder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * resource/attributes JSON 객체 문법 검증
+ *
+ * <p>Map이나 트리를 만들지 않고 토큰 스트림만 확인
+ */
+public final class JsonObjectValidator {
+
+    private JsonObjectValidator() {}
+
+    /**
+     * UTF-8 바이트 JSON 객체 검증
+     *
+     * @param factory Jackson 파서 팩토리
+     * @param json 검증할 JSON 바이트
+     * @param field 필드명 (오류 메시지용)
+     * @throws JsonProcessingException JSON 객체가 아니거나 문법 오류가 있는 경우
+     */
+    public static void requireJsonObject(JsonFactory factory, byte[] json, String field)
+            throws JsonProcessingException {
+        try (JsonParser parser = factory.createParser(json)) {
+            requireSingleObject(parser, field);
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            // 메모리 입력이므로 I/O 오류는 발생하지 않음
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void requireSingleObject(JsonParser parser, String field) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, field + " must be a JSON object");
+        }
+        parser.skipChildren();
+        if (parser.nextToken() != null) {
+            throw new JsonParseException(parser, field + " has trailing content");
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package kr.java.documind.domain.logprocessor.service.decoder;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Stream 필드 바이트 파서
+ *
+ * <p>표준 형식(소문자/대문자 hex UUID, yyyy-MM-ddTHH:mm:ss[.fraction](Z|±HH:mm))은 String을 만들지 않고 바이트에서 바로
+ * 변환. 그 외 형식은 호출 측에서 JDK 파서로 처리
+ */
+final class StreamFieldParsers {
+
+    private static final int UUID_LENGTH = 36;
+
+    // yyyy-MM-ddTHH:mm:ss
+    private static final int DATE_TIME_LENGTH = 19;
+
+    private StreamFieldParsers() {}
+
+    /**
+     * UUID 파싱
+     *
+     * @param bytes ASCII UUID
+     * @return 표준 36자 형식이 아니면 null
+     */
+    static UUID parseUuid(byte[] bytes) {
+        if (bytes.length != UUID_LENGTH
+                || bytes[8] != '-'
+                || bytes[13] != '-'
+                || bytes[18] != '-'
+                || bytes[23] != '-') {
+            return null;
+        }
+
+        long msb = 0;
+        long lsb = 0;
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                continue;
+            }
+            int digit = hex(bytes[i]);
+            if (digit < 0) {
+                return null;
+            }
+            if (i < 19) {
+                msb = (msb << 4) | digit;
+            } else {
+                lsb = (lsb << 4) | digit;
+            }
+        }
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * ISO-8601 오프셋 시각 파싱
+     *
+     * @param bytes ASCII 시각 문자열
+     * @return 빠른 경로 형식이 아니면 null
+     * @throws java.time.DateTimeException 형식은 맞지만 날짜/시각 값이 범위를 벗어난 경우
+     */
+    static OffsetDateTime parseOffsetDateTime(byte[] bytes) {
+        int length = bytes.length;
+        if (length < DATE_TIME_LENGTH + 1
+                || bytes[4] != '-'
+                || bytes[7] != '-'
+                || bytes[10] != 'T'
+                || bytes[13] != ':'
+                || bytes[16] != ':') {
+            return null;
+        }
+
+        int year = digits(bytes, 0, 4);
+        int month = digits(bytes, 5, 2);
+        int day = digits(bytes, 8, 2);
+        int hour = digits(bytes, 11, 2);
+        int minute = digits(bytes, 14, 2);
+        int second = digits(bytes, 17, 2);
+        if ((year | month | day | hour | minute | second) < 0) {
+            return null;
+        }
+
+        // 소수 초 (1~9자리)
+        int pos = DATE_TIME_LENGTH;
+        int nanos = 0;
+        if (bytes[pos] == '.') {
+            int start = ++pos;
+            while (pos < length && isDigit(bytes[pos])) {
+                pos++;
+            }
+            int fractionDigits = pos - start;
+            if (fractionDigits == 0 || fractionDigits > 9) {
+                return null;
+            }
+            nanos = digits(bytes, start, fractionDigits);
+            for (int i = fractionDigits; i < 9; i++) {
+                nanos *= 10;
+            }
+        }
+
+        ZoneOffset offset = parseOffset(bytes, pos);
+        if (offset == null) {
+            return null;
+        }
+        return OffsetDateTime.of(year, month, day, hour, minute, second, nanos, offset);
+    }
+
+    /**
+     * 대소문자를 무시한 ASCII 비교
+     *
+     * @param bytes 비교할 바이트
+     * @param value 비교 대상 (ASCII)
+     * @return 같으면 true
+     */
+    static boolean equalsIgnoreCaseAscii(byte[] bytes, String value) {
+        if (bytes.length != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            int a = bytes[i];
+            int b = value.charAt(i);
+            if (a != b && toUpperAscii(a) != toUpperAscii(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Z 또는 ±HH:mm (문자열 끝까지 정확히 일치해야 함) */
+    private static ZoneOffset parseOffset(byte[] bytes, int pos) {
+        int remaining = bytes.length - pos;
+        if (remaining == 1 && bytes[pos] == 'Z') {
+            return ZoneOffset.UTC;
+        }
+        if (remaining != 6 || bytes[pos + 3] != ':') {
+            return null;
+        }
+
+        int sign;
+        if (bytes[pos] == '+') {
+            sign = 1;
+        } else if (bytes[pos] == '-') {
+            sign = -1;
+        } else {
+            return null;
+        }
+
+        int hours = digits(bytes, pos + 1, 2);
+        int minutes = digits(bytes, pos + 4, 2);
+        if ((hours | minutes) < 0) {
+            return null;
+        }
+        return ZoneOffset.ofHoursMinutes(sign * hours, sign * minutes);
+    }
+
+    /** 고정 길이 10진수 (숫자가 아니면 -1) */
+    private static int digits(byte[] bytes, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            if (!isDigit(bytes[i])) {
+                return -1;
+            }
+            value = value * 10 + (bytes[i] - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static int hex(byte b) {
+        if (b >= '0' && b <= '9') {
+            return b - '0';
+        }
+        if (b >= 'a' && b <= 'f') {
+            return b - 'a' + 10;
+        }
+        if (b >= 'A' && b <= 'F') {
+            return b - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static int toUpperAscii(int c) {
+        return (c >= 'a' && c <= 'z') ? c - ('a' - 'A') : c;
+    }
+}
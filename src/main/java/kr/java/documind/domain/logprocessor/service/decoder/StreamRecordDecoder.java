@@ -0,0 +1,238 @@
+package kr.java.documind.domain.logprocessor.service.decoder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import kr.java.documind.domain.issue.service.fingerprint.FingerprintGenerator;
+import kr.java.documind.domain.issue.service.fingerprint.FingerprintResult;
+import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+import kr.java.documind.domain.logprocessor.model.enums.EventCategory;
+import kr.java.documind.domain.logprocessor.model.enums.LogSeverity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Stream 메시지 바이트 디코더
+ *
+ * <p>XREADGROUP 결과의 필드/값 바이트를 String Map으로 역직렬화하지 않고 한 번 순회하며 GameLog로 변환. 필드 이름은 바이트 비교로
+ * 찾고, UUID와 ISO-8601 시각은 바이트에서 바로 파싱하며, 실제로 GameLog에 들어가는 값만 String으로 만듦
+ *
+ * <p>XREADGROUP으로 읽은 메시지와 PEL에서 XCLAIM으로 회수한 메시지 모두 이 디코더 하나로 변환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamRecordDecoder {
+
+    private static final int LOG_ID = 0;
+    private static final int PROJECT_ID = 1;
+    private static final int SESSION_ID = 2;
+    private static final int USER_ID = 3;
+    private static final int SEVERITY = 4;
+    private static final int EVENT_CATEGORY = 5;
+    private static final int ARCHIVE = 6;
+    private static final int OCCURRED_AT = 7;
+    private static final int INGESTED_AT = 8;
+    private static final int TRACE_ID = 9;
+    private static final int SPAN_ID = 10;
+    private static final int FINGERPRINT = 11;
+    private static final int RESOURCE = 12;
+    private static final int ATTRIBUTES = 13;
+    private static final int CREATED_AT = 14;
+    private static final int UPDATED_AT = 15;
+
+    // 인덱스 순서와 일치해야 함
+    private static final byte[][] FIELD_NAMES =
+            fieldNames(
+                    "logId",
+                    "projectId",
+                    "sessionId",
+                    "userId",
+                    "severity",
+                    "eventCategory",
+                    "archive",
+                    "occurredAt",
+                    "ingestedAt",
+                    "traceId",
+                    "spanId",
+                    "fingerprint",
+                    "resource",
+                    "attributes",
+                    "createdAt",
+                    "updatedAt");
+
+    private static final LogSeverity[] SEVERITIES = LogSeverity.values();
+    private static final EventCategory[] CATEGORIES = EventCategory.values();
+    private static final String EMPTY_JSON = "{}";
+
+    private final ObjectMapper objectMapper;
+    private final FingerprintGenerator fingerprintGenerator;
+
+    /**
+     * Stream 메시지를 GameLog로 변환
+     *
+     * @param record XREADGROUP/XCLAIM 원본 메시지
+     * @return 변환된 GameLog
+     * @throws JsonProcessingException resource/attributes가 JSON 객체가 아닌 경우
+     * @throws IllegalArgumentException 필수 필드가 없거나 UUID/enum 값이 잘못된 경우
+     */
+    public GameLog decode(ByteRecord record) throws JsonProcessingException {
+        byte[][] values = new byte[FIELD_NAMES.length][];
+        for (Map.Entry<byte[], byte[]> field : record.getValue().entrySet()) {
+            int index = fieldIndex(field.getKey());
+            if (index >= 0) {
+                values[index] = field.getValue();
+            }
+        }
+
+        if (values[PROJECT_ID] == null || values[ARCHIVE] == null) {
+            throw new IllegalArgumentException(
+                    "Missing required fields: projectId and archive are mandatory");
+        }
+
+        // logId 처리: null이거나 빈 값이면 새 UUID 생성
+        UUID logId = isEmpty(values[LOG_ID]) ? UUID.randomUUID() : uuid(values[LOG_ID]);
+
+        // sessionId 처리: NOT NULL 제약 때문에 null이면 기본값 제공
+        String sessionId = string(values[SESSION_ID]);
+        if (sessionId == null || sessionId.isEmpty()) {
+            sessionId = "unknown-session";
+            log.warn("sessionId is null or empty. Using default value: 'unknown-session'");
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        UUID projectId = uuid(values[PROJECT_ID]);
+        String archive = string(values[ARCHIVE]);
+        LogSeverity severity = severity(values[SEVERITY]);
+        EventCategory eventCategory = eventCategory(values[EVENT_CATEGORY]);
+
+        // fingerprint 처리: null이면 생성하고 결과(품질 포함)를 이슈 그룹핑까지 전달
+        String fingerprint = string(values[FINGERPRINT]);
+        FingerprintResult fingerprintResult = null;
+        if (fingerprint == null || fingerprint.isEmpty()) {
+            GameLog tempLog =
+                    GameLog.builder()
+                            .projectId(projectId)
+                            .archive(archive)
+                            .severity(severity)
+                            .eventCategory(eventCategory)
+                            .build();
+            fingerprintResult = fingerprintGenerator.generate(tempLog);
+            fingerprint = fingerprintResult.getFingerprint();
+            log.debug("Generated fingerprint for Redis Stream message: {}", fingerprint);
+        }
+
+        return GameLog.builder()
+                .logId(logId)
+                .projectId(projectId)
+                .sessionId(sessionId)
+                .userId(string(values[USER_ID]))
+                .severity(severity)
+                .eventCategory(eventCategory)
+                .archive(archive)
+                .occurredAt(time(values[OCCURRED_AT], now))
+                .ingestedAt(time(values[INGESTED_AT], now))
+                .traceId(string(values[TRACE_ID]))
+                .spanId(string(values[SPAN_ID]))
+                .fingerprint(fingerprint)
+                .fingerprintResult(fingerprintResult)
+                // JSON은 Map으로 파싱하지 않고 검증만 한 뒤 원본 그대로 DB까지 전달
+                .rawResource(requireJsonObject(values[RESOURCE], "resource"))
+                .rawAttributes(requireJsonObject(values[ATTRIBUTES], "attributes"))
+                .createdAt(time(values[CREATED_AT], now))
+                .updatedAt(time(values[UPDATED_AT], now))
+                .build();
+    }
+
+    private static int fieldIndex(byte[] name) {
+        for (int i = 0; i < FIELD_NAMES.length; i++) {
+            if (Arrays.equals(FIELD_NAMES[i], name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static UUID uuid(byte[] value) {
+        UUID parsed = StreamFieldParsers.parseUuid(value);
+        // 표준 형식이 아니면 JDK 파서로 처리 (잘못된 값은 IllegalArgumentException)
+        return (parsed != null) ? parsed : UUID.fromString(string(value));
+    }
+
+    private static LogSeverity severity(byte[] value) {
+        if (isEmpty(value)) {
+            return LogSeverity.INFO;
+        }
+        for (LogSeverity severity : SEVERITIES) {
+            if (StreamFieldParsers.equalsIgnoreCaseAscii(value, severity.getValue())) {
+                return severity;
+            }
+        }
+        // 공백 포함 등은 기존 변환 규칙으로 처리
+        return LogSeverity.fromString(string(value));
+    }
+
+    private static EventCategory eventCategory(byte[] value) {
+        if (isEmpty(value)) {
+            return EventCategory.SYSTEM;
+        }
+        for (EventCategory category : CATEGORIES) {
+            if (StreamFieldParsers.equalsIgnoreCaseAscii(value, category.getValue())) {
+                return category;
+            }
+        }
+        // 한글 설명 등은 기존 변환 규칙으로 처리
+        return EventCategory.fromString(string(value));
+    }
+
+    private static OffsetDateTime time(byte[] value, OffsetDateTime defaultTime) {
+        if (value == null) {
+            return defaultTime;
+        }
+        try {
+            OffsetDateTime parsed = StreamFieldParsers.parseOffsetDateTime(value);
+            return (parsed != null) ? parsed : OffsetDateTime.parse(string(value));
+        } catch (Exception e) {
+            log.warn(
+                    "Failed to parse timestamp '{}'. Falling back to default time. Error: {}",
+                    string(value),
+                    e.getMessage());
+            return defaultTime;
+        }
+    }
+
+    /**
+     * JSON 객체 문법 검증 (트리 생성 없이 바이트에서 토큰 스트림만 확인)
+     *
+     * @return 검증된 원본 문자열 (값이 없으면 빈 객체)
+     */
+    private String requireJsonObject(byte[] json, String field) throws JsonProcessingException {
+        if (json == null) {
+            return EMPTY_JSON;
+        }
+        JsonObjectValidator.requireJsonObject(objectMapper.getFactory(), json, field);
+        return string(json);
+    }
+
+    private static boolean isEmpty(byte[] value) {
+        return value == null || value.length == 0;
+    }
+
+    private static String string(byte[] value) {
+        return (value != null) ? new String(value, StandardCharsets.UTF_8) : null;
+    }
+
+    private static byte[][] fieldNames(String... names) {
+        byte[][] bytes = new byte[names.length][];
+        for (int i = 0; i < names.length; i++) {
+            bytes[i] = names[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,217 @@
+package kr.java.documind.domain.logprocessor.service.dedup;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import kr.java.documind.domain.logprocessor.model.dto.CollapsedBatch;
+import kr.java.documind.domain.logprocessor.model.dto.LogWrapper;
+import kr.java.documind.domain.logprocessor.model.dto.SuppressedBurst;
+import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+import kr.java.documind.domain.logprocessor.model.repository.LogBurstSummaryJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * flush 파이프라인 버스트 중복 제거
+ *
+ * <p>고정 시간 윈도우마다 (projectId, fingerprint)별로 처음 N건만 game_log에 원본을 저장하고, 나머지는 log_burst_summary
+ * 집계와 이슈 발생 횟수에만 반영. 잘못된 빌드 하나가 같은 오류를 대량으로 보내도 행 수는 윈도우당 N건 + 집계 1건으로 제한됨
+ *
+ * <p>윈도우 카운트는 인스턴스 메모리에만 있으므로 인스턴스마다 N건씩 저장될 수 있음. 프로젝트별 N은 project-overrides로 지정하며
+ * off면 해당 프로젝트는 중복 제거하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BurstDeduplicator {
+
+    private static final String DISABLED = "off";
+
+    private final LogBurstSummaryJdbcRepository burstSummaryRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${worker.dedup.enabled}")
+    private boolean enabled;
+
+    @Value("${worker.dedup.window-ms}")
+    private long windowMs;
+
+    // 윈도우마다 원본을 저장할 (projectId, fingerprint)별 로그 수
+    @Value("${worker.dedup.keep-first}")
+    private int keepFirst;
+
+    // 프로젝트별 keep-first (projectId=N 또는 projectId=off, 쉼표 구분)
+    @Value("${worker.dedup.project-overrides}")
+    private String projectOverrides;
+
+    private final Map<BurstKey, BurstWindow> windows = new ConcurrentHashMap<>();
+
+    private Map<UUID, Integer> keepFirstByProject = Map.of();
+
+    @PostConstruct
+    public void init() {
+        if (windowMs <= 0) {
+            log.warn("Invalid dedup window: {}. Resetting to 60000.", windowMs);
+            windowMs = 60000;
+        }
+
+        if (keepFirst <= 0) {
+            log.warn("Invalid dedup keep-first: {}. Resetting to 10.", keepFirst);
+            keepFirst = 10;
+        }
+
+        keepFirstByProject = parseOverrides(projectOverrides);
+
+        Gauge.builder("worker.dedup.keys", windows, Map::size)
+                .description("버스트 중복 제거 중인 (프로젝트, fingerprint) 수")
+                .register(meterRegistry);
+
+        log.info(
+                "Burst dedup {} (window={}ms, keepFirst={}, overrides={})",
+                enabled ? "enabled" : "disabled",
+                windowMs,
+                keepFirst,
+                keepFirstByProject.size());
+    }
+
+    /**
+     * flush 배치에 버스트 중복 제거 적용
+     *
+     * @param wrappers flush 대상 로그
+     * @return 원본을 저장할 로그와 생략한 로그 묶음
+     */
+    public CollapsedBatch collapse(List<LogWrapper> wrappers) {
+        return collapse(wrappers, System.currentTimeMillis());
+    }
+
+    CollapsedBatch collapse(List<LogWrapper> wrappers, long nowMs) {
+        if (!enabled || wrappers.isEmpty()) {
+            return CollapsedBatch.passThrough(wrappers);
+        }
+
+        long windowStart = nowMs - Math.floorMod(nowMs, windowMs);
+        List<LogWrapper> kept = new ArrayList<>(wrappers.size());
+        Map<BurstKey, List<LogWrapper>> suppressed = new LinkedHashMap<>();
+
+        for (LogWrapper wrapper : wrappers) {
+            GameLog gameLog = wrapper.log();
+            int limit = keepFirstFor(gameLog.getProjectId());
+            if (gameLog.getFingerprint() == null || limit == Integer.MAX_VALUE) {
+                kept.add(wrapper);
+                continue;
+            }
+
+            BurstKey key = new BurstKey(gameLog.getProjectId(), gameLog.getFingerprint());
+            BurstWindow window =
+                    windows.compute(
+                            key,
+                            (k, current) ->
+                                    (current == null || current.start() != windowStart)
+                                            ? new BurstWindow(windowStart, new AtomicLong())
+                                            : current);
+
+            if (window.count().incrementAndGet() <= limit) {
+                kept.add(wrapper);
+            } else {
+                suppressed.computeIfAbsent(key, k -> new ArrayList<>()).add(wrapper);
+            }
+        }
+
+        if (suppressed.isEmpty()) {
+            return CollapsedBatch.passThrough(wrappers);
+        }
+
+        List<SuppressedBurst> bursts = new ArrayList<>(suppressed.size());
+        suppressed.forEach(
+                (key, group) -> {
+                    bursts.add(
+                            new SuppressedBurst(
+                                    key.projectId(), key.fingerprint(), windowStart, group));
+                    meterRegistry
+                            .counter(
+                                    "worker.dedup.suppressed",
+                                    "project",
+                                    (key.projectId() != null)
+                                            ? key.projectId().toString()
+                                            : "unknown")
+                            .increment(group.size());
+                });
+        return new CollapsedBatch(kept, bursts);
+    }
+
+    /**
+     * 생략한 로그 수를 log_burst_summary에 누적
+     *
+     * @param bursts 생략한 로그 묶음
+     */
+    public void saveBursts(List<SuppressedBurst> bursts) {
+        burstSummaryRepository.upsertAll(bursts);
+    }
+
+    /** 지난 윈도우의 카운트 제거 (메모리 상한 유지) */
+    @Scheduled(fixedDelayString = "${worker.dedup.window-ms}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        long currentWindow = now - Math.floorMod(now, windowMs);
+        windows.values().removeIf(window -> window.start() < currentWindow);
+    }
+
+    private int keepFirstFor(UUID projectId) {
+        if (projectId == null) {
+            return keepFirst;
+        }
+        return keepFirstByProject.getOrDefault(projectId, keepFirst);
+    }
+
+    /**
+     * 프로젝트별 keep-first 파싱
+     *
+     * @param value projectId=N 또는 projectId=off 목록 (쉼표 구분)
+     * @return 프로젝트별 keep-first (off는 Integer.MAX_VALUE)
+     */
+    static Map<UUID, Integer> parseOverrides(String value) {
+        if (value == null || value.isBlank()) {
+            return Map.of();
+        }
+
+        Map<UUID, Integer> parsed = new HashMap<>();
+        for (String entry : value.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+
+            int separator = trimmed.indexOf('=');
+            try {
+                UUID projectId = UUID.fromString(trimmed.substring(0, separator).trim());
+                String limit = trimmed.substring(separator + 1).trim();
+                int keep =
+                        DISABLED.equalsIgnoreCase(limit)
+                                ? Integer.MAX_VALUE
+                                : Integer.parseInt(limit);
+                if (keep <= 0) {
+                    throw new IllegalArgumentException("keep-first must be positive");
+                }
+                parsed.put(projectId, keep);
+            } catch (RuntimeException e) {
+                log.warn("Invalid dedup project override: '{}'. Ignoring.", trimmed);
+            }
+        }
+        return Map.copyOf(parsed);
+    }
+
+    private record BurstKey(UUID projectId, String fingerprint) {}
+
+    private record BurstWindow(long start, AtomicLong count) {}
+}
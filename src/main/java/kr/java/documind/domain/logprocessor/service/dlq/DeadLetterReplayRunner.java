@@ -0,0 +1,65 @@
+package kr.java.documind.domain.logprocessor.service.dlq;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import kr.java.documind.domain.logprocessor.service.LogBufferService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 DLQ 일괄 재처리
+ *
+ * <p>이전 실행에서 디스크에 남은 DLQ 로그를 스케줄 재시도를 기다리지 않고 바로 재저장. 기동을 막지 않도록 별도 스레드에서 실행하며, 재처리
+ * 중에는 스케줄 재시도가 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "worker.dlq.replay-on-startup",
+        havingValue = "true",
+        matchIfMissing = true)
+public class DeadLetterReplayRunner implements ApplicationRunner {
+
+    private final DeadLetterStore deadLetterStore;
+    private final LogBufferService logBufferService;
+
+    private ExecutorService replayExecutor;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long pending = deadLetterStore.size();
+        if (pending == 0) {
+            return;
+        }
+
+        log.info("[DLQ] Replaying {} dead letters left from previous run", pending);
+        replayExecutor =
+                Executors.newSingleThreadExecutor(new CustomizableThreadFactory("dlq-replay-"));
+        replayExecutor.execute(this::replay);
+        replayExecutor.shutdown();
+    }
+
+    /** 종료 시 진행 중인 재처리 중단 (남은 로그는 다음 기동 또는 스케줄 재시도에서 처리) */
+    @PreDestroy
+    public void shutdown() {
+        if (replayExecutor != null) {
+            replayExecutor.shutdownNow();
+        }
+    }
+
+    private void replay() {
+        try {
+            logBufferService.replayDeadLetterQueue();
+        } catch (Exception e) {
+            // 나머지는 스케줄 재시도에 맡김
+            log.error("[DLQ] Startup replay failed. Remaining logs will be retried on schedule.", e);
+        }
+    }
+}
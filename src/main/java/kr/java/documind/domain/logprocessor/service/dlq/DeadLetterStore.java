@@ -0,0 +1,210 @@
+package kr.java.documind.domain.logprocessor.service.dlq;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import kr.java.documind.domain.logprocessor.model.dto.LogWrapper;
+import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+import kr.java.documind.domain.logprocessor.service.storage.GameLogCodec;
+import kr.java.documind.domain.logprocessor.service.storage.SegmentLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.stereotype.Component;
+
+/**
+ * 디스크 기반 Dead Letter Queue
+ *
+ * <p>DB 저장에 실패한 로그를 재시도 횟수와 함께 세그먼트 로그({@code pending})에 보관. DB 장애가 길어져도 힙 사용량은 늘지 않으며 재시작
+ * 후에도 재처리 가능
+ *
+ * <p>최대 재시도를 초과한 로그는 별도 세그먼트 로그({@code parked})로 옮겨 수동 확인용으로 보존
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadLetterStore {
+
+    private static final String PENDING_DIR = "pending";
+    private static final String PARKED_DIR = "parked";
+
+    private final GameLogCodec gameLogCodec;
+
+    @Value("${worker.dlq.dir}")
+    private String directory;
+
+    @Value("${worker.dlq.segment-size-bytes}")
+    private int segmentSizeBytes;
+
+    private SegmentLog pending;
+    private SegmentLog parked;
+
+    @PostConstruct
+    public void open() {
+        try {
+            Path root = Path.of(directory);
+            pending = new SegmentLog(root.resolve(PENDING_DIR), segmentSizeBytes);
+            parked = new SegmentLog(root.resolve(PARKED_DIR), segmentSizeBytes);
+            log.info(
+                    "[DLQ] Dead letter store opened at {} (pending={}, parked={})",
+                    root.toAbsolutePath(),
+                    pending.size(),
+                    parked.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open dead letter store: " + directory, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        try {
+            if (pending != null) {
+                pending.close();
+            }
+            if (parked != null) {
+                parked.close();
+            }
+        } catch (IOException e) {
+            log.error("[DLQ] Failed to close dead letter store", e);
+        }
+    }
+
+    /**
+     * 재시도 대기 로그 추가
+     *
+     * <p>배치는 전부 기록되거나 하나도 기록되지 않으므로, 실패 후 재전달되어도 앞부분만 중복 기록되지 않음. 세그먼트보다 큰 로그는 재시도할
+     * 때마다 전용 세그먼트를 만들지 않도록 바로 보존 영역({@code parked})으로 보냄
+     *
+     * @param wrappers DB 저장에 실패한 로그
+     */
+    public void appendAll(List<LogWrapper> wrappers) {
+        try {
+            List<byte[]> records = new ArrayList<>(wrappers.size());
+            List<byte[]> oversized = new ArrayList<>();
+            for (LogWrapper wrapper : wrappers) {
+                byte[] record = encode(wrapper);
+                if (record.length > pending.maxRecordBytes()) {
+                    log.error(
+                            "[DLQ] Parking oversized dead letter ({} bytes, logId={})",
+                            record.length,
+                            wrapper.log().getLogId());
+                    oversized.add(record);
+                } else {
+                    records.add(record);
+                }
+            }
+
+            pending.appendAll(records);
+            parked.appendAll(oversized);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to dead letter store", e);
+        }
+    }
+
+    public void append(LogWrapper wrapper) {
+        appendAll(List.of(wrapper));
+    }
+
+    /**
+     * 최대 재시도를 초과한 로그 보존
+     *
+     * @param wrapper 최종 실패 로그
+     */
+    public void park(LogWrapper wrapper) {
+        try {
+            parked.append(encode(wrapper));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to park dead letter", e);
+        }
+    }
+
+    /**
+     * 재시도 대기 로그를 최대 maxEntries개 읽기
+     *
+     * <p>{@link #commit(DeadLetterBatch)} 전까지는 읽기 위치가 저장되지 않으므로, 처리 도중 종료되면 재시작 후 다시 읽힘
+     *
+     * @param maxEntries 최대 읽기 개수
+     * @return 읽은 로그 배치
+     */
+    public DeadLetterBatch read(int maxEntries) {
+        try {
+            SegmentLog.ReadResult result = pending.read(maxEntries);
+            List<LogWrapper> entries = new ArrayList<>(result.records().size());
+            for (byte[] record : result.records()) {
+                try {
+                    entries.add(decode(record));
+                } catch (IOException | RuntimeException e) {
+                    // 복구 불가능한 레코드는 건너뛰고 커밋 시 함께 소비
+                    log.error("[DLQ] Skipping undecodable dead letter ({} bytes)", record.length, e);
+                }
+            }
+            return new DeadLetterBatch(entries, result);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read dead letter store", e);
+        }
+    }
+
+    /**
+     * 배치 처리 완료 기록 (읽기 위치 이동)
+     *
+     * @param batch {@link #read(int)}로 읽은 배치
+     */
+    public void commit(DeadLetterBatch batch) {
+        try {
+            pending.commit(batch.readResult());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to commit dead letter store", e);
+        }
+    }
+
+    /** 재시도 대기 로그 수 */
+    public long size() {
+        return pending.size();
+    }
+
+    /** 최종 실패로 보존된 로그 수 */
+    public long parkedSize() {
+        return parked.size();
+    }
+
+    private byte[] encode(LogWrapper wrapper) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(wrapper.retryCount());
+        writeOptionalUtf(out, wrapper.recordId() != null ? wrapper.recordId().getValue() : null);
+        writeOptionalUtf(out, wrapper.streamKey());
+        gameLogCodec.write(wrapper.log(), out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private LogWrapper decode(byte[] record) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        int retryCount = in.readInt();
+        String recordId = readOptionalUtf(in);
+        String streamKey = readOptionalUtf(in);
+        GameLog gameLog = gameLogCodec.read(in);
+        return new LogWrapper(
+                gameLog, recordId != null ? RecordId.of(recordId) : null, retryCount, streamKey);
+    }
+
+    private static void writeOptionalUtf(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readOptionalUtf(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,102 @@
+package kr.java.documind.domain.logprocessor.service.resilience;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.circuitbreaker.event.CircuitBreakerOnStateTransitionEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * game_log 저장 Circuit Breaker 서비스
+ *
+ * <p>DB 연결 장애가 이어지면 Circuit을 열어 flush가 커넥션 타임아웃을 기다리지 않고 바로 {@link
+ * io.github.resilience4j.circuitbreaker.CallNotPermittedException}을 받도록 함. 호출 측은 이 경우 로그를 로컬 spill
+ * 파일로 보내고, Circuit이 닫히면 재생
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DatabaseCircuitBreakerService {
+
+    private static final String CIRCUIT_BREAKER_NAME = "logDatabase";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final MeterRegistry meterRegistry;
+
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    public void init() {
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+        circuitBreaker.getEventPublisher().onStateTransition(this::handleStateTransition);
+
+        Gauge.builder("db.circuit.open", this, service -> service.isCallPermitted() ? 0 : 1)
+                .description("game_log 저장 Circuit이 열려 있으면 1")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Circuit Breaker를 통해 DB 쓰기 실행
+     *
+     * @param call DB 쓰기
+     * @return DB 쓰기 결과
+     * @throws io.github.resilience4j.circuitbreaker.CallNotPermittedException Circuit이 열려 있는 경우
+     */
+    public <T> T call(Supplier<T> call) {
+        return circuitBreaker.executeSupplier(call);
+    }
+
+    /**
+     * 일반 트래픽을 보내도 되는 상태인지 확인
+     *
+     * @return CLOSED 상태면 true (HALF_OPEN은 flush 호출로만 회복 여부를 확인)
+     */
+    public boolean isClosed() {
+        return circuitBreaker.getState() == CircuitBreaker.State.CLOSED;
+    }
+
+    /**
+     * 호출이 즉시 거부되지 않는 상태인지 확인
+     *
+     * @return OPEN 또는 FORCED_OPEN이 아니면 true
+     */
+    public boolean isCallPermitted() {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state != CircuitBreaker.State.OPEN && state != CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    /**
+     * Circuit Breaker 현재 상태 조회
+     *
+     * @return Circuit Breaker 상태
+     */
+    public CircuitBreaker.State getCircuitBreakerState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * Circuit Breaker 상태 전환 이벤트 처리
+     *
+     * @param event 상태 전환 이벤트
+     */
+    private void handleStateTransition(CircuitBreakerOnStateTransitionEvent event) {
+        log.warn(
+                "[DB CircuitBreaker] State transition: {} -> {}",
+                event.getStateTransition().getFromState(),
+                event.getStateTransition().getToState());
+
+        meterRegistry
+                .counter(
+                        "db.circuit.state.transitions",
+                        "from",
+                        event.getStateTransition().getFromState().name(),
+                        "to",
+                        event.getStateTransition().getToState().name())
+                .increment();
+    }
+}
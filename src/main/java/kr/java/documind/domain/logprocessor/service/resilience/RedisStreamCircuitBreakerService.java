@@ -11,14 +11,17 @@ import io.github.resilience4j.retry.RetryRegistry;
 import io.github.resilience4j.retry.event.RetryOnRetryEvent;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.ByteRecord;
 import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -66,11 +69,49 @@ public class RedisStreamCircuitBreakerService {
     public List<MapRecord<String, String, String>> readMessages(
             Consumer consumer, StreamReadOptions options, StreamOffset<String> offset) {
 
-        Supplier<List<MapRecord<String, String, String>>> supplier =
-                () -> executeRedisRead(consumer, options, offset);
+        return read(() -> executeRedisRead(consumer, options, offset));
+    }
 
-        // Retry -> CircuitBreaker 순서로 데코레이션
-        Supplier<List<MapRecord<String, String, String>>> decoratedSupplier =
+    /**
+     * Redis Stream 메시지를 역직렬화 없이 바이트 그대로 읽기 (Circuit Breaker + Retry 적용)
+     *
+     * <p>RedisTemplate의 String 역직렬화와 MapRecord 변환을 거치지 않으므로 {@code
+     * StreamRecordDecoder}로 바로 GameLog를 만들 때 사용
+     *
+     * @param consumer Consumer 정보
+     * @param options Stream 읽기 옵션
+     * @param offset Stream Offset
+     * @return 읽어온 메시지 목록 (실패 시 빈 리스트)
+     */
+    public List<ByteRecord> readRawMessages(
+            Consumer consumer, StreamReadOptions options, StreamOffset<String> offset) {
+
+        StreamOffset<byte[]> rawOffset =
+                StreamOffset.create(
+                        offset.getKey().getBytes(StandardCharsets.UTF_8), offset.getOffset());
+
+        return read(
+                () -> {
+                    List<ByteRecord> records =
+                            redisTemplate.execute(
+                                    (RedisCallback<List<ByteRecord>>)
+                                            connection ->
+                                                    connection
+                                                            .streamCommands()
+                                                            .xReadGroup(
+                                                                    consumer, options, rawOffset));
+                    return (records != null) ? records : List.of();
+                });
+    }
+
+    /**
+     * Retry -> CircuitBreaker 순서로 데코레이션하여 읽기 실행
+     *
+     * @param supplier 실제 읽기
+     * @return 읽어온 메시지 목록 (실패 시 빈 리스트)
+     */
+    private <T> List<T> read(Supplier<List<T>> supplier) {
+        Supplier<List<T>> decoratedSupplier =
                 Decorators.ofSupplier(supplier)
                         .withRetry(retry)
                         .withCircuitBreaker(circuitBreaker)
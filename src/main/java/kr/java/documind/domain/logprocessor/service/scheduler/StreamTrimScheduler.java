@@ -0,0 +1,157 @@
+package kr.java.documind.domain.logprocessor.service.scheduler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import kr.java.documind.domain.logprocessor.service.shard.StreamShards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroup;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroups;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * ACK 기준 Redis Stream 트리밍 스케줄러
+ *
+ * <p>모든 Consumer 그룹이 처리를 끝낸 메시지를 XTRIM MINID ~ 로 제거하여 Redis 메모리를 제한. 그룹별 하한은 PEL이 있으면 가장 오래된
+ * 미ACK 메시지, 없으면 마지막 전달 메시지이며, 모든 그룹의 하한 중 가장 작은 값을 기준으로 함
+ *
+ * <p>보존 기간(retention-ms) 이내의 메시지는 ACK 여부와 관계없이 유지. 근사 트리밍(~)이므로 Redis가 노드 단위로 삭제하여 실제 삭제 위치는
+ * 기준보다 약간 앞일 수 있음
+ *
+ * <p>Stream이 샤딩되어 있으면 샤드마다 기준을 따로 계산하여 트리밍
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamTrimScheduler {
+
+    private static final Comparator<RecordId> ID_ORDER =
+            Comparator.comparing(RecordId::getTimestamp).thenComparing(RecordId::getSequence);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final StreamShards streamShards;
+
+    @Value("${worker.trim.retention-ms}")
+    private long retentionMs;
+
+    @Scheduled(fixedDelayString = "${worker.trim.interval-ms}")
+    public void trim() {
+        long nowMs = System.currentTimeMillis();
+        for (String streamKey : streamShards.keys()) {
+            trim(streamKey, nowMs);
+        }
+    }
+
+    /**
+     * 샤드 하나 트리밍 (실패해도 다른 샤드는 계속 진행)
+     *
+     * @param streamKey 샤드 Stream 키
+     * @param nowMs 현재 시각 (밀리초)
+     */
+    private void trim(String streamKey, long nowMs) {
+        try {
+            RecordId minId = resolveMinId(streamKey, nowMs);
+            if (minId == null) {
+                return;
+            }
+
+            long deleted = trimTo(streamKey, minId);
+            if (deleted > 0) {
+                meterRegistry.counter("redis.stream.trim.deleted").increment(deleted);
+                log.info(
+                        "[Trim] Trimmed {} entries from {} (MINID ~ {})",
+                        deleted,
+                        streamKey,
+                        minId);
+            }
+        } catch (Exception e) {
+            log.warn("[Trim] Stream 트리밍 실패 ({}): {}", streamKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 트리밍 기준 ID 계산
+     *
+     * @param streamKey 샤드 Stream 키
+     * @param nowMs 현재 시각 (밀리초)
+     * @return 이 ID보다 작은 메시지는 삭제 가능 (Consumer 그룹이 없거나 아직 아무것도 전달되지 않았으면 null)
+     */
+    RecordId resolveMinId(String streamKey, long nowMs) {
+        XInfoGroups groups = redisTemplate.opsForStream().groups(streamKey);
+        if (groups == null || groups.groupCount() == 0) {
+            // 소비자가 없는 Stream은 트리밍하지 않음
+            return null;
+        }
+
+        RecordId floor = null;
+        for (XInfoGroup group : groups.stream().toList()) {
+            RecordId groupFloor = groupFloor(streamKey, group);
+            if (groupFloor == null) {
+                return null;
+            }
+            floor = (floor == null) ? groupFloor : min(floor, groupFloor);
+        }
+
+        // 보존 기간 이내 메시지는 유지
+        RecordId retentionFloor = RecordId.of(Math.max(0L, nowMs - retentionMs), 0L);
+        return min(floor, retentionFloor);
+    }
+
+    /**
+     * 그룹이 아직 필요로 하는 가장 작은 ID
+     *
+     * @return PEL이 있으면 가장 오래된 미ACK ID, 없으면 마지막 전달 ID (전달 이력이 없으면 null)
+     */
+    private RecordId groupFloor(String streamKey, XInfoGroup group) {
+        if (group.pendingCount() > 0) {
+            PendingMessagesSummary summary =
+                    redisTemplate.opsForStream().pending(streamKey, group.groupName());
+            if (summary != null && summary.minMessageId() != null) {
+                return RecordId.of(summary.minMessageId());
+            }
+        }
+
+        String lastDelivered = group.lastDeliveredId();
+        if (lastDelivered == null || "0-0".equals(lastDelivered)) {
+            return null;
+        }
+        return RecordId.of(lastDelivered);
+    }
+
+    /**
+     * XTRIM MINID ~ 실행
+     *
+     * @param streamKey 샤드 Stream 키
+     * @param minId 이 ID보다 작은 메시지 삭제
+     * @return 삭제된 메시지 수
+     */
+    private long trimTo(String streamKey, RecordId minId) {
+        Object deleted =
+                redisTemplate.execute(
+                        (RedisCallback<Object>)
+                                connection ->
+                                        connection.execute(
+                                                "XTRIM",
+                                                bytes(streamKey),
+                                                bytes("MINID"),
+                                                bytes("~"),
+                                                bytes(minId.getValue())));
+        return (deleted instanceof Number number) ? number.longValue() : 0L;
+    }
+
+    private static RecordId min(RecordId a, RecordId b) {
+        return ID_ORDER.compare(a, b) <= 0 ? a : b;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
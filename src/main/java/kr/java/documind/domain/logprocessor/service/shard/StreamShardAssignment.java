@@ -0,0 +1,137 @@
+package kr.java.documind.domain.logprocessor.service.shard;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import kr.java.documind.domain.logprocessor.service.StreamConsumerMembership;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인스턴스별 Stream 샤드 배정
+ *
+ * <p>{@link StreamConsumerMembership}의 살아 있는 인스턴스 목록으로 rendezvous 해싱을 수행하여 샤드마다 담당 인스턴스를 하나씩
+ * 정함. 인스턴스가 추가/제거되면 그 인스턴스가 맡던(또는 맡게 될) 샤드만 이동
+ *
+ * <p>멤버십 갱신 시점 차이로 잠시 두 인스턴스가 같은 샤드를 읽어도 Consumer 그룹이 메시지를 한 Consumer에만 전달하므로 중복 처리는
+ * 없음. 아무도 읽지 않는 구간은 다음 갱신 주기까지로 제한됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamShardAssignment {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final StreamShards streamShards;
+    private final StreamConsumerMembership membership;
+
+    private volatile List<String> assignedKeys = List.of();
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    /** 살아 있는 인스턴스 기준으로 배정 갱신 */
+    @Scheduled(fixedDelayString = "${worker.membership.heartbeat-interval-ms}")
+    public void refresh() {
+        try {
+            List<String> assigned =
+                    assign(
+                            streamShards.keys(),
+                            membership.liveInstances(),
+                            membership.getInstanceId());
+            if (!assigned.equals(assignedKeys)) {
+                log.info("[Shard] Assigned stream shards: {}", assigned);
+            }
+            assignedKeys = assigned;
+        } catch (Exception e) {
+            // 멤버십 조회 실패 시 기존 배정 유지
+            log.warn("[Shard] 샤드 배정 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 이 인스턴스에 배정된 샤드 키
+     *
+     * @return 샤드 번호 순 키 목록
+     */
+    public List<String> assignedKeys() {
+        return assignedKeys;
+    }
+
+    /**
+     * 소비 루프가 읽을 샤드 키
+     *
+     * <p>배정된 샤드가 루프 수보다 적으면 여러 루프가 같은 샤드를 나눠 읽고, 많으면 루프마다 {@code index + k * loops}번째 샤드를 맡음
+     *
+     * @param index 루프 번호
+     * @param loops 전체 루프 수
+     * @return 루프가 번갈아 읽을 키 목록 (배정된 샤드가 없으면 빈 목록)
+     */
+    public List<String> keysForLoop(int index, int loops) {
+        List<String> assigned = assignedKeys;
+        if (assigned.isEmpty()) {
+            return List.of();
+        }
+        if (assigned.size() <= loops) {
+            return List.of(assigned.get(index % assigned.size()));
+        }
+
+        List<String> keys = new ArrayList<>();
+        for (int i = index; i < assigned.size(); i += loops) {
+            keys.add(assigned.get(i));
+        }
+        return keys;
+    }
+
+    /**
+     * rendezvous 해싱으로 self에게 배정되는 샤드 선택
+     *
+     * @param shardKeys 전체 샤드 키
+     * @param liveInstances 살아 있는 인스턴스 ID (self 포함)
+     * @param self 이 인스턴스 ID
+     * @return self가 담당할 샤드 키
+     */
+    static List<String> assign(List<String> shardKeys, Set<String> liveInstances, String self) {
+        List<String> assigned = new ArrayList<>();
+        for (String shardKey : shardKeys) {
+            String owner = null;
+            long best = 0L;
+            for (String instance : liveInstances) {
+                long weight = weight(instance, shardKey);
+                // 동점이면 ID 사전순으로 결정하여 모든 인스턴스가 같은 결과를 얻음
+                if (owner == null
+                        || Long.compareUnsigned(weight, best) > 0
+                        || (weight == best && instance.compareTo(owner) < 0)) {
+                    owner = instance;
+                    best = weight;
+                }
+            }
+            if (self.equals(owner)) {
+                assigned.add(shardKey);
+            }
+        }
+        return List.copyOf(assigned);
+    }
+
+    /** 인스턴스-샤드 쌍의 가중치 (FNV-1a 64비트, JVM 간 동일) */
+    private static long weight(String instance, String shardKey) {
+        long hash = FNV_OFFSET;
+        for (byte b : (instance + "|" + shardKey).getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= FNV_PRIME;
+        }
+        // FNV는 마지막 바이트 차이가 상위 비트에 약하게 퍼지므로 한 번 더 섞음
+        hash ^= (hash >>> 33);
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= (hash >>> 33);
+        return hash;
+    }
+}
@@ -0,0 +1,59 @@
+package kr.java.documind.domain.logprocessor.service.shard;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Stream 샤드 구성
+ *
+ * <p>샤드가 1개면 기존 키({@code redis.stream.key}) 그대로, N개면 {@code <key>:{0}} ~ {@code <key>:{N-1}}을
+ * 사용. 중괄호는 Redis Cluster 해시 태그이므로 샤드마다 다른 슬롯(노드)에 배치될 수 있고, 같은 샤드의 XADD/XREADGROUP/XACK는 한
+ * 노드에서 처리됨
+ *
+ * <p>라우팅 규칙: {@code floorMod(projectId.hashCode(), N)} ({@code UUID#hashCode()}, projectId가 없으면 0번
+ * 샤드). 로그를 적재하는 Producer는 같은 규칙으로 키를 골라야 프로젝트별 순서가 한 샤드 안에서 유지됨
+ */
+@Slf4j
+@Component
+public class StreamShards {
+
+    @Value("${redis.stream.key}")
+    private String baseKey;
+
+    @Value("${redis.stream.shards}")
+    private int shardCount;
+
+    private List<String> keys = List.of();
+
+    @PostConstruct
+    public void init() {
+        if (shardCount <= 0) {
+            log.warn("Invalid stream shard count: {}. Resetting to 1.", shardCount);
+            shardCount = 1;
+        }
+
+        List<String> resolved = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            resolved.add(shardCount == 1 ? baseKey : baseKey + ":{" + i + "}");
+        }
+        keys = List.copyOf(resolved);
+    }
+
+    /**
+     * 전체 샤드 키
+     *
+     * @return 샤드 번호 순 키 목록
+     */
+    public List<String> keys() {
+        return keys;
+    }
+
+    /** 샤드 수 */
+    public int count() {
+        return keys.size();
+    }
+}
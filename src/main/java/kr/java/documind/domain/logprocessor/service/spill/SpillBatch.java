@@ -0,0 +1,18 @@
+package kr.java.documind.domain.logprocessor.service.spill;
+
+import java.util.List;
+import kr.java.documind.domain.logprocessor.model.dto.LogWrapper;
+import kr.java.documind.domain.logprocessor.service.storage.SegmentLog;
+
+/**
+ * spill 파일에서 읽은 로그 배치
+ *
+ * <p>재생 완료 후 {@link SpillStore#commit(SpillBatch)}로 읽기 위치를 확정해야 함
+ */
+public record SpillBatch(List<LogWrapper> entries, SegmentLog.ReadResult readResult) {
+
+    /** 읽은 레코드가 없는지 여부 (디코딩 실패로 entries만 빈 경우는 커밋 필요) */
+    public boolean isEmpty() {
+        return readResult.isEmpty();
+    }
+}
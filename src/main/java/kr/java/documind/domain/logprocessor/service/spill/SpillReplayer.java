@@ -0,0 +1,141 @@
+package kr.java.documind.domain.logprocessor.service.spill;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import kr.java.documind.domain.logprocessor.model.dto.LogWrapper;
+import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+import kr.java.documind.domain.logprocessor.model.repository.LogJdbcRepository;
+import kr.java.documind.domain.logprocessor.service.IssueGroupingBatchService;
+import kr.java.documind.domain.logprocessor.service.ack.StreamAckAggregator;
+import kr.java.documind.domain.logprocessor.service.dlq.DeadLetterStore;
+import kr.java.documind.domain.logprocessor.service.resilience.DatabaseCircuitBreakerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * spill 파일 재생
+ *
+ * <p>DB Circuit이 CLOSED일 때만 주기마다 한 배치씩 재저장하므로, 재생 속도는 replay-batch-size / replay-interval-ms로 제한되어
+ * 복구 직후 DB에 밀린 로그가 한꺼번에 몰리지 않음
+ *
+ * <p>Circuit이 다시 열리면 읽기 위치를 커밋하지 않고 다음 주기에 다시 시도. 그 외 저장 실패는 데이터 문제일 수 있으므로 배치를 DLQ로 넘겨 재시도
+ * 횟수 기반 처리에 맡김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpillReplayer {
+
+    private final SpillStore spillStore;
+    private final DatabaseCircuitBreakerService databaseCircuitBreaker;
+    private final LogJdbcRepository logJdbcRepository;
+    private final IssueGroupingBatchService issueGroupingBatchService;
+    private final StreamAckAggregator streamAckAggregator;
+    private final DeadLetterStore deadLetterStore;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean isReplaying = new AtomicBoolean(false);
+
+    @Value("${worker.spill.replay-batch-size}")
+    private int replayBatchSize;
+
+    @PostConstruct
+    public void init() {
+        if (replayBatchSize <= 0) {
+            log.warn("Invalid spill replay batch size: {}. Resetting to 500.", replayBatchSize);
+            replayBatchSize = 500;
+        }
+
+        Gauge.builder("worker.spill.size", spillStore, SpillStore::size)
+                .description("DB Circuit OPEN 중 spill 파일에 보관된 로그 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${worker.spill.replay-interval-ms}")
+    public void replay() {
+        if (!isReplaying.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            if (spillStore.size() > 0 && databaseCircuitBreaker.isClosed()) {
+                replayBatch();
+            }
+        } finally {
+            isReplaying.set(false);
+        }
+    }
+
+    /**
+     * spill 파일에서 한 배치를 읽어 재저장
+     *
+     * @return 저장에 성공한 로그 수 (재생할 로그가 없거나 실패 시 0)
+     */
+    int replayBatch() {
+        SpillBatch batch = spillStore.read(replayBatchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<LogWrapper> wrappers = batch.entries();
+        if (wrappers.isEmpty()) {
+            spillStore.commit(batch);
+            return 0;
+        }
+
+        List<GameLog> logs = wrappers.stream().map(LogWrapper::log).collect(Collectors.toList());
+
+        try {
+            long start = System.nanoTime();
+            List<GameLog> written =
+                    databaseCircuitBreaker.call(() -> logJdbcRepository.saveAll(logs));
+            long latencyNanos = System.nanoTime() - start;
+
+            // ON CONFLICT로 건너뛴 로그는 이미 이슈에 반영되었으므로 제외
+            try {
+                issueGroupingBatchService.groupLogs(written);
+            } catch (Exception e) {
+                log.error(
+                        "[Spill] Failed to group logs into issues. Logs are saved but issues not"
+                                + " created.",
+                        e);
+                // 이슈 생성 실패해도 로그는 저장되었으므로 ACK는 보냄
+            }
+
+            LogWrapper.recordIdsByStreamKey(wrappers).forEach(streamAckAggregator::acknowledge);
+
+            spillStore.commit(batch);
+            meterRegistry.counter("worker.spill.replayed").increment(logs.size());
+
+            log.info(
+                    "[Spill] Replayed {} logs to DB in {}ms ({} remaining)",
+                    logs.size(),
+                    TimeUnit.NANOSECONDS.toMillis(latencyNanos),
+                    spillStore.size());
+            return logs.size();
+        } catch (CallNotPermittedException e) {
+            // Circuit이 다시 열림 → 커밋하지 않고 다음 주기에 다시 읽음
+            log.warn("[Spill] DB circuit reopened. Pausing replay ({} pending).", logs.size());
+            return 0;
+        } catch (Exception e) {
+            log.error("[Spill] Failed to replay {} logs. Moving to DLQ for retry.", logs.size(), e);
+            try {
+                deadLetterStore.appendAll(wrappers);
+                spillStore.commit(batch);
+            } catch (Exception dlqException) {
+                // DLQ 기록 실패 시 커밋하지 않으므로 다음 주기에 다시 재생
+                log.error("[Spill] Failed to write {} logs to DLQ.", logs.size(), dlqException);
+            }
+            return 0;
+        }
+    }
+}
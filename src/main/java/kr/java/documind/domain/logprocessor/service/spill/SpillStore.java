@@ -0,0 +1,160 @@
+package kr.java.documind.domain.logprocessor.service.spill;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import kr.java.documind.domain.logprocessor.model.dto.LogWrapper;
+import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+import kr.java.documind.domain.logprocessor.service.storage.GameLogCodec;
+import kr.java.documind.domain.logprocessor.service.storage.SegmentLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB Circuit OPEN 중 flush 배치를 보관하는 로컬 spill 파일
+ *
+ * <p>DLQ와 달리 저장에 실패한 로그가 아니라 시도조차 하지 않은 로그이므로 재시도 횟수 없이 RecordId, Stream 키와 로그만
+ * 기록. 점검 시간 동안 쌓인 로그는 힙이 아닌 세그먼트 파일에 남고 {@link SpillReplayer}가 Circuit이 닫힌 뒤 재생
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpillStore {
+
+    private final GameLogCodec gameLogCodec;
+
+    @Value("${worker.spill.dir}")
+    private String directory;
+
+    @Value("${worker.spill.segment-size-bytes}")
+    private int segmentSizeBytes;
+
+    private SegmentLog segmentLog;
+
+    @PostConstruct
+    public void open() {
+        try {
+            Path root = Path.of(directory);
+            segmentLog = new SegmentLog(root, segmentSizeBytes);
+            log.info(
+                    "[Spill] Spill store opened at {} (pending={})",
+                    root.toAbsolutePath(),
+                    segmentLog.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open spill store: " + directory, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        try {
+            if (segmentLog != null) {
+                segmentLog.close();
+            }
+        } catch (IOException e) {
+            log.error("[Spill] Failed to close spill store", e);
+        }
+    }
+
+    /**
+     * flush 배치 보관 (전부 기록되거나 하나도 기록되지 않음)
+     *
+     * @param wrappers DB에 보내지 못한 로그
+     */
+    public void appendAll(List<LogWrapper> wrappers) {
+        try {
+            List<byte[]> records = new ArrayList<>(wrappers.size());
+            for (LogWrapper wrapper : wrappers) {
+                records.add(encode(wrapper));
+            }
+            segmentLog.appendAll(records);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to spill store", e);
+        }
+    }
+
+    /**
+     * 보관된 로그를 최대 maxEntries개 읽기
+     *
+     * <p>{@link #commit(SpillBatch)} 전까지는 읽기 위치가 저장되지 않음
+     *
+     * @param maxEntries 최대 읽기 개수
+     * @return 읽은 로그 배치
+     */
+    public SpillBatch read(int maxEntries) {
+        try {
+            SegmentLog.ReadResult result = segmentLog.read(maxEntries);
+            List<LogWrapper> entries = new ArrayList<>(result.records().size());
+            for (byte[] record : result.records()) {
+                try {
+                    entries.add(decode(record));
+                } catch (IOException | RuntimeException e) {
+                    // 복구 불가능한 레코드는 건너뛰고 커밋 시 함께 소비
+                    log.error("[Spill] Skipping undecodable record ({} bytes)", record.length, e);
+                }
+            }
+            return new SpillBatch(entries, result);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read spill store", e);
+        }
+    }
+
+    /**
+     * 배치 재생 완료 기록 (읽기 위치 이동)
+     *
+     * @param batch {@link #read(int)}로 읽은 배치
+     */
+    public void commit(SpillBatch batch) {
+        try {
+            segmentLog.commit(batch.readResult());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to commit spill store", e);
+        }
+    }
+
+    /** 재생 대기 로그 수 */
+    public long size() {
+        return segmentLog.size();
+    }
+
+    private byte[] encode(LogWrapper wrapper) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeOptionalUtf(out, wrapper.recordId() != null ? wrapper.recordId().getValue() : null);
+        writeOptionalUtf(out, wrapper.streamKey());
+        gameLogCodec.write(wrapper.log(), out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private LogWrapper decode(byte[] record) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        String recordId = readOptionalUtf(in);
+        String streamKey = readOptionalUtf(in);
+        GameLog gameLog = gameLogCodec.read(in);
+        return new LogWrapper(
+                gameLog, recordId != null ? RecordId.of(recordId) : null, 0, streamKey);
+    }
+
+    private static void writeOptionalUtf(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readOptionalUtf(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,165 @@
+package kr.java.documind.domain.logprocessor.service.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+import kr.java.documind.domain.logprocessor.model.enums.EventCategory;
+import kr.java.documind.domain.logprocessor.model.enums.LogSeverity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * GameLog 바이너리 직렬화
+ *
+ * <p>로컬 디스크 보관용 포맷. 필드 순서가 곧 포맷이므로 필드 추가 시 FORMAT_VERSION을 올리고 이전 버전 읽기를 유지해야 함
+ */
+@Component
+@RequiredArgsConstructor
+public class GameLogCodec {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int NULL_LENGTH = -1;
+
+    private final ObjectMapper objectMapper;
+
+    public void write(GameLog gameLog, DataOutput out) throws IOException {
+        out.writeByte(FORMAT_VERSION);
+        writeUuid(gameLog.getLogId(), out);
+        writeUuid(gameLog.getProjectId(), out);
+        writeString(gameLog.getSessionId(), out);
+        writeString(gameLog.getUserId(), out);
+        writeString(gameLog.getSeverity() != null ? gameLog.getSeverity().name() : null, out);
+        writeString(
+                gameLog.getEventCategory() != null ? gameLog.getEventCategory().name() : null,
+                out);
+        writeString(gameLog.getArchive(), out);
+        writeTime(gameLog.getOccurredAt(), out);
+        writeTime(gameLog.getIngestedAt(), out);
+        writeString(gameLog.getTraceId(), out);
+        writeString(gameLog.getSpanId(), out);
+        writeString(gameLog.getFingerprint(), out);
+        writeJson(gameLog.getRawResource(), gameLog.getResource(), out);
+        writeJson(gameLog.getRawAttributes(), gameLog.getAttributes(), out);
+        writeTime(gameLog.getCreatedAt(), out);
+        writeTime(gameLog.getUpdatedAt(), out);
+    }
+
+    public GameLog read(DataInput in) throws IOException {
+        int version = in.readUnsignedByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported GameLog format version: " + version);
+        }
+
+        UUID logId = readUuid(in);
+        UUID projectId = readUuid(in);
+        String sessionId = readString(in);
+        String userId = readString(in);
+        String severity = readString(in);
+        String eventCategory = readString(in);
+        String archive = readString(in);
+        OffsetDateTime occurredAt = readTime(in);
+        OffsetDateTime ingestedAt = readTime(in);
+        String traceId = readString(in);
+        String spanId = readString(in);
+        String fingerprint = readString(in);
+        String resource = readString(in);
+        String attributes = readString(in);
+        OffsetDateTime createdAt = readTime(in);
+        OffsetDateTime updatedAt = readTime(in);
+
+        return GameLog.builder()
+                .logId(logId)
+                .projectId(projectId)
+                .sessionId(sessionId)
+                .userId(userId)
+                .severity(severity != null ? LogSeverity.valueOf(severity) : null)
+                .eventCategory(eventCategory != null ? EventCategory.valueOf(eventCategory) : null)
+                .archive(archive)
+                .occurredAt(occurredAt)
+                .ingestedAt(ingestedAt)
+                .traceId(traceId)
+                .spanId(spanId)
+                .fingerprint(fingerprint)
+                // JSON은 Map으로 되돌리지 않고 원본 그대로 저장 경로에 전달
+                .rawResource(resource)
+                .rawAttributes(attributes)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    private void writeJson(String rawJson, Map<String, Object> value, DataOutput out)
+            throws IOException {
+        if (rawJson != null) {
+            writeString(rawJson, out);
+            return;
+        }
+        writeBytes(value != null ? objectMapper.writeValueAsBytes(value) : null, out);
+    }
+
+    private void writeUuid(UUID value, DataOutput out) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.getMostSignificantBits());
+            out.writeLong(value.getLeastSignificantBits());
+        }
+    }
+
+    private UUID readUuid(DataInput in) throws IOException {
+        return in.readBoolean() ? new UUID(in.readLong(), in.readLong()) : null;
+    }
+
+    private void writeTime(OffsetDateTime value, DataOutput out) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond());
+            out.writeInt(value.getNano());
+            out.writeInt(value.getOffset().getTotalSeconds());
+        }
+    }
+
+    private OffsetDateTime readTime(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        Instant instant = Instant.ofEpochSecond(in.readLong(), in.readInt());
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.ofTotalSeconds(in.readInt()));
+    }
+
+    // DataOutput.writeUTF는 64KB 제한이 있어 archive(스택트레이스)에 사용할 수 없음
+    private void writeString(String value, DataOutput out) throws IOException {
+        writeBytes(value != null ? value.getBytes(StandardCharsets.UTF_8) : null, out);
+    }
+
+    private String readString(DataInput in) throws IOException {
+        byte[] bytes = readBytes(in);
+        return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : null;
+    }
+
+    private void writeBytes(byte[] value, DataOutput out) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    private byte[] readBytes(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,443 @@
+package kr.java.documind.domain.logprocessor.service.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메모리 매핑 기반 append-only 세그먼트 로그
+ *
+ * <p>레코드는 고정 크기 세그먼트 파일({@code 00000000000000000000.seg})에 {@code [length][crc32][payload]} 형식으로
+ * 순차 기록. 세그먼트보다 큰 묶음은 그 크기에 맞춘 전용 세그먼트에 기록. 읽기 위치(cursor)는 별도 파일에 저장하며, cursor 이전 세그먼트는
+ * 커밋 시 삭제
+ *
+ * <p>쓰기는 매핑된 페이지 캐시에 기록되므로 프로세스가 비정상 종료되어도 유실되지 않음. 길이 필드를 마지막에 기록하여 중간에 끊긴 레코드는
+ * 재시작 시 CRC 검증으로 버림
+ *
+ * <p>모든 연산은 단일 락으로 직렬화됨 (장애 시 보관용 저장소이므로 처리량보다 단순성 우선)
+ */
+@Slf4j
+public class SegmentLog implements Closeable {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String CURSOR_FILE = "cursor";
+    private static final String CURSOR_TMP_FILE = "cursor.tmp";
+
+    /** 레코드 헤더 크기 (length 4byte + crc32 4byte) */
+    private static final int HEADER_BYTES = 8;
+
+    /** 세그먼트 종료 표시 (다음 세그먼트로 이동) */
+    private static final int END_OF_SEGMENT = -1;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Object lock = new Object();
+
+    private long writeSegmentId;
+    private MappedByteBuffer writeBuffer;
+
+    private long readSegmentId;
+    private int readOffset;
+
+    private long cachedReadSegmentId = -1;
+    private ByteBuffer cachedReadBuffer;
+
+    private long pendingRecords;
+
+    /**
+     * 세그먼트 로그 열기 (기존 세그먼트가 있으면 복구)
+     *
+     * @param directory 세그먼트 저장 디렉터리
+     * @param segmentSize 세그먼트 파일 크기 (byte)
+     * @throws IOException 디렉터리 생성 또는 파일 매핑 실패 시
+     */
+    public SegmentLog(Path directory, int segmentSize) throws IOException {
+        if (segmentSize < 1024) {
+            throw new IllegalArgumentException("segmentSize must be at least 1024: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        open();
+    }
+
+    /** 단일 레코드 추가 */
+    public void append(byte[] payload) throws IOException {
+        appendAll(List.of(payload));
+    }
+
+    /**
+     * 레코드 묶음 추가 (전부 기록되거나 하나도 기록되지 않음)
+     *
+     * <p>세그먼트 전환과 매핑을 먼저 끝낸 뒤 묶음 전체를 한 세그먼트에 이어 쓰고, 첫 레코드의 길이를 마지막에 기록. 중간에 끊기면 첫 레코드가
+     * 미완성으로 남아 재시작 시 묶음 전체가 버려짐
+     *
+     * @param payloads 추가할 레코드
+     */
+    public void appendAll(List<byte[]> payloads) throws IOException {
+        if (payloads.isEmpty()) {
+            return;
+        }
+
+        // 종료 표시를 위한 4byte를 항상 남겨 둠
+        long needed = Integer.BYTES;
+        for (byte[] payload : payloads) {
+            needed += HEADER_BYTES + payload.length;
+        }
+        if (needed > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Batch too large: " + needed + " bytes");
+        }
+
+        synchronized (lock) {
+            if (writeBuffer.remaining() < needed) {
+                if (writeBuffer.position() > 0) {
+                    rollSegment();
+                }
+                if (writeBuffer.capacity() < needed) {
+                    writeBuffer = mapSegment(writeSegmentId, (int) needed);
+                }
+            }
+
+            int start = writeBuffer.position();
+            // 이전에 끊긴 레코드의 길이가 남아 있을 수 있으므로 먼저 지움
+            writeBuffer.putInt(start, 0);
+
+            int position = start;
+            for (byte[] payload : payloads) {
+                CRC32 crc = new CRC32();
+                crc.update(payload);
+
+                writeBuffer.putInt(position + Integer.BYTES, (int) crc.getValue());
+                writeBuffer.put(position + HEADER_BYTES, payload);
+                if (position != start) {
+                    writeBuffer.putInt(position, payload.length);
+                }
+                position += HEADER_BYTES + payload.length;
+            }
+
+            // 재시작 후 덮어쓴 경우 뒤에 남은 이전 레코드가 이어서 읽히지 않도록 끊음
+            writeBuffer.putInt(position, 0);
+            // 첫 레코드 길이를 마지막에 기록하여 묶음이 한 번에 읽히도록 함
+            writeBuffer.putInt(start, payloads.get(0).length);
+            writeBuffer.position(position);
+            pendingRecords += payloads.size();
+        }
+    }
+
+    /**
+     * 일반 세그먼트에 들어가는 최대 레코드 크기
+     *
+     * @return 이보다 큰 레코드는 전용 세그먼트에 기록됨
+     */
+    public int maxRecordBytes() {
+        return segmentSize - HEADER_BYTES - Integer.BYTES;
+    }
+
+    /**
+     * cursor부터 최대 maxRecords개의 레코드 읽기 (cursor는 이동하지 않음)
+     *
+     * @param maxRecords 최대 레코드 수
+     * @return 읽은 레코드와 다음 읽기 위치
+     */
+    public ReadResult read(int maxRecords) throws IOException {
+        synchronized (lock) {
+            List<byte[]> records = new ArrayList<>();
+            long segmentId = readSegmentId;
+            int offset = readOffset;
+
+            while (records.size() < maxRecords) {
+                ByteBuffer buffer = bufferFor(segmentId);
+                int length = (buffer == null) ? END_OF_SEGMENT : recordLengthAt(buffer, offset);
+
+                if (length <= 0) {
+                    // 세그먼트 끝 또는 손상 → 다음 세그먼트가 있으면 이동
+                    if (segmentId < writeSegmentId) {
+                        segmentId++;
+                        offset = 0;
+                        continue;
+                    }
+                    break;
+                }
+
+                byte[] payload = new byte[length];
+                buffer.get(offset + HEADER_BYTES, payload);
+                offset += HEADER_BYTES + length;
+                records.add(payload);
+            }
+
+            return new ReadResult(records, new Position(segmentId, offset));
+        }
+    }
+
+    /**
+     * 읽기 위치를 커밋하고 소비가 끝난 세그먼트 삭제
+     *
+     * @param result {@link #read(int)} 결과
+     */
+    public void commit(ReadResult result) throws IOException {
+        synchronized (lock) {
+            Position position = result.next();
+            long previousSegmentId = readSegmentId;
+            readSegmentId = position.segmentId();
+            readOffset = position.offset();
+            pendingRecords = Math.max(0, pendingRecords - result.records().size());
+            writeCursor();
+
+            for (long id = previousSegmentId; id < readSegmentId; id++) {
+                Files.deleteIfExists(segmentPath(id));
+            }
+            if (cachedReadSegmentId >= 0 && cachedReadSegmentId < readSegmentId) {
+                cachedReadSegmentId = -1;
+                cachedReadBuffer = null;
+            }
+        }
+    }
+
+    /** 아직 커밋되지 않은 레코드 수 */
+    public long size() {
+        synchronized (lock) {
+            return pendingRecords;
+        }
+    }
+
+    /** 매핑된 쓰기 세그먼트를 디스크에 강제 기록 */
+    public void force() {
+        synchronized (lock) {
+            writeBuffer.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            writeBuffer.force();
+            writeCursor();
+        }
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+
+        List<Long> segmentIds = listSegmentIds();
+        Position cursor = readCursor();
+
+        if (segmentIds.isEmpty()) {
+            long initialId = (cursor != null) ? cursor.segmentId() : 0L;
+            writeSegmentId = initialId;
+            writeBuffer = mapSegment(initialId);
+            readSegmentId = initialId;
+            readOffset = 0;
+            pendingRecords = 0;
+            writeCursor();
+            return;
+        }
+
+        long firstId = segmentIds.get(0);
+        long lastId = segmentIds.get(segmentIds.size() - 1);
+
+        // 마지막 세그먼트에서 유효한 데이터의 끝을 찾아 쓰기 위치 복구
+        writeSegmentId = lastId;
+        writeBuffer = mapSegment(lastId);
+        int end = scanEnd(writeBuffer);
+        if (end < 0) {
+            // 이미 종료된 세그먼트 → 새 세그먼트 생성
+            writeSegmentId = lastId + 1;
+            writeBuffer = mapSegment(writeSegmentId);
+        } else {
+            writeBuffer.position(end);
+        }
+
+        if (cursor == null || cursor.segmentId() < firstId) {
+            readSegmentId = firstId;
+            readOffset = 0;
+        } else {
+            readSegmentId = cursor.segmentId();
+            readOffset = cursor.offset();
+        }
+
+        pendingRecords = countPending();
+        log.info(
+                "[SegmentLog] Opened {} (segments={}, pending={})",
+                directory,
+                segmentIds.size(),
+                pendingRecords);
+    }
+
+    private void rollSegment() throws IOException {
+        // 새 세그먼트 매핑에 실패하면 현재 세그먼트를 그대로 유지
+        MappedByteBuffer next = mapSegment(writeSegmentId + 1);
+        writeBuffer.putInt(writeBuffer.position(), END_OF_SEGMENT);
+        writeBuffer.force();
+        writeSegmentId++;
+        writeBuffer = next;
+    }
+
+    /**
+     * 세그먼트의 유효 데이터 끝 위치 탐색
+     *
+     * @return 다음 쓰기 위치 (종료 표시가 있으면 -1)
+     */
+    private int scanEnd(ByteBuffer buffer) {
+        int offset = 0;
+        while (offset + HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(offset);
+            if (length == END_OF_SEGMENT) {
+                return -1;
+            }
+            if (recordLengthAt(buffer, offset) <= 0) {
+                return offset;
+            }
+            offset += HEADER_BYTES + length;
+        }
+        return offset;
+    }
+
+    /**
+     * offset 위치 레코드의 길이 검증
+     *
+     * @return 유효한 레코드 길이 (데이터 끝, 종료 표시, 손상 레코드면 0 이하)
+     */
+    private int recordLengthAt(ByteBuffer buffer, int offset) {
+        if (offset + HEADER_BYTES > buffer.capacity()) {
+            return END_OF_SEGMENT;
+        }
+
+        int length = buffer.getInt(offset);
+        if (length <= 0) {
+            return length;
+        }
+        if ((long) offset + HEADER_BYTES + length > buffer.capacity()) {
+            log.warn("[SegmentLog] Corrupted record length {} at offset {}", length, offset);
+            return 0;
+        }
+
+        byte[] payload = new byte[length];
+        buffer.get(offset + HEADER_BYTES, payload);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        if ((int) crc.getValue() != buffer.getInt(offset + Integer.BYTES)) {
+            log.warn("[SegmentLog] CRC mismatch at offset {}. Discarding torn record.", offset);
+            return 0;
+        }
+        return length;
+    }
+
+    private long countPending() throws IOException {
+        long count = 0;
+        long segmentId = readSegmentId;
+        int offset = readOffset;
+        while (true) {
+            ByteBuffer buffer = bufferFor(segmentId);
+            int length = (buffer == null) ? END_OF_SEGMENT : recordLengthAt(buffer, offset);
+            if (length <= 0) {
+                if (segmentId < writeSegmentId) {
+                    segmentId++;
+                    offset = 0;
+                    continue;
+                }
+                return count;
+            }
+            count++;
+            offset += HEADER_BYTES + length;
+        }
+    }
+
+    private ByteBuffer bufferFor(long segmentId) throws IOException {
+        if (segmentId == writeSegmentId) {
+            return writeBuffer.duplicate();
+        }
+        if (segmentId == cachedReadSegmentId) {
+            return cachedReadBuffer;
+        }
+
+        Path path = segmentPath(segmentId);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            cachedReadBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            cachedReadSegmentId = segmentId;
+            return cachedReadBuffer;
+        }
+    }
+
+    private MappedByteBuffer mapSegment(long segmentId) throws IOException {
+        return mapSegment(segmentId, segmentSize);
+    }
+
+    /**
+     * 세그먼트 파일을 쓰기용으로 매핑
+     *
+     * @param minSize 최소 매핑 크기 (기존 전용 세그먼트가 더 크면 파일 크기 그대로)
+     */
+    private MappedByteBuffer mapSegment(long segmentId, int minSize) throws IOException {
+        try (FileChannel channel =
+                FileChannel.open(
+                        segmentPath(segmentId),
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE)) {
+            long size = Math.max(Math.max(minSize, segmentSize), channel.size());
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private List<Long> listSegmentIds() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - 4)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Position readCursor() throws IOException {
+        Path path = directory.resolve(CURSOR_FILE);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (buffer.remaining() < Long.BYTES + Integer.BYTES) {
+            return null;
+        }
+        return new Position(buffer.getLong(), buffer.getInt());
+    }
+
+    private void writeCursor() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES);
+        buffer.putLong(readSegmentId).putInt(readOffset);
+        Path tmp = directory.resolve(CURSOR_TMP_FILE);
+        Files.write(tmp, buffer.array());
+        Files.move(
+                tmp,
+                directory.resolve(CURSOR_FILE),
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path segmentPath(long segmentId) {
+        return directory.resolve(String.format("%020d%s", segmentId, SEGMENT_SUFFIX));
+    }
+
+    /** 세그먼트 내 읽기 위치 */
+    public record Position(long segmentId, int offset) {}
+
+    /** 읽기 결과 (커밋 시 next 위치로 cursor 이동) */
+    public record ReadResult(List<byte[]> records, Position next) {
+
+        public boolean isEmpty() {
+            return records.isEmpty();
+        }
+    }
+}
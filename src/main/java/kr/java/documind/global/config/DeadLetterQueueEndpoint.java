@@ -0,0 +1,37 @@
+package kr.java.documind.global.config;
+
+import java.util.Map;
+import kr.java.documind.domain.logprocessor.service.LogBufferService;
+import kr.java.documind.domain.logprocessor.service.dlq.DeadLetterStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dead Letter Queue Actuator Endpoint
+ *
+ * <p>GET /actuator/dlq: 재시도 대기/보존 로그 수 조회
+ *
+ * <p>POST /actuator/dlq: DLQ 일괄 재처리 요청
+ */
+@Component
+@Endpoint(id = "dlq")
+@RequiredArgsConstructor
+public class DeadLetterQueueEndpoint {
+
+    private final DeadLetterStore deadLetterStore;
+    private final LogBufferService logBufferService;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Map.of("pending", deadLetterStore.size(), "parked", deadLetterStore.parkedSize());
+    }
+
+    @WriteOperation
+    public Map<String, Object> replay() {
+        int replayed = logBufferService.replayDeadLetterQueue();
+        return Map.of("replayed", replayed, "pending", deadLetterStore.size());
+    }
+}
@@ -1,6 +1,7 @@
 package kr.java.documind.global.config;
 
 import jakarta.annotation.PostConstruct;
+import kr.java.documind.domain.logprocessor.service.shard.StreamShards;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,28 +15,28 @@ import org.springframework.data.redis.connection.stream.ReadOffset;
 @RequiredArgsConstructor
 public class RedisStreamConfig {
 
-    @Value("${redis.stream.key}")
-    private String streamKey;
-
     @Value("${redis.stream.group}")
     private String consumerGroup;
 
     private final RedisConnectionFactory redisConnectionFactory;
+    private final StreamShards streamShards;
 
-    /** Consumer Group 초기화 Scheduled 폴링 방식에서도 Consumer Group이 필요하므로 초기화 */
+    /** Consumer Group 초기화 Scheduled 폴링 방식에서도 Consumer Group이 필요하므로 초기화 (샤드마다 생성) */
     @PostConstruct
     public void initConsumerGroup() {
-        createConsumerGroupIfNotExists();
+        for (String streamKey : streamShards.keys()) {
+            createConsumerGroupIfNotExists(streamKey);
+        }
     }
 
-    private void createConsumerGroupIfNotExists() {
+    private void createConsumerGroupIfNotExists(String streamKey) {
         // try-with-resources로 Connection을 안전하게 닫음
         try (var connection = redisConnectionFactory.getConnection()) {
             connection
                     .streamCommands()
                     .xGroupCreate(
                             streamKey.getBytes(), consumerGroup, ReadOffset.from("0-0"), true);
-            log.info("Redis Stream consumer group created: {}", consumerGroup);
+            log.info("Redis Stream consumer group created: {} on {}", consumerGroup, streamKey);
         } catch (Exception e) {
             // Root Cause의 메시지까지 확인하여 "already exists" 에러 감지
             String rootMessage = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
@@ -43,7 +44,7 @@ public class RedisStreamConfig {
             if (rootMessage != null && rootMessage.contains("BUSYGROUP")) {
                 log.debug("Consumer group already exists: {}", consumerGroup);
             } else {
-                log.error("Failed to create Redis Stream consumer group", e);
+                log.error("Failed to create Redis Stream consumer group on {}", streamKey, e);
             }
         }
     }
@@ -0,0 +1,43 @@
+package kr.java.documind.global.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import kr.java.documind.domain.logprocessor.service.LogStreamListener;
+import kr.java.documind.domain.logprocessor.service.StreamConsumerMembership;
+import kr.java.documind.domain.logprocessor.service.StreamConsumerMembership.GroupConsumer;
+import kr.java.documind.domain.logprocessor.service.shard.StreamShards;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Stream Consumer 그룹 Actuator Endpoint
+ *
+ * <p>GET /actuator/streamconsumers: 이 인스턴스의 Consumer 이름, 등록된 인스턴스 하트비트, 샤드별 그룹 Consumer의 PEL 크기
+ * 조회
+ */
+@Component
+@Endpoint(id = "streamconsumers")
+@RequiredArgsConstructor
+public class StreamConsumerEndpoint {
+
+    private final StreamConsumerMembership membership;
+    private final LogStreamListener logStreamListener;
+    private final StreamShards streamShards;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, List<GroupConsumer>> groupConsumers = new LinkedHashMap<>();
+        for (String streamKey : streamShards.keys()) {
+            groupConsumers.put(streamKey, membership.groupConsumers(streamKey));
+        }
+
+        return Map.of(
+                "instanceId", membership.getInstanceId(),
+                "consumers", logStreamListener.getConsumerNames(),
+                "members", membership.members(),
+                "groupConsumers", groupConsumers);
+    }
+}
@@ -0,0 +1,20 @@
+-- V6: log_burst_summary 테이블 생성
+-- 버스트 중복 제거로 원본 저장을 생략한 로그의 (프로젝트, fingerprint, 윈도우)별 집계
+
+CREATE TABLE log_burst_summary (
+    project_id UUID NOT NULL,
+    fingerprint VARCHAR(64) NOT NULL,
+    window_start TIMESTAMP WITH TIME ZONE NOT NULL,   -- 집계 윈도우 시작 시각
+    suppressed_count BIGINT NOT NULL,                 -- 원본 저장을 생략한 로그 수
+    first_occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (project_id, fingerprint, window_start)
+);
+
+-- 최근 윈도우 순 조회
+CREATE INDEX idx_log_burst_summary_window_start ON log_burst_summary (window_start DESC);
+
+-- 코멘트 추가
+COMMENT ON TABLE log_burst_summary IS '버스트 중복 제거 집계 (윈도우별 처음 N건만 game_log에 저장)';
+COMMENT ON COLUMN log_burst_summary.suppressed_count IS 'game_log에 저장하지 않은 동일 fingerprint 로그 수';
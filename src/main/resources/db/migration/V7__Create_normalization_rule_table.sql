@@ -0,0 +1,20 @@
+-- V7: normalization_rule 테이블 생성
+-- 프로젝트별 메시지 정규화 규칙 ("접두어 + 값" 형태의 고유 ID를 플레이스홀더로 치환)
+
+CREATE TABLE normalization_rule (
+    rule_id UUID PRIMARY KEY,
+    project_id UUID NOT NULL,
+    token_prefix VARCHAR(100) NOT NULL,       -- 토큰 접두어 (예: guild_)
+    value_type VARCHAR(20) NOT NULL,          -- DIGITS, HEX, ALPHANUMERIC
+    replacement VARCHAR(100) NOT NULL,        -- 치환 문자열 (예: guild_N)
+    enabled BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT unique_normalization_rule_prefix UNIQUE (project_id, token_prefix),
+    CONSTRAINT check_normalization_rule_prefix CHECK (token_prefix <> '')
+);
+
+-- 코멘트 추가
+COMMENT ON TABLE normalization_rule IS '프로젝트별 메시지 정규화 규칙 (워커가 주기적으로 다시 읽음)';
+COMMENT ON COLUMN normalization_rule.token_prefix IS '단어 문자로 시작하면 앞에 단어 경계가 있어야 일치';
+COMMENT ON COLUMN normalization_rule.value_type IS '접두어 뒤 값 형식 (값 뒤에는 단어 문자가 오지 않아야 함)';
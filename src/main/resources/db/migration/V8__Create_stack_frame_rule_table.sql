@@ -0,0 +1,18 @@
+-- V8: stack_frame_rule 테이블 생성
+-- 프로젝트별 스택 프레임 분류 규칙 (패키지 접두어 → 애플리케이션/라이브러리 프레임)
+
+CREATE TABLE stack_frame_rule (
+    rule_id UUID PRIMARY KEY,
+    project_id UUID NOT NULL,
+    package_prefix VARCHAR(200) NOT NULL,     -- 패키지 접두어 (예: com.mystudio.)
+    frame_type VARCHAR(20) NOT NULL,          -- APP, LIBRARY
+    enabled BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT unique_stack_frame_rule_prefix UNIQUE (project_id, package_prefix),
+    CONSTRAINT check_stack_frame_rule_prefix CHECK (package_prefix <> '')
+);
+
+-- 코멘트 추가
+COMMENT ON TABLE stack_frame_rule IS '프로젝트별 스택 프레임 분류 규칙 (기본 규칙에 더해 적용, 워커가 주기적으로 다시 읽음)';
+COMMENT ON COLUMN stack_frame_rule.package_prefix IS '클래스 전체 이름 접두어 (여러 규칙이 맞으면 가장 긴 접두어 적용)';
@@ -0,0 +1,31 @@
+-- V9: 핑거프린트 해시 방식 버전 관리
+-- 프로젝트별 해시 방식 설정과 SHA-256 핑거프린트 → 새 방식 핑거프린트 이전 기록
+
+-- 1. 프로젝트별 해시 방식 (행이 없으면 SHA256)
+CREATE TABLE fingerprint_scheme_setting (
+    project_id UUID PRIMARY KEY,
+    scheme VARCHAR(20) NOT NULL,              -- SHA256, MURMUR3_128
+    legacy_lookup BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- 2. 이슈 핑거프린트 이전 기록 (이슈가 새 핑거프린트로 처음 매칭될 때 한 번 기록)
+CREATE TABLE fingerprint_migration (
+    migration_id UUID PRIMARY KEY,
+    project_id UUID NOT NULL,
+    issue_id UUID NOT NULL,
+    legacy_fingerprint VARCHAR(64) NOT NULL,  -- 이전 SHA-256 핑거프린트
+    fingerprint VARCHAR(64) NOT NULL,         -- 새 방식 핑거프린트
+    migrated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT unique_fingerprint_migration_legacy UNIQUE (project_id, legacy_fingerprint)
+);
+
+-- 새 핑거프린트로 이전 핑거프린트 조회 (이전 로그를 이슈와 연결)
+CREATE INDEX idx_fingerprint_migration_fingerprint ON fingerprint_migration (fingerprint, project_id);
+
+-- 코멘트 추가
+COMMENT ON TABLE fingerprint_scheme_setting IS '프로젝트별 핑거프린트 해시 방식 (워커가 주기적으로 다시 읽음)';
+COMMENT ON COLUMN fingerprint_scheme_setting.legacy_lookup IS '새 핑거프린트로 이슈가 없으면 SHA-256 핑거프린트로 찾아 옮김 (이전이 끝나면 끄면 SHA-256 계산 생략)';
+COMMENT ON TABLE fingerprint_migration IS '이슈 키를 SHA-256에서 새 방식 핑거프린트로 옮긴 기록';
+COMMENT ON COLUMN issue.fingerprint IS '그룹핑 해시 (v1: SHA-256 64자 hex, v2: "2:" + MurmurHash3 128비트 base64url 22자)';
@@ -0,0 +1,89 @@
+package kr.java.documind.domain.issue.service.fingerprint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import kr.java.documind.domain.issue.model.enums.FingerprintQuality;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("FingerprintCache 테스트")
+class FingerprintCacheTest {
+
+    private static final UUID PROJECT_ID = UUID.randomUUID();
+
+    // 헬퍼 메서드: 결과 생성
+    private FingerprintResult result(String fingerprint) {
+        return FingerprintResult.builder()
+                .fingerprint(fingerprint)
+                .quality(FingerprintQuality.HIGH)
+                .strategy("Full Stacktrace")
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 archive는 저장된 결과를 그대로 반환")
+    void get_sameArchive_returnsCachedResult() {
+        // given
+        FingerprintCache cache = new FingerprintCache(100);
+        FingerprintResult stored = result("fp-1");
+        cache.put(PROJECT_ID, 0L, "java.lang.NullPointerException: boom", stored);
+
+        // then
+        assertThat(cache.get(PROJECT_ID, 0L, "java.lang.NullPointerException: boom"))
+                .isSameAs(stored);
+        assertThat(cache.get(PROJECT_ID, 0L, "java.lang.NullPointerException: bang")).isNull();
+    }
+
+    @Test
+    @DisplayName("프로젝트나 정규화 규칙 버전이 다르면 조회되지 않음")
+    void get_otherProjectOrRulesVersion_misses() {
+        // given
+        FingerprintCache cache = new FingerprintCache(100);
+        cache.put(PROJECT_ID, 0L, "java.lang.NullPointerException: boom", result("fp-1"));
+
+        // then
+        assertThat(cache.get(UUID.randomUUID(), 0L, "java.lang.NullPointerException: boom"))
+                .isNull();
+        assertThat(cache.get(PROJECT_ID, 1L, "java.lang.NullPointerException: boom")).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 오래 조회되지 않은 항목부터 제거")
+    void put_overCapacity_evictsLeastRecentlyUsed() {
+        // given
+        FingerprintCache cache = new FingerprintCache(16);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(PROJECT_ID, 0L, "archive-" + i, result("fp-" + i));
+        }
+
+        // then
+        assertThat(cache.size()).isLessThanOrEqualTo(16);
+        assertThat(cache.get(PROJECT_ID, 0L, "archive-0")).isNull();
+    }
+
+    @Test
+    @DisplayName("64비트 해시: 같은 문자열은 같은 값, 한 글자만 달라도 다른 값")
+    void hash64_stableAndSensitive() {
+        // then
+        assertThat(FingerprintCache.hash64("at kr.game.Player.load(Player.java:42)"))
+                .isEqualTo(FingerprintCache.hash64("at kr.game.Player.load(Player.java:42)"))
+                .isNotEqualTo(FingerprintCache.hash64("at kr.game.Player.load(Player.java:43)"));
+    }
+
+    @Test
+    @DisplayName("크기가 0이면 저장하지 않음")
+    void disabled_storesNothing() {
+        // given
+        FingerprintCache cache = FingerprintCache.disabled();
+
+        // when
+        cache.put(PROJECT_ID, 0L, "archive", result("fp"));
+
+        // then
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(cache.get(PROJECT_ID, 0L, "archive")).isNull();
+    }
+}
@@ -3,19 +3,28 @@ package kr.java.documind.domain.issue.service.fingerprint;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import kr.java.documind.domain.issue.model.entity.NormalizationRule;
+import kr.java.documind.domain.issue.model.entity.StackFrameRule;
 import kr.java.documind.domain.issue.model.enums.FingerprintQuality;
+import kr.java.documind.domain.issue.model.enums.FingerprintScheme;
+import kr.java.documind.domain.issue.model.enums.FrameType;
+import kr.java.documind.domain.issue.model.enums.TokenValueType;
 import kr.java.documind.domain.logprocessor.model.entity.GameLog;
 import kr.java.documind.domain.logprocessor.model.enums.EventCategory;
 import kr.java.documind.domain.logprocessor.model.enums.LogSeverity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @DisplayName("FingerprintGenerator 테스트")
 class FingerprintGeneratorTest {
 
+    private static final UUID PROJECT_ID = UUID.randomUUID();
+
     private FingerprintGenerator generator;
     private MessageNormalizer messageNormalizer;
     private StackFrameFilter stackFrameFilter;
@@ -49,6 +58,8 @@ class FingerprintGeneratorTest {
         assertThat(result.getStrategy()).isEqualTo("Full Stacktrace");
         assertThat(result.getFingerprint()).hasSize(64); // SHA-256 hex
         assertThat(result.requiresReview()).isFalse();
+        assertThat(result.getTitle())
+                .isEqualTo("java.lang.NullPointerException: Cannot invoke method on null object");
     }
 
     @Test
@@ -228,13 +239,173 @@ class FingerprintGeneratorTest {
         assertThat(fallbackResult.requiresReview()).isTrue(); // FALLBACK은 수동 검토
     }
 
+    @Test
+    @DisplayName("캐시 사용 시 같은 archive는 저장된 결과를 재사용")
+    void generate_withCache_reusesResultForSameArchive() {
+        // given
+        ReflectionTestUtils.setField(generator, "cacheSize", 100);
+        generator.init();
+        String archive =
+                """
+                java.lang.IllegalStateException: Invalid state
+                at kr.java.documind.service.A.method(A.java:1)
+                at kr.java.documind.service.B.method(B.java:2)
+                at kr.java.documind.service.C.method(C.java:3)
+                """;
+
+        // when
+        FingerprintResult first = generator.generate(createGameLog(archive));
+        FingerprintResult second = generator.generate(createGameLog(archive));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getQuality()).isEqualTo(FingerprintQuality.HIGH);
+    }
+
+    @Test
+    @DisplayName("캐시 사용 시에도 폴백 결과는 카테고리별로 새로 생성")
+    void generate_withCache_doesNotCacheFallback() {
+        // given
+        ReflectionTestUtils.setField(generator, "cacheSize", 100);
+        generator.init();
+        String archive = "   \n   "; // 공백뿐인 본문
+
+        // when
+        FingerprintResult system = generator.generate(createGameLog(archive));
+        FingerprintResult network =
+                generator.generate(createGameLog(archive, EventCategory.NETWORK));
+
+        // then
+        assertThat(system.getQuality()).isEqualTo(FingerprintQuality.FALLBACK);
+        assertThat(network.getQuality()).isEqualTo(FingerprintQuality.FALLBACK);
+        assertThat(network.getFingerprint()).isNotEqualTo(system.getFingerprint());
+    }
+
+    @Test
+    @DisplayName("프로젝트 정규화 규칙이 바뀌면 캐시된 결과 대신 새 규칙으로 생성")
+    void generate_withCache_projectRulesChange_regenerates() {
+        // given
+        ReflectionTestUtils.setField(generator, "cacheSize", 100);
+        generator.init();
+        String first = "java.lang.IllegalStateException: guild_1024 is full";
+        String second = "java.lang.IllegalStateException: guild_2048 is full";
+        FingerprintResult before = generator.generate(createGameLog(first));
+
+        // when
+        NormalizationRule rule =
+                NormalizationRule.builder()
+                        .ruleId(UUID.randomUUID())
+                        .projectId(PROJECT_ID)
+                        .tokenPrefix("guild_")
+                        .valueType(TokenValueType.DIGITS)
+                        .replacement("guild_N")
+                        .enabled(true)
+                        .createdAt(OffsetDateTime.now())
+                        .updatedAt(OffsetDateTime.now())
+                        .build();
+        messageNormalizer.replaceProjectRules(
+                Map.of(PROJECT_ID, ProjectTokenRules.compile(List.of(rule))));
+        FingerprintResult after1 = generator.generate(createGameLog(first));
+        FingerprintResult after2 = generator.generate(createGameLog(second));
+
+        // then
+        assertThat(after1).isNotSameAs(before);
+        assertThat(after1.getFingerprint()).isNotEqualTo(before.getFingerprint());
+        assertThat(after2.getFingerprint()).isEqualTo(after1.getFingerprint());
+    }
+
+    @Test
+    @DisplayName("프로젝트 프레임 규칙이 등록되면 같은 archive도 스택트레이스 전략으로 다시 생성")
+    void generate_withCache_frameRulesChange_regenerates() {
+        // given
+        ReflectionTestUtils.setField(generator, "cacheSize", 100);
+        generator.init();
+        String archive =
+                """
+                java.lang.NullPointerException: Player not found
+                    at io.mystudio.player.PlayerService.loadPlayer(PlayerService.java:42)
+                    at io.mystudio.game.GameController.startGame(GameController.java:15)
+                    at io.mystudio.inventory.InventoryService.addItem(InventoryService.java:28)
+                """;
+        FingerprintResult before = generator.generate(createGameLog(archive));
+
+        // when
+        StackFrameRule rule =
+                StackFrameRule.builder()
+                        .ruleId(UUID.randomUUID())
+                        .projectId(PROJECT_ID)
+                        .packagePrefix("io.mystudio.")
+                        .frameType(FrameType.APP)
+                        .enabled(true)
+                        .createdAt(OffsetDateTime.now())
+                        .updatedAt(OffsetDateTime.now())
+                        .build();
+        stackFrameFilter.replaceRules(StackFrameRules.compile(List.of(rule)));
+        FingerprintResult after = generator.generate(createGameLog(archive));
+
+        // then
+        assertThat(before.getQuality()).isEqualTo(FingerprintQuality.LOW);
+        assertThat(after.getQuality()).isEqualTo(FingerprintQuality.HIGH);
+    }
+
+    @Test
+    @DisplayName("MURMUR3_128 프로젝트는 짧은 v2 핑거프린트 생성, 이전 중이면 SHA-256 핑거프린트도 포함")
+    void generate_murmurScheme_withLegacyLookup() {
+        // given
+        String archive = "java.lang.IllegalStateException: Inventory is full";
+        FingerprintResult sha256 = generator.generate(createGameLog(archive));
+
+        // when
+        generator.replaceSchemes(
+                Map.of(
+                        PROJECT_ID,
+                        new ProjectFingerprintScheme(FingerprintScheme.MURMUR3_128, true)));
+        FingerprintResult murmur = generator.generate(createGameLog(archive));
+
+        // then
+        assertThat(sha256.getFingerprint()).hasSize(64);
+        assertThat(sha256.getLegacyFingerprint()).isNull();
+        assertThat(murmur.getFingerprint()).startsWith("2:").hasSize(24);
+        assertThat(FingerprintScheme.of(murmur.getFingerprint()))
+                .isEqualTo(FingerprintScheme.MURMUR3_128);
+        assertThat(murmur.getLegacyFingerprint()).isEqualTo(sha256.getFingerprint());
+    }
+
+    @Test
+    @DisplayName("이전이 끝난 프로젝트는 SHA-256을 계산하지 않고, 해시 방식이 바뀌면 캐시 대신 새로 생성")
+    void generate_withCache_schemeChange_regenerates() {
+        // given
+        ReflectionTestUtils.setField(generator, "cacheSize", 100);
+        generator.init();
+        String archive = "java.lang.IllegalStateException: Inventory is full";
+        FingerprintResult before = generator.generate(createGameLog(archive));
+
+        // when
+        generator.replaceSchemes(
+                Map.of(
+                        PROJECT_ID,
+                        new ProjectFingerprintScheme(FingerprintScheme.MURMUR3_128, false)));
+        FingerprintResult after = generator.generate(createGameLog(archive));
+
+        // then
+        assertThat(FingerprintScheme.of(before.getFingerprint()))
+                .isEqualTo(FingerprintScheme.SHA256);
+        assertThat(FingerprintScheme.of(after.getFingerprint()))
+                .isEqualTo(FingerprintScheme.MURMUR3_128);
+        assertThat(after.getLegacyFingerprint()).isNull();
+    }
+
     private GameLog createGameLog(String archive) {
+        return createGameLog(archive, EventCategory.SYSTEM);
+    }
+
+    private GameLog createGameLog(String archive, EventCategory eventCategory) {
         return GameLog.builder()
                 .logId(UUID.randomUUID())
-                .projectId(UUID.randomUUID())
+                .projectId(PROJECT_ID)
                 .sessionId("test-session")
                 .severity(LogSeverity.ERROR)
-                .eventCategory(EventCategory.SYSTEM)
+                .eventCategory(eventCategory)
                 .archive(archive)
                 .occurredAt(OffsetDateTime.now())
                 .ingestedAt(OffsetDateTime.now())
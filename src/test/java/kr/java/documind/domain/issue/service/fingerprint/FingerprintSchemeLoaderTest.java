@@ -0,0 +1,105 @@
+package kr.java.documind.domain.issue.service.fingerprint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import kr.java.documind.domain.issue.model.entity.FingerprintSchemeSetting;
+import kr.java.documind.domain.issue.model.enums.FingerprintScheme;
+import kr.java.documind.domain.issue.model.repository.FingerprintSchemeSettingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FingerprintSchemeLoader 단위 테스트")
+class FingerprintSchemeLoaderTest {
+
+    private static final UUID PROJECT_ID = UUID.randomUUID();
+
+    @Mock private FingerprintSchemeSettingRepository fingerprintSchemeSettingRepository;
+
+    private FingerprintGenerator fingerprintGenerator;
+    private FingerprintSchemeLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        fingerprintGenerator =
+                new FingerprintGenerator(new MessageNormalizer(), new StackFrameFilter());
+        loader =
+                new FingerprintSchemeLoader(
+                        fingerprintSchemeSettingRepository, fingerprintGenerator);
+    }
+
+    @Test
+    @DisplayName("설정을 읽어 적용하고, 설정이 그대로면 교체하지 않음")
+    void refresh_appliesSchemes_andSkipsUnchanged() {
+        // given
+        when(fingerprintSchemeSettingRepository.findAll())
+                .thenReturn(List.of(createSetting(FingerprintScheme.MURMUR3_128)))
+                .thenReturn(List.of(createSetting(FingerprintScheme.MURMUR3_128)));
+
+        // when
+        loader.refresh();
+        loader.refresh();
+
+        // then
+        assertThat(projectSchemes())
+                .containsEntry(
+                        PROJECT_ID,
+                        new ProjectFingerprintScheme(FingerprintScheme.MURMUR3_128, true));
+        assertThat(ReflectionTestUtils.getField(fingerprintGenerator, "schemesVersion"))
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("조회 실패 시 기존 설정 유지, 잘못된 설정은 건너뜀")
+    void refresh_failureOrInvalidSetting_keepsPreviousSchemes() {
+        // given
+        FingerprintSchemeSetting invalid =
+                FingerprintSchemeSetting.builder()
+                        .projectId(UUID.randomUUID())
+                        .legacyLookup(true)
+                        .createdAt(OffsetDateTime.parse("2024-03-05T10:30:45Z"))
+                        .updatedAt(OffsetDateTime.parse("2024-03-05T10:30:45Z"))
+                        .build();
+        when(fingerprintSchemeSettingRepository.findAll())
+                .thenReturn(List.of(createSetting(FingerprintScheme.MURMUR3_128), invalid))
+                .thenThrow(new DataAccessResourceFailureException("DB down"));
+
+        // when
+        loader.refresh();
+        loader.refresh();
+
+        // then
+        assertThat(projectSchemes()).containsOnlyKeys(PROJECT_ID);
+        assertThat(ReflectionTestUtils.getField(fingerprintGenerator, "schemesVersion"))
+                .isEqualTo(1L);
+    }
+
+    // 헬퍼 메서드: 생성기에 적용된 프로젝트 해시 방식
+    @SuppressWarnings("unchecked")
+    private Map<UUID, ProjectFingerprintScheme> projectSchemes() {
+        return (Map<UUID, ProjectFingerprintScheme>)
+                ReflectionTestUtils.getField(fingerprintGenerator, "projectSchemes");
+    }
+
+    // 헬퍼 메서드: 해시 방식 설정 생성
+    private FingerprintSchemeSetting createSetting(FingerprintScheme scheme) {
+        return FingerprintSchemeSetting.builder()
+                .projectId(PROJECT_ID)
+                .scheme(scheme)
+                .legacyLookup(true)
+                .createdAt(OffsetDateTime.parse("2024-03-05T10:30:45Z"))
+                .updatedAt(OffsetDateTime.parse("2024-03-05T10:30:45Z"))
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package kr.java.documind.domain.issue.service.fingerprint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * 메시지 정규화 처리 시간 비교 (기존 정규식 8단계 체인 vs 단일 패스 스캐너)
+ *
+ * <p>시간이 오래 걸리므로 기본 빌드에서는 제외. 실행: {@code NORMALIZER_BENCHMARK=true ./gradlew test --tests
+ * '*MessageNormalizerBenchmarkTest'}
+ */
+@EnabledIfEnvironmentVariable(named = "NORMALIZER_BENCHMARK", matches = "true")
+@DisplayName("MessageNormalizer 벤치마크")
+class MessageNormalizerBenchmarkTest {
+
+    private static final int ITERATIONS = 1_000_000;
+    private static final int LONG_ITERATIONS = 2_000;
+
+    private static final List<String> MESSAGES =
+            List.of(
+                    "Player player_12345 (550e8400-e29b-41d4-a716-446655440000) from 192.168.1.100"
+                            + " failed to load item_weapon_999 at 2024-03-05T10:30:45Z in"
+                            + " C:\\Game\\items\\config.xml with error @a1b2c3d4",
+                    "Cannot invoke \"Inventory.getItem(int)\" because \"this.inventory\" is null",
+                    "Connection timeout after 30000 ms to 10.0.0.5:8080",
+                    "Failed to load /home/user/game/config/settings.json",
+                    "Index 15 out of bounds for length 10",
+                    "NullPointerException");
+
+    // 경로 구분자가 많은 긴 메시지 (기존 FILE_PATH_PATTERN의 역추적이 큰 입력)
+    private static final String LONG_MESSAGE =
+            "Failed to parse payload " + "a/b c d e f g h ".repeat(500) + ":";
+
+    private final MessageNormalizer normalizer = new MessageNormalizer();
+
+    @Test
+    @DisplayName("단일 패스 스캐너와 정규식 체인의 메시지당 처리 시간을 비교한다")
+    void compareNormalizationTime() {
+        // 결과가 같은지 먼저 확인
+        for (String message : MESSAGES) {
+            assertThat(normalizer.normalize(message))
+                    .isEqualTo(RegexChainNormalizer.normalize(message));
+        }
+        assertThat(normalizer.normalize(LONG_MESSAGE))
+                .isEqualTo(RegexChainNormalizer.normalize(LONG_MESSAGE));
+
+        report("typical", MESSAGES, ITERATIONS);
+        report("long path-like", List.of(LONG_MESSAGE), LONG_ITERATIONS);
+    }
+
+    private void report(String name, List<String> messages, int iterations) {
+        // 워밍업 (JIT)
+        measure(messages, iterations / 4, true);
+        measure(messages, iterations / 4, false);
+
+        double regexNanos = measure(messages, iterations, true);
+        double scannerNanos = measure(messages, iterations, false);
+
+        System.out.printf(
+                "[MessageNormalizerBenchmark] %s: regex=%.0f ns/msg scanner=%.0f ns/msg (x%.1f)%n",
+                name, regexNanos, scannerNanos, regexNanos / scannerNanos);
+    }
+
+    private double measure(List<String> messages, int iterations, boolean regexChain) {
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            String message = messages.get(i % messages.size());
+            String normalized =
+                    regexChain
+                            ? RegexChainNormalizer.normalize(message)
+                            : normalizer.normalize(message);
+            checksum += normalized.length();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        assertThat(checksum).isPositive();
+        return (double) elapsedNanos / iterations;
+    }
+
+    /** 비교 기준: 단일 패스 스캐너 도입 전 정규식 8단계 체인 */
+    private static final class RegexChainNormalizer {
+
+        private static final Pattern NUMBER_PATTERN = Pattern.compile("\\b\\d+\\b");
+        private static final Pattern UUID_PATTERN =
+                Pattern.compile(
+                        "\\b[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}\\b");
+        private static final Pattern IP_PATTERN =
+                Pattern.compile("\\b(?:\\d{1,3}\\.){3}\\d{1,3}\\b");
+        private static final Pattern TIMESTAMP_PATTERN =
+                Pattern.compile(
+                        "\\d{4}-\\d{2}-\\d{2}[T ]\\d{2}:\\d{2}:\\d{2}(?:\\.\\d+)?(?:Z|[+-]\\d{2}:\\d{2})?");
+        private static final Pattern FILE_PATH_PATTERN =
+                Pattern.compile(
+                        "(?:[A-Za-z]:\\\\|/)(?:[^\\\\/:*?\"<>|\\r\\n]+[\\\\/])*([^\\\\/:*?\"<>|\\r\\n]+)");
+        private static final Pattern HEX_ADDRESS_PATTERN = Pattern.compile("@[0-9a-fA-F]+");
+        private static final Pattern PLAYER_ID_PATTERN = Pattern.compile("\\bplayer_\\d+\\b");
+        private static final Pattern ITEM_ID_PATTERN =
+                Pattern.compile("\\bitem_([a-zA-Z]+)_\\d+\\b");
+
+        static String normalize(String message) {
+            String normalized = UUID_PATTERN.matcher(message).replaceAll("UUID");
+            normalized = IP_PATTERN.matcher(normalized).replaceAll("IP");
+            normalized = TIMESTAMP_PATTERN.matcher(normalized).replaceAll("TIMESTAMP");
+            normalized =
+                    FILE_PATH_PATTERN
+                            .matcher(normalized)
+                            .replaceAll(matchResult -> "PATH/" + matchResult.group(1));
+            normalized = PLAYER_ID_PATTERN.matcher(normalized).replaceAll("player_N");
+            normalized =
+                    ITEM_ID_PATTERN
+                            .matcher(normalized)
+                            .replaceAll(matchResult -> "item_" + matchResult.group(1) + "_N");
+            normalized = HEX_ADDRESS_PATTERN.matcher(normalized).replaceAll("@ADDR");
+            return NUMBER_PATTERN.matcher(normalized).replaceAll("N");
+        }
+    }
+}
@@ -2,6 +2,12 @@ package kr.java.documind.domain.issue.service.fingerprint;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import kr.java.documind.domain.issue.model.entity.NormalizationRule;
+import kr.java.documind.domain.issue.model.enums.TokenValueType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -176,4 +182,110 @@ class MessageNormalizerTest {
         assertThat(result1).isEqualTo(result2);
         assertThat(result1).isEqualTo("Player player_N failed to load item_weapon_N");
     }
+
+    @Test
+    @DisplayName("기존 정규식 체인과 같은 결과: 경로 바로 앞 숫자, 주소 안 UUID, 숫자에 붙은 타임스탬프")
+    void normalizeOverlappingTokensLikeRegexChain() {
+        assertThat(normalizer.normalize("Retry 3/5 failed")).isEqualTo("Retry 3PATH/N failed");
+        assertThat(normalizer.normalize("Object @550e8400-e29b-41d4-a716-446655440000 released"))
+                .isEqualTo("Object @UUID released");
+        assertThat(normalizer.normalize("Batch 12024-03-05T10:30:45Z"))
+                .isEqualTo("Batch 1TIMESTAMP");
+    }
+
+    @Test
+    @DisplayName("파일명에 '$'가 있어도 그대로 유지")
+    void normalizeFilePathWithDollarSign() {
+        // given
+        String message = "Upload failed: /tmp/$tmp.json";
+
+        // when
+        String result = normalizer.normalize(message);
+
+        // then
+        assertThat(result).isEqualTo("Upload failed: PATH/$tmp.json");
+    }
+
+    @Test
+    @DisplayName("치환할 토큰이 없으면 원본 문자열을 그대로 반환")
+    void normalizeWithoutTokensReturnsSameInstance() {
+        // given
+        String message = "Cannot invoke method on null object";
+
+        // when & then
+        assertThat(normalizer.normalize(message)).isSameAs(message);
+    }
+
+    @Test
+    @DisplayName("프로젝트 규칙: 해당 프로젝트 메시지에만 적용되고 기본 규칙보다 우선")
+    void normalizeWithProjectRules() {
+        // given
+        UUID projectId = UUID.randomUUID();
+        useRules(
+                projectId,
+                createRule(projectId, "guild_", TokenValueType.DIGITS, "guild_N"),
+                createRule(projectId, "ORD-", TokenValueType.ALPHANUMERIC, "ORD-ID"),
+                createRule(projectId, "#", TokenValueType.DIGITS, "#N"));
+        String message = "Quest 7 failed for guild_1024 (order ORD-8F3A, slot #12)";
+
+        // when
+        String result = normalizer.normalize(projectId, message);
+        String otherProject = normalizer.normalize(UUID.randomUUID(), message);
+
+        // then
+        assertThat(result).isEqualTo("Quest N failed for guild_N (order ORD-ID, slot #N)");
+        assertThat(otherProject)
+                .isEqualTo("Quest N failed for guild_1024 (order ORD-8F3A, slot #N)");
+    }
+
+    @Test
+    @DisplayName("프로젝트 규칙: 앞뒤가 단어 문자로 이어지거나 값 형식이 다르면 치환하지 않음")
+    void normalizeWithProjectRulesRequiresBoundaries() {
+        // given
+        UUID projectId = UUID.randomUUID();
+        useRules(
+                projectId,
+                createRule(projectId, "guild_", TokenValueType.DIGITS, "guild_N"),
+                createRule(projectId, "guild_x", TokenValueType.HEX, "guild_xH"));
+
+        // then
+        assertThat(normalizer.normalize(projectId, "myguild_12 guild_12a guild_"))
+                .isEqualTo("myguild_12 guild_12a guild_");
+        assertThat(normalizer.normalize(projectId, "guild_xff00 guild_x12z"))
+                .isEqualTo("guild_xH guild_x12z");
+    }
+
+    @Test
+    @DisplayName("프로젝트 규칙을 교체하면 규칙 버전 증가")
+    void replaceProjectRulesIncrementsVersion() {
+        // given
+        long before = normalizer.rulesVersion();
+
+        // when
+        normalizer.replaceProjectRules(Map.of());
+
+        // then
+        assertThat(normalizer.rulesVersion()).isEqualTo(before + 1);
+    }
+
+    // 헬퍼 메서드: 프로젝트 규칙 적용
+    private void useRules(UUID projectId, NormalizationRule... rules) {
+        normalizer.replaceProjectRules(
+                Map.of(projectId, ProjectTokenRules.compile(List.of(rules))));
+    }
+
+    // 헬퍼 메서드: 정규화 규칙 생성
+    private NormalizationRule createRule(
+            UUID projectId, String prefix, TokenValueType valueType, String replacement) {
+        return NormalizationRule.builder()
+                .ruleId(UUID.randomUUID())
+                .projectId(projectId)
+                .tokenPrefix(prefix)
+                .valueType(valueType)
+                .replacement(replacement)
+                .enabled(true)
+                .createdAt(OffsetDateTime.now())
+                .updatedAt(OffsetDateTime.now())
+                .build();
+    }
 }
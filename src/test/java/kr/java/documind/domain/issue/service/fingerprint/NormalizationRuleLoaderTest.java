@@ -0,0 +1,105 @@
+package kr.java.documind.domain.issue.service.fingerprint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import kr.java.documind.domain.issue.model.entity.NormalizationRule;
+import kr.java.documind.domain.issue.model.enums.TokenValueType;
+import kr.java.documind.domain.issue.model.repository.NormalizationRuleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NormalizationRuleLoader 단위 테스트")
+class NormalizationRuleLoaderTest {
+
+    private static final UUID PROJECT_ID = UUID.randomUUID();
+    private static final String MESSAGE = "guild_1024 is full";
+
+    @Mock private NormalizationRuleRepository normalizationRuleRepository;
+
+    private MessageNormalizer messageNormalizer;
+    private NormalizationRuleLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        messageNormalizer = new MessageNormalizer();
+        loader = new NormalizationRuleLoader(normalizationRuleRepository, messageNormalizer);
+    }
+
+    @Test
+    @DisplayName("활성 규칙을 읽어 프로젝트별로 적용")
+    void refresh_appliesRulesPerProject() {
+        // given
+        when(normalizationRuleRepository.findAllByEnabledTrue())
+                .thenReturn(List.of(createRule("guild_", "guild_N")));
+
+        // when
+        loader.refresh();
+
+        // then
+        assertThat(messageNormalizer.normalize(PROJECT_ID, MESSAGE)).isEqualTo("guild_N is full");
+        assertThat(messageNormalizer.normalize(UUID.randomUUID(), MESSAGE)).isEqualTo(MESSAGE);
+        assertThat(messageNormalizer.rulesVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("규칙이 그대로면 교체하지 않아 규칙 버전 유지")
+    void refresh_unchangedRules_keepsVersion() {
+        // given
+        when(normalizationRuleRepository.findAllByEnabledTrue())
+                .thenReturn(List.of(createRule("guild_", "guild_N")))
+                .thenReturn(List.of(createRule("guild_", "guild_N")))
+                .thenReturn(List.of(createRule("guild_", "GUILD")));
+
+        // when
+        loader.refresh();
+        loader.refresh();
+        long unchanged = messageNormalizer.rulesVersion();
+        loader.refresh();
+
+        // then
+        assertThat(unchanged).isEqualTo(1);
+        assertThat(messageNormalizer.rulesVersion()).isEqualTo(2);
+        assertThat(messageNormalizer.normalize(PROJECT_ID, MESSAGE)).isEqualTo("GUILD is full");
+    }
+
+    @Test
+    @DisplayName("조회 실패 시 기존 규칙 유지, 잘못된 규칙은 건너뜀")
+    void refresh_failureOrInvalidRule_keepsPreviousRules() {
+        // given
+        when(normalizationRuleRepository.findAllByEnabledTrue())
+                .thenReturn(List.of(createRule("guild_", "guild_N"), createRule("", "EMPTY")))
+                .thenThrow(new DataAccessResourceFailureException("DB down"));
+
+        // when
+        loader.refresh();
+        loader.refresh();
+
+        // then
+        assertThat(messageNormalizer.normalize(PROJECT_ID, MESSAGE)).isEqualTo("guild_N is full");
+        assertThat(messageNormalizer.rulesVersion()).isEqualTo(1);
+    }
+
+    // 헬퍼 메서드: 정규화 규칙 생성
+    private NormalizationRule createRule(String prefix, String replacement) {
+        return NormalizationRule.builder()
+                .ruleId(UUID.randomUUID())
+                .projectId(PROJECT_ID)
+                .tokenPrefix(prefix)
+                .valueType(TokenValueType.DIGITS)
+                .replacement(replacement)
+                .enabled(true)
+                .createdAt(OffsetDateTime.parse("2024-03-05T10:30:45Z"))
+                .updatedAt(OffsetDateTime.parse("2024-03-05T10:30:45Z"))
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package kr.java.documind.domain.issue.service.fingerprint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ParsedArchive 테스트")
+class ParsedArchiveTest {
+
+    // 헬퍼 메서드: 프레임 구간을 문자열로 복원
+    private List<String> frames(ParsedArchive parsed) {
+        List<String> frames = new ArrayList<>();
+        for (int i = 0; i < parsed.frameCount(); i++) {
+            frames.add(parsed.archive().substring(parsed.frameStart(i), parsed.frameEnd(i)));
+        }
+        return frames;
+    }
+
+    @Test
+    @DisplayName("한 번의 스캔으로 예외 타입, 메시지, 제목, 프레임 구간 추출")
+    void parse_stackTrace() {
+        // given: CRLF와 들여쓰기가 섞인 스택트레이스
+        String archive =
+                "java.lang.IllegalStateException: Player not loaded \r\n"
+                        + "\tat kr.java.documind.service.PlayerService.load(PlayerService.java:42)"
+                        + "\r\n"
+                        + "    at java.base/java.lang.Thread.run(Thread.java:833)\n"
+                        + "Caused by: java.io.IOException: timeout\n"
+                        + "at";
+
+        // when
+        ParsedArchive parsed = ParsedArchive.parse(archive);
+
+        // then
+        assertThat(parsed.exceptionType()).isEqualTo("java.lang.IllegalStateException");
+        assertThat(parsed.message()).isEqualTo("Player not loaded");
+        assertThat(parsed.title()).isEqualTo("java.lang.IllegalStateException: Player not loaded");
+        assertThat(parsed.hasStackTrace()).isTrue();
+        assertThat(frames(parsed))
+                .containsExactly(
+                        "at kr.java.documind.service.PlayerService.load(PlayerService.java:42)",
+                        "at java.base/java.lang.Thread.run(Thread.java:833)");
+    }
+
+    @Test
+    @DisplayName("콜론이 없으면 첫 줄 전체를 메시지로, 패키지가 없으면 예외 타입 없음")
+    void parse_messageOnly() {
+        // when
+        ParsedArchive plain = ParsedArchive.parse("  Player disconnected  \nretrying");
+        ParsedArchive noPackage = ParsedArchive.parse("Timeout: 30s");
+
+        // then
+        assertThat(plain.exceptionType()).isNull();
+        assertThat(plain.message()).isEqualTo("Player disconnected");
+        assertThat(plain.hasStackTrace()).isFalse();
+        assertThat(noPackage.exceptionType()).isNull();
+        assertThat(noPackage.message()).isEqualTo("30s");
+    }
+
+    @Test
+    @DisplayName("archive가 없으면 제목은 Unknown Error, 첫 줄이 길면 500자로 자름")
+    void title_defaultsAndTruncation() {
+        // when
+        ParsedArchive empty = ParsedArchive.parse(null);
+        ParsedArchive longLine = ParsedArchive.parse("x".repeat(600) + "\nat a.B.c(B.java:1)");
+
+        // then
+        assertThat(empty.title()).isEqualTo("Unknown Error");
+        assertThat(empty.message()).isNull();
+        assertThat(empty.hasStackTrace()).isFalse();
+        assertThat(longLine.title()).hasSize(500).endsWith("...");
+        assertThat(longLine.frameCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("빈 줄만 있는 archive도 예외 없이 파싱")
+    void parse_blankLines() {
+        // when
+        ParsedArchive parsed = ParsedArchive.parse("\r\n\n");
+
+        // then
+        assertThat(parsed.firstLine()).isEmpty();
+        assertThat(parsed.message()).isEmpty();
+        assertThat(parsed.hasStackTrace()).isFalse();
+    }
+}
@@ -2,7 +2,11 @@ package kr.java.documind.domain.issue.service.fingerprint;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.UUID;
+import kr.java.documind.domain.issue.model.entity.StackFrameRule;
+import kr.java.documind.domain.issue.model.enums.FrameType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +14,8 @@ import org.junit.jupiter.api.Test;
 @DisplayName("StackFrameFilter 테스트")
 class StackFrameFilterTest {
 
+    private static final UUID PROJECT_ID = UUID.randomUUID();
+
     private StackFrameFilter filter;
 
     @BeforeEach
@@ -182,4 +188,91 @@ class StackFrameFilterTest {
         assertThat(appFrames.get(1))
                 .isEqualTo("kr.java.documind.service.NativeService.caller(NativeService.java:10)");
     }
+
+    @Test
+    @DisplayName("프로젝트 규칙으로 등록한 패키지는 해당 프로젝트에서만 애플리케이션 프레임")
+    void appFrames_projectRules_appliedPerProject() {
+        // given
+        filter.replaceRules(
+                StackFrameRules.compile(
+                        List.of(createRule("io.mystudio.", FrameType.APP))));
+        ParsedArchive parsed =
+                ParsedArchive.parse(
+                        """
+                        java.lang.IllegalStateException: boom
+                            at io.mystudio.guild.GuildService.join(GuildService.java:42)
+                            at kr.java.documind.service.MyService.doWork(MyService.java:10)
+                        """);
+
+        // when
+        List<String> projectFrames = filter.appFrames(PROJECT_ID, parsed);
+        List<String> otherFrames = filter.appFrames(UUID.randomUUID(), parsed);
+
+        // then
+        assertThat(projectFrames)
+                .containsExactly(
+                        "io.mystudio.guild.GuildService.join(GuildService.java:40)",
+                        "kr.java.documind.service.MyService.doWork(MyService.java:10)");
+        assertThat(otherFrames)
+                .containsExactly("kr.java.documind.service.MyService.doWork(MyService.java:10)");
+        assertThat(filter.rulesVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 접두어가 맞으면 가장 긴 접두어의 분류 적용")
+    void appFrames_longestPrefixWins() {
+        // given
+        filter.replaceRules(
+                StackFrameRules.compile(
+                        List.of(
+                                createRule("kr.java.documind.vendor.", FrameType.LIBRARY),
+                                createRule("org.apache.mystudio.", FrameType.APP))));
+        ParsedArchive parsed =
+                ParsedArchive.parse(
+                        """
+                        java.lang.IllegalStateException: boom
+                            at kr.java.documind.vendor.Sdk.call(Sdk.java:7)
+                            at org.apache.mystudio.Plugin.run(Plugin.java:33)
+                            at org.apache.catalina.Valve.invoke(Valve.java:12)
+                        """);
+
+        // when
+        List<String> appFrames = filter.appFrames(PROJECT_ID, parsed);
+
+        // then
+        assertThat(appFrames).containsExactly("org.apache.mystudio.Plugin.run(Plugin.java:30)");
+    }
+
+    @Test
+    @DisplayName("중첩 람다와 int 범위를 넘는 라인 번호 정규화")
+    void normalizeNestedLambdaAndLargeLineNumber() {
+        // given
+        String stackTrace =
+                """
+                at kr.java.documind.service.StreamService.a$lambda$12$lambda$3(StreamService.java:007)
+                at kr.java.documind.service.StreamService.run(StreamService.java:99999999999)
+                """;
+
+        // when
+        List<String> appFrames = filter.extractAppFrames(stackTrace);
+
+        // then
+        assertThat(appFrames)
+                .containsExactly(
+                        "kr.java.documind.service.StreamService.a$lambda$lambda(StreamService.java:0)",
+                        "kr.java.documind.service.StreamService.run(StreamService.java:99999999990)");
+    }
+
+    // 헬퍼 메서드: 프로젝트 스택 프레임 규칙 생성
+    private StackFrameRule createRule(String packagePrefix, FrameType frameType) {
+        return StackFrameRule.builder()
+                .ruleId(UUID.randomUUID())
+                .projectId(PROJECT_ID)
+                .packagePrefix(packagePrefix)
+                .frameType(frameType)
+                .enabled(true)
+                .createdAt(OffsetDateTime.parse("2024-03-05T10:30:45Z"))
+                .updatedAt(OffsetDateTime.parse("2024-03-05T10:30:45Z"))
+                .build();
+    }
 }
@@ -0,0 +1,97 @@
+package kr.java.documind.domain.issue.service.fingerprint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import kr.java.documind.domain.issue.model.entity.StackFrameRule;
+import kr.java.documind.domain.issue.model.enums.FrameType;
+import kr.java.documind.domain.issue.model.repository.StackFrameRuleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StackFrameRuleLoader 단위 테스트")
+class StackFrameRuleLoaderTest {
+
+    private static final UUID PROJECT_ID = UUID.randomUUID();
+    private static final String STACK_TRACE =
+            """
+            java.lang.IllegalStateException: boom
+                at io.mystudio.guild.GuildService.join(GuildService.java:42)
+            """;
+
+    @Mock private StackFrameRuleRepository stackFrameRuleRepository;
+
+    private StackFrameFilter stackFrameFilter;
+    private StackFrameRuleLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        stackFrameFilter = new StackFrameFilter();
+        loader = new StackFrameRuleLoader(stackFrameRuleRepository, stackFrameFilter);
+    }
+
+    @Test
+    @DisplayName("활성 규칙을 읽어 적용하고, 규칙이 그대로면 교체하지 않음")
+    void refresh_appliesRules_andSkipsUnchanged() {
+        // given
+        when(stackFrameRuleRepository.findAllByEnabledTrue())
+                .thenReturn(List.of(createRule("io.mystudio.", FrameType.APP)))
+                .thenReturn(List.of(createRule("io.mystudio.", FrameType.APP)));
+
+        // when
+        loader.refresh();
+        loader.refresh();
+
+        // then
+        assertThat(appFrames(PROJECT_ID)).hasSize(1);
+        assertThat(appFrames(UUID.randomUUID())).isEmpty();
+        assertThat(stackFrameFilter.rulesVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 실패 시 기존 규칙 유지, 잘못된 규칙은 건너뜀")
+    void refresh_failureOrInvalidRule_keepsPreviousRules() {
+        // given
+        when(stackFrameRuleRepository.findAllByEnabledTrue())
+                .thenReturn(
+                        List.of(
+                                createRule("io.mystudio.", FrameType.APP),
+                                createRule("io.broken.", null)))
+                .thenThrow(new DataAccessResourceFailureException("DB down"));
+
+        // when
+        loader.refresh();
+        loader.refresh();
+
+        // then
+        assertThat(appFrames(PROJECT_ID)).hasSize(1);
+        assertThat(stackFrameFilter.rulesVersion()).isEqualTo(1);
+    }
+
+    // 헬퍼 메서드: 프로젝트 기준 애플리케이션 프레임 추출
+    private List<String> appFrames(UUID projectId) {
+        return stackFrameFilter.appFrames(projectId, ParsedArchive.parse(STACK_TRACE));
+    }
+
+    // 헬퍼 메서드: 스택 프레임 규칙 생성
+    private StackFrameRule createRule(String packagePrefix, FrameType frameType) {
+        return StackFrameRule.builder()
+                .ruleId(UUID.randomUUID())
+                .projectId(PROJECT_ID)
+                .packagePrefix(packagePrefix)
+                .frameType(frameType)
+                .enabled(true)
+                .createdAt(OffsetDateTime.parse("2024-03-05T10:30:45Z"))
+                .updatedAt(OffsetDateTime.parse("2024-03-05T10:30:45Z"))
+                .build();
+    }
+}
@@ -0,0 +1,152 @@
+package kr.java.documind.domain.logcollector.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import kr.java.documind.domain.logcollector.model.dto.response.LogBulkIngestResponse;
+import kr.java.documind.domain.logprocessor.model.dto.request.RawLogRequest;
+import kr.java.documind.domain.logprocessor.model.enums.BufferAddResult;
+import kr.java.documind.domain.logprocessor.service.LogBufferService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LogCollectService 단위 테스트")
+class LogCollectServiceTest {
+
+    @Mock private LogBufferService logBufferService;
+
+    private LogCollectService logCollectService;
+
+    private static final String VALID_LINE =
+            "{\"projectId\":\"550e8400-e29b-41d4-a716-446655440000\",\"sessionId\":\"s-1\","
+                    + "\"severity\":\"ERROR\",\"eventCategory\":\"SYSTEM\","
+                    + "\"archive\":\"java.lang.NullPointerException: boom\","
+                    + "\"occurredAt\":\"2026-01-01T00:00:00Z\"}";
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        logCollectService = new LogCollectService(new ObjectMapper(), validator, logBufferService);
+
+        lenient()
+                .when(logBufferService.addFromDto(any(RawLogRequest.class)))
+                .thenReturn(BufferAddResult.ACCEPTED);
+    }
+
+    private InputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(
+                String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("정상 라인: 모든 라인을 버퍼에 적재")
+    void ingest_AllValid() throws Exception {
+        // when
+        LogBulkIngestResponse response =
+                logCollectService.ingestNdjson(ndjson(VALID_LINE, VALID_LINE, VALID_LINE));
+
+        // then
+        assertThat(response.totalLines()).isEqualTo(3);
+        assertThat(response.accepted()).isEqualTo(3);
+        assertThat(response.rejected()).isZero();
+        assertThat(response.errors()).isEmpty();
+        verify(logBufferService, times(3)).addFromDto(any(RawLogRequest.class));
+    }
+
+    @Test
+    @DisplayName("빈 라인: 집계 대상에서 제외")
+    void ingest_SkipsBlankLines() throws Exception {
+        // when
+        LogBulkIngestResponse response =
+                logCollectService.ingestNdjson(ndjson("", VALID_LINE, "   ", VALID_LINE, ""));
+
+        // then
+        assertThat(response.totalLines()).isEqualTo(2);
+        assertThat(response.accepted()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("잘못된 JSON: 해당 라인만 거부하고 나머지는 계속 처리")
+    void ingest_MalformedJsonRejected() throws Exception {
+        // when
+        LogBulkIngestResponse response =
+                logCollectService.ingestNdjson(ndjson(VALID_LINE, "{not-json", VALID_LINE));
+
+        // then
+        assertThat(response.accepted()).isEqualTo(2);
+        assertThat(response.rejected()).isEqualTo(1);
+        assertThat(response.errors()).hasSize(1);
+        assertThat(response.errors().get(0).line()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("검증 실패: 필수 필드 누락 라인은 버퍼에 적재하지 않음")
+    void ingest_ValidationFailureRejected() throws Exception {
+        // given: sessionId, archive 누락
+        String invalid =
+                "{\"projectId\":\"550e8400-e29b-41d4-a716-446655440000\","
+                        + "\"severity\":\"INFO\",\"eventCategory\":\"SYSTEM\","
+                        + "\"occurredAt\":\"2026-01-01T00:00:00Z\"}";
+
+        // when
+        LogBulkIngestResponse response = logCollectService.ingestNdjson(ndjson(invalid));
+
+        // then
+        assertThat(response.rejected()).isEqualTo(1);
+        assertThat(response.errors().get(0).reason()).contains("sessionId", "archive");
+        verify(logBufferService, never()).addFromDto(any(RawLogRequest.class));
+    }
+
+    @Test
+    @DisplayName("변환 실패: 버퍼 적재 중 예외 발생 시 해당 라인만 거부")
+    void ingest_MappingFailureRejected() throws Exception {
+        // given
+        doThrow(new IllegalArgumentException("mapping failed"))
+                .when(logBufferService)
+                .addFromDto(any(RawLogRequest.class));
+
+        // when
+        LogBulkIngestResponse response = logCollectService.ingestNdjson(ndjson(VALID_LINE));
+
+        // then
+        assertThat(response.accepted()).isZero();
+        assertThat(response.rejected()).isEqualTo(1);
+        assertThat(response.errors().get(0).reason()).contains("mapping failed");
+    }
+
+    @Test
+    @DisplayName("버퍼 초과: 버퍼가 가득 차 버린 라인은 거부로 집계")
+    void ingest_BufferFullRejected() throws Exception {
+        // given: 두 번째 라인부터 버퍼가 가득 참
+        when(logBufferService.addFromDto(any(RawLogRequest.class)))
+                .thenReturn(BufferAddResult.ACCEPTED)
+                .thenReturn(BufferAddResult.DROPPED);
+
+        // when
+        LogBulkIngestResponse response =
+                logCollectService.ingestNdjson(ndjson(VALID_LINE, VALID_LINE));
+
+        // then
+        assertThat(response.accepted()).isEqualTo(1);
+        assertThat(response.rejected()).isEqualTo(1);
+        assertThat(response.errors().get(0).line()).isEqualTo(2);
+        assertThat(response.errors().get(0).reason()).contains("버퍼");
+    }
+}
@@ -0,0 +1,115 @@
+package kr.java.documind.domain.logprocessor.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+import kr.java.documind.domain.logprocessor.model.enums.EventCategory;
+import kr.java.documind.domain.logprocessor.model.enums.LogSeverity;
+import kr.java.documind.domain.logprocessor.model.enums.LogSinkType;
+import kr.java.documind.domain.logprocessor.model.repository.LogJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * game_log 저장 방식 처리량 비교 (JDBC batchUpdate vs COPY BINARY)
+ *
+ * <p>실제 PostgreSQL이 필요하므로 기본 빌드에서는 제외. 실행: {@code LOG_SINK_BENCHMARK=true ./gradlew test --tests
+ * '*LogSinkBenchmarkTest'}
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional
+@EnabledIfEnvironmentVariable(named = "LOG_SINK_BENCHMARK", matches = "true")
+@DisplayName("game_log Sink 벤치마크")
+class LogSinkBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int WARMUP_ROWS = 2_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    // 2024년 3월 파티션 (V1 마이그레이션에서 생성)
+    private static final OffsetDateTime OCCURRED_AT =
+            OffsetDateTime.parse("2024-03-15T12:00:00+09:00");
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("COPY BINARY와 JDBC batchUpdate의 초당 처리 행 수를 비교한다")
+    void compareSinkThroughput() {
+        LogJdbcRepository batchSink = createRepository(LogSinkType.BATCH);
+        LogJdbcRepository copySink = createRepository(LogSinkType.COPY);
+
+        // 워밍업 (JIT, 커넥션, 파티션 캐시)
+        batchSink.saveAll(createLogs(WARMUP_ROWS));
+        copySink.saveAll(createLogs(WARMUP_ROWS));
+
+        double batchRowsPerSec = measure(batchSink, createLogs(ROWS));
+        double copyRowsPerSec = measure(copySink, createLogs(ROWS));
+
+        System.out.printf(
+                "[LogSinkBenchmark] rows=%d batch=%.0f rows/s copy=%.0f rows/s (x%.2f)%n",
+                ROWS, batchRowsPerSec, copyRowsPerSec, copyRowsPerSec / batchRowsPerSec);
+
+        Integer saved =
+                jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM game_log WHERE session_id = 'benchmark'",
+                        Integer.class);
+        assertThat(saved).isEqualTo(2 * (WARMUP_ROWS + ROWS));
+    }
+
+    private double measure(LogJdbcRepository repository, List<GameLog> logs) {
+        long start = System.nanoTime();
+        repository.saveAll(logs);
+        long elapsedNanos = System.nanoTime() - start;
+        return logs.size() / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    private LogJdbcRepository createRepository(LogSinkType sinkType) {
+        LogJdbcRepository repository = new LogJdbcRepository(jdbcTemplate, new ObjectMapper());
+        ReflectionTestUtils.setField(repository, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(repository, "sinkType", sinkType);
+        return repository;
+    }
+
+    private List<GameLog> createLogs(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(
+                        i ->
+                                GameLog.builder()
+                                        .logId(UUID.randomUUID())
+                                        .projectId(UUID.randomUUID())
+                                        .sessionId("benchmark")
+                                        .userId("user-" + i)
+                                        .severity(LogSeverity.ERROR)
+                                        .eventCategory(EventCategory.GAMEPLAY)
+                                        .archive(
+                                                "java.lang.NullPointerException: player is null\n"
+                                                        + "\tat com.game.Player.update(Player.java:42)")
+                                        .occurredAt(OCCURRED_AT)
+                                        .ingestedAt(OCCURRED_AT)
+                                        .traceId("trace-" + i)
+                                        .spanId("span-" + i)
+                                        .fingerprint(Integer.toHexString(i % 64))
+                                        .resource(Map.of("os", "android", "version", "1.2.3"))
+                                        .attributes(Map.of("stage", i % 10, "action", "attack"))
+                                        .createdAt(OCCURRED_AT)
+                                        .updatedAt(OCCURRED_AT)
+                                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,138 @@
+package kr.java.documind.domain.logprocessor.model.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+import kr.java.documind.domain.logprocessor.model.enums.EventCategory;
+import kr.java.documind.domain.logprocessor.model.enums.LogSeverity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("GameLogCopyEncoder 단위 테스트")
+class GameLogCopyEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("COPY SQL: 임시 테이블에 적재한 뒤 ON CONFLICT DO NOTHING으로 game_log에 옮긴다")
+    void stageSql_copiesIntoStageAndMergesIdempotently() {
+        // then: 컬럼 수와 COPY 대상
+        assertThat(GameLogCopyEncoder.COLUMNS.split(",")).hasSize(GameLogCopyEncoder.COLUMN_COUNT);
+        assertThat(GameLogCopyEncoder.COPY_SQL).startsWith("COPY game_log_stage (log_id,");
+
+        // then: 이미 저장된 (log_id, occurred_at)은 건너뛰고 실제로 옮긴 log_id만 반환
+        assertThat(GameLogCopyEncoder.MERGE_STAGE_SQL)
+                .startsWith("INSERT INTO game_log (log_id,")
+                .contains("FROM game_log_stage")
+                .endsWith("ON CONFLICT (log_id, occurred_at) DO NOTHING RETURNING log_id");
+    }
+
+    @Test
+    @DisplayName("COPY BINARY: 헤더, 튜플, 트레일러를 PostgreSQL 포맷으로 기록한다")
+    void encode_binaryCopyFormat() throws IOException {
+        // given: PostgreSQL 기준 시각(2000-01-01Z) + 1.5초
+        OffsetDateTime occurredAt =
+                OffsetDateTime.of(2000, 1, 1, 9, 0, 1, 500_000_000, ZoneOffset.ofHours(9));
+        UUID logId = UUID.randomUUID();
+        GameLog log =
+                GameLog.builder()
+                        .logId(logId)
+                        .projectId(UUID.randomUUID())
+                        .sessionId("session-1")
+                        .userId(null)
+                        .severity(LogSeverity.ERROR)
+                        .eventCategory(EventCategory.SYSTEM)
+                        .archive("에러 발생")
+                        .occurredAt(occurredAt)
+                        .ingestedAt(occurredAt)
+                        .fingerprint("fp")
+                        .resource(Map.of("os", "android"))
+                        .attributes(Map.of())
+                        .createdAt(occurredAt)
+                        .updatedAt(occurredAt)
+                        .build();
+
+        // when
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        GameLogCopyEncoder.writeHeader(out);
+        GameLogCopyEncoder.writeRow(out, log, objectMapper);
+        GameLogCopyEncoder.writeTrailer(out);
+
+        // then
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+
+        byte[] signature = new byte[11];
+        in.readFully(signature);
+        assertThat(signature)
+                .containsExactly('P', 'G', 'C', 'O', 'P', 'Y', '\n', 0xFF, '\r', '\n', 0);
+        assertThat(in.readInt()).isZero(); // flags
+        assertThat(in.readInt()).isZero(); // 헤더 확장
+
+        assertThat(in.readShort()).isEqualTo((short) GameLogCopyEncoder.COLUMN_COUNT);
+
+        // log_id
+        assertThat(in.readInt()).isEqualTo(16);
+        assertThat(new UUID(in.readLong(), in.readLong())).isEqualTo(logId);
+
+        // project_id
+        assertThat(in.readInt()).isEqualTo(16);
+        in.skipBytes(16);
+
+        // session_id
+        assertThat(readText(in)).isEqualTo("session-1");
+
+        // user_id (NULL)
+        assertThat(in.readInt()).isEqualTo(-1);
+
+        assertThat(readText(in)).isEqualTo("ERROR");
+        assertThat(readText(in)).isEqualTo("SYSTEM");
+        assertThat(readText(in)).isEqualTo("에러 발생");
+
+        // occurred_at: 기준 시각 대비 마이크로초
+        assertThat(in.readInt()).isEqualTo(8);
+        assertThat(in.readLong()).isEqualTo(1_500_000L);
+
+        // ingested_at
+        in.skipBytes(in.readInt());
+
+        // trace_id, span_id (NULL)
+        assertThat(in.readInt()).isEqualTo(-1);
+        assertThat(in.readInt()).isEqualTo(-1);
+
+        assertThat(readText(in)).isEqualTo("fp");
+
+        // resource: jsonb 버전(1) + JSON
+        int resourceLength = in.readInt();
+        assertThat(in.readByte()).isEqualTo((byte) 1);
+        byte[] resource = new byte[resourceLength - 1];
+        in.readFully(resource);
+        assertThat(new String(resource, StandardCharsets.UTF_8)).isEqualTo("{\"os\":\"android\"}");
+
+        // attributes, created_at, updated_at
+        in.skipBytes(in.readInt());
+        in.skipBytes(in.readInt());
+        in.skipBytes(in.readInt());
+
+        // 트레일러
+        assertThat(in.readShort()).isEqualTo((short) -1);
+        assertThat(in.available()).isZero();
+    }
+
+    private String readText(DataInputStream in) throws IOException {
+        byte[] value = new byte[in.readInt()];
+        in.readFully(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -13,6 +13,7 @@ import java.util.stream.IntStream;
 import kr.java.documind.domain.logprocessor.model.entity.GameLog;
 import kr.java.documind.domain.logprocessor.model.enums.EventCategory;
 import kr.java.documind.domain.logprocessor.model.enums.LogSeverity;
+import kr.java.documind.domain.logprocessor.model.enums.LogSinkType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -74,6 +76,8 @@ class LogJdbcRepositoryTest {
         // SQL 검증
         assertThat(sqlCaptor.getValue()).contains("INSERT INTO game_log");
         assertThat(sqlCaptor.getValue()).contains("?::jsonb"); // JSONB 타입 검증
+        assertThat(sqlCaptor.getValue())
+                .endsWith("ON CONFLICT (log_id, occurred_at) DO NOTHING"); // 재전달 중복 무시
 
         // 배치 크기 검증
         BatchPreparedStatementSetter setter = setterCaptor.getValue();
@@ -181,6 +185,21 @@ class LogJdbcRepositoryTest {
                 .batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
     }
 
+    @Test
+    @DisplayName("JDBC Batch Insert: ON CONFLICT로 건너뛴 로그는 삽입 결과에서 제외한다")
+    void saveAll_batchInsert_returnsOnlyWrittenLogs() {
+        // given: 두 번째 로그는 이미 저장됨 (0), 세 번째는 드라이버가 행 수를 모름 (-2)
+        List<GameLog> logs = createTestLogs(3);
+        when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+                .thenReturn(new int[] {1, 0, -2});
+
+        // when
+        List<GameLog> written = logJdbcRepository.saveAll(logs);
+
+        // then
+        assertThat(written).containsExactly(logs.get(0), logs.get(2));
+    }
+
     @Test
     @DisplayName("JDBC Batch Insert: PreparedStatement 파라미터가 올바르게 설정된다")
     void saveAll_preparedStatementParameters_setCorrectly() throws SQLException {
@@ -211,6 +230,93 @@ class LogJdbcRepositoryTest {
         verify(mockPs).setString(14, "{}"); // attributes (JSON)
     }
 
+    @Test
+    @DisplayName("JDBC Batch Insert: 원본 JSON이 있으면 재직렬화 없이 그대로 전달한다")
+    void saveAll_rawJson_passedThrough() throws Exception {
+        // given: Redis Stream 수집 로그 (Map 없이 원본 JSON만 보유)
+        OffsetDateTime now = OffsetDateTime.now();
+        GameLog log =
+                GameLog.builder()
+                        .logId(UUID.randomUUID())
+                        .projectId(UUID.randomUUID())
+                        .sessionId("session")
+                        .severity(LogSeverity.INFO)
+                        .eventCategory(EventCategory.GAMEPLAY)
+                        .archive("message")
+                        .occurredAt(now)
+                        .ingestedAt(now)
+                        .fingerprint("fingerprint")
+                        .rawResource("{\"os\":\"ios\"}")
+                        .rawAttributes("{\"stage\":7}")
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build();
+        PreparedStatement mockPs = mock(PreparedStatement.class);
+        ArgumentCaptor<BatchPreparedStatementSetter> setterCaptor =
+                ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        when(jdbcTemplate.batchUpdate(anyString(), setterCaptor.capture())).thenReturn(new int[1]);
+
+        // when
+        logJdbcRepository.saveAll(List.of(log));
+        setterCaptor.getValue().setValues(mockPs, 0);
+
+        // then
+        verify(mockPs).setString(13, "{\"os\":\"ios\"}");
+        verify(mockPs).setString(14, "{\"stage\":7}");
+        verify(objectMapper, never()).writeValueAsString(any());
+    }
+
+    @Test
+    @DisplayName("COPY Sink: 배치 크기 단위로 COPY를 실행하고 INSERT는 사용하지 않는다")
+    void saveAll_copySink_copiesInChunks() {
+        // given
+        ReflectionTestUtils.setField(logJdbcRepository, "sinkType", LogSinkType.COPY);
+        List<GameLog> logs = createTestLogs(2500);
+
+        // when
+        logJdbcRepository.saveAll(logs);
+
+        // then: 1000 + 1000 + 500
+        verify(jdbcTemplate, times(3)).execute(any(ConnectionCallback.class));
+        verify(jdbcTemplate, never())
+                .batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("COPY Sink: Deadlock 발생 시 INSERT 경로와 동일하게 절반으로 나누어 재시도한다")
+    void saveAll_copySink_deadlock_retryWithHalfBatchSize() {
+        // given
+        ReflectionTestUtils.setField(logJdbcRepository, "sinkType", LogSinkType.COPY);
+        List<GameLog> logs = createTestLogs(1000);
+
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenThrow(new PessimisticLockingFailureException("Deadlock detected"))
+                .thenReturn(null)
+                .thenReturn(null);
+
+        // when
+        logJdbcRepository.saveAll(logs);
+
+        // then: 1회 실패 + 2회 성공 (500개씩)
+        verify(jdbcTemplate, times(3)).execute(any(ConnectionCallback.class));
+    }
+
+    @Test
+    @DisplayName("COPY Sink: RETURNING으로 받은 log_id의 로그만 삽입 결과로 반환한다")
+    void saveAll_copySink_returnsOnlyWrittenLogs() {
+        // given
+        ReflectionTestUtils.setField(logJdbcRepository, "sinkType", LogSinkType.COPY);
+        List<GameLog> logs = createTestLogs(3);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenReturn(Set.of(logs.get(1).getLogId()));
+
+        // when
+        List<GameLog> written = logJdbcRepository.saveAll(logs);
+
+        // then
+        assertThat(written).containsExactly(logs.get(1));
+    }
+
     // ===== Helper Methods =====
 
     /**
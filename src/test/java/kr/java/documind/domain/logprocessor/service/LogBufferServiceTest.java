@@ -4,37 +4,55 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import kr.java.documind.domain.logprocessor.model.dto.CollapsedBatch;
+import kr.java.documind.domain.logprocessor.model.dto.LogWrapper;
+import kr.java.documind.domain.logprocessor.model.dto.SuppressedBurst;
 import kr.java.documind.domain.logprocessor.model.dto.request.RawLogRequest;
 import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+import kr.java.documind.domain.logprocessor.model.enums.BufferAddResult;
 import kr.java.documind.domain.logprocessor.model.enums.EventCategory;
 import kr.java.documind.domain.logprocessor.model.enums.LogSeverity;
 import kr.java.documind.domain.logprocessor.model.repository.LogJdbcRepository;
+import kr.java.documind.domain.logprocessor.service.ack.StreamAckAggregator;
+import kr.java.documind.domain.logprocessor.service.dedup.BurstDeduplicator;
+import kr.java.documind.domain.logprocessor.service.dlq.DeadLetterStore;
+import kr.java.documind.domain.logprocessor.service.resilience.DatabaseCircuitBreakerService;
+import kr.java.documind.domain.logprocessor.service.spill.SpillStore;
+import kr.java.documind.domain.logprocessor.service.storage.GameLogCodec;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.connection.stream.RecordId;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.StreamOperations;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("LogBufferService 단위 테스트")
@@ -42,9 +60,7 @@ class LogBufferServiceTest {
 
     @Mock private LogJdbcRepository logJdbcRepository;
 
-    @Mock private RedisTemplate<String, String> redisTemplate;
-
-    @Mock private StreamOperations<String, Object, Object> streamOperations;
+    @Mock private StreamAckAggregator streamAckAggregator;
 
     @Mock private BackpressureManager backpressureManager;
 
@@ -52,54 +68,116 @@ class LogBufferServiceTest {
 
     @Mock private IssueGroupingBatchService issueGroupingBatchService;
 
+    @Mock private BurstDeduplicator burstDeduplicator;
+
+    @TempDir Path dlqDir;
+
+    @TempDir Path spillDir;
+
     private MeterRegistry meterRegistry;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private DatabaseCircuitBreakerService databaseCircuitBreaker;
+    private DeadLetterStore deadLetterStore;
+    private SpillStore spillStore;
     private LogBufferService logBufferService;
 
     private static final int BATCH_SIZE = 100;
     private static final int MAX_BUFFER_SIZE = 10000;
     private static final int MAX_RETRY_COUNT = 3;
-    private static final String STREAM_KEY = "test-stream";
-    private static final String CONSUMER_GROUP = "test-group";
 
     @BeforeEach
     void setUp() {
         meterRegistry = new SimpleMeterRegistry();
+        deadLetterStore = openDeadLetterStore();
+        spillStore = openSpillStore();
+
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        databaseCircuitBreaker =
+                new DatabaseCircuitBreakerService(circuitBreakerRegistry, meterRegistry);
+        databaseCircuitBreaker.init();
 
         logBufferService =
                 new LogBufferService(
                         logJdbcRepository,
-                        redisTemplate,
+                        streamAckAggregator,
                         backpressureManager,
                         meterRegistry,
                         logMapper,
-                        issueGroupingBatchService);
+                        issueGroupingBatchService,
+                        deadLetterStore,
+                        burstDeduplicator,
+                        databaseCircuitBreaker,
+                        spillStore);
 
         // @Value 필드 초기화
         ReflectionTestUtils.setField(logBufferService, "batchSize", BATCH_SIZE);
         ReflectionTestUtils.setField(logBufferService, "maxBufferSize", MAX_BUFFER_SIZE);
+        ReflectionTestUtils.setField(logBufferService, "stripeCount", 1);
+        ReflectionTestUtils.setField(logBufferService, "flushParallelism", 1);
         ReflectionTestUtils.setField(logBufferService, "maxRetryCount", MAX_RETRY_COUNT);
-        ReflectionTestUtils.setField(logBufferService, "streamKey", STREAM_KEY);
-        ReflectionTestUtils.setField(logBufferService, "consumerGroup", CONSUMER_GROUP);
-
-        // RedisTemplate Mock 설정 (lenient)
-        lenient().when(redisTemplate.opsForStream()).thenReturn(streamOperations);
 
         // BackpressureManager Mock 설정 (lenient)
         lenient().when(backpressureManager.getCurrentBatchSize()).thenReturn(BATCH_SIZE);
+        lenient().when(backpressureManager.getFlushConcurrency()).thenReturn(1);
+
+        // LogJdbcRepository Mock 설정 (기본: 모든 로그가 새로 삽입됨)
+        lenient()
+                .when(logJdbcRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // BurstDeduplicator Mock 설정 (기본: 중복 제거 없음)
+        lenient()
+                .when(burstDeduplicator.collapse(anyList()))
+                .thenAnswer(invocation -> CollapsedBatch.passThrough(invocation.getArgument(0)));
 
         // @PostConstruct 메서드 수동 호출
         logBufferService.init();
     }
 
+    @AfterEach
+    void tearDown() {
+        logBufferService.shutdown();
+        deadLetterStore.close();
+        spillStore.close();
+    }
+
+    // 헬퍼 메서드: 임시 디렉터리 기반 DLQ 열기
+    private DeadLetterStore openDeadLetterStore() {
+        DeadLetterStore store = new DeadLetterStore(new GameLogCodec(new ObjectMapper()));
+        ReflectionTestUtils.setField(store, "directory", dlqDir.toString());
+        ReflectionTestUtils.setField(store, "segmentSizeBytes", 1024 * 1024);
+        store.open();
+        return store;
+    }
+
+    // 헬퍼 메서드: 임시 디렉터리 기반 spill 파일 열기
+    private SpillStore openSpillStore() {
+        SpillStore store = new SpillStore(new GameLogCodec(new ObjectMapper()));
+        ReflectionTestUtils.setField(store, "directory", spillDir.toString());
+        ReflectionTestUtils.setField(store, "segmentSizeBytes", 1024 * 1024);
+        store.open();
+        return store;
+    }
+
     // 헬퍼 메서드: GameLog 생성
     private GameLog createGameLog(String logIdSuffix) {
+        return createGameLog(logIdSuffix, UUID.randomUUID());
+    }
+
+    // 헬퍼 메서드: 프로젝트 지정 GameLog 생성
+    private GameLog createGameLog(String logIdSuffix, UUID projectId) {
+        return createGameLog(logIdSuffix, projectId, LogSeverity.INFO);
+    }
+
+    // 헬퍼 메서드: 프로젝트, 심각도 지정 GameLog 생성
+    private GameLog createGameLog(String logIdSuffix, UUID projectId, LogSeverity severity) {
         OffsetDateTime now = OffsetDateTime.now();
         return GameLog.builder()
                 .logId(UUID.randomUUID())
-                .projectId(UUID.randomUUID())
+                .projectId(projectId)
                 .sessionId("test-session")
                 .userId("test-user")
-                .severity(LogSeverity.INFO)
+                .severity(severity)
                 .eventCategory(EventCategory.SYSTEM)
                 .archive("Test log message: " + logIdSuffix)
                 .occurredAt(now)
@@ -167,7 +245,9 @@ class LogBufferServiceTest {
     @DisplayName("버퍼 오버플로우: 최대 크기 초과 시 로그 드롭")
     void addToBuffer_Overflow() throws Exception {
         // Given: 버퍼를 최대 크기로 설정 (테스트 속도를 위해 작은 값 사용)
+        // 링 버퍼는 init() 시점에 용량이 고정되므로 재초기화
         ReflectionTestUtils.setField(logBufferService, "maxBufferSize", 10);
+        logBufferService.init();
 
         // And: 버퍼를 최대 크기로 채움
         for (int i = 0; i < 10; i++) {
@@ -180,11 +260,42 @@ class LogBufferServiceTest {
 
         // When: 추가 로그 삽입 시도
         GameLog extraLog = createGameLog("log-overflow");
-        logBufferService.add(extraLog);
+        BufferAddResult result = logBufferService.add(extraLog);
 
         // Then: 버퍼 크기 증가하지 않음 (드롭됨)
         int bufferSizeAfterOverflow = getBufferSize();
         assertThat(bufferSizeAfterOverflow).isEqualTo(bufferSizeBeforeOverflow);
+        assertThat(result).isEqualTo(BufferAddResult.DROPPED);
+    }
+
+    @Test
+    @DisplayName("버퍼 오버플로우: 높은 심각도 로그는 낮은 심각도 로그를 밀어내고 적재")
+    void addToBuffer_Overflow_ShedsLowerSeverity() throws Exception {
+        // Given: 버퍼를 INFO 로그로 가득 채움
+        ReflectionTestUtils.setField(logBufferService, "maxBufferSize", 2);
+        logBufferService.init();
+
+        UUID projectId = UUID.randomUUID();
+        RecordId infoRecordId = RecordId.of("1000-0");
+        logBufferService.add(createGameLog("info-1", projectId), infoRecordId);
+        logBufferService.add(createGameLog("info-2", projectId), RecordId.of("1001-0"));
+
+        // When: FATAL 로그 삽입
+        logBufferService.add(
+                createGameLog("fatal", projectId, LogSeverity.FATAL), RecordId.of("1002-0"));
+
+        // Then: 가장 오래된 INFO 로그가 밀려나 ACK되고 버퍼 크기는 유지
+        assertThat(getBufferSize()).isEqualTo(2);
+        verify(streamAckAggregator).acknowledge(null, infoRecordId);
+        assertThat(
+                        meterRegistry
+                                .get("worker.buffer.dropped")
+                                .tag("severity", "INFO")
+                                .tag("project", projectId.toString())
+                                .tag("reason", "evicted")
+                                .counter()
+                                .count())
+                .isEqualTo(1.0);
     }
 
     @Test
@@ -253,9 +364,110 @@ class LogBufferServiceTest {
 
         // Then: DB 저장 및 ACK 전송 확인
         verify(logJdbcRepository, times(1)).saveAll(anyList());
-        verify(streamOperations, times(1))
-                .acknowledge(eq(STREAM_KEY), eq(CONSUMER_GROUP), any(RecordId[].class));
-        verify(backpressureManager, times(1)).recordLatency(anyLong());
+        verify(streamAckAggregator, times(1)).acknowledge(null, List.of(recordId1, recordId2));
+        verify(backpressureManager, times(1)).recordFlush(eq(2), anyLong());
+    }
+
+    @Test
+    @DisplayName("Flush 성공: 메시지를 읽은 Stream 샤드별로 ACK")
+    void flush_AcknowledgesPerStreamShard() throws Exception {
+        // Given: 같은 스트라이프에 서로 다른 샤드에서 읽은 로그
+        UUID projectId = UUID.randomUUID();
+        RecordId recordId1 = RecordId.of("1234567890-0");
+        RecordId recordId2 = RecordId.of("1234567890-1");
+        RecordId recordId3 = RecordId.of("1234567890-2");
+        logBufferService.add(createGameLog("shard-1", projectId), "log-stream:{0}", recordId1);
+        logBufferService.add(createGameLog("shard-2", projectId), "log-stream:{1}", recordId2);
+        logBufferService.add(createGameLog("shard-3", projectId), "log-stream:{0}", recordId3);
+
+        // When
+        logBufferService.flush();
+
+        // Then
+        verify(streamAckAggregator).acknowledge("log-stream:{0}", List.of(recordId1, recordId3));
+        verify(streamAckAggregator).acknowledge("log-stream:{1}", List.of(recordId2));
+    }
+
+    @Test
+    @DisplayName("이슈 그룹핑: ON CONFLICT로 건너뛴 로그는 그룹핑하지 않음")
+    void flush_GroupsOnlyWrittenLogs() throws Exception {
+        // Given: 두 로그 중 하나는 이미 game_log에 있음
+        GameLog fresh = createGameLog("fresh");
+        GameLog duplicate = createGameLog("duplicate");
+        logBufferService.add(fresh, RecordId.of("1234567890-0"));
+        logBufferService.add(duplicate, RecordId.of("1234567890-1"));
+        when(logJdbcRepository.saveAll(anyList())).thenReturn(List.of(fresh));
+
+        // When
+        logBufferService.flush();
+
+        // Then: 새로 삽입된 로그만 그룹핑, ACK는 둘 다
+        verify(issueGroupingBatchService).groupLogs(List.of(fresh));
+        verify(streamAckAggregator)
+                .acknowledge(
+                        null, List.of(RecordId.of("1234567890-0"), RecordId.of("1234567890-1")));
+    }
+
+    @Test
+    @DisplayName("버스트 중복 제거: 원본은 일부만 저장하고 생략한 로그는 집계와 이슈에 반영 후 모두 ACK")
+    void flush_CollapsesBurst() throws Exception {
+        // Given: 같은 fingerprint 로그 3건 중 1건만 원본 저장
+        UUID projectId = UUID.randomUUID();
+        RecordId recordId1 = RecordId.of("1234567890-0");
+        RecordId recordId2 = RecordId.of("1234567890-1");
+        RecordId recordId3 = RecordId.of("1234567890-2");
+        logBufferService.add(createGameLog("burst-1", projectId), recordId1);
+        logBufferService.add(createGameLog("burst-2", projectId), recordId2);
+        logBufferService.add(createGameLog("burst-3", projectId), recordId3);
+
+        when(burstDeduplicator.collapse(anyList()))
+                .thenAnswer(
+                        invocation -> {
+                            List<LogWrapper> wrappers = invocation.getArgument(0);
+                            SuppressedBurst burst =
+                                    new SuppressedBurst(
+                                            projectId, "fp-789", 0L, wrappers.subList(1, 3));
+                            return new CollapsedBatch(wrappers.subList(0, 1), List.of(burst));
+                        });
+
+        // When
+        logBufferService.flush();
+
+        // Then: 원본 1건 저장, 집계 저장 및 이슈 반영, 3건 모두 ACK
+        verify(logJdbcRepository).saveAll(argThat(logs -> logs.size() == 1));
+        verify(burstDeduplicator).saveBursts(argThat(bursts -> bursts.get(0).count() == 2));
+        verify(issueGroupingBatchService).groupBursts(anyList());
+        verify(streamAckAggregator).acknowledge(null, List.of(recordId1, recordId2, recordId3));
+        verify(backpressureManager).recordFlush(eq(1), anyLong());
+    }
+
+    @Test
+    @DisplayName("버스트 집계 저장 실패: 생략한 로그는 DLQ로 이동하고 ACK하지 않음")
+    void flush_BurstSummaryFailure_MovesSuppressedToDLQ() throws Exception {
+        // Given
+        UUID projectId = UUID.randomUUID();
+        RecordId recordId1 = RecordId.of("1234567890-0");
+        logBufferService.add(createGameLog("burst-1", projectId), recordId1);
+        logBufferService.add(createGameLog("burst-2", projectId), RecordId.of("1234567890-1"));
+
+        when(burstDeduplicator.collapse(anyList()))
+                .thenAnswer(
+                        invocation -> {
+                            List<LogWrapper> wrappers = invocation.getArgument(0);
+                            SuppressedBurst burst =
+                                    new SuppressedBurst(
+                                            projectId, "fp-789", 0L, wrappers.subList(1, 2));
+                            return new CollapsedBatch(wrappers.subList(0, 1), List.of(burst));
+                        });
+        doThrow(new RuntimeException("DB error")).when(burstDeduplicator).saveBursts(anyList());
+
+        // When
+        logBufferService.flush();
+
+        // Then: 원본 저장된 1건만 ACK, 생략한 1건은 DLQ
+        verify(streamAckAggregator).acknowledge(null, List.of(recordId1));
+        verify(issueGroupingBatchService, never()).groupBursts(anyList());
+        assertThat(getDlqSize()).isEqualTo(1);
     }
 
     @Test
@@ -279,6 +491,54 @@ class LogBufferServiceTest {
         // Then: DLQ 크기 증가
         int finalDlqSize = getDlqSize();
         assertThat(finalDlqSize).isGreaterThan(initialDlqSize);
+
+        // And: 실패가 Backpressure 한도에 반영됨
+        verify(backpressureManager, times(1)).recordFailure();
+    }
+
+    @Test
+    @DisplayName("DB Circuit OPEN: 저장을 시도하지 않고 spill 파일로 보관, ACK하지 않음")
+    void flush_CircuitOpen_SpillsToDisk() throws Exception {
+        // Given: 버퍼에 로그 추가 후 DB Circuit OPEN
+        logBufferService.add(createGameLog("log-open-1"), RecordId.of("1234567890-20"));
+        logBufferService.add(createGameLog("log-open-2"));
+        circuitBreakerRegistry.circuitBreaker("logDatabase").transitionToOpenState();
+
+        // When: Flush 실행
+        logBufferService.flush();
+
+        // Then: DB와 DLQ를 거치지 않고 spill 파일에 보관
+        verify(logJdbcRepository, never()).saveAll(anyList());
+        assertThat(spillStore.size()).isEqualTo(2);
+        assertThat(getDlqSize()).isZero();
+        assertThat(logBufferService.getBufferSize()).isZero();
+
+        // And: 지연 신호가 아니므로 Backpressure에 실패로 반영하지 않고, 재생 전까지 ACK하지 않음
+        verify(backpressureManager, never()).recordFailure();
+        verify(streamAckAggregator, never()).acknowledge(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("DB Circuit OPEN: DLQ 재시도는 재시도 횟수를 소모하지 않고 보류")
+    void retryDLQ_CircuitOpen_KeepsRetryCount() throws Exception {
+        // Given: flush 실패로 DLQ에 로그 1건 기록
+        logBufferService.add(createGameLog("log-open-3"), RecordId.of("1234567890-21"));
+        doThrow(new RuntimeException("DB down")).when(logJdbcRepository).saveAll(anyList());
+        logBufferService.flush();
+        assertThat(getDlqSize()).isEqualTo(1);
+
+        // And: DB Circuit OPEN
+        circuitBreakerRegistry.circuitBreaker("logDatabase").transitionToOpenState();
+
+        // When: 최대 재시도 횟수보다 많이 재시도
+        for (int i = 0; i < MAX_RETRY_COUNT + 1; i++) {
+            logBufferService.retryDeadLetterQueue();
+        }
+
+        // Then: 보존 영역으로 이동하지 않고 재시도 횟수도 그대로
+        assertThat(getDlqSize()).isEqualTo(1);
+        assertThat(deadLetterStore.parkedSize()).isZero();
+        assertThat(deadLetterStore.read(10).entries().get(0).retryCount()).isZero();
     }
 
     @Test
@@ -300,7 +560,8 @@ class LogBufferServiceTest {
 
         // And: Mock을 리셋하고 DB 저장 성공하도록 변경
         reset(logJdbcRepository);
-        doNothing().when(logJdbcRepository).saveAll(anyList());
+        when(logJdbcRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
 
         // When: DLQ 재시도
         logBufferService.retryDeadLetterQueue();
@@ -310,6 +571,78 @@ class LogBufferServiceTest {
         assertThat(dlqSizeAfterRetry).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("DLQ 재시도 성공: 읽기 위치는 트랜잭션 커밋 후 이동")
+    void retryDLQ_CommitsReadPositionAfterCommit() throws Exception {
+        // Given: flush 실패로 DLQ에 로그 1건 기록
+        logBufferService.add(createGameLog("log-12"), RecordId.of("1234567890-6"));
+        doThrow(new RuntimeException("DB down")).when(logJdbcRepository).saveAll(anyList());
+        logBufferService.flush();
+
+        reset(logJdbcRepository);
+        when(logJdbcRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When: 트랜잭션 안에서 재시도
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            logBufferService.retryDeadLetterQueue();
+
+            // Then: 커밋 전에는 읽기 위치를 옮기지 않음
+            assertThat(getDlqSize()).isEqualTo(1);
+
+            // When: 커밋
+            List<TransactionSynchronization> synchronizations =
+                    TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(
+                    sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(getDlqSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("DLQ 재시도 성공: 트랜잭션이 롤백되면 읽기 위치를 옮기지 않아 같은 배치를 다시 읽음")
+    void retryDLQ_Rollback_KeepsReadPosition() throws Exception {
+        // Given: flush 실패로 DLQ에 로그 1건 기록
+        logBufferService.add(createGameLog("log-16"), RecordId.of("1234567890-7"));
+        doThrow(new RuntimeException("DB down")).when(logJdbcRepository).saveAll(anyList());
+        logBufferService.flush();
+
+        reset(logJdbcRepository);
+        when(logJdbcRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When: 트랜잭션 안에서 재시도 후 롤백
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            logBufferService.retryDeadLetterQueue();
+            assertThat(getDlqSize()).isEqualTo(1);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(
+                            sync ->
+                                    sync.afterCompletion(
+                                            TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then: 읽기 위치는 그대로
+        assertThat(getDlqSize()).isEqualTo(1);
+
+        // When: 다음 재시도 (트랜잭션 밖)
+        logBufferService.retryDeadLetterQueue();
+
+        // Then: 같은 배치를 다시 저장하고 읽기 위치 커밋
+        verify(logJdbcRepository, times(2)).saveAll(anyList());
+        assertThat(getDlqSize()).isZero();
+    }
+
     @Test
     @DisplayName("DLQ 재시도 횟수 초과: 최대 재시도 후에도 실패 시 최종 실패 처리")
     void retryDLQ_MaxRetryExceeded() throws Exception {
@@ -335,6 +668,62 @@ class LogBufferServiceTest {
         // Then: DLQ가 비워짐 (최종 실패 처리)
         int finalDlqSize = getDlqSize();
         assertThat(finalDlqSize).isLessThan(initialDlqSize);
+
+        // And: 최종 실패 로그는 보존 영역에 기록되고 ACK 처리됨
+        assertThat(deadLetterStore.parkedSize()).isEqualTo(1);
+        verify(streamAckAggregator, times(1)).acknowledge(null, recordId);
+    }
+
+    @Test
+    @DisplayName("DLQ 재기동 후 일괄 재처리: 디스크에 남은 로그를 재시도 횟수와 함께 복구")
+    void replayDLQ_AfterRestart() throws Exception {
+        // Given: flush 실패로 DLQ에 로그 3건 기록
+        RecordId recordId = RecordId.of("1234567890-5");
+        logBufferService.add(createGameLog("log-13"), recordId);
+        logBufferService.add(createGameLog("log-14"));
+        logBufferService.add(createGameLog("log-15"));
+
+        doThrow(new RuntimeException("DB down")).when(logJdbcRepository).saveAll(anyList());
+        logBufferService.flush();
+        assertThat(getDlqSize()).isEqualTo(3);
+
+        // And: 프로세스 재시작 (DLQ 저장소 재오픈)
+        logBufferService.shutdown();
+        deadLetterStore.close();
+        deadLetterStore = openDeadLetterStore();
+        assertThat(deadLetterStore.size()).isEqualTo(3);
+
+        logBufferService =
+                new LogBufferService(
+                        logJdbcRepository,
+                        streamAckAggregator,
+                        backpressureManager,
+                        meterRegistry,
+                        logMapper,
+                        issueGroupingBatchService,
+                        deadLetterStore,
+                        burstDeduplicator,
+                        databaseCircuitBreaker,
+                        spillStore);
+        ReflectionTestUtils.setField(logBufferService, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(logBufferService, "maxBufferSize", MAX_BUFFER_SIZE);
+        ReflectionTestUtils.setField(logBufferService, "stripeCount", 1);
+        ReflectionTestUtils.setField(logBufferService, "flushParallelism", 1);
+        ReflectionTestUtils.setField(logBufferService, "maxRetryCount", MAX_RETRY_COUNT);
+        logBufferService.init();
+
+        reset(logJdbcRepository);
+        when(logJdbcRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When: 일괄 재처리
+        int replayed = logBufferService.replayDeadLetterQueue();
+
+        // Then: 전부 재저장되고 Stream 메시지는 ACK됨
+        assertThat(replayed).isEqualTo(3);
+        assertThat(getDlqSize()).isZero();
+        verify(logJdbcRepository, times(1)).saveAll(anyList());
+        verify(streamAckAggregator, times(1)).acknowledge(null, List.of(recordId));
     }
 
     @Test
@@ -349,8 +738,7 @@ class LogBufferServiceTest {
 
         // Then: DB 저장은 되지만 ACK는 전송되지 않음
         verify(logJdbcRepository, times(1)).saveAll(anyList());
-        verify(streamOperations, times(0))
-                .acknowledge(anyString(), anyString(), any(RecordId[].class));
+        verify(streamAckAggregator, times(0)).acknowledge(any(), anyList());
     }
 
     @Test
@@ -386,15 +774,72 @@ class LogBufferServiceTest {
         assertThat(updatedBufferSize).isGreaterThan(initialBufferSize);
     }
 
+    @Test
+    @DisplayName("비동기 flush: 배치 크기 도달 시 생산자 스레드가 아닌 flush Executor에서 저장")
+    void add_ReachingBatchSize_FlushesOnExecutor() throws Exception {
+        // Given: DB 저장을 수행한 스레드 기록
+        AtomicReference<String> flushThread = new AtomicReference<>();
+        doAnswer(
+                        invocation -> {
+                            flushThread.set(Thread.currentThread().getName());
+                            return null;
+                        })
+                .when(logJdbcRepository)
+                .saveAll(anyList());
+
+        // When: 배치 크기만큼 로그 추가
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            logBufferService.add(createGameLog("log-" + i));
+        }
+
+        // Then: flush Executor 스레드에서 저장됨
+        verify(logJdbcRepository, timeout(2000).times(1)).saveAll(anyList());
+        assertThat(flushThread.get()).startsWith("log-flush-");
+        assertThat(flushThread.get()).isNotEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    @DisplayName("스트라이프 분할: 프로젝트별로 스트라이프가 나뉘어 각각 flush")
+    void flush_StripedByProject() throws Exception {
+        // Given: 4개 스트라이프, 2개 병렬 flush
+        ReflectionTestUtils.setField(logBufferService, "stripeCount", 4);
+        ReflectionTestUtils.setField(logBufferService, "flushParallelism", 2);
+        when(backpressureManager.getFlushConcurrency()).thenReturn(2);
+        logBufferService.shutdown();
+        logBufferService.init();
+
+        // And: 서로 다른 스트라이프로 분배되는 두 프로젝트
+        UUID projectA = projectForStripe(0, 4);
+        UUID projectB = projectForStripe(1, 4);
+        logBufferService.add(createGameLog("a-1", projectA));
+        logBufferService.add(createGameLog("a-2", projectA));
+        logBufferService.add(createGameLog("b-1", projectB));
+
+        // When
+        logBufferService.flush();
+
+        // Then: 스트라이프마다 한 번씩 저장
+        verify(logJdbcRepository, times(2)).saveAll(anyList());
+        assertThat(getBufferSize()).isZero();
+    }
+
+    // Private 헬퍼 메서드: 지정 스트라이프로 라우팅되는 projectId 생성
+    private UUID projectForStripe(int stripeIndex, int stripeCount) {
+        while (true) {
+            UUID candidate = UUID.randomUUID();
+            if (Math.floorMod(candidate.hashCode(), stripeCount) == stripeIndex) {
+                return candidate;
+            }
+        }
+    }
+
     // Private 헬퍼 메서드: 버퍼 크기 조회
     private int getBufferSize() throws Exception {
-        var buffer = ReflectionTestUtils.getField(logBufferService, "buffer");
-        return ((java.util.concurrent.ConcurrentLinkedQueue<?>) buffer).size();
+        return logBufferService.getBufferSize();
     }
 
     // Private 헬퍼 메서드: DLQ 크기 조회
     private int getDlqSize() throws Exception {
-        var dlq = ReflectionTestUtils.getField(logBufferService, "deadLetterQueue");
-        return ((java.util.concurrent.ConcurrentLinkedQueue<?>) dlq).size();
+        return (int) deadLetterStore.size();
     }
 }
@@ -0,0 +1,187 @@
+package kr.java.documind.domain.logprocessor.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+import kr.java.documind.domain.logprocessor.service.decoder.StreamRecordDecoder;
+import kr.java.documind.domain.logprocessor.service.resilience.RedisStreamCircuitBreakerService;
+import kr.java.documind.domain.logprocessor.service.shard.StreamShardAssignment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LogStreamListener 단위 테스트")
+class LogStreamListenerTest {
+
+    @Mock private LogBufferService logBufferService;
+
+    @Mock private StreamRecordDecoder streamRecordDecoder;
+
+    @Mock private BackpressureManager backpressureManager;
+
+    @Mock private RedisStreamCircuitBreakerService circuitBreakerService;
+
+    @Mock private StreamConsumerMembership membership;
+
+    @Mock private StreamShardAssignment shardAssignment;
+
+    private LogStreamListener listener;
+
+    // 헬퍼 메서드: 바이트 Stream 메시지 생성
+    private ByteRecord rawMessage(String id) {
+        return StreamRecords.rawBytes(
+                        Map.of(
+                                "projectId".getBytes(StandardCharsets.UTF_8),
+                                "p".getBytes(StandardCharsets.UTF_8)))
+                .withStreamKey("test-stream".getBytes(StandardCharsets.UTF_8))
+                .withId(RecordId.of(id));
+    }
+
+    @BeforeEach
+    void setUp() {
+        listener =
+                new LogStreamListener(
+                        logBufferService,
+                        streamRecordDecoder,
+                        backpressureManager,
+                        circuitBreakerService,
+                        membership,
+                        shardAssignment);
+        ReflectionTestUtils.setField(listener, "consumerGroup", "test-group");
+        ReflectionTestUtils.setField(listener, "consumerThreads", 3);
+        ReflectionTestUtils.setField(listener, "pollIntervalMs", 10L);
+        ReflectionTestUtils.setField(listener, "pollBlockMs", 50L);
+
+        lenient().when(backpressureManager.getPollCount()).thenReturn(100);
+        lenient().when(backpressureManager.getQueueLimit()).thenReturn(Integer.MAX_VALUE);
+        lenient()
+                .when(membership.consumerName(anyInt()))
+                .thenAnswer(inv -> "worker-" + inv.getArgument(0));
+        lenient()
+                .when(shardAssignment.keysForLoop(anyInt(), anyInt()))
+                .thenReturn(List.of("test-stream"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    @Test
+    @DisplayName("연속 소비: Consumer마다 고유 이름으로 읽고 메시지를 버퍼에 전달")
+    void start_consumesWithDistinctConsumers() throws Exception {
+        // given
+        ByteRecord message = rawMessage("1700000000000-0");
+        GameLog gameLog = GameLog.builder().build();
+        when(streamRecordDecoder.decode(message)).thenReturn(gameLog);
+        when(circuitBreakerService.readRawMessages(any(), any(), any()))
+                .thenReturn(List.of(message))
+                .thenReturn(List.of());
+
+        // when
+        listener.start();
+
+        // then
+        verify(logBufferService, timeout(2000)).add(gameLog, "test-stream", message.getId());
+        for (String name : List.of("worker-0", "worker-1", "worker-2")) {
+            verify(circuitBreakerService, timeout(2000).atLeastOnce())
+                    .readRawMessages(
+                            argThat((Consumer c) -> c.getName().equals(name)), any(), any());
+        }
+    }
+
+    @Test
+    @DisplayName("종료: stop 호출 시 모든 소비 루프가 멈춤")
+    void stop_terminatesLoops() {
+        // given
+        when(circuitBreakerService.readRawMessages(any(), any(), any())).thenReturn(List.of());
+        listener.start();
+        verify(circuitBreakerService, timeout(2000).atLeast(3))
+                .readRawMessages(any(), any(), any());
+
+        // when
+        listener.stop();
+
+        // then
+        assertThat(listener.isRunning()).isFalse();
+        ExecutorService executor =
+                (ExecutorService) ReflectionTestUtils.getField(listener, "consumerExecutor");
+        assertThat(executor.isTerminated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("변환 실패: 디코딩에 실패한 메시지는 버퍼에 넣지 않고 즉시 ACK")
+    void handleRawMessages_decodeFailure_acknowledges() throws Exception {
+        // given
+        ByteRecord broken = rawMessage("1700000000000-0");
+        ByteRecord valid = rawMessage("1700000000000-1");
+        GameLog gameLog = GameLog.builder().build();
+        when(streamRecordDecoder.decode(broken))
+                .thenThrow(new IllegalArgumentException("Missing required fields"));
+        when(streamRecordDecoder.decode(valid)).thenReturn(gameLog);
+
+        // when
+        listener.handleRawMessages(List.of(broken, valid));
+
+        // then
+        verify(logBufferService).acknowledgeFailedMessage("test-stream", broken.getId());
+        verify(logBufferService).add(gameLog, "test-stream", valid.getId());
+    }
+
+    @Test
+    @DisplayName("샤드: 루프에 배정된 샤드를 번갈아 읽음")
+    void start_readsAssignedShardsInTurn() {
+        // given
+        when(shardAssignment.keysForLoop(anyInt(), anyInt()))
+                .thenReturn(List.of("test-stream:{0}", "test-stream:{1}"));
+        when(circuitBreakerService.readRawMessages(any(), any(), any())).thenReturn(List.of());
+
+        // when
+        listener.start();
+
+        // then
+        for (String key : List.of("test-stream:{0}", "test-stream:{1}")) {
+            verify(circuitBreakerService, timeout(2000).atLeastOnce())
+                    .readRawMessages(
+                            any(),
+                            any(),
+                            argThat((StreamOffset<String> offset) -> offset.getKey().equals(key)));
+        }
+    }
+
+    @Test
+    @DisplayName("샤드: 배정된 샤드가 없으면 읽지 않음")
+    void start_noAssignedShards_idles() {
+        // given
+        when(shardAssignment.keysForLoop(anyInt(), anyInt())).thenReturn(List.of());
+
+        // when
+        listener.start();
+
+        // then
+        verify(circuitBreakerService, after(200).never()).readRawMessages(any(), any(), any());
+    }
+}
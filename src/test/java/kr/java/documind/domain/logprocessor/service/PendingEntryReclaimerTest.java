@@ -0,0 +1,238 @@
+package kr.java.documind.domain.logprocessor.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import kr.java.documind.domain.logprocessor.service.StreamConsumerMembership.GroupConsumer;
+import kr.java.documind.domain.logprocessor.service.shard.StreamShards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PendingEntryReclaimer 단위 테스트")
+class PendingEntryReclaimerTest {
+
+    private static final String STREAM_KEY = "test-stream";
+    private static final String GROUP = "test-group";
+    private static final String DEAD_KEY = "test-stream:dead";
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+
+    @Mock private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock private RedisConnection connection;
+
+    @Mock private RedisStreamCommands streamCommands;
+
+    @Mock private LogStreamListener logStreamListener;
+
+    @Mock private StreamConsumerMembership membership;
+
+    private PendingEntryReclaimer reclaimer;
+
+    @BeforeEach
+    void setUp() {
+        StreamShards streamShards = new StreamShards();
+        ReflectionTestUtils.setField(streamShards, "baseKey", STREAM_KEY);
+        ReflectionTestUtils.setField(streamShards, "shardCount", 1);
+        streamShards.init();
+
+        reclaimer =
+                new PendingEntryReclaimer(
+                        redisTemplate,
+                        logStreamListener,
+                        membership,
+                        streamShards,
+                        new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(reclaimer, "consumerGroup", GROUP);
+        ReflectionTestUtils.setField(reclaimer, "deadLetterStreamKey", DEAD_KEY);
+        ReflectionTestUtils.setField(reclaimer, "minIdleMs", 60_000L);
+        ReflectionTestUtils.setField(reclaimer, "batchSize", 100);
+        ReflectionTestUtils.setField(reclaimer, "maxDeliveries", 5L);
+
+        lenient().when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        lenient().when(connection.streamCommands()).thenReturn(streamCommands);
+        lenient()
+                .when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(inv -> inv.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+        lenient().when(membership.reclaimerName()).thenReturn("worker-reclaimer");
+        lenient().when(membership.liveInstances()).thenReturn(Set.of("worker"));
+        lenient()
+                .when(membership.isOwnedByLiveInstance(any(), any()))
+                .thenAnswer(inv -> inv.<String>getArgument(0).startsWith("worker-"));
+    }
+
+    @Test
+    @DisplayName("회수: 하트비트가 끊긴 인스턴스의 idle 메시지를 XCLAIM하여 처리 경로에 투입")
+    void reclaim_idleMessagesFromDeadConsumer() {
+        // given
+        RecordId idle = RecordId.of("1-0");
+        RecordId fresh = RecordId.of("2-0");
+        when(membership.groupConsumers(STREAM_KEY))
+                .thenReturn(
+                        List.of(
+                                new GroupConsumer("dead-pod-0", 2, 600_000),
+                                new GroupConsumer("worker-0", 3, 10)));
+        when(streamOperations.pending(
+                        eq(STREAM_KEY), eq(Consumer.from(GROUP, "dead-pod-0")), any(), anyLong()))
+                .thenReturn(
+                        pending(
+                                pendingMessage(idle, "dead-pod-0", Duration.ofMinutes(10), 1),
+                                pendingMessage(fresh, "dead-pod-0", Duration.ofSeconds(5), 1)));
+        when(streamCommands.xClaim(
+                        eq(bytes(STREAM_KEY)), eq(GROUP), eq("worker-reclaimer"), any()))
+                .thenReturn(List.of(record(idle)));
+
+        // when
+        reclaimer.reclaim();
+
+        // then: idle 메시지만 회수
+        ArgumentCaptor<XClaimOptions> options = ArgumentCaptor.forClass(XClaimOptions.class);
+        verify(streamCommands)
+                .xClaim(
+                        eq(bytes(STREAM_KEY)),
+                        eq(GROUP),
+                        eq("worker-reclaimer"),
+                        options.capture());
+        assertThat(options.getValue().getIdsAsStringArray()).containsExactly("1-0");
+        assertThat(options.getValue().getMinIdleTime()).isEqualTo(Duration.ofMinutes(1));
+
+        // 바이트 그대로 XREADGROUP과 같은 디코딩 경로로 전달 (ACK 대상 샤드 키 포함)
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ByteRecord>> handled = ArgumentCaptor.forClass(List.class);
+        verify(logStreamListener).handleRawMessages(handled.capture());
+        assertThat(handled.getValue()).extracting(ByteRecord::getId).containsExactly(idle);
+        assertThat(handled.getValue().get(0).getStream()).isEqualTo(bytes(STREAM_KEY));
+
+        // 살아 있는 인스턴스가 보유한 메시지는 조회하지 않음
+        verify(streamOperations, never())
+                .pending(
+                        eq(STREAM_KEY), eq(Consumer.from(GROUP, "worker-0")), any(), anyLong());
+        // 아직 회수되지 않은 메시지가 남아 있으므로 Consumer 유지
+        verify(membership, never()).removeConsumer(any(), any());
+        verify(membership).pruneStaleMembers(Set.of("dead-pod-0", "worker-0"));
+    }
+
+    @Test
+    @DisplayName("Poison: 최대 전달 횟수에 도달한 메시지는 Dead Letter Stream으로 옮기고 ACK")
+    void reclaim_poisonMessageQuarantined() {
+        // given
+        RecordId poison = RecordId.of("3-0");
+        when(membership.groupConsumers(STREAM_KEY))
+                .thenReturn(List.of(new GroupConsumer("dead-pod-0", 1, 600_000)));
+        when(streamOperations.pending(
+                        eq(STREAM_KEY), eq(Consumer.from(GROUP, "dead-pod-0")), any(), anyLong()))
+                .thenReturn(
+                        pending(pendingMessage(poison, "dead-pod-0", Duration.ofMinutes(10), 7)))
+                .thenReturn(pending());
+        when(streamCommands.xClaim(
+                        eq(bytes(STREAM_KEY)), eq(GROUP), eq("worker-reclaimer"), any()))
+                .thenReturn(List.of(record(poison)));
+
+        // when
+        reclaimer.reclaim();
+
+        // then
+        verify(streamOperations)
+                .add(
+                        eq(DEAD_KEY),
+                        argThat(
+                                (Map<Object, Object> body) ->
+                                        "3-0".equals(body.get("_originalId"))
+                                                && "7".equals(body.get("_deliveryCount"))
+                                                && "p".equals(body.get("projectId"))));
+        verify(streamOperations).acknowledge(STREAM_KEY, GROUP, poison);
+        verify(logStreamListener, never()).handleRawMessages(any());
+
+        // PEL이 비었으므로 그룹에서 제거
+        verify(membership).removeConsumer(STREAM_KEY, "dead-pod-0");
+        verify(membership).pruneStaleMembers(Set.of());
+    }
+
+    @Test
+    @DisplayName("PEL이 빈 만료 Consumer는 회수 없이 그룹에서 제거")
+    void reclaim_idleConsumerWithoutPending_removed() {
+        // given
+        when(membership.groupConsumers(STREAM_KEY))
+                .thenReturn(List.of(new GroupConsumer("log-consumer-1", 0, 600_000)));
+        when(streamOperations.pending(
+                        eq(STREAM_KEY),
+                        eq(Consumer.from(GROUP, "log-consumer-1")),
+                        any(),
+                        anyLong()))
+                .thenReturn(pending());
+
+        // when
+        reclaimer.reclaim();
+
+        // then
+        verify(streamCommands, never()).xClaim(any(byte[].class), any(), any(), any());
+        verify(membership).removeConsumer(STREAM_KEY, "log-consumer-1");
+    }
+
+    @Test
+    @DisplayName("살아 있는 인스턴스의 Consumer만 있으면 아무것도 하지 않음")
+    void reclaim_onlyLiveConsumers_noop() {
+        // given
+        when(membership.groupConsumers(STREAM_KEY))
+                .thenReturn(List.of(new GroupConsumer("worker-0", 5, 600_000)));
+
+        // when
+        reclaimer.reclaim();
+
+        // then
+        verify(streamOperations, never()).pending(any(), any(Consumer.class), any(), anyLong());
+        verify(streamCommands, never()).xClaim(any(byte[].class), any(), any(), any());
+        verify(streamOperations, never()).add(any(), anyMap());
+        verify(membership, never()).removeConsumer(any(), any());
+    }
+
+    private PendingMessages pending(PendingMessage... messages) {
+        return new PendingMessages(GROUP, List.of(messages));
+    }
+
+    private PendingMessage pendingMessage(
+            RecordId id, String owner, Duration idle, long deliveries) {
+        return new PendingMessage(id, Consumer.from(GROUP, owner), idle, deliveries);
+    }
+
+    private ByteRecord record(RecordId id) {
+        return StreamRecords.rawBytes(Map.of(bytes("projectId"), bytes("p"))).withId(id);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,257 @@
+package kr.java.documind.domain.logprocessor.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import kr.java.documind.domain.logprocessor.service.shard.StreamShards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroups;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoStream;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisLagMonitor 단위 테스트")
+class RedisLagMonitorTest {
+
+    private static final String STREAM_KEY = "test-stream";
+    private static final String GROUP = "test-group";
+    private static final long NOW = 10_000_000L;
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+
+    @Mock private StreamOperations<String, Object, Object> streamOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RedisLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StreamShards streamShards = new StreamShards();
+        ReflectionTestUtils.setField(streamShards, "baseKey", STREAM_KEY);
+        ReflectionTestUtils.setField(streamShards, "shardCount", 1);
+        streamShards.init();
+
+        monitor = new RedisLagMonitor(redisTemplate, meterRegistry, streamShards);
+        ReflectionTestUtils.setField(monitor, "consumerGroup", GROUP);
+        ReflectionTestUtils.setField(monitor, "rateWindowMs", 60_000L);
+        ReflectionTestUtils.setField(monitor, "targetDrainSeconds", 10L);
+        ReflectionTestUtils.setField(monitor, "maxScaleRatio", 4.0);
+        monitor.registerGauges();
+
+        lenient().when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+    }
+
+    // 헬퍼 메서드: XINFO GROUPS / XINFO STREAM 응답 생성
+    private void stubInfo(Long lag, Long entriesRead, long entriesAdded, String lastDeliveredId) {
+        stubInfo(STREAM_KEY, lag, entriesRead, entriesAdded, lastDeliveredId);
+    }
+
+    private void stubInfo(
+            String streamKey,
+            Long lag,
+            Long entriesRead,
+            long entriesAdded,
+            String lastDeliveredId) {
+        List<Object> group =
+                new ArrayList<>(
+                        Arrays.asList(
+                                "name", GROUP,
+                                "consumers", 1L,
+                                "pending", 0L,
+                                "last-delivered-id", lastDeliveredId,
+                                "entries-read", entriesRead,
+                                "lag", lag));
+        when(streamOperations.groups(streamKey))
+                .thenReturn(XInfoGroups.fromList(List.of(group)));
+        when(streamOperations.info(streamKey))
+                .thenReturn(
+                        XInfoStream.fromList(
+                                List.of("length", entriesAdded, "entries-added", entriesAdded)));
+    }
+
+    private void stubOldestUndelivered(String id) {
+        MapRecord<String, Object, Object> record =
+                MapRecord.<String, Object, Object>create(STREAM_KEY, Map.of("f", "v"))
+                        .withId(RecordId.of(id));
+        when(streamOperations.range(eq(STREAM_KEY), any(Range.class), any(Limit.class)))
+                .thenReturn(List.of(record));
+    }
+
+    @Test
+    @DisplayName("Lag 초: 마지막 전달 다음 메시지의 ID 시각 기준")
+    void collectLag_lagSeconds_fromOldestUndelivered() {
+        // given: 30초 전 메시지부터 미전달
+        stubInfo(100L, 900L, 1_000L, "9960000-0");
+        stubOldestUndelivered("9970000-0");
+
+        // when
+        monitor.collectLag(NOW);
+
+        // then
+        assertThat(monitor.getLag()).isEqualTo(100L);
+        assertThat(monitor.getLagSeconds()).isEqualTo(30.0);
+        assertThat(meterRegistry.get("redis.stream.lag").gauge().value()).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("Lag가 0이면 미전달 메시지를 조회하지 않음")
+    void collectLag_noLag_skipsRange() {
+        // given
+        stubInfo(0L, 1_000L, 1_000L, "9990000-0");
+
+        // when
+        monitor.collectLag(NOW);
+
+        // then
+        assertThat(monitor.getLagSeconds()).isZero();
+        assertThat(monitor.getDrainEtaSeconds()).isZero();
+        verify(streamOperations, never()).range(any(), any(Range.class), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("lag를 계산할 수 없으면 entries-added - entries-read로 근사")
+    void collectLag_nilLag_fallsBackToCounters() {
+        // given
+        stubInfo(null, 700L, 1_000L, "9960000-0");
+        stubOldestUndelivered("9970000-0");
+
+        // when
+        monitor.collectLag(NOW);
+
+        // then
+        assertThat(monitor.getLag()).isEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("유입/소비 속도와 소진 예상 시간: 윈도우 내 누적 카운터 차이 기준")
+    void collectLag_ratesAndDrainEta() {
+        // given: 10초 동안 유입 1000건, 소비 1500건
+        stubInfo(1_000L, 10_000L, 11_000L, "9960000-0");
+        stubOldestUndelivered("9970000-0");
+        monitor.collectLag(NOW - 10_000L);
+
+        stubInfo(500L, 11_500L, 12_000L, "9960000-0");
+
+        // when
+        monitor.collectLag(NOW);
+
+        // then: 순소진 50건/초 → 500 / 50 = 10초
+        assertThat(monitor.getIngestRate()).isEqualTo(100.0);
+        assertThat(monitor.getConsumeRate()).isEqualTo(150.0);
+        assertThat(monitor.getDrainEtaSeconds()).isEqualTo(10.0);
+        // 필요 속도 = 100 + 500 / 10 = 150 → 현재 소비 속도와 같음
+        assertThat(monitor.getScalingRatio()).isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("소비 속도가 유입을 따라가지 못하면 소진 예상 시간 -1, 스케일링 신호 증가")
+    void collectLag_fallingBehind() {
+        // given: 10초 동안 유입 2000건, 소비 1000건
+        stubInfo(1_000L, 10_000L, 11_000L, "9960000-0");
+        stubOldestUndelivered("9970000-0");
+        monitor.collectLag(NOW - 10_000L);
+
+        stubInfo(2_000L, 11_000L, 13_000L, "9960000-0");
+
+        // when
+        monitor.collectLag(NOW);
+
+        // then: 필요 속도 = 200 + 2000 / 10 = 400, 소비 100 → 상한 4
+        assertThat(monitor.getDrainEtaSeconds()).isEqualTo(-1.0);
+        assertThat(monitor.getScalingRatio()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 샘플은 속도 계산에서 제외")
+    void collectLag_slidingWindow() {
+        // given: 윈도우(60초) 밖의 첫 샘플 이후 소비 속도 변화
+        stubInfo(0L, 0L, 0L, "0-0");
+        monitor.collectLag(NOW - 120_000L);
+        stubInfo(0L, 6_000L, 6_000L, "9900000-0");
+        monitor.collectLag(NOW - 60_000L);
+        stubInfo(0L, 9_000L, 9_000L, "9990000-0");
+
+        // when
+        monitor.collectLag(NOW);
+
+        // then: 최근 60초 동안 3000건 → 50건/초
+        assertThat(monitor.getConsumeRate()).isEqualTo(50.0);
+        assertThat(monitor.getIngestRate()).isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("Consumer 그룹이 없으면 지표를 갱신하지 않음")
+    void collectLag_missingGroup() {
+        // given
+        when(streamOperations.groups(STREAM_KEY)).thenReturn(XInfoGroups.fromList(List.of()));
+
+        // when
+        monitor.collectLag(NOW);
+
+        // then
+        assertThat(monitor.getLag()).isZero();
+        verify(streamOperations, never()).info(STREAM_KEY);
+    }
+
+    @Test
+    @DisplayName("샤드: 샤드별 게이지를 stream 태그로 구분하고 조회값은 전체 합계/최댓값")
+    void collectLag_perShard() {
+        // given: 2개 샤드, 0번은 밀림 없음, 1번은 40건 밀림
+        StreamShards streamShards = new StreamShards();
+        ReflectionTestUtils.setField(streamShards, "baseKey", STREAM_KEY);
+        ReflectionTestUtils.setField(streamShards, "shardCount", 2);
+        streamShards.init();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RedisLagMonitor sharded = new RedisLagMonitor(redisTemplate, registry, streamShards);
+        ReflectionTestUtils.setField(sharded, "consumerGroup", GROUP);
+        ReflectionTestUtils.setField(sharded, "rateWindowMs", 60_000L);
+        ReflectionTestUtils.setField(sharded, "targetDrainSeconds", 10L);
+        ReflectionTestUtils.setField(sharded, "maxScaleRatio", 4.0);
+        sharded.registerGauges();
+
+        stubInfo("test-stream:{0}", 0L, 500L, 500L, "9990000-0");
+        stubInfo("test-stream:{1}", 40L, 460L, 500L, "9990000-0");
+        MapRecord<String, Object, Object> oldest =
+                MapRecord.<String, Object, Object>create("test-stream:{1}", Map.of("f", "v"))
+                        .withId(RecordId.of("9995000-0"));
+        when(streamOperations.range(eq("test-stream:{1}"), any(Range.class), any(Limit.class)))
+                .thenReturn(List.of(oldest));
+
+        // when
+        sharded.collectLag(NOW);
+
+        // then
+        assertThat(registry.get("redis.stream.lag").tag("stream", "test-stream:{0}").gauge())
+                .extracting(Gauge::value)
+                .isEqualTo(0.0);
+        assertThat(registry.get("redis.stream.lag").tag("stream", "test-stream:{1}").gauge())
+                .extracting(Gauge::value)
+                .isEqualTo(40.0);
+        assertThat(sharded.getLag()).isEqualTo(40L);
+        assertThat(sharded.getLagSeconds()).isEqualTo(5.0);
+    }
+}
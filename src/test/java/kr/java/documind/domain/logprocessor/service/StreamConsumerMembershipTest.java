@@ -0,0 +1,153 @@
+package kr.java.documind.domain.logprocessor.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StreamConsumerMembership 단위 테스트")
+class StreamConsumerMembershipTest {
+
+    private static final String MEMBERS_KEY = "test-stream:members:test-group";
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+
+    @Mock private HashOperations<String, Object, Object> hashOperations;
+
+    private StreamConsumerMembership membership;
+
+    @BeforeEach
+    void setUp() {
+        membership = new StreamConsumerMembership(redisTemplate);
+        ReflectionTestUtils.setField(membership, "streamKey", "test-stream");
+        ReflectionTestUtils.setField(membership, "consumerGroup", "test-group");
+        ReflectionTestUtils.setField(membership, "consumerPrefix", "worker");
+        ReflectionTestUtils.setField(membership, "configuredInstanceId", "");
+        ReflectionTestUtils.setField(membership, "heartbeatIntervalMs", 5_000L);
+        ReflectionTestUtils.setField(membership, "staleAfterMs", 30_000L);
+
+        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("인스턴스 ID 미설정 시 접두사 기반 고유 ID 생성 후 하트비트 기록")
+    void init_generatesUniqueInstanceId() {
+        // when
+        membership.init();
+        StreamConsumerMembership other = new StreamConsumerMembership(redisTemplate);
+        ReflectionTestUtils.setField(other, "streamKey", "test-stream");
+        ReflectionTestUtils.setField(other, "consumerGroup", "test-group");
+        ReflectionTestUtils.setField(other, "consumerPrefix", "worker");
+        other.init();
+
+        // then
+        assertThat(membership.getInstanceId()).startsWith("worker-");
+        assertThat(membership.getInstanceId()).isNotEqualTo(other.getInstanceId());
+        assertThat(membership.consumerName(2)).isEqualTo(membership.getInstanceId() + "-2");
+        verify(hashOperations).put(eq(MEMBERS_KEY), eq(membership.getInstanceId()), anyString());
+    }
+
+    @Test
+    @DisplayName("설정된 인스턴스 ID가 있으면 그대로 사용")
+    void init_configuredInstanceId() {
+        // given
+        ReflectionTestUtils.setField(membership, "configuredInstanceId", "pod-a");
+
+        // when
+        membership.init();
+
+        // then
+        assertThat(membership.consumerName(0)).isEqualTo("pod-a-0");
+        assertThat(membership.reclaimerName()).isEqualTo("pod-a-reclaimer");
+    }
+
+    @Test
+    @DisplayName("하트비트가 만료된 인스턴스는 live 목록에서 제외")
+    void liveInstances_excludesStaleMembers() {
+        // given
+        ReflectionTestUtils.setField(membership, "configuredInstanceId", "pod-a");
+        membership.init();
+        long now = System.currentTimeMillis();
+        when(hashOperations.entries(MEMBERS_KEY))
+                .thenReturn(
+                        Map.of(
+                                "pod-b", String.valueOf(now - 1_000),
+                                "pod-c", String.valueOf(now - 60_000)));
+
+        // when
+        Set<String> live = membership.liveInstances();
+
+        // then: 자기 자신은 항상 포함
+        assertThat(live).containsExactlyInAnyOrder("pod-a", "pod-b");
+        assertThat(membership.isOwnedByLiveInstance("pod-b-0", live)).isTrue();
+        assertThat(membership.isOwnedByLiveInstance("pod-c-0", live)).isFalse();
+        assertThat(membership.isOwnedByLiveInstance("pod-a-reclaimer", live)).isTrue();
+    }
+
+    @Test
+    @DisplayName("인스턴스 ID가 다른 인스턴스 ID의 접두어여도 Consumer 소유를 혼동하지 않음")
+    void isOwnedByLiveInstance_exactConsumerNameFormat() {
+        // given: "worker"만 살아 있고 "worker-a"는 만료
+        Set<String> live = Set.of("worker");
+
+        // then
+        assertThat(membership.isOwnedByLiveInstance("worker-0", live)).isTrue();
+        assertThat(membership.isOwnedByLiveInstance("worker-12", live)).isTrue();
+        assertThat(membership.isOwnedByLiveInstance("worker-reclaimer", live)).isTrue();
+        assertThat(membership.isOwnedByLiveInstance("worker-a-0", live)).isFalse();
+        assertThat(membership.isOwnedByLiveInstance("worker-a-reclaimer", live)).isFalse();
+        assertThat(membership.isOwnedByLiveInstance("worker-", live)).isFalse();
+        assertThat(membership.isOwnedByLiveInstance("worker", live)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Consumer가 모두 제거된 만료 인스턴스만 하트비트 정리")
+    void pruneStaleMembers_onlyWithoutConsumers() {
+        // given
+        ReflectionTestUtils.setField(membership, "configuredInstanceId", "pod-a");
+        membership.init();
+        long now = System.currentTimeMillis();
+        when(hashOperations.entries(MEMBERS_KEY))
+                .thenReturn(
+                        Map.of(
+                                "pod-b", String.valueOf(now - 60_000),
+                                "pod-c", String.valueOf(now - 60_000)));
+
+        // when: pod-b는 아직 회수 중인 Consumer가 남아 있음
+        membership.pruneStaleMembers(Set.of("pod-b-0"));
+
+        // then
+        verify(hashOperations).delete(MEMBERS_KEY, "pod-c");
+        verify(hashOperations, never()).delete(MEMBERS_KEY, "pod-b");
+    }
+
+    @Test
+    @DisplayName("종료 시 하트비트 삭제")
+    void leave_removesHeartbeat() {
+        // given
+        ReflectionTestUtils.setField(membership, "configuredInstanceId", "pod-a");
+        membership.init();
+
+        // when
+        membership.leave();
+
+        // then
+        verify(hashOperations).delete(MEMBERS_KEY, "pod-a");
+    }
+}
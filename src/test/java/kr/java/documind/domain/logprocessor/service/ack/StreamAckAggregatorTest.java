@@ -0,0 +1,191 @@
+package kr.java.documind.domain.logprocessor.service.ack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StreamAckAggregator 단위 테스트")
+class StreamAckAggregatorTest {
+
+    private static final byte[] STREAM_KEY = "test-stream".getBytes(StandardCharsets.UTF_8);
+    private static final String GROUP = "test-group";
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+
+    @Mock private RedisConnection connection;
+
+    @Mock private RedisStreamCommands streamCommands;
+
+    private StreamAckAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new StreamAckAggregator(redisTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(aggregator, "streamKey", "test-stream");
+        ReflectionTestUtils.setField(aggregator, "consumerGroup", GROUP);
+        ReflectionTestUtils.setField(aggregator, "batchSize", 2);
+        // 주기 전송은 테스트에서 직접 flush()로 대신함
+        ReflectionTestUtils.setField(aggregator, "flushIntervalMs", 60_000L);
+        aggregator.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        aggregator.shutdown();
+    }
+
+    // 헬퍼 메서드: executePipelined 콜백을 Mock 커넥션으로 실행
+    private void stubPipeline() {
+        when(connection.streamCommands()).thenReturn(streamCommands);
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenAnswer(
+                        inv -> {
+                            RedisCallback<?> callback = inv.getArgument(0);
+                            callback.doInRedis(connection);
+                            return List.of();
+                        });
+    }
+
+    @Test
+    @DisplayName("등록된 ACK를 batchSize 단위 XACK로 나누어 한 번의 파이프라인으로 전송")
+    void flush_sendsPipelinedChunks() {
+        // given
+        ReflectionTestUtils.setField(aggregator, "batchSize", 100);
+        stubPipeline();
+        aggregator.acknowledge(List.of(RecordId.of("1-0"), RecordId.of("2-0")));
+        aggregator.acknowledge(RecordId.of("3-0"));
+        ReflectionTestUtils.setField(aggregator, "batchSize", 2);
+
+        // when
+        int sent = aggregator.flush();
+
+        // then
+        assertThat(sent).isEqualTo(3);
+        assertThat(aggregator.getPendingCount()).isZero();
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(streamCommands).xAck(STREAM_KEY, GROUP, RecordId.of("1-0"), RecordId.of("2-0"));
+        verify(streamCommands).xAck(STREAM_KEY, GROUP, RecordId.of("3-0"));
+    }
+
+    @Test
+    @DisplayName("샤드 Stream: 메시지를 읽은 Stream 키별로 XACK")
+    void flush_groupsByStreamKey() {
+        // given
+        ReflectionTestUtils.setField(aggregator, "batchSize", 100);
+        stubPipeline();
+        aggregator.acknowledge("test-stream:{0}", List.of(RecordId.of("1-0")));
+        aggregator.acknowledge("test-stream:{1}", List.of(RecordId.of("2-0")));
+        aggregator.acknowledge("test-stream:{0}", RecordId.of("3-0"));
+        aggregator.acknowledge(null, List.of(RecordId.of("4-0")));
+
+        // when
+        int sent = aggregator.flush();
+
+        // then: null 키는 기본 Stream으로 전송
+        assertThat(sent).isEqualTo(4);
+        verify(streamCommands)
+                .xAck(bytes("test-stream:{0}"), GROUP, RecordId.of("1-0"), RecordId.of("3-0"));
+        verify(streamCommands).xAck(bytes("test-stream:{1}"), GROUP, RecordId.of("2-0"));
+        verify(streamCommands).xAck(STREAM_KEY, GROUP, RecordId.of("4-0"));
+    }
+
+    @Test
+    @DisplayName("크기 임계값에 도달하면 주기를 기다리지 않고 전송")
+    void acknowledge_batchSizeReached_flushesImmediately() {
+        // given
+        stubPipeline();
+
+        // when
+        aggregator.acknowledge(List.of(RecordId.of("1-0"), RecordId.of("2-0")));
+
+        // then
+        verify(streamCommands, timeout(1000))
+                .xAck(STREAM_KEY, GROUP, RecordId.of("1-0"), RecordId.of("2-0"));
+    }
+
+    @Test
+    @DisplayName("전송 실패 시 ACK를 큐에 되돌려 다음 주기에 재시도")
+    void flush_failure_requeues() {
+        // given
+        aggregator.acknowledge(RecordId.of("1-0"));
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new IllegalStateException("Redis down"));
+
+        // when
+        int sent = aggregator.flush();
+
+        // then
+        assertThat(sent).isZero();
+        assertThat(aggregator.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 등록한 ACK는 커밋 후에만 큐에 들어감")
+    void acknowledge_inTransaction_deferredUntilCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        aggregator.acknowledge(RecordId.of("1-0"));
+
+        // then: 커밋 전에는 대기 큐에 없음
+        assertThat(aggregator.getPendingCount()).isZero();
+
+        List<TransactionSynchronization> synchronizations =
+                new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(aggregator.getPendingCount()).isEqualTo(1);
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("null RecordId는 무시")
+    void acknowledge_nullIgnored() {
+        // when
+        List<RecordId> ids = new ArrayList<>();
+        ids.add(null);
+        aggregator.acknowledge(ids);
+        aggregator.acknowledge((RecordId) null);
+
+        // then
+        assertThat(aggregator.getPendingCount()).isZero();
+        assertThat(aggregator.flush()).isZero();
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+        verify(streamCommands, never()).xAck(any(byte[].class), eq(GROUP), any(RecordId[].class));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
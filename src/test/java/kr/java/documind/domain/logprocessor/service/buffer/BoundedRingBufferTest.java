@@ -0,0 +1,126 @@
+package kr.java.documind.domain.logprocessor.service.buffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BoundedRingBuffer 단위 테스트")
+class BoundedRingBufferTest {
+
+    @Test
+    @DisplayName("FIFO: 삽입 순서대로 추출")
+    void offerAndPoll_Fifo() {
+        // given
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(4);
+
+        // when
+        buffer.offer(1);
+        buffer.offer(2);
+        buffer.offer(3);
+
+        // then
+        assertThat(buffer.size()).isEqualTo(3);
+        assertThat(buffer.poll()).isEqualTo(1);
+        assertThat(buffer.poll()).isEqualTo(2);
+        assertThat(buffer.poll()).isEqualTo(3);
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("용량 초과: 가득 찬 경우 offer가 false 반환")
+    void offer_RejectsWhenFull() {
+        // given: 2의 거듭제곱이 아닌 용량도 정확히 지켜야 함
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(10);
+        for (int i = 0; i < 10; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // when & then
+        assertThat(buffer.offer(10)).isFalse();
+        assertThat(buffer.size()).isEqualTo(10);
+
+        // 하나 비우면 다시 삽입 가능
+        buffer.poll();
+        assertThat(buffer.offer(10)).isTrue();
+    }
+
+    @Test
+    @DisplayName("랩어라운드: 용량보다 많은 원소를 순환하며 처리")
+    void wrapAround() {
+        // given
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(3);
+
+        // when & then
+        for (int i = 0; i < 100; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+            assertThat(buffer.poll()).isEqualTo(i);
+        }
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("잘못된 인자: 0 이하 용량 및 null 원소 거부")
+    void invalidArguments() {
+        assertThatThrownBy(() -> new BoundedRingBuffer<>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BoundedRingBuffer<Integer>(1).offer(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("동시성: 다중 생산자/소비자 환경에서 원소 유실 및 중복 없음")
+    void concurrentProducersAndConsumers() throws Exception {
+        // given
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(128);
+        int producers = 4;
+        int perProducer = 50_000;
+        int total = producers * perProducer;
+        AtomicInteger consumed = new AtomicInteger();
+        AtomicLong sum = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(producers * 2);
+        ExecutorService executor = Executors.newFixedThreadPool(producers * 2);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(
+                    () -> {
+                        for (int i = 0; i < perProducer; i++) {
+                            while (!buffer.offer(base + i)) {
+                                Thread.onSpinWait();
+                            }
+                        }
+                        done.countDown();
+                    });
+        }
+        for (int c = 0; c < producers; c++) {
+            executor.submit(
+                    () -> {
+                        while (consumed.get() < total) {
+                            Integer value = buffer.poll();
+                            if (value != null) {
+                                sum.addAndGet(value);
+                                consumed.incrementAndGet();
+                            }
+                        }
+                        done.countDown();
+                    });
+        }
+
+        // then
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdownNow();
+        assertThat(consumed.get()).isEqualTo(total);
+        assertThat(sum.get()).isEqualTo((long) total * (total - 1) / 2);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+}
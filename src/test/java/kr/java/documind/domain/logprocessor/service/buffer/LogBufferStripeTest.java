@@ -0,0 +1,158 @@
+package kr.java.documind.domain.logprocessor.service.buffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import kr.java.documind.domain.logprocessor.model.dto.LogWrapper;
+import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+import kr.java.documind.domain.logprocessor.model.enums.LogSeverity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LogBufferStripe 단위 테스트")
+class LogBufferStripeTest {
+
+    // 헬퍼 메서드: 심각도 지정 로그 생성
+    private LogWrapper wrapper(LogSeverity severity) {
+        GameLog log = GameLog.builder().logId(UUID.randomUUID()).severity(severity).build();
+        return new LogWrapper(log, null);
+    }
+
+    @Test
+    @DisplayName("여유가 있으면 그대로 삽입")
+    void offer_withinCapacity() {
+        // given
+        LogBufferStripe stripe = new LogBufferStripe(0, 3);
+
+        // when & then
+        assertThat(stripe.offer(wrapper(LogSeverity.INFO))).isNull();
+        assertThat(stripe.offer(wrapper(LogSeverity.ERROR))).isNull();
+        assertThat(stripe.size()).isEqualTo(2);
+        assertThat(stripe.size(LogSeverity.INFO)).isEqualTo(1);
+        assertThat(stripe.size(LogSeverity.ERROR)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가득 찬 경우 가장 낮은 심각도의 가장 오래된 로그를 밀어냄")
+    void offer_full_evictsLowestSeverity() {
+        // given
+        LogBufferStripe stripe = new LogBufferStripe(0, 3);
+        LogWrapper oldestDebug = wrapper(LogSeverity.DEBUG);
+        stripe.offer(wrapper(LogSeverity.INFO));
+        stripe.offer(oldestDebug);
+        stripe.offer(wrapper(LogSeverity.DEBUG));
+
+        // when
+        LogWrapper shed = stripe.offer(wrapper(LogSeverity.FATAL));
+
+        // then: INFO보다 DEBUG를 먼저 밀어냄
+        assertThat(shed).isSameAs(oldestDebug);
+        assertThat(stripe.size()).isEqualTo(3);
+        assertThat(stripe.size(LogSeverity.FATAL)).isEqualTo(1);
+        assertThat(stripe.size(LogSeverity.DEBUG)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가득 찬 경우 밀어낼 더 낮은 심각도 로그가 없으면 새 로그를 버림")
+    void offer_full_rejectsWhenNothingLower() {
+        // given
+        LogBufferStripe stripe = new LogBufferStripe(0, 2);
+        stripe.offer(wrapper(LogSeverity.ERROR));
+        stripe.offer(wrapper(LogSeverity.FATAL));
+
+        // when
+        LogWrapper incoming = wrapper(LogSeverity.ERROR);
+        LogWrapper shed = stripe.offer(incoming);
+
+        // then: 같은 심각도는 밀어내지 않음
+        assertThat(shed).isSameAs(incoming);
+        assertThat(stripe.size(LogSeverity.ERROR)).isEqualTo(1);
+        assertThat(stripe.size(LogSeverity.FATAL)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("추출: 높은 심각도 레인 우선, 레인 안에서는 삽입 순서대로")
+    void poll_highestSeverityFirst() {
+        // given
+        LogBufferStripe stripe = new LogBufferStripe(0, 10);
+        LogWrapper info = wrapper(LogSeverity.INFO);
+        LogWrapper firstError = wrapper(LogSeverity.ERROR);
+        LogWrapper secondError = wrapper(LogSeverity.ERROR);
+        LogWrapper warn = wrapper(LogSeverity.WARN);
+        stripe.offer(info);
+        stripe.offer(firstError);
+        stripe.offer(warn);
+        stripe.offer(secondError);
+
+        // when & then
+        assertThat(stripe.poll()).isSameAs(firstError);
+        assertThat(stripe.poll()).isSameAs(secondError);
+        assertThat(stripe.poll()).isSameAs(warn);
+        assertThat(stripe.poll()).isSameAs(info);
+        assertThat(stripe.poll()).isNull();
+        assertThat(stripe.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("추출: 높은 심각도가 몰려도 낮은 심각도 레인을 가중치 비율만큼 꺼냄")
+    void poll_weightedDrain_doesNotStarveLowerSeverity() {
+        // given
+        LogBufferStripe stripe = new LogBufferStripe(0, 200);
+        for (int i = 0; i < 100; i++) {
+            stripe.offer(wrapper(LogSeverity.FATAL));
+        }
+        for (int i = 0; i < 10; i++) {
+            stripe.offer(wrapper(LogSeverity.INFO));
+        }
+
+        // when: 가중치 합(63)만큼 한 주기 추출
+        int infoCount = 0;
+        for (int i = 0; i < 63; i++) {
+            if (stripe.poll().log().getSeverity() == LogSeverity.INFO) {
+                infoCount++;
+            }
+        }
+
+        // then: INFO 가중치(4)만큼 꺼내고 나머지는 빈 레인 몫까지 FATAL
+        assertThat(infoCount).isEqualTo(4);
+        assertThat(stripe.size(LogSeverity.INFO)).isEqualTo(6);
+        assertThat(stripe.size(LogSeverity.FATAL)).isEqualTo(41);
+    }
+
+    @Test
+    @DisplayName("추출한 슬롯은 다시 삽입에 사용")
+    void poll_releasesSlots() {
+        // given
+        LogBufferStripe stripe = new LogBufferStripe(0, 3);
+        for (int i = 0; i < 3; i++) {
+            stripe.offer(wrapper(LogSeverity.WARN));
+        }
+        for (int i = 0; i < 3; i++) {
+            stripe.poll();
+        }
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertThat(stripe.offer(wrapper(LogSeverity.DEBUG))).isNull();
+        }
+        assertThat(stripe.size()).isEqualTo(3);
+        assertThat(stripe.size(LogSeverity.DEBUG)).isEqualTo(3);
+        assertThat(stripe.size(LogSeverity.WARN)).isZero();
+    }
+
+    @Test
+    @DisplayName("심각도가 없는 로그는 INFO로 취급")
+    void offer_nullSeverity_treatedAsInfo() {
+        // given
+        LogBufferStripe stripe = new LogBufferStripe(0, 1);
+        LogWrapper unknown = wrapper(null);
+        stripe.offer(unknown);
+
+        // when
+        LogWrapper shed = stripe.offer(wrapper(LogSeverity.WARN));
+
+        // then
+        assertThat(shed).isSameAs(unknown);
+        assertThat(stripe.size(LogSeverity.WARN)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,57 @@
+package kr.java.documind.domain.logprocessor.service.decoder;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("JsonObjectValidator 단위 테스트")
+class JsonObjectValidatorTest {
+
+    private final JsonFactory factory = new JsonFactory();
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("JSON 객체는 통과")
+    void requireJsonObject_validObject() {
+        // given
+        String json = "{\"os\":\"android\",\"nested\":{\"a\":[1,2]}}";
+
+        // when & then
+        assertThatCode(
+                        () ->
+                                JsonObjectValidator.requireJsonObject(
+                                        factory, bytes(json), "resource"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("객체가 아니거나 뒤에 다른 내용이 있으면 거부")
+    void requireJsonObject_rejectsNonObject() {
+        // when & then
+        assertThatThrownBy(
+                        () ->
+                                JsonObjectValidator.requireJsonObject(
+                                        factory, bytes("[1]"), "resource"))
+                .isInstanceOf(JsonProcessingException.class)
+                .hasMessageContaining("resource must be a JSON object");
+        assertThatThrownBy(
+                        () ->
+                                JsonObjectValidator.requireJsonObject(
+                                        factory, bytes("{} {}"), "attributes"))
+                .isInstanceOf(JsonProcessingException.class)
+                .hasMessageContaining("attributes has trailing content");
+        assertThatThrownBy(
+                        () ->
+                                JsonObjectValidator.requireJsonObject(
+                                        factory, bytes("{\"a\":"), "attributes"))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+}
@@ -0,0 +1,72 @@
+package kr.java.documind.domain.logprocessor.service.decoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("StreamFieldParsers 단위 테스트")
+class StreamFieldParsersTest {
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("UUID: 표준 형식은 JDK 파서와 같은 값")
+    void parseUuid_canonical() {
+        // given
+        UUID expected = UUID.randomUUID();
+
+        // when & then
+        assertThat(StreamFieldParsers.parseUuid(bytes(expected.toString()))).isEqualTo(expected);
+        assertThat(StreamFieldParsers.parseUuid(bytes(expected.toString().toUpperCase())))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("UUID: 표준 형식이 아니면 null")
+    void parseUuid_nonCanonical_returnsNull() {
+        assertThat(StreamFieldParsers.parseUuid(bytes("not-a-uuid"))).isNull();
+        assertThat(StreamFieldParsers.parseUuid(bytes("1-2-3-4-5"))).isNull();
+        assertThat(StreamFieldParsers.parseUuid(bytes("g2345678-1234-1234-1234-123456789012")))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("시각: Z, 오프셋, 소수 초 형식은 JDK 파서와 같은 값")
+    void parseOffsetDateTime_fastPath() {
+        for (String value :
+                new String[] {
+                    "2024-01-15T10:30:00Z",
+                    "2024-01-15T10:30:00.123Z",
+                    "2024-01-15T10:30:00.123456789+09:00",
+                    "2024-01-15T10:30:00-05:30"
+                }) {
+            assertThat(StreamFieldParsers.parseOffsetDateTime(bytes(value)))
+                    .isEqualTo(OffsetDateTime.parse(value));
+        }
+    }
+
+    @Test
+    @DisplayName("시각: 빠른 경로 형식이 아니면 null")
+    void parseOffsetDateTime_otherShapes_returnNull() {
+        assertThat(StreamFieldParsers.parseOffsetDateTime(bytes("2024-01-15T10:30Z"))).isNull();
+        assertThat(StreamFieldParsers.parseOffsetDateTime(bytes("2024-01-15T10:30:00"))).isNull();
+        assertThat(StreamFieldParsers.parseOffsetDateTime(bytes("2024-01-15T10:30:00.Z")))
+                .isNull();
+        assertThat(StreamFieldParsers.parseOffsetDateTime(bytes("2024-01-15 10:30:00Z")))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("ASCII 대소문자 무시 비교")
+    void equalsIgnoreCaseAscii() {
+        assertThat(StreamFieldParsers.equalsIgnoreCaseAscii(bytes("error"), "ERROR")).isTrue();
+        assertThat(StreamFieldParsers.equalsIgnoreCaseAscii(bytes("ERRORS"), "ERROR")).isFalse();
+        assertThat(StreamFieldParsers.equalsIgnoreCaseAscii(bytes("warn"), "WARM")).isFalse();
+    }
+}
@@ -0,0 +1,178 @@
+package kr.java.documind.domain.logprocessor.service.decoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import kr.java.documind.domain.issue.service.fingerprint.FingerprintGenerator;
+import kr.java.documind.domain.issue.service.fingerprint.FingerprintResult;
+import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+import kr.java.documind.domain.logprocessor.model.enums.EventCategory;
+import kr.java.documind.domain.logprocessor.model.enums.LogSeverity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+
+@DisplayName("StreamRecordDecoder 단위 테스트")
+class StreamRecordDecoderTest {
+
+    private FingerprintGenerator fingerprintGenerator;
+    private StreamRecordDecoder decoder;
+
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID logId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        fingerprintGenerator = mock(FingerprintGenerator.class);
+        decoder = new StreamRecordDecoder(new ObjectMapper(), fingerprintGenerator);
+    }
+
+    @Test
+    @DisplayName("바이트 메시지를 GameLog로 변환")
+    void decode_allFields() throws Exception {
+        // given
+        Map<String, String> message = createMessage();
+        message.put("severity", "error");
+        message.put("eventCategory", "Network");
+        message.put("userId", "user-1");
+        message.put("traceId", "trace-1");
+        message.put("resource", "{\"os\":\"android\"}");
+        message.put("createdAt", "2024-01-15T10:30:00.5+09:00");
+
+        // when
+        GameLog decoded = decoder.decode(toRecord(message));
+
+        // then
+        assertThat(decoded.getLogId()).isEqualTo(logId);
+        assertThat(decoded.getProjectId()).isEqualTo(projectId);
+        assertThat(decoded.getSessionId()).isEqualTo("session-1");
+        assertThat(decoded.getUserId()).isEqualTo("user-1");
+        assertThat(decoded.getSeverity()).isEqualTo(LogSeverity.ERROR);
+        assertThat(decoded.getEventCategory()).isEqualTo(EventCategory.NETWORK);
+        assertThat(decoded.getArchive()).isEqualTo("NullPointerException at Main.java:10");
+        assertThat(decoded.getOccurredAt()).isEqualTo(OffsetDateTime.parse("2024-01-15T10:30:00Z"));
+        assertThat(decoded.getTraceId()).isEqualTo("trace-1");
+        assertThat(decoded.getFingerprint()).isEqualTo("fp-1");
+        assertThat(decoded.getRawResource()).isEqualTo("{\"os\":\"android\"}");
+        assertThat(decoded.getRawAttributes()).isEqualTo("{}");
+        assertThat(decoded.getCreatedAt())
+                .isEqualTo(OffsetDateTime.parse("2024-01-15T10:30:00.5+09:00"));
+    }
+
+    @Test
+    @DisplayName("resource/attributes는 Map으로 파싱하지 않고 원본 JSON 그대로 유지")
+    void decode_keepsRawJson() throws Exception {
+        // given
+        Map<String, String> message = createMessage();
+        message.put("resource", "{\"os\":\"android\",\"device\":{\"model\":\"SM-G991\"}}");
+        message.put("attributes", "{ \"stage\": 3 }");
+
+        // when
+        GameLog decoded = decoder.decode(toRecord(message));
+
+        // then
+        assertThat(decoded.getRawResource())
+                .isEqualTo("{\"os\":\"android\",\"device\":{\"model\":\"SM-G991\"}}");
+        assertThat(decoded.getRawAttributes()).isEqualTo("{ \"stage\": 3 }");
+        assertThat(decoded.getResource()).isNull();
+        assertThat(decoded.getAttributes()).isNull();
+    }
+
+    @Test
+    @DisplayName("선택 필드가 없으면 기본값 적용")
+    void decode_defaults() throws Exception {
+        // given
+        Map<String, String> message = new HashMap<>();
+        message.put("projectId", projectId.toString());
+        message.put("archive", "NullPointerException at Main.java:10");
+        FingerprintResult generated = FingerprintResult.builder().fingerprint("generated").build();
+        when(fingerprintGenerator.generate(any(GameLog.class))).thenReturn(generated);
+
+        // when
+        GameLog decoded = decoder.decode(toRecord(message));
+
+        // then
+        assertThat(decoded.getLogId()).isNotNull();
+        assertThat(decoded.getSessionId()).isEqualTo("unknown-session");
+        assertThat(decoded.getSeverity()).isEqualTo(LogSeverity.INFO);
+        assertThat(decoded.getEventCategory()).isEqualTo(EventCategory.SYSTEM);
+        assertThat(decoded.getFingerprint()).isEqualTo("generated");
+        assertThat(decoded.getFingerprintResult()).isSameAs(generated);
+        assertThat(decoded.getOccurredAt()).isNotNull();
+        assertThat(decoded.getCreatedAt()).isEqualTo(decoded.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("파싱할 수 없는 시각은 현재 시각으로 대체")
+    void decode_invalidTimestamp_fallsBack() throws Exception {
+        // given
+        Map<String, String> message = createMessage();
+        message.put("occurredAt", "2024-13-45T10:30:00Z");
+
+        // when
+        GameLog decoded = decoder.decode(toRecord(message));
+
+        // then
+        assertThat(decoded.getOccurredAt()).isAfter(OffsetDateTime.now().minusMinutes(1));
+    }
+
+    @Test
+    @DisplayName("필수 필드 누락, 잘못된 UUID/JSON은 거부")
+    void decode_invalid_throws() {
+        // given
+        Map<String, String> missing = createMessage();
+        missing.remove("archive");
+        Map<String, String> badUuid = createMessage();
+        badUuid.put("projectId", "not-a-uuid");
+        Map<String, String> badJson = createMessage();
+        badJson.put("attributes", "[1, 2]");
+        Map<String, String> malformed = createMessage();
+        malformed.put("resource", "{\"os\":");
+
+        // when & then
+        assertThatThrownBy(() -> decoder.decode(toRecord(missing)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> decoder.decode(toRecord(badUuid)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> decoder.decode(toRecord(badJson)))
+                .isInstanceOf(JsonProcessingException.class);
+        assertThatThrownBy(() -> decoder.decode(toRecord(malformed)))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+    private Map<String, String> createMessage() {
+        Map<String, String> message = new HashMap<>();
+        message.put("logId", logId.toString());
+        message.put("projectId", projectId.toString());
+        message.put("sessionId", "session-1");
+        message.put("archive", "NullPointerException at Main.java:10");
+        message.put("occurredAt", "2024-01-15T10:30:00Z");
+        message.put("fingerprint", "fp-1");
+        return message;
+    }
+
+    private ByteRecord toRecord(Map<String, String> message) {
+        Map<byte[], byte[]> raw = new HashMap<>();
+        message.forEach(
+                (key, value) ->
+                        raw.put(
+                                key.getBytes(StandardCharsets.UTF_8),
+                                value.getBytes(StandardCharsets.UTF_8)));
+        return StreamRecords.rawBytes(raw)
+                .withStreamKey("test-stream".getBytes(StandardCharsets.UTF_8))
+                .withId(RecordId.of("1700000000000-0"));
+    }
+}
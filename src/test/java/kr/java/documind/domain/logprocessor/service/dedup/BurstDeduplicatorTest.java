@@ -0,0 +1,174 @@
+package kr.java.documind.domain.logprocessor.service.dedup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import kr.java.documind.domain.logprocessor.model.dto.CollapsedBatch;
+import kr.java.documind.domain.logprocessor.model.dto.LogWrapper;
+import kr.java.documind.domain.logprocessor.model.dto.SuppressedBurst;
+import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+import kr.java.documind.domain.logprocessor.model.repository.LogBurstSummaryJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BurstDeduplicator 단위 테스트")
+class BurstDeduplicatorTest {
+
+    private static final long WINDOW_MS = 60_000L;
+    private static final long NOW = 10 * WINDOW_MS + 1_000L;
+
+    @Mock private LogBurstSummaryJdbcRepository burstSummaryRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BurstDeduplicator deduplicator;
+
+    private final UUID projectId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deduplicator = new BurstDeduplicator(burstSummaryRepository, meterRegistry);
+        ReflectionTestUtils.setField(deduplicator, "enabled", true);
+        ReflectionTestUtils.setField(deduplicator, "windowMs", WINDOW_MS);
+        ReflectionTestUtils.setField(deduplicator, "keepFirst", 2);
+        ReflectionTestUtils.setField(deduplicator, "projectOverrides", "");
+        deduplicator.init();
+    }
+
+    // 헬퍼 메서드: 프로젝트, fingerprint 지정 로그 생성
+    private List<LogWrapper> logs(UUID project, String fingerprint, int count) {
+        List<LogWrapper> wrappers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            GameLog log =
+                    GameLog.builder()
+                            .logId(UUID.randomUUID())
+                            .projectId(project)
+                            .fingerprint(fingerprint)
+                            .build();
+            wrappers.add(new LogWrapper(log, null));
+        }
+        return wrappers;
+    }
+
+    @Test
+    @DisplayName("윈도우마다 (프로젝트, fingerprint)별 처음 N건만 원본 저장")
+    void collapse_keepsFirstN() {
+        // given
+        List<LogWrapper> wrappers = logs(projectId, "fp-a", 5);
+
+        // when
+        CollapsedBatch result = deduplicator.collapse(wrappers, NOW);
+
+        // then
+        assertThat(result.kept()).containsExactlyElementsOf(wrappers.subList(0, 2));
+        assertThat(result.bursts()).hasSize(1);
+        SuppressedBurst burst = result.bursts().get(0);
+        assertThat(burst.count()).isEqualTo(3);
+        assertThat(burst.fingerprint()).isEqualTo("fp-a");
+        assertThat(burst.windowStartMs()).isEqualTo(10 * WINDOW_MS);
+        assertThat(burst.latest()).isSameAs(wrappers.get(4).log());
+        assertThat(
+                        meterRegistry
+                                .get("worker.dedup.suppressed")
+                                .tag("project", projectId.toString())
+                                .counter()
+                                .count())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("같은 윈도우의 다음 배치는 이어서 집계, 다음 윈도우는 다시 N건 저장")
+    void collapse_countsAcrossBatchesWithinWindow() {
+        // given
+        deduplicator.collapse(logs(projectId, "fp-a", 2), NOW);
+
+        // when
+        CollapsedBatch sameWindow = deduplicator.collapse(logs(projectId, "fp-a", 1), NOW + 1_000L);
+        CollapsedBatch nextWindow =
+                deduplicator.collapse(logs(projectId, "fp-a", 3), NOW + WINDOW_MS);
+
+        // then
+        assertThat(sameWindow.kept()).isEmpty();
+        assertThat(sameWindow.bursts().get(0).count()).isEqualTo(1);
+        assertThat(nextWindow.kept()).hasSize(2);
+        assertThat(nextWindow.bursts().get(0).count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("프로젝트와 fingerprint가 다르면 따로 집계")
+    void collapse_separateKeys() {
+        // given
+        List<LogWrapper> wrappers = new ArrayList<>(logs(projectId, "fp-a", 2));
+        wrappers.addAll(logs(projectId, "fp-b", 2));
+        wrappers.addAll(logs(UUID.randomUUID(), "fp-a", 2));
+
+        // when
+        CollapsedBatch result = deduplicator.collapse(wrappers, NOW);
+
+        // then
+        assertThat(result.kept()).hasSize(6);
+        assertThat(result.hasBursts()).isFalse();
+    }
+
+    @Test
+    @DisplayName("프로젝트별 정책: keep-first 재정의 및 off")
+    void collapse_projectOverrides() {
+        // given
+        UUID strictProject = UUID.randomUUID();
+        UUID exemptProject = UUID.randomUUID();
+        ReflectionTestUtils.setField(
+                deduplicator,
+                "projectOverrides",
+                strictProject + "=1, " + exemptProject + "=off");
+        deduplicator.init();
+
+        // when
+        CollapsedBatch strict = deduplicator.collapse(logs(strictProject, "fp-a", 3), NOW);
+        CollapsedBatch exempt = deduplicator.collapse(logs(exemptProject, "fp-a", 5), NOW);
+
+        // then
+        assertThat(strict.kept()).hasSize(1);
+        assertThat(exempt.kept()).hasSize(5);
+        assertThat(exempt.hasBursts()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비활성화 시 모든 로그를 그대로 저장")
+    void collapse_disabled_passThrough() {
+        // given
+        ReflectionTestUtils.setField(deduplicator, "enabled", false);
+        List<LogWrapper> wrappers = logs(projectId, "fp-a", 5);
+
+        // when
+        CollapsedBatch result = deduplicator.collapse(wrappers, NOW);
+
+        // then
+        assertThat(result.kept()).isSameAs(wrappers);
+        assertThat(result.hasBursts()).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘못된 프로젝트 정책 항목은 무시")
+    void parseOverrides_ignoresInvalidEntries() {
+        // given
+        UUID valid = UUID.randomUUID();
+
+        // when
+        Map<UUID, Integer> parsed =
+                BurstDeduplicator.parseOverrides(
+                        valid + "=3,not-a-uuid=2," + UUID.randomUUID() + "=0,missing");
+
+        // then
+        assertThat(parsed).containsExactly(Map.entry(valid, 3));
+    }
+}
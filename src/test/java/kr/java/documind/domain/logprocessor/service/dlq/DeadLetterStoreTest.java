@@ -0,0 +1,169 @@
+package kr.java.documind.domain.logprocessor.service.dlq;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import kr.java.documind.domain.logprocessor.model.dto.LogWrapper;
+import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+import kr.java.documind.domain.logprocessor.model.enums.EventCategory;
+import kr.java.documind.domain.logprocessor.model.enums.LogSeverity;
+import kr.java.documind.domain.logprocessor.service.storage.GameLogCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("DeadLetterStore 단위 테스트")
+class DeadLetterStoreTest {
+
+    @TempDir Path dir;
+
+    private DeadLetterStore store;
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("재오픈: 로그 필드, RecordId, 재시도 횟수 보존")
+    void reopen_PreservesEntries() {
+        // given
+        store = open();
+        GameLog gameLog = createGameLog();
+        store.append(new LogWrapper(gameLog, RecordId.of("1700000000000-1"), 2));
+        store.append(new LogWrapper(gameLog, null, 0));
+        store.close();
+
+        // when
+        store = open();
+        DeadLetterBatch batch = store.read(10);
+
+        // then
+        assertThat(batch.entries()).hasSize(2);
+        LogWrapper restored = batch.entries().get(0);
+        assertThat(restored.retryCount()).isEqualTo(2);
+        assertThat(restored.recordId()).isEqualTo(RecordId.of("1700000000000-1"));
+        assertThat(restored.log())
+                .usingRecursiveComparison()
+                .ignoringFields("resource", "attributes", "rawResource", "rawAttributes")
+                .isEqualTo(gameLog);
+        // JSON 필드는 Map으로 되돌리지 않고 원본 JSON으로 복원
+        assertThat(restored.log().getRawResource()).isEqualTo("{\"os\":\"android\"}");
+        assertThat(restored.log().getRawAttributes()).isEqualTo("{\"level\":3}");
+        assertThat(batch.entries().get(1).recordId()).isNull();
+    }
+
+    @Test
+    @DisplayName("재오픈: 메시지를 읽은 Stream 샤드 키 보존")
+    void reopen_PreservesStreamKey() {
+        // given
+        store = open();
+        store.append(
+                new LogWrapper(createGameLog(), RecordId.of("1700000000000-1"), 1, "s:{3}"));
+        store.close();
+
+        // when
+        store = open();
+        LogWrapper restored = store.read(10).entries().get(0);
+
+        // then
+        assertThat(restored.streamKey()).isEqualTo("s:{3}");
+        assertThat(restored.retryCount()).isEqualTo(1);
+        assertThat(restored.recordId()).isEqualTo(RecordId.of("1700000000000-1"));
+    }
+
+    @Test
+    @DisplayName("커밋: 처리한 배치 이후부터 읽음")
+    void commit_ConsumesBatch() {
+        // given
+        store = open();
+        for (int i = 0; i < 5; i++) {
+            store.append(new LogWrapper(createGameLog(), null, 0));
+        }
+
+        // when
+        store.commit(store.read(3));
+
+        // then
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.read(10).entries()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("보존: 최종 실패 로그는 재시도 대상과 분리")
+    void park_SeparatesFromPending() {
+        // given
+        store = open();
+
+        // when
+        store.park(new LogWrapper(createGameLog(), null, 5));
+
+        // then
+        assertThat(store.size()).isZero();
+        assertThat(store.parkedSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큰 로그: 세그먼트보다 큰 로그는 배치를 멈추지 않고 바로 보존 영역으로 이동")
+    void appendAll_OversizedLogParked() {
+        // given: 세그먼트(64KB)보다 큰 로그가 중간에 섞인 배치
+        store = open();
+        List<LogWrapper> batch =
+                List.of(
+                        new LogWrapper(createGameLog(), null, 0),
+                        new LogWrapper(createGameLog("x".repeat(100_000)), null, 0),
+                        new LogWrapper(createGameLog(), null, 0));
+
+        // when
+        store.appendAll(batch);
+
+        // then: 나머지 로그는 모두 재시도 대상으로 기록
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.parkedSize()).isEqualTo(1);
+        assertThat(store.read(10).entries())
+                .extracting(wrapper -> wrapper.log().getLogId())
+                .containsExactly(batch.get(0).log().getLogId(), batch.get(2).log().getLogId());
+    }
+
+    private DeadLetterStore open() {
+        DeadLetterStore deadLetterStore =
+                new DeadLetterStore(new GameLogCodec(new ObjectMapper()));
+        ReflectionTestUtils.setField(deadLetterStore, "directory", dir.toString());
+        ReflectionTestUtils.setField(deadLetterStore, "segmentSizeBytes", 64 * 1024);
+        deadLetterStore.open();
+        return deadLetterStore;
+    }
+
+    private GameLog createGameLog() {
+        return createGameLog("NullPointerException\n\tat com.game.Player.update(Player.java:42)");
+    }
+
+    private GameLog createGameLog(String archive) {
+        OffsetDateTime now = OffsetDateTime.of(2025, 1, 1, 12, 0, 0, 123_000_000, ZoneOffset.UTC);
+        return GameLog.builder()
+                .logId(UUID.randomUUID())
+                .projectId(UUID.randomUUID())
+                .sessionId("session-1")
+                .userId(null)
+                .severity(LogSeverity.ERROR)
+                .eventCategory(EventCategory.SYSTEM)
+                .archive(archive)
+                .occurredAt(now)
+                .ingestedAt(now)
+                .fingerprint("a".repeat(64))
+                .resource(Map.of("os", "android"))
+                .attributes(Map.of("level", 3))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
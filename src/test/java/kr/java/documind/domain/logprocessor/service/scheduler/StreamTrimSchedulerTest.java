@@ -0,0 +1,166 @@
+package kr.java.documind.domain.logprocessor.service.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import kr.java.documind.domain.logprocessor.service.shard.StreamShards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroups;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StreamTrimScheduler 단위 테스트")
+class StreamTrimSchedulerTest {
+
+    private static final String STREAM_KEY = "test-stream";
+    private static final long NOW = 10_000_000L;
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+
+    @Mock private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock private RedisConnection connection;
+
+    private StreamTrimScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        StreamShards streamShards = new StreamShards();
+        ReflectionTestUtils.setField(streamShards, "baseKey", STREAM_KEY);
+        ReflectionTestUtils.setField(streamShards, "shardCount", 1);
+        streamShards.init();
+
+        scheduler =
+                new StreamTrimScheduler(redisTemplate, new SimpleMeterRegistry(), streamShards);
+        ReflectionTestUtils.setField(scheduler, "retentionMs", 1_000L);
+
+        lenient().when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+    }
+
+    // 헬퍼 메서드: XINFO GROUPS 응답 생성
+    @SafeVarargs
+    private XInfoGroups groups(List<Object>... groups) {
+        return XInfoGroups.fromList(List.of((Object[]) groups));
+    }
+
+    private List<Object> group(String name, long pending, String lastDeliveredId) {
+        return List.of(
+                "name", name,
+                "consumers", 1L,
+                "pending", pending,
+                "last-delivered-id", lastDeliveredId);
+    }
+
+    private PendingMessagesSummary summary(String group, String minId, String maxId) {
+        return new PendingMessagesSummary(
+                group, 1L, Range.closed(minId, maxId), Map.of("worker-0", 1L));
+    }
+
+    @Test
+    @DisplayName("기준 ID: 그룹 중 가장 오래된 미ACK 메시지")
+    void resolveMinId_oldestPendingAcrossGroups() {
+        // given
+        when(streamOperations.groups(STREAM_KEY))
+                .thenReturn(groups(group("g1", 2, "9000000-0"), group("g2", 0, "8000000-3")));
+        when(streamOperations.pending(STREAM_KEY, "g1"))
+                .thenReturn(summary("g1", "7000000-1", "9000000-0"));
+
+        // when
+        RecordId minId = scheduler.resolveMinId(STREAM_KEY, NOW);
+
+        // then: g1 PEL 최소값(7000000-1) < g2 마지막 전달 ID(8000000-3)
+        assertThat(minId).isEqualTo(RecordId.of("7000000-1"));
+    }
+
+    @Test
+    @DisplayName("기준 ID: 보존 기간 이내 메시지는 ACK되어도 유지")
+    void resolveMinId_cappedByRetention() {
+        // given: 모두 ACK됨, 마지막 전달 ID가 보존 기간 안쪽
+        when(streamOperations.groups(STREAM_KEY))
+                .thenReturn(groups(group("g1", 0, "9999999-0")));
+
+        // when
+        RecordId minId = scheduler.resolveMinId(STREAM_KEY, NOW);
+
+        // then: NOW - retention
+        assertThat(minId).isEqualTo(RecordId.of(NOW - 1_000L, 0L));
+    }
+
+    @Test
+    @DisplayName("아직 아무것도 전달받지 않은 그룹이 있으면 트리밍하지 않음")
+    void trim_groupWithoutDeliveries_skips() {
+        // given
+        when(streamOperations.groups(STREAM_KEY))
+                .thenReturn(groups(group("g1", 0, "9000000-0"), group("g2", 0, "0-0")));
+
+        // when
+        scheduler.trim();
+
+        // then
+        verify(redisTemplate, never()).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("Consumer 그룹이 없으면 트리밍하지 않음")
+    void trim_noGroups_skips() {
+        // given
+        when(streamOperations.groups(STREAM_KEY)).thenReturn(groups());
+
+        // when
+        scheduler.trim();
+
+        // then
+        verify(redisTemplate, never()).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("기준 ID가 정해지면 XTRIM 실행")
+    void trim_executesXtrim() {
+        // given
+        when(streamOperations.groups(STREAM_KEY))
+                .thenReturn(groups(group("g1", 0, "5000000-0")));
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(42L);
+
+        // when
+        scheduler.trim();
+
+        // then: XTRIM test-stream MINID ~ 5000000-0
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<RedisCallback<Object>> callback =
+                ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate).execute(callback.capture());
+        callback.getValue().doInRedis(connection);
+        verify(connection)
+                .execute(
+                        "XTRIM",
+                        bytes(STREAM_KEY),
+                        bytes("MINID"),
+                        bytes("~"),
+                        bytes("5000000-0"));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,101 @@
+package kr.java.documind.domain.logprocessor.service.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import kr.java.documind.domain.logprocessor.service.StreamConsumerMembership;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StreamShardAssignment 단위 테스트")
+class StreamShardAssignmentTest {
+
+    private static final Set<String> INSTANCES = Set.of("pod-a", "pod-b", "pod-c");
+
+    @Mock private StreamConsumerMembership membership;
+
+    private StreamShards streamShards;
+
+    @BeforeEach
+    void setUp() {
+        streamShards = new StreamShards();
+        ReflectionTestUtils.setField(streamShards, "baseKey", "log-stream");
+        ReflectionTestUtils.setField(streamShards, "shardCount", 12);
+        streamShards.init();
+    }
+
+    @Test
+    @DisplayName("배정: 모든 샤드가 살아 있는 인스턴스 중 정확히 하나에 배정")
+    void assign_eachShardOwnedOnce() {
+        // when
+        List<String> owned = new ArrayList<>();
+        for (String instance : INSTANCES) {
+            owned.addAll(StreamShardAssignment.assign(streamShards.keys(), INSTANCES, instance));
+        }
+
+        // then
+        assertThat(owned).containsExactlyInAnyOrderElementsOf(streamShards.keys());
+    }
+
+    @Test
+    @DisplayName("재배정: 인스턴스가 빠지면 그 인스턴스의 샤드만 이동")
+    void assign_instanceLeaves_onlyItsShardsMove() {
+        // given
+        List<String> before = StreamShardAssignment.assign(streamShards.keys(), INSTANCES, "pod-a");
+
+        // when: pod-c 이탈
+        List<String> after =
+                StreamShardAssignment.assign(
+                        streamShards.keys(), Set.of("pod-a", "pod-b"), "pod-a");
+
+        // then: pod-a는 기존 샤드를 유지하고 pod-c의 샤드 일부만 넘겨받음
+        assertThat(after).containsAll(before);
+    }
+
+    @Test
+    @DisplayName("소비 루프: 샤드가 루프보다 적으면 나눠 읽고, 많으면 번갈아 읽을 샤드를 나눔")
+    void keysForLoop_splitsAssignedShards() {
+        // given
+        when(membership.liveInstances()).thenReturn(Set.of("pod-a"));
+        when(membership.getInstanceId()).thenReturn("pod-a");
+        StreamShardAssignment assignment = new StreamShardAssignment(streamShards, membership);
+        assignment.init();
+
+        // then: 12개 샤드를 5개 루프에 분배
+        assertThat(assignment.assignedKeys()).hasSize(12);
+        assertThat(assignment.keysForLoop(0, 5))
+                .containsExactly("log-stream:{0}", "log-stream:{5}", "log-stream:{10}");
+        assertThat(assignment.keysForLoop(4, 5))
+                .containsExactly("log-stream:{4}", "log-stream:{9}");
+
+        // then: 샤드 12개를 20개 루프에 배정하면 루프마다 하나
+        assertThat(assignment.keysForLoop(13, 20)).containsExactly("log-stream:{1}");
+    }
+
+    @Test
+    @DisplayName("멤버십 조회 실패 시 기존 배정 유지")
+    void refresh_failure_keepsAssignment() {
+        // given
+        when(membership.liveInstances())
+                .thenReturn(Set.of("pod-a"))
+                .thenThrow(new IllegalStateException("Redis down"));
+        when(membership.getInstanceId()).thenReturn("pod-a");
+        StreamShardAssignment assignment = new StreamShardAssignment(streamShards, membership);
+        assignment.init();
+
+        // when
+        assignment.refresh();
+
+        // then
+        assertThat(assignment.assignedKeys()).hasSize(12);
+    }
+}
@@ -0,0 +1,50 @@
+package kr.java.documind.domain.logprocessor.service.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("StreamShards 단위 테스트")
+class StreamShardsTest {
+
+    private StreamShards shards(int count) {
+        StreamShards streamShards = new StreamShards();
+        ReflectionTestUtils.setField(streamShards, "baseKey", "log-stream");
+        ReflectionTestUtils.setField(streamShards, "shardCount", count);
+        streamShards.init();
+        return streamShards;
+    }
+
+    @Test
+    @DisplayName("샤드 1개: 기존 키를 그대로 사용")
+    void singleShard_usesBaseKey() {
+        // when
+        StreamShards streamShards = shards(1);
+
+        // then
+        assertThat(streamShards.keys()).containsExactly("log-stream");
+    }
+
+    @Test
+    @DisplayName("샤드 N개: Redis Cluster 해시 태그가 붙은 키 생성")
+    void multipleShards_useHashTags() {
+        // when
+        StreamShards streamShards = shards(3);
+
+        // then
+        assertThat(streamShards.keys())
+                .containsExactly("log-stream:{0}", "log-stream:{1}", "log-stream:{2}");
+    }
+
+    @Test
+    @DisplayName("잘못된 샤드 수는 1로 보정")
+    void init_invalidCount_resetsToOne() {
+        // when
+        StreamShards streamShards = shards(0);
+
+        // then
+        assertThat(streamShards.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,201 @@
+package kr.java.documind.domain.logprocessor.service.spill;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import kr.java.documind.domain.logprocessor.model.dto.LogWrapper;
+import kr.java.documind.domain.logprocessor.model.entity.GameLog;
+import kr.java.documind.domain.logprocessor.model.enums.EventCategory;
+import kr.java.documind.domain.logprocessor.model.enums.LogSeverity;
+import kr.java.documind.domain.logprocessor.model.repository.LogJdbcRepository;
+import kr.java.documind.domain.logprocessor.service.IssueGroupingBatchService;
+import kr.java.documind.domain.logprocessor.service.ack.StreamAckAggregator;
+import kr.java.documind.domain.logprocessor.service.dlq.DeadLetterStore;
+import kr.java.documind.domain.logprocessor.service.resilience.DatabaseCircuitBreakerService;
+import kr.java.documind.domain.logprocessor.service.storage.GameLogCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SpillReplayer 단위 테스트")
+class SpillReplayerTest {
+
+    private static final int REPLAY_BATCH_SIZE = 2;
+
+    @Mock private LogJdbcRepository logJdbcRepository;
+
+    @Mock private IssueGroupingBatchService issueGroupingBatchService;
+
+    @Mock private StreamAckAggregator streamAckAggregator;
+
+    @TempDir Path spillDir;
+
+    @TempDir Path dlqDir;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private SpillStore spillStore;
+    private DeadLetterStore deadLetterStore;
+    private SpillReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        GameLogCodec codec = new GameLogCodec(new ObjectMapper());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        spillStore = new SpillStore(codec);
+        ReflectionTestUtils.setField(spillStore, "directory", spillDir.toString());
+        ReflectionTestUtils.setField(spillStore, "segmentSizeBytes", 1024 * 1024);
+        spillStore.open();
+
+        deadLetterStore = new DeadLetterStore(codec);
+        ReflectionTestUtils.setField(deadLetterStore, "directory", dlqDir.toString());
+        ReflectionTestUtils.setField(deadLetterStore, "segmentSizeBytes", 1024 * 1024);
+        deadLetterStore.open();
+
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        DatabaseCircuitBreakerService databaseCircuitBreaker =
+                new DatabaseCircuitBreakerService(circuitBreakerRegistry, meterRegistry);
+        databaseCircuitBreaker.init();
+
+        replayer =
+                new SpillReplayer(
+                        spillStore,
+                        databaseCircuitBreaker,
+                        logJdbcRepository,
+                        issueGroupingBatchService,
+                        streamAckAggregator,
+                        deadLetterStore,
+                        meterRegistry);
+        ReflectionTestUtils.setField(replayer, "replayBatchSize", REPLAY_BATCH_SIZE);
+        replayer.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        spillStore.close();
+        deadLetterStore.close();
+    }
+
+    // 헬퍼 메서드: spill 파일에 로그 count건 기록
+    private List<LogWrapper> spill(int count) {
+        List<LogWrapper> wrappers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            OffsetDateTime now = OffsetDateTime.now();
+            GameLog log =
+                    GameLog.builder()
+                            .logId(UUID.randomUUID())
+                            .projectId(UUID.randomUUID())
+                            .sessionId("session")
+                            .severity(LogSeverity.ERROR)
+                            .eventCategory(EventCategory.SYSTEM)
+                            .archive("spilled " + i)
+                            .occurredAt(now)
+                            .ingestedAt(now)
+                            .fingerprint("fp")
+                            .rawResource("{}")
+                            .rawAttributes("{}")
+                            .createdAt(now)
+                            .updatedAt(now)
+                            .build();
+            String streamKey = "test-stream:{" + i % 2 + "}";
+            wrappers.add(new LogWrapper(log, RecordId.of("1700000000000-" + i), 0, streamKey));
+        }
+        spillStore.appendAll(wrappers);
+        return wrappers;
+    }
+
+    @Test
+    @DisplayName("Circuit CLOSED: 주기마다 한 배치씩 재저장하고 ACK")
+    void replay_closed_replaysOneBatchPerTick() {
+        // given
+        spill(3);
+
+        // when
+        replayer.replay();
+
+        // then: 배치 크기만큼만 재생하고 읽어온 샤드별로 ACK
+        verify(logJdbcRepository).saveAll(anyList());
+        verify(streamAckAggregator)
+                .acknowledge("test-stream:{0}", List.of(RecordId.of("1700000000000-0")));
+        verify(streamAckAggregator)
+                .acknowledge("test-stream:{1}", List.of(RecordId.of("1700000000000-1")));
+        assertThat(spillStore.size()).isEqualTo(1);
+
+        // when: 다음 주기
+        replayer.replay();
+
+        // then
+        assertThat(spillStore.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Circuit OPEN: 재생하지 않음")
+    void replay_open_waits() {
+        // given
+        spill(2);
+        circuitBreakerRegistry.circuitBreaker("logDatabase").transitionToOpenState();
+
+        // when
+        replayer.replay();
+
+        // then
+        verify(logJdbcRepository, never()).saveAll(anyList());
+        assertThat(spillStore.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재생 실패: 배치를 DLQ로 넘기고 spill 읽기 위치는 이동")
+    void replay_failure_movesToDeadLetterQueue() {
+        // given
+        spill(2);
+        doThrow(new RuntimeException("constraint violation"))
+                .when(logJdbcRepository)
+                .saveAll(anyList());
+
+        // when
+        replayer.replay();
+
+        // then
+        assertThat(spillStore.size()).isZero();
+        assertThat(deadLetterStore.size()).isEqualTo(2);
+        verify(streamAckAggregator, never()).acknowledge(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("재오픈: spill 파일의 로그와 RecordId 보존")
+    void reopen_preservesEntries() {
+        // given
+        List<LogWrapper> spilled = spill(1);
+        spillStore.close();
+
+        // when
+        spillStore.open();
+        SpillBatch batch = spillStore.read(10);
+
+        // then
+        assertThat(batch.entries()).hasSize(1);
+        assertThat(batch.entries().get(0).recordId()).isEqualTo(spilled.get(0).recordId());
+        assertThat(batch.entries().get(0).log().getLogId())
+                .isEqualTo(spilled.get(0).log().getLogId());
+    }
+}
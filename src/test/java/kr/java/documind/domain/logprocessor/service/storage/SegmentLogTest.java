@@ -0,0 +1,164 @@
+package kr.java.documind.domain.logprocessor.service.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("SegmentLog 단위 테스트")
+class SegmentLogTest {
+
+    private static final int SEGMENT_SIZE = 1024;
+
+    @TempDir Path dir;
+
+    @Test
+    @DisplayName("읽기: 커밋 전에는 같은 레코드를 다시 읽음")
+    void read_WithoutCommit_ReturnsSameRecords() throws IOException {
+        // given
+        SegmentLog segmentLog = new SegmentLog(dir, SEGMENT_SIZE);
+        segmentLog.append(bytes("a"));
+        segmentLog.append(bytes("b"));
+
+        // when
+        SegmentLog.ReadResult first = segmentLog.read(10);
+        SegmentLog.ReadResult second = segmentLog.read(10);
+
+        // then
+        assertThat(first.records()).extracting(this::text).containsExactly("a", "b");
+        assertThat(second.records()).extracting(this::text).containsExactly("a", "b");
+        assertThat(segmentLog.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("커밋: 읽기 위치 이동 및 소비한 세그먼트 삭제")
+    void commit_AdvancesCursorAndDeletesSegments() throws IOException {
+        // given: 여러 세그먼트에 걸쳐 기록
+        SegmentLog segmentLog = new SegmentLog(dir, SEGMENT_SIZE);
+        for (int i = 0; i < 100; i++) {
+            segmentLog.append(bytes("record-" + i));
+        }
+        assertThat(segmentCount()).isGreaterThan(1);
+
+        // when
+        SegmentLog.ReadResult result = segmentLog.read(100);
+        segmentLog.commit(result);
+
+        // then
+        assertThat(result.records()).hasSize(100);
+        assertThat(text(result.records().get(99))).isEqualTo("record-99");
+        assertThat(segmentLog.size()).isZero();
+        assertThat(segmentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재오픈: 커밋 위치 이후의 레코드만 복구")
+    void reopen_RecoversFromCursor() throws IOException {
+        // given
+        SegmentLog segmentLog = new SegmentLog(dir, SEGMENT_SIZE);
+        for (int i = 0; i < 50; i++) {
+            segmentLog.append(bytes("record-" + i));
+        }
+        segmentLog.commit(segmentLog.read(20));
+        segmentLog.close();
+
+        // when
+        SegmentLog reopened = new SegmentLog(dir, SEGMENT_SIZE);
+        reopened.append(bytes("after-restart"));
+
+        // then
+        SegmentLog.ReadResult result = reopened.read(100);
+        assertThat(reopened.size()).isEqualTo(31);
+        assertThat(text(result.records().get(0))).isEqualTo("record-20");
+        assertThat(text(result.records().get(30))).isEqualTo("after-restart");
+    }
+
+    @Test
+    @DisplayName("큰 레코드: 세그먼트보다 큰 레코드는 전용 세그먼트에 기록하고 재오픈 후에도 읽음")
+    void append_OversizedRecordUsesDedicatedSegment() throws IOException {
+        // given
+        SegmentLog segmentLog = new SegmentLog(dir, SEGMENT_SIZE);
+        segmentLog.append(bytes("before"));
+        segmentLog.append(new byte[SEGMENT_SIZE * 3]);
+        segmentLog.append(bytes("after"));
+        segmentLog.close();
+
+        // when
+        SegmentLog reopened = new SegmentLog(dir, SEGMENT_SIZE);
+        SegmentLog.ReadResult result = reopened.read(10);
+
+        // then
+        assertThat(result.records()).hasSize(3);
+        assertThat(text(result.records().get(0))).isEqualTo("before");
+        assertThat(result.records().get(1)).hasSize(SEGMENT_SIZE * 3);
+        assertThat(text(result.records().get(2))).isEqualTo("after");
+        assertThat(segmentLog.maxRecordBytes()).isLessThan(SEGMENT_SIZE);
+    }
+
+    @Test
+    @DisplayName("묶음 추가: 남은 공간이 부족하면 묶음 전체를 다음 세그먼트에 기록")
+    void appendAll_KeepsBatchInOneSegment() throws IOException {
+        // given: 첫 세그먼트를 거의 채움
+        SegmentLog segmentLog = new SegmentLog(dir, SEGMENT_SIZE);
+        segmentLog.append(new byte[SEGMENT_SIZE - 100]);
+
+        // when
+        segmentLog.appendAll(List.of(bytes("a".repeat(40)), bytes("b".repeat(40))));
+
+        // then
+        assertThat(segmentCount()).isEqualTo(2);
+        SegmentLog.ReadResult result = segmentLog.read(10);
+        assertThat(result.records()).hasSize(3);
+        assertThat(text(result.records().get(2))).isEqualTo("b".repeat(40));
+    }
+
+    @Test
+    @DisplayName("묶음 추가: 첫 레코드 길이가 기록되기 전에 끊긴 묶음은 재오픈 시 전부 버림")
+    void appendAll_TornBatchDiscarded() throws IOException {
+        // given: 묶음 기록 후 첫 레코드 길이만 지워 중간에 끊긴 상태를 재현
+        SegmentLog segmentLog = new SegmentLog(dir, SEGMENT_SIZE);
+        segmentLog.appendAll(List.of(bytes("a"), bytes("b")));
+        segmentLog.close();
+        clearFirstLength(dir.resolve(String.format("%020d.seg", 0)));
+
+        // when: 같은 크기의 레코드로 덮어씀
+        SegmentLog reopened = new SegmentLog(dir, SEGMENT_SIZE);
+        int recovered = (int) reopened.size();
+        reopened.append(bytes("c"));
+
+        // then: 끊긴 묶음의 뒷부분이 이어서 읽히지 않음
+        assertThat(recovered).isZero();
+        assertThat(reopened.read(10).records()).extracting(this::text).containsExactly("c");
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(path -> path.toString().endsWith(".seg")).count();
+        }
+    }
+
+    // 헬퍼 메서드: 세그먼트 첫 레코드의 길이 필드를 0으로 덮어씀
+    private void clearFirstLength(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES), 0);
+        }
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String text(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}